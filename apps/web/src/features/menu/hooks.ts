@@ -5,6 +5,7 @@
 import { useState, useEffect } from 'react';
 import type { MenuResponse } from '@/shared/types/api';
 import { useDepartment } from '@/features/department';
+import { useMenuUpdates } from '@/shared/hooks';
 import { fetchMenus } from './api';
 
 export function useMenus() {
@@ -33,6 +34,14 @@ export function useMenus() {
     fetch();
   }, [dept]);
 
+  // 품절/재고 변경은 새로고침 없이 반영
+  useMenuUpdates(dept, (update) => {
+    setData((prev) => prev && {
+      ...prev,
+      menus: prev.menus.map((menu) => (menu.id === update.menuId ? { ...menu, ...update.menu } : menu)),
+    });
+  });
+
   return { data, isLoading, error, refetch: fetch };
 }
 
@@ -3,9 +3,12 @@
 // =============================================================================
 
 import { apiClient } from '@/shared/api';
-import type { Order, OrderRequest } from '@/shared/types/api';
+import type { Order, OrderQuote, OrderQuoteRequest, OrderRequest } from '@/shared/types/api';
 
 export async function createOrder(dept: string, data: OrderRequest) {
   return apiClient.post<Order>(`/api/${dept}/orders`, data);
 }
 
+export async function quoteOrder(dept: string, data: OrderQuoteRequest) {
+  return apiClient.post<OrderQuote>(`/api/${dept}/orders/quote`, data);
+}
@@ -0,0 +1,50 @@
+// =============================================================================
+// Order Hooks
+// =============================================================================
+
+import { useState, useEffect, useRef } from 'react';
+import type { OrderQuote, OrderQuoteRequest } from '@/shared/types/api';
+import { quoteOrder } from './api';
+
+const QUOTE_DEBOUNCE_MS = 300;
+
+/**
+ * 장바구니 금액 미리보기 (서버 가격 기준)
+ * 수량을 연달아 바꿀 때는 마지막 변경 후 한 번만 요청하고, 늦게 도착한 이전 응답은 버립니다.
+ */
+export function useOrderQuote(dept: string, request: OrderQuoteRequest | null) {
+  const [quote, setQuote] = useState<OrderQuote | null>(null);
+  const [error, setError] = useState<string | null>(null);
+  const seq = useRef(0);
+  const key = request ? JSON.stringify(request) : null;
+
+  useEffect(() => {
+    const current = ++seq.current;
+    if (!key) {
+      setQuote(null);
+      setError(null);
+      return;
+    }
+
+    const timer = setTimeout(async () => {
+      try {
+        const response = await quoteOrder(dept, JSON.parse(key) as OrderQuoteRequest);
+        if (current !== seq.current) return;
+        if (response.error) {
+          setQuote(null);
+          setError(response.error.message);
+        } else {
+          setQuote(response.data);
+          setError(null);
+        }
+      } catch {
+        // 미리보기 실패 시 장바구니 계산값으로 표시
+        if (current === seq.current) setQuote(null);
+      }
+    }, QUOTE_DEBOUNCE_MS);
+
+    return () => clearTimeout(timer);
+  }, [dept, key]);
+
+  return { quote, error };
+}
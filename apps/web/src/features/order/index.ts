@@ -1,2 +1,2 @@
-export { createOrder } from './api';
-
+export { createOrder, quoteOrder } from './api';
+export { useOrderQuote } from './hooks';
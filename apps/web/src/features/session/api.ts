@@ -3,7 +3,7 @@
 // =============================================================================
 
 import { apiClient } from '@/shared/api';
-import type { Session, SessionStartRequest } from '@/shared/types/api';
+import type { Session, SessionBill, SessionStartRequest } from '@/shared/types/api';
 
 export async function startSession(dept: string, data: SessionStartRequest) {
   return apiClient.post<Session>(`/api/${dept}/sessions/start`, data);
@@ -13,6 +13,10 @@ export async function getSession(dept: string, sessionId: number) {
   return apiClient.get<Session>(`/api/${dept}/sessions/${sessionId}`);
 }
 
+export async function getSessionBill(dept: string, sessionId: number) {
+  return apiClient.get<SessionBill>(`/api/${dept}/sessions/${sessionId}/bill`);
+}
+
 export async function getSessionByCode(dept: string, code: string) {
   return apiClient.get<Session>(`/api/${dept}/sessions/code/${code}`);
 }
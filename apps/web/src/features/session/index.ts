@@ -1,3 +1,3 @@
-export { startSession, getSession, getSessionByCode } from './api';
+export { startSession, getSession, getSessionBill, getSessionByCode } from './api';
 export { SessionProvider, useSession } from './context';
 
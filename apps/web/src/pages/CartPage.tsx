@@ -6,8 +6,8 @@ import { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useDepartment, useDepartmentSettings } from '@/features/department';
 import { useCart } from '@/features/cart';
-import { useSession } from '@/features/session';
-import { createOrder } from '@/features/order';
+import { useSession, getSessionBill } from '@/features/session';
+import { createOrder, useOrderQuote } from '@/features/order';
 import { Button, Header, PageLayout, Card, Divider, QuantityControl, SelectChip } from '@/shared/ui';
 import { formatPrice } from '@/shared/utils';
 import type { CartItem } from '@/features/cart';
@@ -19,10 +19,10 @@ export default function CartPage() {
   const { session } = useSession();
   const {
     items,
-    subtotal,
+    subtotal: cartSubtotal,
     tableFee,
-    discount,
-    total,
+    discount: cartDiscount,
+    total: cartTotal,
     updateQuantity,
     removeItem,
     clearCart,
@@ -38,6 +38,16 @@ export default function CartPage() {
   const discounts = settings?.pricing?.discounts ?? [];
   const [pendingSessionId, setPendingSessionId] = useState<number | null>(null);
 
+  // 서버 가격 기준 금액 (응답 전이거나 실패하면 장바구니 계산값 표시)
+  const { quote, error: quoteError } = useOrderQuote(dept, items.length > 0 ? {
+    includeTableFee,
+    discountCode: cart.discountCode,
+    items: items.map((item) => ({ menuId: item.menuId, quantity: item.quantity })),
+  } : null);
+  const subtotal = quote?.subtotal ?? cartSubtotal;
+  const discount = quote?.discount ?? cartDiscount;
+  const total = quote?.total ?? cartTotal;
+
   // 세션 ID를 장바구니에 동기화 (테이블비 1회만 적용을 위해)
   useEffect(() => {
     if (session?.id && session.id !== pendingSessionId) {
@@ -46,6 +56,16 @@ export default function CartPage() {
     }
   }, [session?.id, pendingSessionId, setSessionId]);
 
+  // 다른 기기에서 이미 주문한 세션이면 테이블비 제외 (서버 계산서 기준)
+  useEffect(() => {
+    if (!session?.id) return;
+    getSessionBill(dept, session.id)
+      .then((response) => {
+        if (response.data?.tableFeeCharged) markFeesPaid();
+      })
+      .catch(() => {});
+  }, [dept, session?.id, markFeesPaid]);
+
   const handleSubmit = async () => {
     if (!session) { setError('세션 정보가 없습니다.'); return; }
     if (items.length === 0) { setError('장바구니가 비어있습니다.'); return; }
@@ -144,7 +164,7 @@ export default function CartPage() {
           {tableFee > 0 && (
             <div className="flex items-center justify-between text-neutral-600">
               <span>테이블비</span>
-              <span>{includeTableFee ? formatPrice(tableFee) : formatPrice(0)}</span>
+              <span>{formatPrice(quote?.tableFee ?? (includeTableFee ? tableFee : 0))}</span>
             </div>
           )}
           {/* 콜키지 미사용 */}
@@ -163,9 +183,9 @@ export default function CartPage() {
       </Card>
 
       {/* Error */}
-      {error && (
+      {(error || quoteError) && (
         <Card variant="filled" padding="md" className="mt-4 bg-red-50 border border-red-100">
-          <p className="text-sm text-red-600">{error}</p>
+          <p className="text-sm text-red-600">{error ?? quoteError}</p>
         </Card>
       )}
 
@@ -116,6 +116,9 @@ export default function MenuPage() {
   );
 }
 
+// 남은 수량을 보여주기 시작하는 기준
+const LOW_STOCK = 5;
+
 function MenuCard({ menu, onAdd }: { menu: MenuItem; onAdd: () => void }) {
   return (
     <Card variant="default" padding="none" hoverable className="overflow-hidden">
@@ -125,6 +128,9 @@ function MenuCard({ menu, onAdd }: { menu: MenuItem; onAdd: () => void }) {
           <div className="flex items-start gap-2 mb-1">
             <h3 className="font-bold text-neutral-900">{menu.name}</h3>
             {menu.soldOut && <Badge variant="error" size="sm">품절</Badge>}
+            {!menu.soldOut && menu.stock != null && menu.stock <= LOW_STOCK && (
+              <Badge variant="warning" size="sm">{menu.stock}개 남음</Badge>
+            )}
           </div>
           {menu.description && (
             <p className="text-sm text-neutral-500 line-clamp-2 mb-3">{menu.description}</p>
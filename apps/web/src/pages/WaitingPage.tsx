@@ -26,21 +26,37 @@ export default function WaitingPage() {
   const discountVal = currentOrder?.discount && currentOrder.discount < 0 ? currentOrder.discount : 0;
   const displayTotal = Math.max(0, subtotalVal + tableFeeVal + discountVal);
 
+  // 결제 확인 대기 (Long polling): 주문이 바뀔 때까지 서버가 응답을 붙잡아 둠
   useEffect(() => {
-    if (!currentOrder) return;
-    const interval = setInterval(async () => {
-      try {
-        const res = await apiClient.get<Order>(`/api/${dept}/orders/${currentOrder.id}`);
+    if (!order) return;
+    let active = true;
+
+    const watch = async () => {
+      let version = order.version;
+      while (active) {
+        const query = version != null ? `?version=${version}` : '';
+        const res = await apiClient.get<Order>(`/api/${dept}/orders/${order.id}/updates${query}`);
+        if (!active) return;
+
         if (res.data) {
+          version = res.data.version;
           setCurrentOrder(res.data);
           if (res.data.paymentStatus === 'CONFIRMED') {
             navigate(`/${dept}/complete`, { state: { order: res.data } });
+            return;
           }
+        } else if (res.error?.code !== 'EMPTY_RESPONSE') {
+          // 네트워크 오류 등 → 잠시 후 재시도 (304 변경 없음은 바로 다시 대기)
+          await new Promise((resolve) => setTimeout(resolve, 3000));
         }
-      } catch {}
-    }, 10000);
-    return () => clearInterval(interval);
-  }, [currentOrder, dept, navigate]);
+      }
+    };
+
+    watch();
+    return () => {
+      active = false;
+    };
+  }, [order, dept, navigate]);
 
   const handleCheck = async () => {
     if (!currentOrder) return;
@@ -43,6 +43,7 @@ export default function AdminDashboardPage() {
   const { connected } = useWebSocket({
     dept,
     onNewOrder: handleNewOrder,
+    onSessionsClosed: () => fetchDashboardData(),
     enabled: !!dept,
   });
 
@@ -75,6 +75,23 @@ export default function AdminMenusPage() {
     }
   };
 
+  const editStock = async (menu: MenuItem) => {
+    const input = window.prompt('남은 수량 (비우면 수량 관리 안 함)', menu.stock != null ? String(menu.stock) : '');
+    if (input === null) return;
+
+    const stock = input.trim() === '' ? null : Number(input);
+    if (stock !== null && (!Number.isInteger(stock) || stock < 0)) {
+      alert('0 이상의 정수를 입력해주세요.');
+      return;
+    }
+    try {
+      await apiClient.put(`/api/${dept}/admin/menus/${menu.id}/stock`, { stock });
+      fetchData();
+    } catch (error) {
+      console.error('Failed to set stock:', error);
+    }
+  };
+
   const openAddModal = () => {
     setEditingMenu(null);
     setFormData(initialFormData);
@@ -292,6 +309,7 @@ export default function AdminMenusPage() {
                     </h3>
                     <p className="text-sm text-neutral-500 mt-0.5">
                       {categories.find((c) => c.id === menu.categoryId)?.name || '미분류'}
+                      {menu.stock != null && <span className="ml-2">· 재고 {menu.stock}</span>}
                     </p>
                   </div>
                   <span className="font-semibold text-indigo-600">{formatPrice(menu.price)}</span>
@@ -313,6 +331,12 @@ export default function AdminMenusPage() {
                   >
                     {menu.soldOut ? '품절 해제' : '품절 처리'}
                   </button>
+                  <button
+                    onClick={() => editStock(menu)}
+                    className="px-3 py-1 text-sm font-medium rounded-lg bg-neutral-100 text-neutral-700 hover:bg-neutral-200 transition-colors"
+                  >
+                    재고
+                  </button>
                   <button
                     onClick={() => openEditModal(menu)}
                     className="px-3 py-1 text-sm font-medium rounded-lg bg-neutral-100 text-neutral-700 hover:bg-neutral-200 transition-colors"
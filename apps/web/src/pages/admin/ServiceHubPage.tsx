@@ -66,6 +66,7 @@ export default function AdminServiceHubPage() {
     onNewOrder: handleRealtimeUpdate,
     onOrderStatusChanged: handleRealtimeUpdate,
     onPaymentConfirmed: handleRealtimeUpdate,
+    onSessionsClosed: handleRealtimeUpdate,
   });
 
   const sessionOrderMap = useMemo(() => {
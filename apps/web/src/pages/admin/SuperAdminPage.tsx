@@ -32,7 +32,7 @@ export default function SuperAdminPage() {
 
   // 학과 추가 모달
   const [showDeptModal, setShowDeptModal] = useState(false);
-  const [newDept, setNewDept] = useState({ slug: '', name: '' });
+  const [newDept, setNewDept] = useState({ slug: '', name: '', templateDepartmentId: '' });
 
   // 계정 추가 모달
   const [showUserModal, setShowUserModal] = useState(false);
@@ -75,9 +75,13 @@ export default function SuperAdminPage() {
     }
 
     try {
-      await apiClient.post('/api/platform/departments', newDept);
+      await apiClient.post('/api/platform/departments', {
+        slug: newDept.slug,
+        name: newDept.name,
+        templateDepartmentId: newDept.templateDepartmentId ? Number(newDept.templateDepartmentId) : null,
+      });
       setShowDeptModal(false);
-      setNewDept({ slug: '', name: '' });
+      setNewDept({ slug: '', name: '', templateDepartmentId: '' });
       fetchData();
     } catch (error) {
       console.error('Failed to create department:', error);
@@ -469,6 +473,21 @@ export default function SuperAdminPage() {
                     className="w-full h-10 px-3 border border-neutral-300 rounded-lg focus:outline-none focus:border-indigo-500"
                   />
                 </div>
+                <div>
+                  <label className="block text-sm font-medium text-neutral-700 mb-1">템플릿 (선택)</label>
+                  <select
+                    value={newDept.templateDepartmentId}
+                    onChange={(e) => setNewDept({ ...newDept, templateDepartmentId: e.target.value })}
+                    className="w-full h-10 px-3 border border-neutral-300 rounded-lg focus:outline-none focus:border-indigo-500"
+                  >
+                    <option value="">빈 학과로 시작</option>
+                    {departments.map((dept) => (
+                      <option key={dept.id} value={dept.id}>
+                        {dept.name} 복사 (설정/메뉴/테이블)
+                      </option>
+                    ))}
+                  </select>
+                </div>
                 <div className="flex gap-2 pt-4">
                   <button
                     onClick={() => setShowDeptModal(false)}
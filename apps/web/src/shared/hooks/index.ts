@@ -1,3 +1,4 @@
 export { useLocalStorage } from './useLocalStorage';
-export { useWebSocket, useOrderStatusSubscription } from './useWebSocket';
+export { useWebSocket, useOrderStatusSubscription, useMenuUpdates } from './useWebSocket';
+export type { MenuUpdateNotification } from './useWebSocket';
 
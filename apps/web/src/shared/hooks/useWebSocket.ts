@@ -3,6 +3,7 @@
 // =============================================================================
 
 import { useEffect, useRef, useState, useCallback } from 'react';
+import type { MenuItem } from '@/shared/types/api';
 
 const DEFAULT_ORIGIN = typeof window !== 'undefined' ? window.location.origin : 'http://localhost';
 const EXPLICIT_WS_BASE = import.meta.env.VITE_WS_URL as string | undefined;
@@ -37,11 +38,19 @@ interface OrderNotification {
   timestamp: string;
 }
 
+interface SessionsClosedNotification {
+  type: 'SESSIONS_CLOSED';
+  sessionIds: number[];
+  reason: 'IDLE';
+  timestamp: string;
+}
+
 interface UseWebSocketOptions {
   dept: string;
   onNewOrder?: (notification: OrderNotification) => void;
   onOrderStatusChanged?: (notification: OrderNotification) => void;
   onPaymentConfirmed?: (notification: OrderNotification) => void;
+  onSessionsClosed?: (notification: SessionsClosedNotification) => void;
   enabled?: boolean;
 }
 
@@ -50,6 +59,7 @@ export function useWebSocket({
   onNewOrder,
   onOrderStatusChanged,
   onPaymentConfirmed,
+  onSessionsClosed,
   enabled = true,
 }: UseWebSocketOptions) {
   const [connected, setConnected] = useState(false);
@@ -63,13 +73,15 @@ export function useWebSocket({
   const onNewOrderRef = useRef(onNewOrder);
   const onOrderStatusChangedRef = useRef(onOrderStatusChanged);
   const onPaymentConfirmedRef = useRef(onPaymentConfirmed);
+  const onSessionsClosedRef = useRef(onSessionsClosed);
 
   // Update refs when callbacks change
   useEffect(() => {
     onNewOrderRef.current = onNewOrder;
     onOrderStatusChangedRef.current = onOrderStatusChanged;
     onPaymentConfirmedRef.current = onPaymentConfirmed;
-  }, [onNewOrder, onOrderStatusChanged, onPaymentConfirmed]);
+    onSessionsClosedRef.current = onSessionsClosed;
+  }, [onNewOrder, onOrderStatusChanged, onPaymentConfirmed, onSessionsClosed]);
 
   const disconnect = useCallback(() => {
     if (reconnectTimeoutRef.current) {
@@ -159,6 +171,19 @@ export function useWebSocket({
               }
             });
             subscriptionsRef.current.push(orderSub);
+
+            // 활동 없는 세션 자동 종료 (서버 SessionSweeper)
+            const sessionSub = stompClient.subscribe(`/topic/${dept}/sessions`, (message: any) => {
+              try {
+                const notification: SessionsClosedNotification = JSON.parse(message.body);
+                if (notification.type === 'SESSIONS_CLOSED' && onSessionsClosedRef.current) {
+                  onSessionsClosedRef.current(notification);
+                }
+              } catch (e) {
+                console.error('Failed to parse notification:', e);
+              }
+            });
+            subscriptionsRef.current.push(sessionSub);
           } catch (e) {
             console.error('Failed to subscribe:', e);
           }
@@ -198,7 +223,26 @@ export function useWebSocket({
 }
 
 // Hook for subscribing to specific order updates (for guest waiting page)
-export function useOrderStatusSubscription(orderId: number | null, onUpdate: (notification: any) => void) {
+export function useOrderStatusSubscription(dept: string | null, orderId: number | null, onUpdate: (notification: any) => void) {
+  return useTopicSubscription(dept && orderId ? `/topic/${dept}/orders/${orderId}` : null, onUpdate);
+}
+
+export interface MenuUpdateNotification {
+  type: 'MENU_UPDATED';
+  menuId: number;
+  soldOut: boolean;
+  stock: number | null;
+  menu: MenuItem;
+  timestamp: string;
+}
+
+// Hook for menu sold-out / stock changes (guest menu page)
+export function useMenuUpdates(dept: string | null, onUpdate: (notification: MenuUpdateNotification) => void) {
+  return useTopicSubscription(dept ? `/topic/${dept}/menus` : null, onUpdate);
+}
+
+// Single-topic subscription with its own connection
+function useTopicSubscription(destination: string | null, onUpdate: (notification: any) => void) {
   const [connected, setConnected] = useState(false);
   const clientRef = useRef<any>(null);
   const onUpdateRef = useRef(onUpdate);
@@ -208,7 +252,7 @@ export function useOrderStatusSubscription(orderId: number | null, onUpdate: (no
   }, [onUpdate]);
 
   useEffect(() => {
-    if (!orderId) return;
+    if (!destination) return;
 
     let subscription: any = null;
     let isMounted = true;
@@ -228,12 +272,12 @@ export function useOrderStatusSubscription(orderId: number | null, onUpdate: (no
           () => {
             if (!isMounted) return;
             setConnected(true);
-            subscription = stompClient.subscribe(`/topic/orders/${orderId}`, (message: any) => {
+            subscription = stompClient.subscribe(destination, (message: any) => {
               try {
                 const data = JSON.parse(message.body);
                 onUpdateRef.current(data);
               } catch (e) {
-                console.error('Failed to parse order update:', e);
+                console.error('Failed to parse topic message:', e);
               }
             });
           },
@@ -258,7 +302,7 @@ export function useOrderStatusSubscription(orderId: number | null, onUpdate: (no
         // ignore
       }
     };
-  }, [orderId]);
+  }, [destination]);
 
   return { connected };
 }
@@ -124,6 +124,8 @@ export interface MenuItem {
   imageUrl?: string;
   displayOrder: number;
   soldOut: boolean;
+  /** 남은 수량 (null이면 수량 관리 안 함) */
+  stock?: number | null;
 }
 
 export interface MenuResponse {
@@ -190,6 +192,18 @@ export interface Session {
 
 export type SessionStatus = 'ACTIVE' | 'CLOSED';
 
+export interface SessionBill {
+  sessionId: number;
+  orderCount: number;
+  subtotal: number;
+  tableFee: number;
+  discount: number;
+  total: number;
+  paidTotal: number;
+  unpaidTotal: number;
+  tableFeeCharged: boolean;
+}
+
 // -----------------------------------------------------------------------------
 // Table (테이블)
 // -----------------------------------------------------------------------------
@@ -226,6 +240,29 @@ export interface OrderRequest {
   items: OrderItemRequest[];
 }
 
+export interface OrderQuoteRequest {
+  includeTableFee?: boolean;
+  discountCode?: string;
+  items: OrderItemRequest[];
+}
+
+export interface OrderQuoteLine {
+  menuId: number | null;
+  name: string;
+  price: number;
+  quantity: number;
+  subtotal: number;
+}
+
+export interface OrderQuote {
+  items: OrderQuoteLine[];
+  subtotal: number;
+  tableFee: number;
+  corkage: number;
+  discount: number;
+  total: number;
+}
+
 export interface Order {
   id: number;
   departmentId: number;
@@ -242,6 +279,7 @@ export interface Order {
   note?: string;
   items: OrderItem[];
   createdAt: string;
+  version?: number;
 }
 
 export interface OrderItem {
@@ -0,0 +1,137 @@
+#!/usr/bin/env bash
+# 학과 파티션 벤치마크: 한 학과에 주문이 몰린(skewed) 데이터에서 학과별 조회 시간을 분할/비분할 테이블로 비교
+#
+# 별도 스키마(BENCH_DB)에 orders 와 같은 인덱스를 가진 orders_flat / orders_part 를 만들고 같은 데이터를 넣습니다.
+# - 큰 학과(ID 1): BIG 건, 작은 학과(ID 2..DEPTS): 학과마다 SMALL 건
+# - orders_part 는 V14 + TenantPartitionManager 와 같은 모양 (p_{학과ID} ... p_max)
+# - 쿼리마다 RUNS 번 실행한 평균(ms, 접속 비용 제외)을 큰 학과/작은 학과별로 출력
+#
+# 사용:
+#   scripts/tenant-partition-bench.sh
+# 환경변수: MYSQL (기본 "mysql -h127.0.0.1 -uroot"), BENCH_DB (기본 kupub_bench),
+#           DEPTS (기본 200), BIG (기본 2000000), SMALL (기본 2000), RUNS (기본 20), KEEP=1 이면 스키마 유지
+# 주의: BENCH_DB 스키마를 지우고 다시 만듭니다. 서비스 DB 이름을 넣지 마세요.
+
+set -eu
+
+MYSQL=${MYSQL:-mysql -h127.0.0.1 -uroot}
+BENCH_DB=${BENCH_DB:-kupub_bench}
+DEPTS=${DEPTS:-200}
+BIG=${BIG:-2000000}
+SMALL=${SMALL:-2000}
+RUNS=${RUNS:-20}
+
+sql() { $MYSQL --batch --skip-column-names "$BENCH_DB" -e "$1"; }
+now_ms() { date +%s%3N; }
+
+echo "schema ${BENCH_DB}: depts=${DEPTS} big=${BIG} small=${SMALL}"
+$MYSQL -e "DROP DATABASE IF EXISTS ${BENCH_DB}; CREATE DATABASE ${BENCH_DB}"
+
+# ========== 테이블 ==========
+
+for t in orders_flat orders_part; do
+    sql "CREATE TABLE ${t} (
+            id BIGINT NOT NULL AUTO_INCREMENT,
+            department_id BIGINT NOT NULL,
+            session_id BIGINT,
+            total_price INT NOT NULL DEFAULT 0,
+            status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+            payment_status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+            note VARCHAR(500),
+            created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+            PRIMARY KEY (id, department_id),
+            INDEX idx_dept_created (department_id, created_at),
+            INDEX idx_dept_status_created (department_id, status, created_at),
+            INDEX idx_session_created (session_id, created_at)
+        )"
+done
+
+partitions=""
+for d in $(seq 1 "$DEPTS"); do
+    partitions="${partitions}PARTITION p_${d} VALUES LESS THAN ($((d + 1))), "
+done
+sql "ALTER TABLE orders_part PARTITION BY RANGE (department_id) (${partitions}PARTITION p_max VALUES LESS THAN MAXVALUE)"
+
+# ========== 데이터 ==========
+
+# 0..999999 숫자 테이블 (10^6) 로 행을 만듦
+sql "CREATE TABLE digits (d INT PRIMARY KEY); INSERT INTO digits VALUES (0),(1),(2),(3),(4),(5),(6),(7),(8),(9)"
+sql "CREATE TABLE seq (n INT PRIMARY KEY)
+     SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 + g.d * 100000 AS n
+       FROM digits a, digits b, digits c, digits e, digits f, digits g"
+
+start=$(now_ms)
+remaining=$BIG
+offset=0
+while [ "$remaining" -gt 0 ]; do
+    chunk=$(( remaining < 1000000 ? remaining : 1000000 ))
+    sql "INSERT INTO orders_flat (department_id, session_id, total_price, status, payment_status, note, created_at)
+         SELECT 1, $offset + n DIV 4, 1000 + n % 50000,
+                ELT(1 + n % 4, 'PENDING', 'PREPARING', 'SERVED', 'CANCELLED'),
+                ELT(1 + n % 3, 'PENDING', 'CONFIRMED', 'FAILED'),
+                IF(n % 97 = 0, 'extra spicy', NULL),
+                NOW() - INTERVAL (n % 259200) SECOND
+           FROM seq WHERE n < $chunk"
+    remaining=$(( remaining - chunk ))
+    offset=$(( offset + chunk ))
+done
+sql "INSERT INTO orders_flat (department_id, session_id, total_price, status, payment_status, note, created_at)
+     SELECT 2 + n DIV $SMALL, 100000000 + n DIV 4, 1000 + n % 50000,
+            ELT(1 + n % 4, 'PENDING', 'PREPARING', 'SERVED', 'CANCELLED'),
+            ELT(1 + n % 3, 'PENDING', 'CONFIRMED', 'FAILED'),
+            IF(n % 97 = 0, 'extra spicy', NULL),
+            NOW() - INTERVAL (n % 259200) SECOND
+       FROM seq WHERE n < $(( (DEPTS - 1) * SMALL ))"
+sql "INSERT INTO orders_part SELECT * FROM orders_flat"
+sql "ANALYZE TABLE orders_flat, orders_part" > /dev/null
+echo "seeded in $(( $(now_ms) - start )) ms: $(sql 'SELECT COUNT(*) FROM orders_flat') rows"
+
+# ========== 측정 ==========
+
+# RUNS 번 실행 시간 - 같은 횟수의 SELECT 1 시간 (접속/파싱 비용 제외) → 1회 평균
+measure() {
+    local query=$1 batch="" base="" i
+    for i in $(seq 1 "$RUNS"); do
+        batch="${batch}${query};"
+        base="${base}SELECT 1;"
+    done
+    local s1 e1 s2 e2
+    s1=$(now_ms); sql "$base" > /dev/null; e1=$(now_ms)
+    s2=$(now_ms); sql "$batch" > /dev/null; e2=$(now_ms)
+    awk -v total=$(( (e2 - s2) - (e1 - s1) )) -v runs="$RUNS" 'BEGIN { v = total / runs; printf "%.2f", (v < 0 ? 0 : v) }'
+}
+
+small_dept=$(( DEPTS / 2 ))
+small_id=$(sql "SELECT MIN(id) FROM orders_flat WHERE department_id = ${small_dept}")
+big_id=$(sql "SELECT MIN(id) + ${BIG} DIV 2 FROM orders_flat WHERE department_id = 1")
+
+queries=(
+    "list|SELECT id, status, total_price, created_at FROM {t} WHERE department_id = {d} ORDER BY created_at DESC LIMIT 100"
+    "status|SELECT id, total_price FROM {t} WHERE department_id = {d} AND status = 'PENDING' ORDER BY created_at DESC LIMIT 100"
+    "report|SELECT payment_status, COUNT(*), SUM(total_price) FROM {t} WHERE department_id = {d} GROUP BY payment_status"
+    "scan|SELECT COUNT(*) FROM {t} WHERE department_id = {d} AND note LIKE '%spicy%'"
+    "by-id|SELECT * FROM {t} WHERE id = {id}"
+    "by-id+dept|SELECT * FROM {t} WHERE id = {id} AND department_id = {d}"
+)
+
+printf '\n%-11s %-6s %12s %12s\n' query dept flat_ms part_ms
+for entry in "${queries[@]}"; do
+    name=${entry%%|*}
+    template=${entry#*|}
+    for tenant in big small; do
+        if [ "$tenant" = big ]; then d=1; id=$big_id; else d=$small_dept; id=$small_id; fi
+        q=${template//\{d\}/$d}
+        q=${q//\{id\}/$id}
+        flat=$(measure "${q//\{t\}/orders_flat}")
+        part=$(measure "${q//\{t\}/orders_part}")
+        printf '%-11s %-6s %12s %12s\n' "$name" "$tenant" "$flat" "$part"
+    done
+done
+
+echo
+echo "EXPLAIN (small tenant, report):"
+sql "EXPLAIN SELECT payment_status, COUNT(*) FROM orders_part WHERE department_id = ${small_dept} GROUP BY payment_status" | cut -f1-6
+
+if [ "${KEEP:-0}" != "1" ]; then
+    $MYSQL -e "DROP DATABASE ${BENCH_DB}"
+fi
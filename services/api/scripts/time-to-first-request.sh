@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# 기동 시간 측정: JVM 시작부터 첫 HTTP 응답(상태 코드 무관)까지 걸린 시간
+#
+# 사용:
+#   scripts/time-to-first-request.sh [java 옵션...] -jar <jar> [애플리케이션 인자...]
+# 예) 일반 실행 vs 빠른 기동(AOT + CDS) 비교
+#   scripts/time-to-first-request.sh -jar build/libs/api-0.0.1-SNAPSHOT.jar --spring.profiles.active=h2
+#   scripts/time-to-first-request.sh -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+#       -jar application/api-0.0.1-SNAPSHOT.jar --spring.profiles.active=h2,fast-start
+#
+# 환경변수: JAVA (기본 java), PORT (기본 18090), RUNS (기본 5), URL_PATH (기본 /api/cs/menus)
+
+set -u
+
+JAVA=${JAVA:-java}
+PORT=${PORT:-18090}
+RUNS=${RUNS:-5}
+URL="http://localhost:${PORT}${URL_PATH:-/api/cs/menus}"
+
+now_ms() { date +%s%3N; }
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    "$JAVA" "$@" --server.port="$PORT" > "/tmp/ttfr-${run}.log" 2>&1 &
+    pid=$!
+
+    elapsed=""
+    for _ in $(seq 1 1200); do
+        code=$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)
+        if [ "$code" != "000" ]; then
+            elapsed=$(( $(now_ms) - start ))
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.05
+    done
+
+    kill "$pid" 2>/dev/null
+    wait "$pid" 2>/dev/null
+
+    if [ -z "$elapsed" ]; then
+        echo "run ${run}: 응답 없음 (로그: /tmp/ttfr-${run}.log)" >&2
+        exit 1
+    fi
+    echo "run ${run}: ${elapsed} ms"
+    results+=("$elapsed")
+done
+
+median=$(printf '%s\n' "${results[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+echo "median: ${median} ms (${RUNS} runs)"
@@ -0,0 +1,368 @@
+package com.kupub.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kupub.api.KupubApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 축제 러시 부하 테스트
+ *
+ * 내장 H2 프로필로 애플리케이션을 띄우고(또는 --target 서버 대상으로)
+ * 학과 N개에 대해 실제 운영과 비슷한 트래픽을 재현한 뒤 엔드포인트별 처리량/지연시간을 출력합니다.
+ *
+ * - 손님: QR 세션 시작 → 메뉴 조회 → 주문 → 주문 상태 폴링 → (관리자) 퇴장 처리
+ * - 스태프: 주문 목록 조회 → 결제 확인 / 완료 처리
+ * - 관리자 태블릿: /topic/{dept}/orders, /topic/{dept}/kitchen STOMP 구독
+ *
+ * 실행: gradle loadTest -PloadTestArgs="--departments=5 --guests=10 --duration=60"
+ */
+public class FestivalRushLoadTest {
+
+    private static final String[] CATEGORY_NAMES = {"안주", "식사", "음료"};
+
+    private final LoadTestOptions options;
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    private FestivalRushLoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = null;
+        SlowSmsStub smsStub = null;
+        String baseUrl = options.target();
+
+        if (options.embedded()) {
+            List<String> appArgs = new ArrayList<>(options.appArgs());
+            if (options.slowSms()) {
+                smsStub = new SlowSmsStub(options.smsDelayMs());
+                appArgs.add("--sms.aligo-url=" + smsStub.url());
+            }
+            context = startEmbedded(appArgs);
+            Integer port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+            baseUrl = "http://localhost:" + port;
+            System.out.printf("Virtual threads: %s%n",
+                    context.getEnvironment().getProperty("spring.threads.virtual.enabled", "false"));
+        }
+
+        try {
+            new FestivalRushLoadTest(options).run(baseUrl);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (smsStub != null) {
+                smsStub.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startEmbedded(List<String> appArgs) {
+        List<String> args = new ArrayList<>(appArgs);
+        addDefault(args, "spring.profiles.active", "h2");
+        addDefault(args, "server.port", "0");
+        addDefault(args, "spring.main.banner-mode", "off");
+        addDefault(args, "logging.level.root", "WARN");
+        addDefault(args, "logging.level.com.kupub.api", "WARN");
+        long started = System.nanoTime();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(KupubApplication.class)
+                .run(args.toArray(String[]::new));
+
+        System.out.printf("Embedded server started in %d ms %s%n",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), appArgs);
+        return context;
+    }
+
+    private static void addDefault(List<String> args, String key, String value) {
+        if (args.stream().noneMatch(arg -> arg.startsWith("--" + key + "="))) {
+            args.add("--" + key + "=" + value);
+        }
+    }
+
+    private void run(String baseUrl) throws Exception {
+        KupubClient staffClient = new KupubClient(baseUrl, mapper, recorder);
+        staffClient.login(options.adminUsername(), options.adminPassword());
+
+        List<Department> departments = new ArrayList<>();
+        String runId = Long.toString(System.currentTimeMillis() % 100000, 36);
+        for (int i = 1; i <= options.departments(); i++) {
+            departments.add(setUpDepartment(staffClient, "rush-" + runId + "-" + i));
+        }
+        System.out.printf("Seeded %d departments (%d tables, %d menus each)%n",
+                departments.size(), options.tables(), options.menus());
+
+        List<String> stompTargets = options.stompTargets().isEmpty() ? List.of(baseUrl) : options.stompTargets();
+        StompSubscriber stomp = new StompSubscriber(recorder);
+        List<StompSession> stompSessions = new ArrayList<>();
+        int connection = 0;
+        for (Department dept : departments) {
+            for (int i = 0; i < options.subscribers(); i++) {
+                String wsUrl = stompTargets.get(connection++ % stompTargets.size()) + "/ws";
+                stompSessions.add(stomp.subscribe(wsUrl, "/topic/" + dept.slug() + "/orders"));
+                stompSessions.add(stomp.subscribe(wsUrl, "/topic/" + dept.slug() + "/kitchen"));
+            }
+        }
+
+        long deadline = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(options.warmupSeconds() + options.durationSeconds());
+        int workers = departments.size() * (options.guests() + options.staff());
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        for (Department dept : departments) {
+            for (int i = 0; i < options.guests(); i++) {
+                KupubClient guestClient = new KupubClient(baseUrl, mapper, recorder,
+                        "kupub-loadtest/guest-" + dept.slug() + "-" + i);
+                executor.submit(() -> guestLoop(guestClient, staffClient, dept, deadline));
+            }
+            for (int i = 0; i < options.staff(); i++) {
+                executor.submit(() -> staffLoop(staffClient, dept, deadline));
+            }
+        }
+
+        System.out.printf("Running %d workers: warmup %ds, measure %ds%n",
+                workers, options.warmupSeconds(), options.durationSeconds());
+        TimeUnit.SECONDS.sleep(options.warmupSeconds());
+        recorder.start();
+        TimeUnit.SECONDS.sleep(options.durationSeconds());
+        recorder.stop();
+
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+        stompSessions.forEach(StompSession::disconnect);
+        stomp.stop();
+
+        System.out.println();
+        System.out.printf("=== Festival rush: %d departments x (%d guests, %d staff, %d subscribers)%s ===%n",
+                departments.size(), options.guests(), options.staff(), options.subscribers(),
+                options.slowSms() ? ", SMS delay " + options.smsDelayMs() + "ms" : "");
+        System.out.print(recorder.report());
+    }
+
+    // ========== Setup ==========
+
+    private Department setUpDepartment(KupubClient client, String slug) {
+        JsonNode dept = client.post(null, "/api/platform/departments", Map.of("slug", slug, "name", slug));
+        if (dept == null) {
+            throw new IllegalStateException("Failed to create department: " + slug);
+        }
+
+        List<Long> categoryIds = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_NAMES.length; i++) {
+            JsonNode category = client.post(null, "/api/" + slug + "/admin/menus/categories",
+                    Map.of("name", CATEGORY_NAMES[i], "displayOrder", i));
+            categoryIds.add(category.get("id").asLong());
+        }
+
+        List<Long> menuIds = new ArrayList<>();
+        for (int i = 0; i < options.menus(); i++) {
+            JsonNode menu = client.post(null, "/api/" + slug + "/admin/menus", Map.of(
+                    "categoryId", categoryIds.get(i % categoryIds.size()),
+                    "name", "메뉴 " + (i + 1),
+                    "price", 3000 + 1000 * (i % 12),
+                    "displayOrder", i));
+            menuIds.add(menu.get("id").asLong());
+        }
+
+        BlockingQueue<Long> freeTables = new LinkedBlockingQueue<>();
+        for (int i = 1; i <= options.tables(); i++) {
+            JsonNode table = client.post(null, "/api/" + slug + "/admin/tables",
+                    Map.of("code", "T" + i, "capacity", 4));
+            freeTables.add(table.get("id").asLong());
+        }
+
+        if (options.slowSms()) {
+            enableSms(client, slug);
+        }
+
+        return new Department(slug, menuIds, freeTables);
+    }
+
+    /**
+     * 학과 SMS 설정 켜기 (알리고 주소는 스텁으로 바뀌어 있음)
+     */
+    private void enableSms(KupubClient client, String slug) {
+        JsonNode current = client.get(null, "/api/" + slug + "/admin/settings");
+        Map<String, Object> settings = mapper.convertValue(current, mapper.getTypeFactory()
+                .constructMapType(HashMap.class, String.class, Object.class));
+        settings.put("sms", Map.of(
+                "enabled", true,
+                "provider", "aligo",
+                "aligoApiKey", "load-test",
+                "aligoUserId", "load-test",
+                "senderNumber", "01000000000"));
+        client.patch(null, "/api/" + slug + "/admin/settings", settings);
+    }
+
+    // ========== Workloads ==========
+
+    /**
+     * 손님 한 팀의 흐름을 반복
+     */
+    private void guestLoop(KupubClient guest, KupubClient staff, Department dept, long deadline) {
+        String base = "/api/" + dept.slug();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Long tableId = pollTable(dept);
+            if (tableId == null) {
+                continue;
+            }
+
+            JsonNode session = null;
+            try {
+                session = guest.post("POST /api/{dept}/sessions/start", base + "/sessions/start",
+                        Map.of("type", "QR", "tableId", tableId, "people", random.nextInt(2, 6)));
+                if (session == null) {
+                    continue;
+                }
+                long sessionId = session.get("id").asLong();
+
+                guest.get("GET /api/{dept}/menus", base + "/menus");
+                think(options.guestThinkMs());
+
+                int rounds = random.nextInt(1, 4);
+                for (int round = 0; round < rounds && System.nanoTime() < deadline; round++) {
+                    JsonNode order = guest.post("POST /api/{dept}/orders", base + "/orders",
+                            orderRequest(sessionId, dept, random));
+                    if (order == null) {
+                        continue;
+                    }
+                    long orderId = order.get("id").asLong();
+
+                    if (options.longPoll()) {
+                        awaitPayment(guest, base, order, deadline);
+                    } else {
+                        for (int poll = 0; poll < options.pollsPerOrder(); poll++) {
+                            think(options.pollIntervalMs());
+                            guest.get("GET /api/{dept}/orders/{id}", base + "/orders/" + orderId);
+                        }
+                    }
+                    think(options.guestThinkMs());
+                }
+            } finally {
+                if (session != null) {
+                    staff.patch("PATCH /api/{dept}/admin/sessions/{id}/close",
+                            base + "/admin/sessions/" + session.get("id").asLong() + "/close", Map.of());
+                }
+                dept.freeTables().offer(tableId);
+            }
+        }
+    }
+
+    /**
+     * 손님 결제 대기 화면 (Long polling): 결제 확인될 때까지 변경 대기
+     */
+    private void awaitPayment(KupubClient guest, String base, JsonNode order, long deadline) {
+        long orderId = order.get("id").asLong();
+        long version = order.get("version").asLong();
+
+        while (System.nanoTime() < deadline) {
+            JsonNode updated = guest.get("GET /api/{dept}/orders/{id}/updates",
+                    base + "/orders/" + orderId + "/updates?version=" + version);
+            if (updated == null) {
+                // 304(변경 없음) 또는 오류 → 잠깐 쉬고 다시 대기
+                think(options.pollIntervalMs());
+                continue;
+            }
+            version = updated.get("version").asLong();
+            if (!"PENDING".equals(updated.get("paymentStatus").asText())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 스태프 태블릿: 결제 확인 → 조리 완료 처리
+     */
+    private void staffLoop(KupubClient staff, Department dept, long deadline) {
+        String base = "/api/" + dept.slug() + "/admin/orders";
+
+        while (System.nanoTime() < deadline) {
+            JsonNode pending = staff.get("GET /api/{dept}/admin/orders?status", base + "?status=PENDING");
+            for (JsonNode order : first(pending, 3)) {
+                staff.patch("PATCH /api/{dept}/admin/orders/{id}", base + "/" + order.get("id").asLong(),
+                        Map.of("paymentStatus", "CONFIRMED"));
+            }
+
+            JsonNode preparing = staff.get("GET /api/{dept}/admin/orders?status", base + "?status=PREPARING");
+            for (JsonNode order : first(preparing, 3)) {
+                staff.patch("PATCH /api/{dept}/admin/orders/{id}", base + "/" + order.get("id").asLong(),
+                        Map.of("status", "DONE"));
+            }
+
+            staff.get("GET /api/{dept}/admin/orders", base);
+            think(options.staffThinkMs());
+        }
+    }
+
+    private Map<String, Object> orderRequest(long sessionId, Department dept, ThreadLocalRandom random) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        int lines = random.nextInt(1, 4);
+        for (int i = 0; i < lines; i++) {
+            items.add(Map.of(
+                    "menuId", dept.menuIds().get(random.nextInt(dept.menuIds().size())),
+                    "quantity", random.nextInt(1, 3)));
+        }
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("sessionId", sessionId);
+        request.put("items", items);
+        if (options.slowSms()) {
+            request.put("guestPhone", String.format("010%08d", random.nextInt(100_000_000)));
+        }
+        return request;
+    }
+
+    private Long pollTable(Department dept) {
+        try {
+            return dept.freeTables().poll(200, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static List<JsonNode> first(JsonNode array, int limit) {
+        List<JsonNode> result = new ArrayList<>();
+        if (array != null && array.isArray()) {
+            for (int i = 0; i < array.size() && i < limit; i++) {
+                result.add(array.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static void think(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(millis / 2, millis + millis / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Department(String slug, List<Long> menuIds, BlockingQueue<Long> freeTables) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.kupub.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 REST 클라이언트
+ * - ApiResponse 래퍼를 벗겨 data 노드만 반환
+ * - endpoint 라벨이 있으면 지연시간을 기록 (셋업 호출은 라벨 없이 호출)
+ * - 손님마다 User-Agent를 다르게 지정 (서버 요청 제한은 IP + User-Agent 단위)
+ */
+final class KupubClient {
+
+    private final HttpClient http;
+    private final ObjectMapper mapper;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final String userAgent;
+
+    private volatile String accessToken;
+
+    KupubClient(String baseUrl, ObjectMapper mapper, LatencyRecorder recorder) {
+        this(baseUrl, mapper, recorder, "kupub-loadtest/staff");
+    }
+
+    KupubClient(String baseUrl, ObjectMapper mapper, LatencyRecorder recorder, String userAgent) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.mapper = mapper;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.userAgent = userAgent;
+    }
+
+    void login(String username, String password) {
+        JsonNode data = call(null, "POST", "/api/auth/login",
+                Map.of("username", username, "password", password));
+        if (data == null) {
+            throw new IllegalStateException("Admin login failed: " + username);
+        }
+        this.accessToken = data.get("accessToken").asText();
+    }
+
+    JsonNode get(String endpoint, String path) {
+        return call(endpoint, "GET", path, null);
+    }
+
+    JsonNode post(String endpoint, String path, Object body) {
+        return call(endpoint, "POST", path, body);
+    }
+
+    JsonNode patch(String endpoint, String path, Object body) {
+        return call(endpoint, "PATCH", path, body);
+    }
+
+    /**
+     * 요청 실행 (실패 또는 304 시 null)
+     */
+    JsonNode call(String endpoint, String method, String path, Object body) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json")
+                    .header("User-Agent", userAgent);
+
+            if (accessToken != null && (path.contains("/admin/") || path.startsWith("/api/platform/"))) {
+                builder.header("Authorization", "Bearer " + accessToken);
+            }
+
+            if (body != null) {
+                builder.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+            } else {
+                builder.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+
+            HttpResponse<byte[]> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 304) {
+                // Long polling 제한 시간 동안 변경 없음
+                success = true;
+                return null;
+            }
+            if (response.statusCode() / 100 != 2) {
+                return null;
+            }
+
+            JsonNode root = mapper.readTree(response.body());
+            success = true;
+            return root.path("data");
+
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            recorder.record(endpoint, System.nanoTime() - start, success);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.kupub.api.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 지연시간 수집기
+ * - 측정 구간(start ~ stop) 동안의 샘플만 기록 (워밍업 제외)
+ * - 샘플 전체를 보관해서 정확한 p50/p95/p99 계산
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    private volatile boolean recording;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    void start() {
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    void record(String endpoint, long nanos, boolean success) {
+        if (!recording || endpoint == null) {
+            return;
+        }
+        series.computeIfAbsent(endpoint, k -> new Series()).add(nanos, success);
+    }
+
+    String report() {
+        double seconds = Math.max(1, stoppedAt - startedAt) / 1_000_000_000.0;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-48s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        sb.append("-".repeat(118)).append('\n');
+
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, Series> entry : new TreeMap<>(series).entrySet()) {
+            Snapshot s = entry.getValue().snapshot();
+            totalCount += s.count();
+            totalErrors += s.errors();
+            sb.append(String.format("%-48s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), s.count(), s.errors(), s.count() / seconds,
+                    s.percentileMs(0.50), s.percentileMs(0.95), s.percentileMs(0.99), s.percentileMs(1.0)));
+        }
+
+        sb.append("-".repeat(118)).append('\n');
+        sb.append(String.format("%-48s %9d %7d %9.1f   (measured %.1fs)%n",
+                "TOTAL", totalCount, totalErrors, totalCount / seconds, seconds));
+        return sb.toString();
+    }
+
+    // ========== Series ==========
+
+    private static final class Series {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long nanos, boolean success) {
+            if (!success) {
+                errors++;
+            }
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized Snapshot snapshot() {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new Snapshot(sorted, errors);
+        }
+    }
+
+    private record Snapshot(long[] sorted, long errors) {
+
+        long count() {
+            return sorted.length;
+        }
+
+        double percentileMs(double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
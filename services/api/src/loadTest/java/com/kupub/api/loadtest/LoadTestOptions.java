@@ -0,0 +1,111 @@
+package com.kupub.api.loadtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션
+ *
+ * 사용 예: gradle loadTest -PloadTestArgs="--departments=5 --duration=60"
+ * - --target 을 지정하면 내장 서버 대신 이미 떠 있는 서버를 대상으로 실행
+ * - --stomp-targets=http://a:8080,http://b:8080 을 지정하면 STOMP 구독자를 여러 서버에 나눠 연결 (서버 간 전달 확인용)
+ * - --spring.* / --server.* / --app.* / --sms.* / --logging.* 인자는 내장 서버에 그대로 전달
+ * - --long-poll 을 지정하면 손님이 주문 조회를 반복하는 대신 /orders/{id}/updates 로 결제 확인까지 대기
+ * - --sms-delay-ms 를 지정하면 느린 알리고 스텁을 띄우고 결제 확인마다 자동 SMS를 보내게 함 (내장 서버 전용)
+ */
+record LoadTestOptions(
+        String target,
+        List<String> stompTargets,
+        int departments,
+        int tables,
+        int menus,
+        int guests,
+        int staff,
+        int subscribers,
+        int durationSeconds,
+        int warmupSeconds,
+        int pollsPerOrder,
+        long pollIntervalMs,
+        long guestThinkMs,
+        long staffThinkMs,
+        long smsDelayMs,
+        boolean longPoll,
+        String adminUsername,
+        String adminPassword,
+        List<String> appArgs
+) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        List<String> appArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+            if (arg.startsWith("--spring.") || arg.startsWith("--server.") || arg.startsWith("--app.")
+                    || arg.startsWith("--sms.") || arg.startsWith("--logging.")) {
+                appArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                opts.put(arg.substring(2), "true");
+            } else {
+                opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                opts.remove("target"),
+                listOpt(opts, "stomp-targets"),
+                intOpt(opts, "departments", 3),
+                intOpt(opts, "tables", 12),
+                intOpt(opts, "menus", 12),
+                intOpt(opts, "guests", 8),
+                intOpt(opts, "staff", 2),
+                intOpt(opts, "subscribers", 5),
+                intOpt(opts, "duration", 30),
+                intOpt(opts, "warmup", 5),
+                intOpt(opts, "polls-per-order", 4),
+                intOpt(opts, "poll-interval-ms", 500),
+                intOpt(opts, "guest-think-ms", 300),
+                intOpt(opts, "staff-think-ms", 500),
+                intOpt(opts, "sms-delay-ms", 0),
+                Boolean.parseBoolean(opts.remove("long-poll")),
+                opts.getOrDefault("admin-username", "admin"),
+                opts.getOrDefault("admin-password", "admin123"),
+                List.copyOf(appArgs)
+        );
+        opts.remove("admin-username");
+        opts.remove("admin-password");
+
+        if (!opts.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + opts.keySet());
+        }
+        return options;
+    }
+
+    private static List<String> listOpt(Map<String, String> opts, String key) {
+        String value = opts.remove(key);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return List.of(value.split(","));
+    }
+
+    private static int intOpt(Map<String, String> opts, String key, int defaultValue) {
+        String value = opts.remove(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    boolean embedded() {
+        return target == null || target.isBlank();
+    }
+
+    boolean slowSms() {
+        return smsDelayMs > 0 && embedded();
+    }
+}
@@ -0,0 +1,46 @@
+package com.kupub.api.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 느린 알리고 API 흉내 (부하 테스트용)
+ * - 모든 요청에 delayMs 만큼 늦게 200 응답
+ * - 결제 확인 시 자동 SMS가 요청 스레드를 얼마나 붙잡는지 재현
+ */
+final class SlowSmsStub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    SlowSmsStub(long delayMs) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/send/", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(delayMs);
+                byte[] body = "{\"result_code\":\"1\",\"message\":\"success\"}".getBytes();
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/send/";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,64 @@
+package com.kupub.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 구독자 (관리자 태블릿 역할)
+ * - 메시지의 timestamp 필드와 수신 시각의 차이를 전달 지연으로 기록
+ */
+final class StompSubscriber {
+
+    private final WebSocketStompClient client;
+    private final LatencyRecorder recorder;
+
+    StompSubscriber(LatencyRecorder recorder) {
+        this.client = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        this.client.setMessageConverter(new MappingJackson2MessageConverter());
+        this.recorder = recorder;
+    }
+
+    StompSession subscribe(String wsUrl, String destination) throws Exception {
+        StompSession session = client.connectAsync(wsUrl, new StompSessionHandlerAdapter() {})
+                .get(10, TimeUnit.SECONDS);
+
+        String label = "STOMP " + destination.replaceFirst("^/topic/[^/]+/", "/topic/{dept}/") + " (delivery)";
+
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                JsonNode timestamp = ((JsonNode) payload).get("timestamp");
+                if (timestamp == null) {
+                    return;
+                }
+                long nanos = Duration.between(LocalDateTime.parse(timestamp.asText()), LocalDateTime.now()).toNanos();
+                recorder.record(label, Math.max(0, nanos), true);
+            }
+        });
+        return session;
+    }
+
+    void stop() {
+        client.stop();
+    }
+}
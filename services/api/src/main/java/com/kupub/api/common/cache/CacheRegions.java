@@ -0,0 +1,33 @@
+package com.kupub.api.common.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역 이름
+ *
+ * 엔티티 영역은 @Cache(region = ...), 쿼리 영역은 @QueryHint(HINT_CACHE_REGION) 로 지정합니다.
+ * 영역별 최대 개수는 app.hibernate-cache.heap.{영역} 으로 바꿀 수 있습니다.
+ */
+public final class CacheRegions {
+
+    // ========== 엔티티 ==========
+    public static final String DEPARTMENT = "department";
+    public static final String MENU = "menu";
+    public static final String MENU_CATEGORY = "menu-category";
+    public static final String DEPARTMENT_TABLE = "department-table";
+
+    // ========== 쿼리 ==========
+    public static final String DEPARTMENT_BY_SLUG = "department-by-slug";
+    public static final String MENU_LIST = "menu-list";
+    public static final String TABLE_LIST = "table-list";
+
+    // ========== Hibernate 기본 영역 ==========
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ENTITY_REGIONS = List.of(DEPARTMENT, MENU, MENU_CATEGORY, DEPARTMENT_TABLE);
+    public static final List<String> QUERY_REGIONS = List.of(DEPARTMENT_BY_SLUG, MENU_LIST, TABLE_LIST, DEFAULT_QUERY_RESULTS);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,10 @@
+package com.kupub.api.common.cache;
+
+/**
+ * 학과 메뉴/가격 설정 변경 알림
+ *
+ * 메뉴 추가/수정/삭제/품절, 가격 설정 변경 시 발행합니다.
+ * 이 데이터로 만든 파생 캐시(가격 모델 등)는 커밋 후 이 이벤트를 받아 비웁니다.
+ */
+public record CatalogChangedEvent(Long departmentId) {
+}
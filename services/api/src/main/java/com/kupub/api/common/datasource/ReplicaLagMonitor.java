@@ -0,0 +1,86 @@
+package com.kupub.api.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 복제본 지연 확인
+ *
+ * lag-query 결과의 Seconds_Behind_Source 컬럼(없으면 첫 번째 컬럼, 초 단위)이 max-lag 이하일 때만
+ * 읽기를 복제본으로 보냅니다. 지연이 크거나, 복제가 멈췄거나(null/결과 없음), 조회에 실패하면 원본으로 읽습니다.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean healthy;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 지연 확인 (기본 1초 주기)
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        Long lag = currentLag();
+        boolean nowHealthy = lag != null && lag <= maxLagSeconds;
+        if (nowHealthy != healthy) {
+            if (nowHealthy) {
+                log.info("Replica reads enabled: lag={}s", lag);
+            } else {
+                log.warn("Replica reads disabled, falling back to primary: lag={}s maxLag={}s", lag, maxLagSeconds);
+            }
+        }
+        healthy = nowHealthy;
+    }
+
+    /**
+     * 현재 지연 (초, 알 수 없으면 null)
+     */
+    private Long currentLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return null;
+            }
+            long lag = rs.getLong(lagColumn(rs.getMetaData()));
+            return rs.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            log.debug("Replica lag check failed", e);
+            return null;
+        }
+    }
+
+    private static int lagColumn(ResultSetMetaData meta) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (LAG_COLUMN.equalsIgnoreCase(meta.getColumnLabel(i))) {
+                return i;
+            }
+        }
+        return 1;
+    }
+}
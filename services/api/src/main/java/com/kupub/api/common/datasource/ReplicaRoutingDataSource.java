@@ -0,0 +1,40 @@
+package com.kupub.api.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 원본 DB로 보내는 DataSource
+ *
+ * - @Transactional(readOnly = true) 안에서 얻는 연결 → 복제본 (복제 지연이 크면 원본)
+ * - 쓰기 트랜잭션, 트랜잭션 밖 → 원본
+ * - 방금 쓴 데이터를 바로 다시 읽는 조회(손님 주문/세션 조회, 가격 모델)는
+ *   readOnly 가 아닌 트랜잭션으로 원본에서 읽음 (복제 지연 동안 404/이전 값이 보이지 않도록)
+ *
+ * 트랜잭션 시작 시점에는 아직 readOnly 여부가 정해지지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 시점에 연결을 고르게 해야 합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isHealthy()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,79 @@
+package com.kupub.api.common.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 학과 DB별 ID 생성 규칙 (app.sharding.enabled=true)
+ *
+ * 학과를 다른 DB로 옮겨도 ID를 그대로 쓰고, 2차 캐시(엔티티 ID 키)에서도 다른 DB 행과 겹치지 않도록
+ * DB마다 ID를 STEP 으로 나눈 나머지를 다르게 씁니다. (중앙 DB 1, 학과 DB 2~64)
+ * - MySQL: 커넥션마다 auto_increment_increment/offset 설정 → 다른 DB의 ID가 옮겨와도 자기 나머지로 계속 생성
+ * - H2: 컬럼의 INCREMENT BY + RESTART WITH (명시적 ID를 넣으면 그 값에서 이어가므로 이동 후 다시 맞춤)
+ * - 학과 DB는 SHARD_BASE 이상에서 시작 (분산 전 중앙 DB에서 만든 ID는 나머지가 제각각이므로)
+ */
+public final class ShardIdSequences {
+
+    public static final int STEP = 64;
+    public static final int CENTRAL_OFFSET = 1;
+    public static final long SHARD_BASE = 1_000_000_000_000L;
+
+    /**
+     * 학과 DB에서 새 행을 만드는 AUTO_INCREMENT 테이블 (departments/users 는 중앙 DB에서만 생성)
+     */
+    public static final List<String> TABLES = List.of(
+            "department_settings", "menu_categories", "menus", "department_tables", "reservations",
+            "guest_sessions", "orders", "order_items", "department_media", "cluster_messages");
+
+    private ShardIdSequences() {
+    }
+
+    /**
+     * MySQL 커넥션 초기화 SQL (Hikari connectionInitSql)
+     */
+    public static String mysqlConnectionInitSql(int offset) {
+        return "SET SESSION auto_increment_increment = " + STEP + ", auto_increment_offset = " + offset;
+    }
+
+    /**
+     * 테이블마다 다음 ID를 이 DB의 나머지로 맞춤 (DDL 이라 트랜잭션 밖 커넥션으로 실행)
+     */
+    public static void align(Connection connection, int offset) throws SQLException {
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        long base = baseOf(offset);
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                long next = next(Math.max(maxId, base), offset);
+                if (mysql) {
+                    statement.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + next);
+                } else {
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id SET INCREMENT BY " + STEP);
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+                }
+            }
+        }
+    }
+
+    /**
+     * 이 DB에서 만드는 ID의 최솟값 (학과 DB는 SHARD_BASE 부터)
+     */
+    public static long baseOf(int offset) {
+        return offset == CENTRAL_OFFSET ? 0 : SHARD_BASE;
+    }
+
+    /**
+     * after 보다 큰 값 중 STEP 으로 나눈 나머지가 offset 인 가장 작은 값
+     */
+    public static long next(long after, int offset) {
+        long candidate = after - Math.floorMod(after, STEP) + Math.floorMod(offset, STEP);
+        return candidate > after ? candidate : candidate + STEP;
+    }
+}
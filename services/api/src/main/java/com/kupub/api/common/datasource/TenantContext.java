@@ -0,0 +1,75 @@
+package com.kupub.api.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 학과 DB (TenantRoutingDataSource 의 키)
+ *
+ * - 요청: TenantRoutingFilter 가 /api/{dept}/** 의 학과 DB로 설정
+ * - 그 외(플랫폼 API, 스케줄러, 학과 외 API): 중앙 DB(central)
+ * - 비동기 작업은 AsyncConfig 의 TaskDecorator 가 요청 스레드 값을 넘겨줌
+ *
+ * 트랜잭션은 시작할 때가 아니라 첫 쿼리에서 연결을 고르므로(LazyConnectionDataSourceProxy)
+ * 트랜잭션을 시작하기 전에 설정하고 끝날 때까지 바꾸지 않아야 합니다.
+ * 이미 진행 중인 트랜잭션 안에서 바꿔도 그 트랜잭션의 연결은 바뀌지 않습니다.
+ */
+public final class TenantContext {
+
+    public static final String CENTRAL = "central";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * 현재 학과 DB (설정되지 않았으면 central)
+     */
+    public static String current() {
+        String shard = CURRENT.get();
+        return shard != null ? shard : CENTRAL;
+    }
+
+    /**
+     * 학과 DB 설정, close() 에서 이전 값으로 복원
+     */
+    public static Scope use(String shard) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public static void run(String shard, Runnable action) {
+        try (Scope ignored = use(shard)) {
+            action.run();
+        }
+    }
+
+    public static <T> T call(String shard, Supplier<T> action) {
+        try (Scope ignored = use(shard)) {
+            return action.get();
+        }
+    }
+
+    /**
+     * 현재 학과 DB를 다른 스레드에서 이어서 쓰도록 감싼 작업
+     */
+    public static Runnable wrap(Runnable task) {
+        String shard = CURRENT.get();
+        if (shard == null) {
+            return task;
+        }
+        return () -> run(shard, task);
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,253 @@
+package com.kupub.api.common.datasource;
+
+import com.kupub.api.common.exception.ConflictException;
+import com.kupub.api.department.service.DepartmentCreatedEvent;
+import com.kupub.api.tenant.service.TenantDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 학과별 파티션 관리 (MySQL, V14 에서 RANGE(department_id) 로 나눈 테이블)
+ *
+ * 학과마다 p_{학과ID} (VALUES LESS THAN (학과ID + 1)) 파티션을 둡니다.
+ * 아직 파티션이 없는 학과를 찾아 그 학과 ID가 들어 있는 파티션을 쪼개서 추가합니다.
+ * - 학과 생성 커밋 후 그 학과의 DB만 + 운영자가 직접 실행 (POST /api/platform/partitions/sync, 시드 생성기)
+ *   서버 시작 시에는 실행하지 않음 → 동기화가 실패한 학과의 행은 다음 실행까지 MAXVALUE 파티션에 저장됨
+ * - DB마다 GET_LOCK 으로 한 번에 하나만 실행 (여러 서버에서 동시에 실행되면 REORGANIZE 가 겹치지 않도록)
+ *   직접 실행은 기다리지 않고 409 PARTITION_SYNC_IN_PROGRESS, 학과 생성 후에는 잠시 기다렸다가 실행
+ * - 새 학과 ID는 대개 마지막 경계 이상이라 MAXVALUE 파티션을 쪼갬 → MAXVALUE 에는 파티션이 없는 학과 행만 있어 비용이 작음
+ *   (처음 적용 시에는 기존 학과 전체가 MAXVALUE 에 있으므로 한 번 재배치됨)
+ * - 다른 DB에서 옮겨 온 학과(TenantMoveService)는 ID가 마지막 경계보다 작을 수 있음
+ *   → 그 ID를 담고 있는 이웃 학과의 p_{ID} 파티션을 [새 학과, 이웃 학과] 로 쪼갬 (이웃 학과 행이 한 번 재배치됨)
+ * - DDL 은 MySQL 에서 암묵적으로 커밋되므로 트랜잭션 밖의 별도 커넥션으로 실행
+ * - 파티션이 없는 DB(H2 등)나 app.partitioning.enabled=false 면 아무것도 하지 않음
+ * - 학과 DB를 나눠 쓰면(app.sharding.enabled) DB마다 그 DB에 있는 학과 기준으로 맞춤
+ */
+@Component
+public class TenantPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantPartitionManager.class);
+
+    public static final List<String> TABLES = List.of("orders", "order_items", "guest_sessions");
+
+    private static final String MAXVALUE = "MAXVALUE";
+
+    /** GET_LOCK 이름 (DB 단위 잠금이라 학과 DB마다 따로 잡힘) */
+    private static final String LOCK_NAME = "kupub.tenant_partition_sync";
+
+    /** 학과 생성 후 동기화가 다른 실행을 기다리는 시간 (초) */
+    private static final int CREATED_LOCK_WAIT_SECONDS = 10;
+
+    private final DataSource dataSource;
+    private final TenantDirectory tenantDirectory;
+    private final boolean enabled;
+
+    public TenantPartitionManager(DataSource dataSource,
+                                  TenantDirectory tenantDirectory,
+                                  @Value("${app.partitioning.enabled:true}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.tenantDirectory = tenantDirectory;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 파티션이 없는 학과에 파티션 추가 (학과 DB를 나눠 쓰면 DB마다)
+     *
+     * @return 테이블별 추가한 파티션 수 (분할되지 않은 테이블은 제외, 중앙 DB 외에는 "DB.테이블")
+     */
+    public Map<String, Integer> sync() {
+        Map<String, Integer> added = new LinkedHashMap<>();
+        if (!enabled) {
+            return added;
+        }
+        tenantDirectory.forEachShard(() -> {
+            String prefix = TenantContext.CENTRAL.equals(TenantContext.current()) ? "" : TenantContext.current() + ".";
+            syncShard(0).forEach((table, count) -> added.put(prefix + table, count));
+        });
+        return added;
+    }
+
+    /**
+     * 학과 생성 커밋 후 그 학과가 있는 DB의 파티션 추가 (실패해도 학과 생성은 그대로, 다음 동기화에서 맞춰짐)
+     */
+    @TransactionalEventListener
+    public void onDepartmentCreated(DepartmentCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        String shard = tenantDirectory.shardOf(event.departmentId());
+        try {
+            TenantContext.run(shard, () -> syncShard(CREATED_LOCK_WAIT_SECONDS));
+        } catch (RuntimeException e) {
+            log.warn("Tenant partition sync after create failed: department={} shard={}",
+                    event.departmentId(), shard, e);
+        }
+    }
+
+    // ========== Private Methods ==========
+
+    /**
+     * @param lockWaitSeconds 다른 실행이 끝나기를 기다리는 시간 (0 이면 바로 409)
+     */
+    private Map<String, Integer> syncShard(int lockWaitSeconds) {
+        Map<String, Integer> added = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql")) {
+                return added;
+            }
+            if (!lock(connection, lockWaitSeconds)) {
+                throw new ConflictException("PARTITION_SYNC_IN_PROGRESS", "다른 곳에서 파티션을 추가하는 중입니다.",
+                        Map.of("shard", TenantContext.current()));
+            }
+            try {
+                for (String table : TABLES) {
+                    try {
+                        Integer count = syncTable(connection, table);
+                        if (count != null) {
+                            added.put(table, count);
+                        }
+                    } catch (SQLException e) {
+                        log.warn("Tenant partition sync failed: shard={} table={}", TenantContext.current(), table, e);
+                    }
+                }
+            } finally {
+                unlock(connection);
+            }
+        } catch (SQLException e) {
+            log.warn("Tenant partition sync failed: shard={}", TenantContext.current(), e);
+        }
+        return added;
+    }
+
+    /**
+     * @return 추가한 파티션 수 (RANGE + MAXVALUE 로 분할되지 않은 테이블이면 null)
+     */
+    private Integer syncTable(Connection connection, String table) throws SQLException {
+        List<String[]> partitions = partitions(connection, table);
+        if (partitions.isEmpty()) {
+            return null;
+        }
+        if (!MAXVALUE.equalsIgnoreCase(partitions.get(partitions.size() - 1)[1])) {
+            log.warn("Tenant partition sync skipped, last partition is not MAXVALUE: table={}", table);
+            return null;
+        }
+
+        // 파티션이 없는 학과를 지금 그 학과 행이 들어가는 파티션별로 묶음 (경계 순서)
+        Set<String> names = new HashSet<>();
+        partitions.forEach(partition -> names.add(partition[0]));
+        Map<String[], List<Long>> splits = new LinkedHashMap<>();
+        for (Long departmentId : departmentIds(connection)) {
+            if (names.contains("p_" + departmentId)) {
+                continue;
+            }
+            String[] container = containerOf(partitions, departmentId);
+            // 경계가 ID + 1 인 파티션이 이미 있으면 (이름만 다른 경우) 쪼갤 필요 없음
+            if (!MAXVALUE.equalsIgnoreCase(container[1]) && Long.parseLong(container[1]) == departmentId + 1) {
+                continue;
+            }
+            splits.computeIfAbsent(container, key -> new ArrayList<>()).add(departmentId);
+        }
+
+        int added = 0;
+        for (Map.Entry<String[], List<Long>> split : splits.entrySet()) {
+            String[] container = split.getKey();
+            StringBuilder ddl = new StringBuilder("ALTER TABLE ").append(table)
+                    .append(" REORGANIZE PARTITION ").append(container[0]).append(" INTO (");
+            for (Long departmentId : split.getValue()) {
+                ddl.append("PARTITION p_").append(departmentId)
+                        .append(" VALUES LESS THAN (").append(departmentId + 1).append("), ");
+            }
+            ddl.append("PARTITION ").append(container[0]).append(" VALUES LESS THAN ")
+                    .append(MAXVALUE.equalsIgnoreCase(container[1]) ? MAXVALUE : "(" + container[1] + ")")
+                    .append(")");
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(ddl.toString());
+            }
+            log.info("Tenant partitions added: table={} partition={} departments={}",
+                    table, container[0], split.getValue());
+            added += split.getValue().size();
+        }
+        return added;
+    }
+
+    /**
+     * 학과 ID의 행이 들어가는 파티션 (경계가 ID보다 큰 첫 파티션, 마지막은 MAXVALUE)
+     */
+    private static String[] containerOf(List<String[]> partitions, long departmentId) {
+        for (String[] partition : partitions) {
+            if (MAXVALUE.equalsIgnoreCase(partition[1]) || Long.parseLong(partition[1]) > departmentId) {
+                return partition;
+            }
+        }
+        return partitions.get(partitions.size() - 1);
+    }
+
+    private static boolean lock(Connection connection, int waitSeconds) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, waitSeconds);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    /**
+     * [파티션 이름, 경계값] 순서대로
+     */
+    private static List<String[]> partitions(Connection connection, String table) throws SQLException {
+        List<String[]> partitions = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                  FROM information_schema.PARTITIONS
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                 ORDER BY PARTITION_ORDINAL_POSITION
+                """)) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    partitions.add(new String[]{rs.getString(1), rs.getString(2)});
+                }
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * 이 DB의 학과 ID 오름차순 (학과 DB면 그 DB에 사본이 있는 학과)
+     */
+    private static List<Long> departmentIds(Connection connection) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement("SELECT id FROM departments ORDER BY id");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,74 @@
+package com.kupub.api.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 학과 DB 라우팅 (app.sharding.enabled=true)
+ *
+ * - TenantContext.current() 의 DB로 연결 (설정이 없으면 중앙 DB)
+ * - 모르는 DB 이름이면 중앙 DB로 보내지 않고 실패 (다른 학과 데이터와 섞이지 않도록)
+ *
+ * 트랜잭션 시작 시점이 아니라 첫 쿼리에서 DB를 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+public class TenantRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<String, DataSource> shards;
+    private final List<String> names;
+
+    /**
+     * @param shards 중앙 DB를 제외한 학과 DB (이름 → DataSource)
+     */
+    public TenantRoutingDataSource(DataSource central, Map<String, DataSource> shards) {
+        this.shards = new LinkedHashMap<>(shards);
+        this.names = Stream.concat(Stream.of(TenantContext.CENTRAL), shards.keySet().stream()).toList();
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(TenantContext.CENTRAL, central);
+        targets.putAll(shards);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(central);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TenantContext.current();
+    }
+
+    /**
+     * 중앙 DB 포함 전체 DB 이름 (중앙 DB, 설정 순서)
+     */
+    public List<String> shardNames() {
+        return names;
+    }
+
+    /**
+     * 이름으로 DB 직접 조회 (학과 이동 등 여러 DB를 동시에 쓰는 작업용)
+     */
+    public DataSource shard(String name) {
+        DataSource dataSource = getResolvedDataSources().get(name);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + name);
+        }
+        return dataSource;
+    }
+
+    /**
+     * 학과 DB 커넥션 풀 종료 (중앙 DB는 별도 빈이라 Spring 이 종료)
+     */
+    @Override
+    public void close() {
+        for (DataSource dataSource : shards.values()) {
+            if (dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.kupub.api.common.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.dto.ApiResponse;
+import com.kupub.api.common.web.DepartmentPaths;
+import com.kupub.api.tenant.service.TenantDirectory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * /api/{dept}/** 요청을 학과 DB로 보냄 (app.sharding.enabled=true)
+ *
+ * 요청 제한/인증 필터보다 먼저 실행되어 이후의 모든 조회(학과 설정 등)가 학과 DB를 사용합니다.
+ * - 이동 중(MOVING)인 학과는 읽기만 허용하고 쓰기는 503 + Retry-After
+ * - 없는 학과는 중앙 DB로 보냄 (컨트롤러에서 404)
+ * - 그 외 API(플랫폼/인증/업로드)는 중앙 DB
+ */
+@Component
+public class TenantRoutingFilter extends OncePerRequestFilter {
+
+    private final TenantDirectory tenantDirectory;
+    private final ObjectMapper objectMapper;
+    private final long retryAfterSeconds;
+
+    public TenantRoutingFilter(TenantDirectory tenantDirectory,
+                               ObjectMapper objectMapper,
+                               @Value("${app.sharding.directory-ttl:PT5S}") Duration directoryTtl) {
+        this.tenantDirectory = tenantDirectory;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Math.max(1, directoryTtl.toSeconds());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !tenantDirectory.isEnabled() || DepartmentPaths.departmentOf(request) == null;
+    }
+
+    /**
+     * DeferredResult/StreamingResponseBody 의 비동기 디스패치에서도 같은 학과 DB 사용
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TenantDirectory.Placement placement = tenantDirectory.resolve(DepartmentPaths.departmentOf(request));
+        if (placement.isMoving() && !DepartmentPaths.isRead(request)) {
+            reject(response);
+            return;
+        }
+        try (TenantContext.Scope ignored = TenantContext.use(placement.shard())) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(
+                "TENANT_MOVING",
+                "학과 데이터를 옮기는 중입니다. 잠시 후 다시 시도해주세요."));
+    }
+}
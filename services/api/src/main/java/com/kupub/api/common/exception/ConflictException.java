@@ -0,0 +1,21 @@
+package com.kupub.api.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 현재 리소스 상태와 충돌할 때 발생하는 예외 (409)
+ */
+public class ConflictException extends BusinessException {
+
+    public ConflictException(String message) {
+        super(HttpStatus.CONFLICT, "CONFLICT", message);
+    }
+
+    public ConflictException(String code, String message) {
+        super(HttpStatus.CONFLICT, code, message);
+    }
+
+    public ConflictException(String code, String message, Object details) {
+        super(HttpStatus.CONFLICT, code, message, details);
+    }
+}
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -53,6 +54,18 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("VALIDATION_FAILED", "입력값이 올바르지 않습니다.", errors));
     }
 
+    /**
+     * 낙관적 잠금 충돌 (@Version 불일치)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<?>> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Optimistic lock conflict: entity={} id={}", ex.getPersistentClassName(), ex.getIdentifier());
+        
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("VERSION_CONFLICT", "다른 곳에서 먼저 변경되었습니다. 새로고침 후 다시 시도해주세요."));
+    }
+
     /**
      * 그 외 예외 처리
      */
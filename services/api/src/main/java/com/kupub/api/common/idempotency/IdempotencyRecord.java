@@ -0,0 +1,106 @@
+package com.kupub.api.common.idempotency;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 처리 결과 (DB 보관본)
+ * - 인메모리 캐시에서 밀려났거나 다른 서버 인스턴스가 처리한 요청의 재시도 대응용
+ * - responseJson 이 null 이면 아직 처리 중인 요청
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_scope_key", columnNames = {"scope", "idem_key"}),
+        indexes = @Index(name = "idx_idempotency_expires", columnList = "expires_at"))
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 요청 범위 (예: orders:create:3)
+     */
+    @Column(nullable = false, length = 100)
+    private String scope;
+
+    /**
+     * 클라이언트가 보낸 Idempotency-Key
+     */
+    @Column(name = "idem_key", nullable = false, length = 100)
+    private String key;
+
+    /**
+     * 요청 본문 해시 (같은 키로 다른 요청을 보내는 경우 감지)
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * 최초 처리 결과 (JSON)
+     */
+    @Column(columnDefinition = "LONGTEXT")
+    private String responseJson;
+
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // ========== Lifecycle ==========
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // ========== Constructors ==========
+
+    public IdempotencyRecord() {
+    }
+
+    public IdempotencyRecord(String scope, String key, String requestHash, LocalDateTime expiresAt) {
+        this.scope = scope;
+        this.key = key;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+    }
+
+    // ========== Getters & Setters ==========
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getResponseJson() {
+        return responseJson;
+    }
+
+    public void setResponseJson(String responseJson) {
+        this.responseJson = responseJson;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return responseJson != null;
+    }
+}
@@ -0,0 +1,297 @@
+package com.kupub.api.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.exception.BadRequestException;
+import com.kupub.api.common.exception.ConflictException;
+import com.kupub.api.tenant.service.TenantDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리
+ *
+ * 같은 (scope, key)로 들어온 재시도 요청은 쓰기 로직을 다시 실행하지 않고 최초 결과를 그대로 반환합니다.
+ * - 1차 저장소: 크기 제한 + TTL 인메모리 캐시
+ * - 2차 저장소: idempotency_keys 테이블 (캐시에서 밀려난 키, 다른 서버 인스턴스 대응)
+ * - 같은 서버에서 동시에 들어온 중복 요청은 먼저 들어온 요청의 결과를 기다렸다가 재전송
+ * - 다른 서버에서 처리 중인 키는 409 (IDEMPOTENCY_IN_PROGRESS)
+ * - 같은 키로 다른 본문을 보내면 400 (IDEMPOTENCY_KEY_REUSED)
+ * - 쓰기 로직과 처리 완료 기록(응답 JSON)은 한 트랜잭션으로 커밋
+ *   → 쓰기만 커밋되고 키가 처리 중으로 남는 경우가 없으므로, 처리 중인 채 in-flight-timeout 이 지난 키는
+ *     쓰기도 커밋되지 않은 것(서버 종료 등)이라 다시 선점해도 중복 실행되지 않음
+ * - 쓰기 로직이 예외로 끝나면 (트랜잭션 롤백 후) 키를 해제해서 재시도 가능하게 함
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository repository;
+    private final TenantDirectory tenantDirectory;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+    private final Map<String, CachedResult> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<CachedResult>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(
+            IdempotencyRecordRepository repository,
+            TenantDirectory tenantDirectory,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${app.idempotency.in-flight-timeout:PT30S}") Duration inFlightTimeout,
+            @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this.repository = repository;
+        this.tenantDirectory = tenantDirectory;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.inFlightTimeout = inFlightTimeout;
+        // TTL이 모두 같으므로 삽입 순서 = 만료 순서 → 가장 오래된 항목부터 밀어냄
+        this.cache = new LinkedHashMap<>(256, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Idempotency-Key 기반 실행
+     *
+     * @param scope   키 범위 (엔드포인트 + 학과 등, 같은 키라도 범위가 다르면 별개 요청)
+     * @param key     Idempotency-Key 헤더 값 (없으면 그냥 실행)
+     * @param request 요청 본문 (같은 키 재사용 감지용)
+     * @param type    결과 타입 (저장된 JSON 복원용)
+     * @param action  실제 쓰기 로직
+     */
+    public <T> IdempotentResult<T> execute(String scope, String key, Object request,
+                                           Class<T> type, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        validateKey(key);
+
+        String cacheKey = scope + "|" + key;
+        String requestHash = hash(request);
+
+        CachedResult cached = getCached(cacheKey);
+        if (cached != null) {
+            return replay(cached, requestHash, type);
+        }
+
+        CompletableFuture<CachedResult> mine = new CompletableFuture<>();
+        CompletableFuture<CachedResult> running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            CachedResult result = await(running);
+            if (result != null) {
+                return replay(result, requestHash, type);
+            }
+            // 먼저 들어온 요청이 실패함 → 처음부터 다시 시도
+            return execute(scope, key, request, type, action);
+        }
+
+        CachedResult result = null;
+        try {
+            IdempotencyRecord record = claim(scope, key, requestHash);
+            if (record.isCompleted()) {
+                result = new CachedResult(record.getRequestHash(), record.getResponseJson(), record.getExpiresAt());
+                putCached(cacheKey, result);
+                return replay(result, requestHash, type);
+            }
+
+            CachedResult[] completed = new CachedResult[1];
+            T value;
+            try {
+                value = transactionTemplate.execute(status -> {
+                    T written = action.get();
+                    completed[0] = new CachedResult(requestHash, toJson(written), record.getExpiresAt());
+                    // 처리 중인 채 방치된 것으로 보고 다른 요청이 키를 다시 선점함 → 이 쓰기는 롤백
+                    if (repository.complete(record.getId(), completed[0].json()) == 0) {
+                        throw inProgress();
+                    }
+                    return written;
+                });
+            } catch (RuntimeException e) {
+                release(record);
+                throw e;
+            }
+
+            result = completed[0];
+            putCached(cacheKey, result);
+            return new IdempotentResult<>(value, false);
+
+        } finally {
+            inFlight.remove(cacheKey, mine);
+            mine.complete(result);
+        }
+    }
+
+    /**
+     * 만료된 키 정리 (10분 주기, 학과 DB를 나눠 쓰면 DB마다)
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (cache) {
+            cache.values().removeIf(entry -> entry.expiresAt().isBefore(now));
+        }
+        AtomicInteger deleted = new AtomicInteger();
+        tenantDirectory.forEachShard(() -> deleted.addAndGet(repository.deleteExpired(now)));
+        if (deleted.get() > 0) {
+            log.debug("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    // ========== DB ==========
+
+    /**
+     * 키 선점
+     * - 이미 처리 완료된 키면 저장된 기록 반환
+     * - 처리 중인 키면 409
+     * - 선점 성공 시 새로 저장한 (처리 중) 기록 반환
+     */
+    private IdempotencyRecord claim(String scope, String key, String requestHash) {
+        Optional<IdempotencyRecord> existing = repository.findByScopeAndKey(scope, key);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (record.isCompleted() && record.getExpiresAt().isAfter(LocalDateTime.now())) {
+                return record;
+            }
+            if (!record.isCompleted() && !isAbandoned(record)) {
+                throw inProgress();
+            }
+            // 만료됐거나 처리 도중 서버가 죽어 방치된 키 → 다시 선점
+            // (쓰기와 완료 기록이 한 트랜잭션이라 완료 기록이 없으면 쓰기도 커밋되지 않았음)
+            repository.delete(record);
+        }
+
+        try {
+            return repository.saveAndFlush(
+                    new IdempotencyRecord(scope, key, requestHash, LocalDateTime.now().plus(ttl)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 키를 먼저 선점
+            throw inProgress();
+        }
+    }
+
+    private void release(IdempotencyRecord record) {
+        try {
+            repository.deleteById(record.getId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to release idempotency key: scope={} key={}", record.getScope(), record.getKey(), e);
+        }
+    }
+
+    private boolean isAbandoned(IdempotencyRecord record) {
+        return record.getCreatedAt() != null
+                && record.getCreatedAt().plus(inFlightTimeout).isBefore(LocalDateTime.now());
+    }
+
+    // ========== Cache ==========
+
+    private CachedResult getCached(String cacheKey) {
+        synchronized (cache) {
+            CachedResult cached = cache.get(cacheKey);
+            if (cached != null && cached.expiresAt().isBefore(LocalDateTime.now())) {
+                cache.remove(cacheKey);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void putCached(String cacheKey, CachedResult result) {
+        synchronized (cache) {
+            cache.put(cacheKey, result);
+        }
+    }
+
+    private CachedResult await(CompletableFuture<CachedResult> running) {
+        try {
+            return running.get(inFlightTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    // ========== Helpers ==========
+
+    private <T> IdempotentResult<T> replay(CachedResult cached, String requestHash, Class<T> type) {
+        if (!cached.requestHash().equals(requestHash)) {
+            throw new BadRequestException("IDEMPOTENCY_KEY_REUSED",
+                    "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+        }
+        try {
+            return new IdempotentResult<>(objectMapper.readValue(cached.json(), type), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to restore idempotent response", e);
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key.length() > MAX_KEY_LENGTH || !key.chars().allMatch(c -> c > 0x20 && c < 0x7f)) {
+            throw new BadRequestException("INVALID_IDEMPOTENCY_KEY",
+                    "Idempotency-Key는 공백 없는 " + MAX_KEY_LENGTH + "자 이하의 ASCII 문자열이어야 합니다.");
+        }
+    }
+
+    private static ConflictException inProgress() {
+        return new ConflictException("IDEMPOTENCY_IN_PROGRESS", "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent response", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] body = request != null ? objectMapper.writeValueAsBytes(request) : new byte[0];
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to hash request", e);
+        }
+    }
+
+    private record CachedResult(String requestHash, String json, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.kupub.api.common.idempotency;
+
+import com.kupub.api.common.dto.ApiResponse;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Idempotency-Key 처리 결과
+ *
+ * @param value    응답 데이터
+ * @param replayed 저장된 결과를 재전송한 경우 true (쓰기 로직 미실행)
+ */
+public record IdempotentResult<T>(T value, boolean replayed) {
+
+    public ResponseEntity<ApiResponse<T>> toResponse() {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (replayed) {
+            builder.header(IdempotencyService.REPLAYED_HEADER, "true");
+        }
+        return builder.body(ApiResponse.ok(value));
+    }
+}
@@ -0,0 +1,113 @@
+package com.kupub.api.common.throttle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 시간 기반 동시 실행 제한 (AIMD)
+ *
+ * - 요청이 제때(latencyThreshold 이내) 성공하면 한도 +1/한도 (한도를 절반 이상 쓰고 있을 때만)
+ * - 느리거나 실패하면 한도 × backoffRatio
+ * - 한도가 차면 maxWait 동안만 대기(최대 maxQueue 건), 그 뒤에는 바로 거절
+ *
+ * 대기는 ReentrantLock/Condition 으로 처리 (가상 스레드 고정 없음)
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final int maxQueue;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit,
+                       double backoffRatio, long latencyThresholdNanos, int maxQueue) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.maxQueue = maxQueue;
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+    }
+
+    /**
+     * 실행 허가 요청
+     *
+     * @return 허가되면 true (반드시 release 호출), 대기 시간 안에 자리가 나지 않으면 false
+     */
+    public boolean acquire(long maxWaitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= maxQueue || maxWaitNanos <= 0) {
+                return false;
+            }
+
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 완료 → 응답 시간/성공 여부로 한도 조정
+     */
+    public void release(long latencyNanos, boolean success) {
+        lock.lock();
+        try {
+            boolean utilized = inFlight * 2 >= limit;
+            inFlight--;
+
+            if (!success || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (utilized) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.kupub.api.common.throttle;
+
+import com.kupub.api.common.exception.NotFoundException;
+import com.kupub.api.department.dto.settings.RateLimitSettings;
+import com.kupub.api.department.service.DepartmentService;
+import com.kupub.api.department.service.DepartmentSettingsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학과별 요청 제한 한도
+ * - 학과 설정(rateLimit)에 값이 있으면 그 값, 없으면 서버 기본값
+ * - 요청마다 DB를 읽지 않도록 학과별로 cache-ttl 동안 캐시
+ * - 없는(비활성) 학과는 캐시하지 않음 (임의 slug 로 캐시가 끝없이 커지지 않도록)
+ */
+@Component
+public class DepartmentRateLimits {
+
+    /**
+     * 손님별 버킷은 15초, 학과 버킷은 2초 분량까지 몰아서 허용
+     */
+    private static final int CLIENT_BURST_SECONDS = 15;
+    private static final int DEPARTMENT_BURST_SECONDS = 2;
+
+    private final DepartmentService departmentService;
+    private final DepartmentSettingsService settingsService;
+    private final long cacheTtlNanos;
+    private final RateLimitSettings defaults;
+    private final Limits unknown;
+    private final ConcurrentHashMap<String, Cached> cache = new ConcurrentHashMap<>();
+
+    public DepartmentRateLimits(
+            DepartmentService departmentService,
+            DepartmentSettingsService settingsService,
+            @Value("${app.rate-limit.cache-ttl:PT30S}") Duration cacheTtl,
+            @Value("${app.rate-limit.client-reads-per-minute:300}") int clientReadsPerMinute,
+            @Value("${app.rate-limit.client-writes-per-minute:60}") int clientWritesPerMinute,
+            @Value("${app.rate-limit.department-reads-per-second:500}") int departmentReadsPerSecond,
+            @Value("${app.rate-limit.department-writes-per-second:100}") int departmentWritesPerSecond) {
+        this.departmentService = departmentService;
+        this.settingsService = settingsService;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.defaults = new RateLimitSettings(
+                clientReadsPerMinute, clientWritesPerMinute, departmentReadsPerSecond, departmentWritesPerSecond);
+        this.unknown = toLimits(null);
+    }
+
+    /**
+     * 캐시에 있는 학과의 한도 (만료됐으면 다시 읽음)
+     *
+     * @return 처음 보는 slug 이거나 그사이 없어진 학과면 null
+     */
+    public Limits getCached(String deptSlug) {
+        Cached cached = cache.get(deptSlug);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() - System.nanoTime() > 0) {
+            return cached.limits();
+        }
+        return load(deptSlug);
+    }
+
+    /**
+     * DB에서 학과 한도를 읽어 캐시 (있는 학과만)
+     *
+     * @return 없거나 비활성 학과면 null (요청은 컨트롤러에서 404)
+     */
+    public Limits load(String deptSlug) {
+        RateLimitSettings settings;
+        try {
+            Long deptId = departmentService.getActiveBySlug(deptSlug).getId();
+            settings = settingsService.getSettingsDto(deptId).rateLimit();
+        } catch (NotFoundException e) {
+            cache.remove(deptSlug);
+            return null;
+        }
+        Limits limits = toLimits(settings);
+        cache.put(deptSlug, new Cached(limits, System.nanoTime() + cacheTtlNanos));
+        return limits;
+    }
+
+    /**
+     * 처음 보는 slug 가 함께 쓰는 공용 버킷 한도 (서버 기본값)
+     */
+    public Limits unknown() {
+        return unknown;
+    }
+
+    /**
+     * 만료된 캐시 정리 (1분 주기)
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        cache.values().removeIf(cached -> cached.expiresAt() - now <= 0);
+    }
+
+    private Limits toLimits(RateLimitSettings settings) {
+        int clientReads = pick(settings != null ? settings.clientReadsPerMinute() : null, defaults.clientReadsPerMinute());
+        int clientWrites = pick(settings != null ? settings.clientWritesPerMinute() : null, defaults.clientWritesPerMinute());
+        int deptReads = pick(settings != null ? settings.departmentReadsPerSecond() : null, defaults.departmentReadsPerSecond());
+        int deptWrites = pick(settings != null ? settings.departmentWritesPerSecond() : null, defaults.departmentWritesPerSecond());
+
+        return new Limits(
+                RateLimit.perMinute(clientReads, clientReads * CLIENT_BURST_SECONDS / 60),
+                RateLimit.perMinute(clientWrites, clientWrites * CLIENT_BURST_SECONDS / 60),
+                RateLimit.perSecond(deptReads, deptReads * DEPARTMENT_BURST_SECONDS),
+                RateLimit.perSecond(deptWrites, deptWrites * DEPARTMENT_BURST_SECONDS));
+    }
+
+    private static int pick(Integer value, int fallback) {
+        return value != null && value > 0 ? value : fallback;
+    }
+
+    public record Limits(RateLimit clientRead, RateLimit clientWrite,
+                         RateLimit departmentRead, RateLimit departmentWrite) {
+    }
+
+    private record Cached(Limits limits, long expiresAt) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.kupub.api.common.throttle;
+
+/**
+ * 요청 제한 한도
+ *
+ * @param intervalNanos 요청 1건이 채워지는 간격 (1초 / 초당 허용 수)
+ * @param burst         연속으로 허용하는 최대 요청 수
+ */
+public record RateLimit(long intervalNanos, int burst) {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    public static RateLimit perSecond(int permits, int burst) {
+        return new RateLimit(NANOS_PER_SECOND / Math.max(permits, 1), Math.max(burst, 1));
+    }
+
+    public static RateLimit perMinute(int permits, int burst) {
+        return new RateLimit(60 * NANOS_PER_SECOND / Math.max(permits, 1), Math.max(burst, 1));
+    }
+}
@@ -0,0 +1,149 @@
+package com.kupub.api.common.throttle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.dto.ApiResponse;
+import com.kupub.api.common.web.DepartmentPaths;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 API 요청 제한 (학과 + 손님 단위)
+ *
+ * 인증 없이 열려 있는 /api/{dept}/** (관리자 API 제외)에 적용합니다.
+ * - 손님 버킷: 학과 + 손님(IP + User-Agent) + 읽기/쓰기
+ * - 학과 버킷: 학과 + 읽기/쓰기 (손님이 많아도 한 학과가 커넥션 풀을 독점하지 못하도록)
+ * - 처음 보는 slug 는 학과를 조회하기 전에 공용 버킷(UNKNOWN_BUCKET)으로 먼저 제한
+ *   (임의 slug 마다 새 버킷과 DB 조회가 생기지 않도록, 없는 학과는 계속 공용 버킷만 사용)
+ * - 한도 초과 시 429 + Retry-After(초)
+ *
+ * 프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 실제 손님 IP로 구분됩니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    /**
+     * 아직 확인되지 않은(또는 없는) 학과 slug 가 함께 쓰는 버킷 이름 (slug 로 쓸 수 없는 문자)
+     */
+    private static final String UNKNOWN_BUCKET = "?";
+
+    private final RateLimiter rateLimiter;
+    private final DepartmentRateLimits departmentRateLimits;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxBuckets;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           DepartmentRateLimits departmentRateLimits,
+                           ObjectMapper objectMapper,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.rateLimiter = rateLimiter;
+        this.departmentRateLimits = departmentRateLimits;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equals(request.getMethod())
+                || DepartmentPaths.departmentOf(request) == null || DepartmentPaths.isAdmin(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String dept = DepartmentPaths.departmentOf(request);
+        boolean read = DepartmentPaths.isRead(request);
+
+        DepartmentRateLimits.Limits limits = departmentRateLimits.getCached(dept);
+        if (limits == null) {
+            // 처음 보는 slug: 학과 조회(DB) 전에 공용 버킷으로 제한
+            Throttled throttled = acquire(request, UNKNOWN_BUCKET, departmentRateLimits.unknown(), read);
+            if (throttled != null) {
+                reject(request, response, dept, throttled);
+                return;
+            }
+            limits = departmentRateLimits.load(dept);
+            if (limits == null) {
+                // 없는 학과: 공용 버킷으로만 제한 (컨트롤러에서 404)
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
+        Throttled throttled = acquire(request, dept, limits, read);
+        if (throttled != null) {
+            reject(request, response, dept, throttled);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 손님 버킷 → 학과 버킷 순서로 1건 시도
+     *
+     * @return 허용되면 null
+     */
+    private Throttled acquire(HttpServletRequest request, String bucket,
+                              DepartmentRateLimits.Limits limits, boolean read) {
+        String kind = read ? "r" : "w";
+
+        // 버킷이 너무 많아지면(대량의 서로 다른 손님) 새 손님은 학과 버킷으로만 제한
+        if (rateLimiter.size() < maxBuckets) {
+            long wait = rateLimiter.tryAcquire(kind + ":" + bucket + ":" + fingerprint(request),
+                    read ? limits.clientRead() : limits.clientWrite());
+            if (wait > 0) {
+                return new Throttled("client", wait);
+            }
+        }
+        long wait = rateLimiter.tryAcquire(kind + ":" + bucket,
+                read ? limits.departmentRead() : limits.departmentWrite());
+        return wait > 0 ? new Throttled("department", wait) : null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        String dept, Throttled throttled) throws IOException {
+        String scope = throttled.scope();
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+                throttled.waitNanos() + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.debug("Rate limited: dept={} scope={} {} {} client={}",
+                dept, scope, request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(
+                "RATE_LIMITED",
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                Map.of("scope", scope, "retryAfterSeconds", retryAfter)));
+    }
+
+    /**
+     * 손님 구분 (같은 와이파이의 여러 손님을 한 명으로 묶지 않도록 User-Agent 포함)
+     */
+    private static String fingerprint(HttpServletRequest request) {
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        return request.getRemoteAddr() + "/" + (userAgent != null ? Integer.toHexString(userAgent.hashCode()) : "-");
+    }
+
+    private record Throttled(String scope, long waitNanos) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.kupub.api.common.throttle;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인메모리 요청 제한기 (GCRA, 토큰 버킷과 동일한 동작)
+ *
+ * 버킷마다 "다음 요청이 들어와도 되는 이론상 시각(TAT)" 하나만 AtomicLong으로 보관하고 CAS로 갱신합니다.
+ * - 잠금 없음, 버킷당 long 하나
+ * - 요청이 허용되면 TAT를 interval 만큼 뒤로 미룸, TAT가 burst 만큼 앞서 있으면 거부
+ * - 다 채워진(한동안 요청이 없던) 버킷은 새 버킷과 같으므로 주기적으로 삭제
+ */
+@Component
+public class RateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 1건 시도
+     *
+     * @return 0이면 허용, 양수면 다시 시도할 수 있을 때까지 남은 시간 (ns)
+     */
+    public long tryAcquire(String key, RateLimit limit) {
+        long now = System.nanoTime();
+        AtomicLong tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        long tolerance = limit.intervalNanos() * limit.burst();
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + limit.intervalNanos();
+            long ahead = next - now;
+            if (ahead > tolerance) {
+                return ahead - tolerance;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 다 채워진 버킷 정리 (1분 주기)
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+}
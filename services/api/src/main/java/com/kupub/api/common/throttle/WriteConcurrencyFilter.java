@@ -0,0 +1,117 @@
+package com.kupub.api.common.throttle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 손님 쓰기 API 동시 실행 제한 (과부하 시 빠른 503)
+ *
+ * DB가 느려지면 주문/세션 시작/예약 요청이 커넥션을 기다리며 톰캣 스레드를 모두 붙잡아
+ * 메뉴 조회와 관리자 화면까지 함께 멈춥니다.
+ * 대상 쓰기 요청만 AIMD 한도 안에서 실행하고, 한도가 차면 잠깐(max-wait)만 기다린 뒤 503으로 돌려보냅니다.
+ * 읽기·관리자 요청은 제한하지 않습니다.
+ *
+ * max-limit 은 커넥션 풀 크기보다 작게 두어 읽기/관리자 요청이 쓸 연결을 남깁니다.
+ */
+@Component
+public class WriteConcurrencyFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteConcurrencyFilter.class);
+
+    /**
+     * 제한 대상 (POST)
+     */
+    private static final List<String> LIMITED_PATHS = List.of(
+            "/api/*/orders",
+            "/api/*/sessions/start",
+            "/api/*/reservations");
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final AimdLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long maxWaitNanos;
+
+    public WriteConcurrencyFilter(ObjectMapper objectMapper,
+                                  @Value("${app.write-limit.enabled:true}") boolean enabled,
+                                  @Value("${app.write-limit.initial-limit:8}") int initialLimit,
+                                  @Value("${app.write-limit.min-limit:1}") int minLimit,
+                                  @Value("${app.write-limit.max-limit:8}") int maxLimit,
+                                  @Value("${app.write-limit.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${app.write-limit.latency-threshold:PT2S}") Duration latencyThreshold,
+                                  @Value("${app.write-limit.max-queue:16}") int maxQueue,
+                                  @Value("${app.write-limit.max-wait:PT0.5S}") Duration maxWait) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.limiter = new AimdLimiter(initialLimit, minLimit, maxLimit,
+                backoffRatio, latencyThreshold.toNanos(), maxQueue);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return LIMITED_PATHS.stream().noneMatch(pattern -> PATH_MATCHER.match(pattern, uri));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = limiter.acquire(maxWaitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            filterChain.doFilter(request, response);
+            success = response.getStatus() < 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, success);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.warn("Write shed: {} {} limit={} inFlight={}",
+                request.getMethod(), request.getRequestURI(), limiter.getLimit(), limiter.getInFlight());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(
+                "OVERLOADED",
+                "주문이 몰려 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.",
+                Map.of("retryAfterSeconds", 1)));
+    }
+}
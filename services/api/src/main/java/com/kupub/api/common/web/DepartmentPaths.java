@@ -0,0 +1,55 @@
+package com.kupub.api.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Set;
+
+/**
+ * /api/{dept}/** 요청 경로 해석 (학과 DB 라우팅, 요청 제한 등 서블릿 필터 공용)
+ */
+public final class DepartmentPaths {
+
+    /**
+     * /api/ 다음 경로가 학과 slug가 아닌 API
+     */
+    private static final Set<String> NON_DEPARTMENT_PATHS = Set.of("auth", "platform", "public", "upload");
+
+    private DepartmentPaths() {
+    }
+
+    /**
+     * /api/{dept}/** 의 학과 slug (관리자 API 포함, 학과 외 API는 null)
+     */
+    public static String departmentOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (!uri.startsWith("/api/")) {
+            return null;
+        }
+        int end = uri.indexOf('/', 5);
+        if (end < 0) {
+            return null;
+        }
+        String dept = uri.substring(5, end);
+        if (dept.isEmpty() || NON_DEPARTMENT_PATHS.contains(dept)) {
+            return null;
+        }
+        return dept;
+    }
+
+    /**
+     * /api/{dept}/admin/** 요청 여부
+     */
+    public static boolean isAdmin(HttpServletRequest request) {
+        String dept = departmentOf(request);
+        return dept != null && request.getRequestURI().startsWith("/admin/", 5 + dept.length());
+    }
+
+    /**
+     * 저장하지 않는 요청 (금액 미리보기는 POST 지만 읽기)
+     */
+    public static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)
+                || ("POST".equals(method) && request.getRequestURI().endsWith("/orders/quote"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.kupub.api.config;
+
+import com.kupub.api.common.datasource.TenantContext;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업 설정
+ * - receiptExecutor: 영수증 SMS 일괄 전송 (외부 API 호출이라 요청 스레드와 분리)
+ * - tenantMoveExecutor: 학과 DB 이동 (배치 캐시 만료 대기 + 복사로 수 초 이상 걸려 요청 스레드와 분리)
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 작업마다 가상 스레드를 사용
+ * - 요청 스레드의 학과 DB(TenantContext)를 비동기 작업에 넘겨줌
+ *   (applicationTaskExecutor 는 Spring Boot 가 TaskDecorator 빈을 적용: @Async, StreamingResponseBody 등)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String RECEIPT_EXECUTOR = "receiptExecutor";
+    public static final String TENANT_MOVE_EXECUTOR = "tenantMoveExecutor";
+
+    @Bean
+    public TaskDecorator tenantContextTaskDecorator() {
+        return TenantContext::wrap;
+    }
+
+    @Bean(name = RECEIPT_EXECUTOR)
+    public TaskExecutor receiptExecutor(Environment environment, TaskDecorator tenantContextTaskDecorator) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("receipt-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(tenantContextTaskDecorator);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("receipt-");
+        executor.setTaskDecorator(tenantContextTaskDecorator);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(name = TENANT_MOVE_EXECUTOR)
+    public TaskExecutor tenantMoveExecutor(Environment environment, TaskDecorator tenantContextTaskDecorator) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("tenant-move-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(2);
+            executor.setTaskDecorator(tenantContextTaskDecorator);
+            executor.setTaskTerminationTimeout(60_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("tenant-move-");
+        executor.setTaskDecorator(tenantContextTaskDecorator);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+}
@@ -34,6 +34,7 @@ public class CorsConfig {
         
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("Idempotent-Replayed", "Retry-After", "ETag"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -24,42 +24,25 @@ public class DataLoader implements CommandLineRunner {
     
     @Override
     public void run(String... args) {
-        // admin 계정이 없거나 비밀번호 업데이트 필요한 경우
-        userRepository.findByUsername("admin").ifPresentOrElse(
-            user -> {
-                // 비밀번호 업데이트
-                user.setPassword(passwordEncoder.encode("admin123"));
-                userRepository.save(user);
-                log.info("Admin password updated");
-            },
-            () -> {
-                // 새로 생성
-                User admin = new User();
-                admin.setUsername("admin");
-                admin.setPassword(passwordEncoder.encode("admin123"));
-                admin.setRole(UserRole.SUPER_ADMIN);
-                userRepository.save(admin);
-                log.info("Admin account created");
-            }
-        );
-        
+        // 이미 있는 계정은 건드리지 않음 (재기동마다 BCrypt 인코딩 + UPDATE 하지 않도록)
+        if (!userRepository.existsByUsername("admin")) {
+            User admin = new User();
+            admin.setUsername("admin");
+            admin.setPassword(passwordEncoder.encode("admin123"));
+            admin.setRole(UserRole.SUPER_ADMIN);
+            userRepository.save(admin);
+            log.info("Admin account created");
+        }
+
         // cs_admin 계정
-        userRepository.findByUsername("cs_admin").ifPresentOrElse(
-            user -> {
-                user.setPassword(passwordEncoder.encode("admin123"));
-                userRepository.save(user);
-                log.info("cs_admin password updated");
-            },
-            () -> {
-                User csAdmin = new User();
-                csAdmin.setUsername("cs_admin");
-                csAdmin.setPassword(passwordEncoder.encode("admin123"));
-                csAdmin.setDepartmentId(1L);
-                csAdmin.setRole(UserRole.DEPT_ADMIN);
-                userRepository.save(csAdmin);
-                log.info("cs_admin account created");
-            }
-        );
+        if (!userRepository.existsByUsername("cs_admin")) {
+            User csAdmin = new User();
+            csAdmin.setUsername("cs_admin");
+            csAdmin.setPassword(passwordEncoder.encode("admin123"));
+            csAdmin.setDepartmentId(1L);
+            csAdmin.setRole(UserRole.DEPT_ADMIN);
+            userRepository.save(csAdmin);
+            log.info("cs_admin account created");
+        }
     }
 }
-
@@ -0,0 +1,67 @@
+package com.kupub.api.config;
+
+import com.kupub.api.common.cache.CacheRegions;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Ehcache, 서버 메모리)
+ *
+ * - 엔티티: Department, Menu, MenuCategory, DepartmentTable (READ_WRITE)
+ * - 쿼리: 학과 slug 조회, 학과별 메뉴/카테고리/테이블 목록
+ * - 영역마다 최대 개수(heap)와 TTL 을 둡니다. 같은 서버의 변경은 즉시 무효화되고,
+ *   서버가 여러 대면 다른 서버의 변경은 TTL 안에 반영됩니다.
+ * - update-timestamps 영역은 쿼리 캐시 무효화 기준이라 만료시키지 않습니다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final Map<String, Long> DEFAULT_HEAP = Map.of(
+            CacheRegions.DEPARTMENT, 1_000L,
+            CacheRegions.MENU, 20_000L,
+            CacheRegions.MENU_CATEGORY, 5_000L,
+            CacheRegions.DEPARTMENT_TABLE, 10_000L,
+            CacheRegions.DEPARTMENT_BY_SLUG, 1_000L,
+            CacheRegions.MENU_LIST, 2_000L,
+            CacheRegions.TABLE_LIST, 2_000L,
+            CacheRegions.DEFAULT_QUERY_RESULTS, 1_000L);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment,
+                                              @Value("${app.hibernate-cache.ttl:PT10S}") Duration ttl) {
+        ConfigurationBuilder config = ConfigurationBuilder.newConfigurationBuilder();
+        for (Map.Entry<String, Long> region : DEFAULT_HEAP.entrySet()) {
+            long heap = environment.getProperty("app.hibernate-cache.heap." + region.getKey(), Long.class, region.getValue());
+            config = config.withCache(region.getKey(),
+                    CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(heap))
+                            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ttl)));
+        }
+        config = config.withCache(CacheRegions.UPDATE_TIMESTAMPS,
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1_000)));
+
+        // 컨텍스트마다 별도 CacheManager (기본 URI 는 클래스로더 단위로 공유됨)
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("urn:kupub:hibernate:" + UUID.randomUUID()), config.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -1,6 +1,9 @@
 package com.kupub.api.config;
 
 import com.kupub.api.auth.security.JwtAuthenticationFilter;
+import com.kupub.api.common.datasource.TenantRoutingFilter;
+import com.kupub.api.common.throttle.RateLimitFilter;
+import com.kupub.api.common.throttle.WriteConcurrencyFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,12 +19,21 @@ import org.springframework.web.cors.CorsConfigurationSource;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private final TenantRoutingFilter tenantRoutingFilter;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final WriteConcurrencyFilter writeConcurrencyFilter;
     private final CorsConfigurationSource corsConfigurationSource;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+    public SecurityConfig(TenantRoutingFilter tenantRoutingFilter,
+                         JwtAuthenticationFilter jwtAuthenticationFilter,
+                         RateLimitFilter rateLimitFilter,
+                         WriteConcurrencyFilter writeConcurrencyFilter,
                          CorsConfigurationSource corsConfigurationSource) {
+        this.tenantRoutingFilter = tenantRoutingFilter;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.writeConcurrencyFilter = writeConcurrencyFilter;
         this.corsConfigurationSource = corsConfigurationSource;
     }
 
@@ -43,6 +55,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/*/reservations").permitAll()
                 .requestMatchers("/api/*/orders").permitAll()
                 .requestMatchers("/api/*/orders/*").permitAll()
+                .requestMatchers("/api/*/orders/*/updates").permitAll()
                 .requestMatchers("/api/*/sessions/**").permitAll()
                 .requestMatchers("/api/public/**").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
@@ -52,6 +65,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/platform/**").hasRole("SUPER_ADMIN")
                 .anyRequest().permitAll()
             )
+            // 학과 DB 선택 → 공개 API 요청 제한 → JWT 인증 순서
+            .addFilterBefore(tenantRoutingFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(writeConcurrencyFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
@@ -0,0 +1,167 @@
+package com.kupub.api.config;
+
+import com.kupub.api.common.datasource.ShardIdSequences;
+import com.kupub.api.common.datasource.TenantContext;
+import com.kupub.api.common.datasource.TenantRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 학과별 DB 분산 설정 (app.sharding.enabled=true 일 때만)
+ *
+ * - central: spring.datasource.* (+ spring.datasource.hikari.*), 학과/사용자/배치표(tenant_shards)와 배치가 없는 학과
+ * - 학과 DB: app.sharding.shards.{이름}.url/username/password/id-offset
+ * - dataSource: TenantContext 의 DB로 연결 (JPA/JdbcTemplate 가 사용)
+ *
+ * 학과 DB는 서버 시작 시 중앙 DB와 같은 Flyway 마이그레이션을 적용하고 ID 생성 규칙(ShardIdSequences)을 맞춥니다.
+ * 읽기 복제본(app.datasource.replica.*)과는 함께 쓸 수 없습니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardingConfig.class);
+
+    @Bean
+    @ConditionalOnBooleanProperty("app.sharding.enabled")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource centralDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(TenantContext.CENTRAL);
+        if (isMySql(dataSource.getJdbcUrl())) {
+            dataSource.setConnectionInitSql(ShardIdSequences.mysqlConnectionInitSql(ShardIdSequences.CENTRAL_OFFSET));
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnBooleanProperty("app.sharding.enabled")
+    public TenantRoutingDataSource tenantRoutingDataSource(@Qualifier("centralDataSource") HikariDataSource central,
+                                                           ShardingProperties sharding,
+                                                           FlywayProperties flyway,
+                                                           Environment environment) {
+        if (environment.containsProperty("app.datasource.replica.url")) {
+            throw new IllegalStateException("app.sharding.enabled 와 app.datasource.replica.url 은 함께 사용할 수 없습니다.");
+        }
+        String vendor = vendorOf(central.getJdbcUrl());
+        Set<Integer> offsets = new HashSet<>(Set.of(ShardIdSequences.CENTRAL_OFFSET));
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, ShardingProperties.Shard> entry : sharding.shards().entrySet()) {
+                String name = entry.getKey();
+                ShardingProperties.Shard shard = entry.getValue();
+                if (TenantContext.CENTRAL.equals(name)) {
+                    throw new IllegalStateException("학과 DB 이름으로 " + TenantContext.CENTRAL + " 을 쓸 수 없습니다.");
+                }
+                if (shard.idOffset() < 2 || shard.idOffset() > ShardIdSequences.STEP || !offsets.add(shard.idOffset())) {
+                    throw new IllegalStateException("app.sharding.shards." + name + ".id-offset 은 2~"
+                            + ShardIdSequences.STEP + " 사이에서 DB마다 달라야 합니다: " + shard.idOffset());
+                }
+                if (!vendor.equals(vendorOf(shard.url()))) {
+                    throw new IllegalStateException("학과 DB는 중앙 DB와 같은 종류여야 합니다: " + name);
+                }
+                HikariDataSource dataSource = shardDataSource(name, shard, central);
+                shards.put(name, dataSource);
+                migrate(name, dataSource, flyway, vendor);
+                alignIds(name, dataSource, shard.idOffset());
+            }
+        } catch (RuntimeException e) {
+            shards.values().forEach(dataSource -> ((HikariDataSource) dataSource).close());
+            throw e;
+        }
+
+        if (!TenantContext.CENTRAL.equals(sharding.defaultShard()) && !shards.containsKey(sharding.defaultShard())) {
+            throw new IllegalStateException("app.sharding.default-shard 가 없는 DB입니다: " + sharding.defaultShard());
+        }
+        log.info("Tenant sharding: central + {} default={}", shards.keySet(), sharding.defaultShard());
+        return new TenantRoutingDataSource(central, shards);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnBooleanProperty("app.sharding.enabled")
+    public DataSource dataSource(TenantRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 중앙 DB는 Spring Boot 의 Flyway 마이그레이션 직후 ID 규칙을 맞춤 (JPA 초기화 전)
+     */
+    @Bean
+    @ConditionalOnBooleanProperty("app.sharding.enabled")
+    public FlywayMigrationStrategy centralMigrationStrategy(@Qualifier("centralDataSource") HikariDataSource central) {
+        return flyway -> {
+            flyway.migrate();
+            alignIds(TenantContext.CENTRAL, central, ShardIdSequences.CENTRAL_OFFSET);
+        };
+    }
+
+    // ========== Private Methods ==========
+
+    private static HikariDataSource shardDataSource(String name, ShardingProperties.Shard shard, HikariDataSource central) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("shard-" + name);
+        dataSource.setJdbcUrl(shard.url());
+        dataSource.setUsername(shard.username() != null ? shard.username() : central.getUsername());
+        dataSource.setPassword(shard.password() != null ? shard.password() : central.getPassword());
+        dataSource.setMaximumPoolSize(shard.maximumPoolSize() != null ? shard.maximumPoolSize() : central.getMaximumPoolSize());
+        if (isMySql(shard.url())) {
+            dataSource.setConnectionInitSql(ShardIdSequences.mysqlConnectionInitSql(shard.idOffset()));
+        }
+        return dataSource;
+    }
+
+    private static void migrate(String name, DataSource dataSource, FlywayProperties flyway, String vendor) {
+        String[] locations = flyway.getLocations().stream()
+                .map(location -> location.replace("{vendor}", vendor))
+                .toArray(String[]::new);
+        int applied = Flyway.configure()
+                .dataSource(dataSource)
+                .locations(locations)
+                .baselineOnMigrate(flyway.isBaselineOnMigrate())
+                .baselineVersion(flyway.getBaselineVersion())
+                .load()
+                .migrate()
+                .migrationsExecuted;
+        log.info("Shard migrated: shard={} applied={}", name, applied);
+    }
+
+    private static void alignIds(String name, DataSource dataSource, int offset) {
+        try (Connection connection = dataSource.getConnection()) {
+            ShardIdSequences.align(connection, offset);
+        } catch (SQLException e) {
+            throw new IllegalStateException("ID 규칙 설정 실패: " + name, e);
+        }
+    }
+
+    private static String vendorOf(String url) {
+        return DatabaseDriver.fromJdbcUrl(url).getId();
+    }
+
+    private static boolean isMySql(String url) {
+        return DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.MYSQL;
+    }
+}
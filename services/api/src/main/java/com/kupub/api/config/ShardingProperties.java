@@ -0,0 +1,49 @@
+package com.kupub.api.config;
+
+import com.kupub.api.common.datasource.ShardIdSequences;
+import com.kupub.api.common.datasource.TenantContext;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 학과별 DB 분산 설정 (app.sharding.*)
+ *
+ * @param enabled       false 면 모든 학과가 spring.datasource 하나를 사용
+ * @param defaultShard  새 학과를 둘 DB (central = 중앙 DB, 템플릿 복사로 만들면 템플릿 학과의 DB)
+ * @param directoryTtl  학과 → DB 배치 캐시 시간 (다른 서버의 학과 이동은 이 시간 안에 반영)
+ * @param moveGrace     학과 이동 시 배치 캐시 만료 후 진행 중인 쓰기 요청을 기다리는 시간
+ * @param shards        중앙 DB 외 학과 DB (이름 → 접속 정보)
+ */
+@ConfigurationProperties("app.sharding")
+public record ShardingProperties(
+        boolean enabled,
+        @DefaultValue("central") String defaultShard,
+        @DefaultValue("PT5S") Duration directoryTtl,
+        @DefaultValue("PT1S") Duration moveGrace,
+        Map<String, Shard> shards) {
+
+    public ShardingProperties {
+        shards = shards != null ? new LinkedHashMap<>(shards) : Map.of();
+    }
+
+    /**
+     * DB의 ID 나머지 (중앙 DB는 ShardIdSequences.CENTRAL_OFFSET)
+     */
+    public int idOffsetOf(String shard) {
+        return TenantContext.CENTRAL.equals(shard)
+                ? ShardIdSequences.CENTRAL_OFFSET
+                : shards.get(shard).idOffset();
+    }
+
+    /**
+     * @param idOffset        이 DB에서 만드는 ID의 나머지 (ID % 64, 2~64 중 DB마다 다르게, 중앙 DB는 1)
+     *                        → 학과를 옮겨도 ID를 그대로 쓸 수 있고 2차 캐시 키도 겹치지 않음
+     * @param maximumPoolSize 커넥션 풀 크기 (없으면 중앙 DB와 같게)
+     */
+    public record Shard(String url, String username, String password, int idOffset, Integer maximumPoolSize) {
+    }
+}
@@ -13,6 +13,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 목적지 prefix
+        // (서버별 in-JVM 브로커, 다른 서버 구독자에게는 ClusterBus가 전달)
         config.enableSimpleBroker("/topic");
         // 클라이언트가 메시지를 보낼 목적지 prefix
         config.setApplicationDestinationPrefixes("/app");
@@ -15,6 +15,7 @@ public record DepartmentSettingsDto(
         PaymentSettings payment,
         PricingSettings pricing,
         SmsSettings sms,
+        RateLimitSettings rateLimit,
         List<OnboardingSlide> onboarding,
         List<String> reservationClosed
 ) {
@@ -29,6 +30,7 @@ public record DepartmentSettingsDto(
                 PaymentSettings.defaults(),
                 PricingSettings.defaults(),
                 SmsSettings.defaults(),
+                null,   // 요청 제한은 서버 기본값 사용
                 OnboardingSlide.defaults(),
                 List.of()
         );
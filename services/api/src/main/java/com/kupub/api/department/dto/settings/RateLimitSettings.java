@@ -0,0 +1,17 @@
+package com.kupub.api.department.dto.settings;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 요청 제한 설정 (비어 있는 값은 서버 기본값 사용)
+ * - client*: 손님 한 명(IP + User-Agent)이 이 학과에 보낼 수 있는 요청 수
+ * - department*: 이 학과 공개 API 전체가 받을 수 있는 요청 수
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RateLimitSettings(
+        Integer clientReadsPerMinute,
+        Integer clientWritesPerMinute,
+        Integer departmentReadsPerSecond,
+        Integer departmentWritesPerSecond
+) {
+}
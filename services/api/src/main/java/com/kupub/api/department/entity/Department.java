@@ -1,12 +1,17 @@
 package com.kupub.api.department.entity;
 
+import com.kupub.api.common.cache.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
  * 학과(부서) 엔티티
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEPARTMENT)
 @Table(name = "departments")
 public class Department {
 
@@ -24,7 +24,6 @@ public class DepartmentSettings {
     /**
      * JSON 형태의 설정 데이터
      */
-    @Lob
     @Column(columnDefinition = "LONGTEXT")
     private String dataJson;
 
@@ -1,15 +1,27 @@
 package com.kupub.api.department.repository;
 
+import com.kupub.api.common.cache.CacheRegions;
 import com.kupub.api.department.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.DEPARTMENT_BY_SLUG)
+    })
     Optional<Department> findBySlug(String slug);
 
     boolean existsBySlug(String slug);
@@ -17,5 +29,31 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     List<Department> findAllByOrderByNameAsc();
 
     List<Department> findByActiveTrueOrderByNameAsc();
-}
 
+    // ========== 학과 DB 사본 (app.sharding.enabled) ==========
+
+    /**
+     * 활성 여부만 DB에서 조회 (2차 캐시를 거치지 않음 - 캐시의 학과는 학과 DB 사본에서 읽힌 것일 수 있음)
+     */
+    @Query("SELECT d.active FROM Department d WHERE d.id = :id")
+    Optional<Boolean> findActiveById(@Param("id") Long id);
+
+    /**
+     * 새 학과의 사본을 학과 DB에 추가 (ID 그대로, 학과 DB 트랜잭션에서 호출)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "departments"))
+    @Query(value = """
+            INSERT INTO departments (id, slug, name, active, created_at, updated_at)
+            VALUES (:id, :slug, :name, :active, :createdAt, :createdAt)
+            """, nativeQuery = true)
+    int insertCopy(@Param("id") Long id, @Param("slug") String slug, @Param("name") String name,
+                   @Param("active") Boolean active, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 학과 DB 사본의 이름/활성 여부를 중앙 DB 값으로 변경
+     */
+    @Modifying
+    @Query("UPDATE Department d SET d.name = :name, d.active = :active, d.updatedAt = CURRENT_TIMESTAMP WHERE d.id = :id")
+    int updateCopy(@Param("id") Long id, @Param("name") String name, @Param("active") Boolean active);
+}
@@ -1,7 +1,13 @@
 package com.kupub.api.department.repository;
 
 import com.kupub.api.department.entity.DepartmentSettings;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,5 +18,18 @@ public interface DepartmentSettingsRepository extends JpaRepository<DepartmentSe
     Optional<DepartmentSettings> findByDepartmentId(Long departmentId);
     
     void deleteByDepartmentId(Long departmentId);
+
+    /**
+     * 템플릿 학과 설정 복사 (INSERT ... SELECT, 템플릿에 설정이 없으면 0)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "department_settings"))
+    @Query(value = """
+            INSERT INTO department_settings (department_id, data_json, created_at, updated_at)
+            SELECT :targetId, data_json, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+              FROM department_settings
+             WHERE department_id = :sourceId
+            """, nativeQuery = true)
+    int copyFromDepartment(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId);
 }
 
@@ -0,0 +1,7 @@
+package com.kupub.api.department.service;
+
+/**
+ * 학과 생성 알림 (학과 생성 트랜잭션 안에서 발행, 학과별 파티션 추가 등은 커밋 후 처리)
+ */
+public record DepartmentCreatedEvent(Long departmentId) {
+}
@@ -4,6 +4,7 @@ import com.kupub.api.common.exception.BadRequestException;
 import com.kupub.api.common.exception.NotFoundException;
 import com.kupub.api.department.entity.Department;
 import com.kupub.api.department.repository.DepartmentRepository;
+import com.kupub.api.tenant.service.TenantDirectory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,9 +15,11 @@ import java.util.List;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final TenantDirectory tenantDirectory;
 
-    public DepartmentService(DepartmentRepository departmentRepository) {
+    public DepartmentService(DepartmentRepository departmentRepository, TenantDirectory tenantDirectory) {
         this.departmentRepository = departmentRepository;
+        this.tenantDirectory = tenantDirectory;
     }
 
     /**
@@ -29,10 +32,14 @@ public class DepartmentService {
 
     /**
      * slug로 활성 상태의 학과 조회 (비활성은 404)
+     * - 학과 DB를 나눠 쓰면 학과 DB 사본이 아닌 중앙 DB의 활성 여부로 확인 (배치 캐시, 다른 서버의 변경은 directory-ttl 안에 반영)
      */
     public Department getActiveBySlug(String slug) {
         Department dept = getBySlug(slug);
-        if (Boolean.FALSE.equals(dept.getActive())) {
+        boolean active = tenantDirectory.isEnabled()
+                ? tenantDirectory.resolve(slug).active()
+                : !Boolean.FALSE.equals(dept.getActive());
+        if (!active) {
             throw new NotFoundException("Department", slug);
         }
         return dept;
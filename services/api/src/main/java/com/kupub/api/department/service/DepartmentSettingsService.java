@@ -2,12 +2,14 @@ package com.kupub.api.department.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.cache.CatalogChangedEvent;
 import com.kupub.api.common.exception.BadRequestException;
 import com.kupub.api.department.dto.settings.DepartmentSettingsDto;
 import com.kupub.api.department.entity.DepartmentSettings;
 import com.kupub.api.department.repository.DepartmentSettingsRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,11 +23,14 @@ public class DepartmentSettingsService {
 
     private final DepartmentSettingsRepository settingsRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DepartmentSettingsService(DepartmentSettingsRepository settingsRepository,
-                                     ObjectMapper objectMapper) {
+                                     ObjectMapper objectMapper,
+                                     ApplicationEventPublisher eventPublisher) {
         this.settingsRepository = settingsRepository;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -38,20 +43,28 @@ public class DepartmentSettingsService {
     }
 
     /**
-     * 설정 DTO로 조회
+     * 설정 DTO로 조회 (없으면 기본값, 저장하지 않음)
      */
     public DepartmentSettingsDto getSettingsDto(Long departmentId) {
-        DepartmentSettings settings = getOrCreate(departmentId);
-        return parseSettings(settings.getDataJson());
+        return settingsRepository.findByDepartmentId(departmentId)
+                .map(settings -> parseSettings(settings.getDataJson()))
+                .orElseGet(DepartmentSettingsDto::defaults);
     }
 
     /**
-     * Raw JSON 조회
+     * Raw JSON 조회 (없으면 기본값, 저장하지 않음)
+     *
+     * 조회는 읽기 전용 트랜잭션(복제본)에서 실행되므로 기본 설정 생성은 쓰기 메서드(getOrCreate)에서만 합니다.
      */
     public Map<String, Object> getRawSettings(Long departmentId) {
-        DepartmentSettings settings = getOrCreate(departmentId);
+        String json = settingsRepository.findByDepartmentId(departmentId)
+                .map(DepartmentSettings::getDataJson)
+                .orElse(null);
+        if (json == null) {
+            return objectMapper.convertValue(DepartmentSettingsDto.defaults(), Map.class);
+        }
         try {
-            return objectMapper.readValue(settings.getDataJson(), Map.class);
+            return objectMapper.readValue(json, Map.class);
         } catch (JsonProcessingException e) {
             log.error("Failed to parse settings JSON: departmentId={}", departmentId, e);
             return Map.of();
@@ -69,7 +82,9 @@ public class DepartmentSettingsService {
             // 전체 설정을 새로운 값으로 교체
             String newJson = objectMapper.writeValueAsString(newSettings);
             settings.setDataJson(newJson);
-            return settingsRepository.save(settings);
+            DepartmentSettings saved = settingsRepository.save(settings);
+            eventPublisher.publishEvent(new CatalogChangedEvent(departmentId));
+            return saved;
 
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize settings", e);
@@ -1,6 +1,8 @@
 package com.kupub.api.menu.controller;
 
+import com.kupub.api.common.cache.CatalogChangedEvent;
 import com.kupub.api.common.dto.ApiResponse;
+import com.kupub.api.common.exception.BadRequestException;
 import com.kupub.api.common.exception.NotFoundException;
 import com.kupub.api.department.service.DepartmentService;
 import com.kupub.api.menu.dto.*;
@@ -8,12 +10,22 @@ import com.kupub.api.menu.entity.Menu;
 import com.kupub.api.menu.entity.MenuCategory;
 import com.kupub.api.menu.repository.MenuCategoryRepository;
 import com.kupub.api.menu.repository.MenuRepository;
+import com.kupub.api.menu.service.MenuImportService;
+import com.kupub.api.menu.service.MenuStockService;
+import com.kupub.api.notification.NotificationService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -26,13 +38,25 @@ public class AdminMenuController {
     private final DepartmentService departmentService;
     private final MenuRepository menuRepository;
     private final MenuCategoryRepository categoryRepository;
+    private final MenuStockService menuStockService;
+    private final MenuImportService menuImportService;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AdminMenuController(DepartmentService departmentService,
                                MenuRepository menuRepository,
-                               MenuCategoryRepository categoryRepository) {
+                               MenuCategoryRepository categoryRepository,
+                               MenuStockService menuStockService,
+                               MenuImportService menuImportService,
+                               NotificationService notificationService,
+                               ApplicationEventPublisher eventPublisher) {
         this.departmentService = departmentService;
         this.menuRepository = menuRepository;
         this.categoryRepository = categoryRepository;
+        this.menuStockService = menuStockService;
+        this.menuImportService = menuImportService;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
     }
 
     // 메뉴 생성
@@ -46,9 +70,7 @@ public class AdminMenuController {
         Long deptId = departmentService.getBySlug(deptSlug).getId();
 
         if (request.categoryId() != null) {
-            MenuCategory category = categoryRepository.findById(request.categoryId())
-                    .orElseThrow(() -> new NotFoundException("Category", request.categoryId()));
-            if (!category.getDepartmentId().equals(deptId)) {
+            if (!categoryRepository.existsByIdAndDepartmentId(request.categoryId(), deptId)) {
                 throw new NotFoundException("Category", request.categoryId());
             }
         }
@@ -65,6 +87,7 @@ public class AdminMenuController {
         
         Menu saved = menuRepository.save(menu);
         log.info("Menu created: id={} name={}", saved.getId(), saved.getName());
+        eventPublisher.publishEvent(new CatalogChangedEvent(deptId));
         
         return ResponseEntity.ok(ApiResponse.ok(MenuDto.from(saved)));
     }
@@ -79,17 +102,11 @@ public class AdminMenuController {
         log.debug("PATCH /api/{}/admin/menus/{}", deptSlug, menuId);
         
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        Menu menu = menuRepository.findById(menuId)
+        Menu menu = menuRepository.findByIdAndDepartmentId(menuId, deptId)
                 .orElseThrow(() -> new NotFoundException("Menu", menuId));
 
-        if (!menu.getDepartmentId().equals(deptId)) {
-            throw new NotFoundException("Menu", menuId);
-        }
-
         if (request.categoryId() != null) {
-            MenuCategory category = categoryRepository.findById(request.categoryId())
-                    .orElseThrow(() -> new NotFoundException("Category", request.categoryId()));
-            if (!category.getDepartmentId().equals(deptId)) {
+            if (!categoryRepository.existsByIdAndDepartmentId(request.categoryId(), deptId)) {
                 throw new NotFoundException("Category", request.categoryId());
             }
         }
@@ -104,8 +121,25 @@ public class AdminMenuController {
         
         Menu saved = menuRepository.save(menu);
         log.info("Menu updated: id={}", saved.getId());
-        
-        return ResponseEntity.ok(ApiResponse.ok(MenuDto.from(saved)));
+        eventPublisher.publishEvent(new CatalogChangedEvent(deptId));
+
+        MenuDto dto = menuStockService.toMenuDto(saved);
+        notificationService.notifyMenuUpdated(deptSlug, dto);
+        return ResponseEntity.ok(ApiResponse.ok(dto));
+    }
+
+    // 메뉴 재고 설정 (0이면 품절, null이면 수량 관리 해제)
+    @PutMapping("/{menuId}/stock")
+    public ResponseEntity<ApiResponse<MenuDto>> setStock(
+            @PathVariable("dept") String deptSlug,
+            @PathVariable("menuId") Long menuId,
+            @Valid @RequestBody MenuStockRequest request) {
+
+        log.debug("PUT /api/{}/admin/menus/{}/stock", deptSlug, menuId);
+
+        Long deptId = departmentService.getBySlug(deptSlug).getId();
+        return ResponseEntity.ok(ApiResponse.ok(
+                menuStockService.setStock(deptId, deptSlug, menuId, request.stock())));
     }
 
     // 메뉴 삭제
@@ -117,29 +151,75 @@ public class AdminMenuController {
         log.debug("DELETE /api/{}/admin/menus/{}", deptSlug, menuId);
         
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        Menu menu = menuRepository.findById(menuId)
+        Menu menu = menuRepository.findByIdAndDepartmentId(menuId, deptId)
                 .orElseThrow(() -> new NotFoundException("Menu", menuId));
-        if (!menu.getDepartmentId().equals(deptId)) {
-            throw new NotFoundException("Menu", menuId);
-        }
         
+        menuStockService.delete(menuId);
         menuRepository.delete(menu);
         log.info("Menu deleted: id={}", menuId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(deptId));
         
         return ResponseEntity.ok(ApiResponse.ok(null));
     }
 
+    // 메뉴 일괄 등록 (JSON)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<MenuImportResult>> importMenus(
+            @PathVariable("dept") String deptSlug,
+            @RequestBody MenuImportRequest request) {
+
+        log.debug("POST /api/{}/admin/menus/import (json)", deptSlug);
+
+        Long deptId = departmentService.getBySlug(deptSlug).getId();
+        return ResponseEntity.ok(ApiResponse.ok(menuImportService.importJson(deptId, request)));
+    }
+
+    // 메뉴 일괄 등록 (CSV)
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<MenuImportResult>> importMenusCsv(
+            @PathVariable("dept") String deptSlug,
+            Reader body) {
+
+        log.debug("POST /api/{}/admin/menus/import (csv)", deptSlug);
+
+        Long deptId = departmentService.getBySlug(deptSlug).getId();
+        return ResponseEntity.ok(ApiResponse.ok(menuImportService.importCsv(deptId, body)));
+    }
+
+    // 메뉴 내보내기 (format=csv|json, 파일 다운로드)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMenus(
+            @PathVariable("dept") String deptSlug,
+            @RequestParam(value = "format", defaultValue = "csv") String format) {
+
+        log.debug("GET /api/{}/admin/menus/export?format={}", deptSlug, format);
+
+        Long deptId = departmentService.getBySlug(deptSlug).getId();
+        boolean json = switch (format) {
+            case "json" -> true;
+            case "csv" -> false;
+            default -> throw new BadRequestException("INVALID_FORMAT", "format 은 csv 또는 json 입니다.");
+        };
+
+        StreamingResponseBody body = json
+                ? out -> menuImportService.exportJson(deptId, out)
+                : out -> menuImportService.exportCsv(deptId, out);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(deptSlug + "-menus." + format)
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(json ? MediaType.APPLICATION_JSON : new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
     // 카테고리 목록
     @GetMapping("/categories")
     public ResponseEntity<ApiResponse<List<CategoryDto>>> getCategories(
             @PathVariable("dept") String deptSlug) {
         
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        List<MenuCategory> categories = categoryRepository.findByDepartmentIdOrderByDisplayOrderAsc(deptId);
-        
-        return ResponseEntity.ok(ApiResponse.ok(
-                categories.stream().map(CategoryDto::from).toList()
-        ));
+        return ResponseEntity.ok(ApiResponse.ok(categoryRepository.findDtosByDepartmentId(deptId)));
     }
 
     // 카테고리 생성
@@ -168,11 +248,8 @@ public class AdminMenuController {
             @Valid @RequestBody CategoryUpdateRequest request) {
         
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        MenuCategory category = categoryRepository.findById(categoryId)
+        MenuCategory category = categoryRepository.findByIdAndDepartmentId(categoryId, deptId)
                 .orElseThrow(() -> new NotFoundException("Category", categoryId));
-        if (!category.getDepartmentId().equals(deptId)) {
-            throw new NotFoundException("Category", categoryId);
-        }
         
         if (request.name() != null) category.setName(request.name());
         if (request.displayOrder() != null) category.setDisplayOrder(request.displayOrder());
@@ -189,11 +266,8 @@ public class AdminMenuController {
             @PathVariable("categoryId") Long categoryId) {
         
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        MenuCategory category = categoryRepository.findById(categoryId)
+        MenuCategory category = categoryRepository.findByIdAndDepartmentId(categoryId, deptId)
                 .orElseThrow(() -> new NotFoundException("Category", categoryId));
-        if (!category.getDepartmentId().equals(deptId)) {
-            throw new NotFoundException("Category", categoryId);
-        }
         
         categoryRepository.delete(category);
         
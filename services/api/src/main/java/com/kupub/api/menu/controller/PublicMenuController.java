@@ -6,6 +6,7 @@ import com.kupub.api.department.service.DepartmentService;
 import com.kupub.api.menu.dto.*;
 import com.kupub.api.menu.repository.MenuCategoryRepository;
 import com.kupub.api.menu.repository.MenuRepository;
+import com.kupub.api.menu.service.MenuStockService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,13 +18,16 @@ public class PublicMenuController {
     private final DepartmentService departmentService;
     private final MenuCategoryRepository categoryRepository;
     private final MenuRepository menuRepository;
+    private final MenuStockService menuStockService;
 
     public PublicMenuController(DepartmentService departmentService,
                                 MenuCategoryRepository categoryRepository,
-                                MenuRepository menuRepository) {
+                                MenuRepository menuRepository,
+                                MenuStockService menuStockService) {
         this.departmentService = departmentService;
         this.categoryRepository = categoryRepository;
         this.menuRepository = menuRepository;
+        this.menuStockService = menuStockService;
     }
 
     @GetMapping
@@ -32,8 +36,9 @@ public class PublicMenuController {
         
         var categories = categoryRepository.findByDepartmentIdOrderByDisplayOrderAscIdAsc(dept.getId())
                 .stream().map(MenuCategoryDto::from).toList();
+        var stock = menuStockService.getRemaining(dept.getId());
         var menus = menuRepository.findByDepartmentIdOrderByDisplayOrderAscIdAsc(dept.getId())
-                .stream().map(MenuDto::from).toList();
+                .stream().map(menu -> MenuDto.from(menu, stock.get(menu.getId()))).toList();
 
         var response = new MenuResponse(
                 new MenuResponse.DeptInfo(dept.getId(), dept.getSlug(), dept.getName()),
@@ -10,9 +10,17 @@ public record MenuDto(
         String description,
         String imageUrl,
         Integer displayOrder,
-        Boolean soldOut
+        Boolean soldOut,
+        /**
+         * 남은 수량 (null이면 수량 관리 안 함)
+         */
+        Integer stock
 ) {
     public static MenuDto from(Menu menu) {
+        return from(menu, null);
+    }
+
+    public static MenuDto from(Menu menu, Integer stock) {
         return new MenuDto(
                 menu.getId(),
                 menu.getCategoryId(),
@@ -21,7 +29,8 @@ public record MenuDto(
                 menu.getDescription(),
                 menu.getImageUrl(),
                 menu.getDisplayOrder(),
-                menu.getSoldOut()
+                menu.getSoldOut(),
+                stock
         );
     }
 }
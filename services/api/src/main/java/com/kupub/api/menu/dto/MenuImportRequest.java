@@ -0,0 +1,50 @@
+package com.kupub.api.menu.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 메뉴 일괄 등록 요청 (내보내기 JSON과 같은 형태)
+ *
+ * 메뉴의 category 는 카테고리 이름입니다. 학과에 있는 카테고리면 그대로 쓰고,
+ * 없으면 categories 목록(또는 메뉴에 처음 나온 순서)대로 새로 만듭니다.
+ */
+public record MenuImportRequest(
+        /**
+         * 카테고리 목록 (선택: 표시 순서 지정, 메뉴 없는 카테고리 추가)
+         */
+        List<Category> categories,
+
+        /**
+         * 메뉴 목록
+         */
+        List<Item> menus
+) {
+    public record Category(
+            @NotBlank(message = "카테고리 이름은 필수입니다")
+            @Size(max = 50, message = "카테고리 이름은 50자 이하입니다")
+            String name,
+            Integer displayOrder
+    ) {}
+
+    public record Item(
+            @Size(max = 50, message = "카테고리 이름은 50자 이하입니다")
+            String category,          // 카테고리 이름 (선택)
+            @NotBlank(message = "메뉴 이름은 필수입니다")
+            @Size(max = 100, message = "메뉴 이름은 100자 이하입니다")
+            String name,
+            @NotNull(message = "가격은 필수입니다")
+            @Positive(message = "가격은 0보다 커야 합니다")
+            Integer price,
+            @Size(max = 500, message = "설명은 500자 이하입니다")
+            String description,
+            @Size(max = 255, message = "이미지 URL은 255자 이하입니다")
+            String imageUrl,
+            Integer displayOrder,
+            Boolean soldOut
+    ) {}
+}
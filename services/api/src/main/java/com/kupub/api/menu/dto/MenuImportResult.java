@@ -0,0 +1,12 @@
+package com.kupub.api.menu.dto;
+
+/**
+ * 메뉴 일괄 등록 결과
+ *
+ * @param categoriesCreated 새로 만든 카테고리 수 (이름이 같은 기존 카테고리는 재사용)
+ * @param menusCreated 등록한 메뉴 수
+ */
+public record MenuImportResult(
+        int categoriesCreated,
+        int menusCreated
+) {}
@@ -0,0 +1,12 @@
+package com.kupub.api.menu.dto;
+
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * 메뉴 재고 설정 요청
+ *
+ * @param stock 남은 수량 (null이면 수량 관리 해제)
+ */
+public record MenuStockRequest(
+        @PositiveOrZero Integer stock
+) {}
@@ -1,9 +1,14 @@
 package com.kupub.api.menu.entity;
 
+import com.kupub.api.common.cache.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MENU)
 @Table(name = "menus")
 public class Menu {
 
@@ -1,8 +1,13 @@
 package com.kupub.api.menu.entity;
 
+import com.kupub.api.common.cache.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MENU_CATEGORY)
 @Table(name = "menu_categories")
 public class MenuCategory {
 
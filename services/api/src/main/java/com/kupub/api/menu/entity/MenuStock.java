@@ -0,0 +1,43 @@
+package com.kupub.api.menu.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 메뉴 재고 (수량을 관리하는 메뉴만 행이 있음)
+ *
+ * 주문마다 바뀌는 값이라 2차 캐시 대상인 menus 테이블과 분리
+ * (menus 를 UPDATE 하면 메뉴 캐시가 매 주문마다 무효화됨)
+ */
+@Entity
+@Table(name = "menu_stocks", indexes = {
+        @Index(name = "idx_menu_stocks_department", columnList = "department_id")
+})
+public class MenuStock {
+
+    @Id
+    private Long menuId;
+
+    @Column(nullable = false)
+    private Long departmentId;
+
+    @Column(nullable = false)
+    private Integer remaining;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters & Setters
+    public Long getMenuId() { return menuId; }
+    public void setMenuId(Long menuId) { this.menuId = menuId; }
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+    public Integer getRemaining() { return remaining; }
+    public void setRemaining(Integer remaining) { this.remaining = remaining; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
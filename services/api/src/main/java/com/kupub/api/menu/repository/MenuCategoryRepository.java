@@ -1,12 +1,53 @@
 package com.kupub.api.menu.repository;
 
+import com.kupub.api.common.cache.CacheRegions;
+import com.kupub.api.menu.dto.CategoryDto;
 import com.kupub.api.menu.entity.MenuCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
 
 public interface MenuCategoryRepository extends JpaRepository<MenuCategory, Long> {
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.MENU_LIST)
+    })
     List<MenuCategory> findByDepartmentIdOrderByDisplayOrderAscIdAsc(Long departmentId);
-    List<MenuCategory> findByDepartmentIdOrderByDisplayOrderAsc(Long departmentId);
+
+    // 관리자 카테고리 목록 (DTO 프로젝션)
+    @Query("""
+            SELECT new com.kupub.api.menu.dto.CategoryDto(c.id, c.name, c.displayOrder)
+              FROM MenuCategory c
+             WHERE c.departmentId = :departmentId
+             ORDER BY c.displayOrder ASC
+            """)
+    List<CategoryDto> findDtosByDepartmentId(@Param("departmentId") Long departmentId);
+
+    // 학과 소속 카테고리 단건 / 존재 여부 (다른 학과 카테고리면 empty / false)
+    Optional<MenuCategory> findByIdAndDepartmentId(Long id, Long departmentId);
+    boolean existsByIdAndDepartmentId(Long id, Long departmentId);
     void deleteByDepartmentId(Long departmentId);
+
+    /**
+     * 템플릿 학과 카테고리 복사 (INSERT ... SELECT)
+     *
+     * id 순서대로 넣으므로 새 카테고리의 id 순서가 원본 id 순서와 같음 (메뉴 복사 시 카테고리 연결에 사용)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "menu_categories"))
+    @Query(value = """
+            INSERT INTO menu_categories (department_id, name, display_order)
+            SELECT :targetId, name, display_order
+              FROM menu_categories
+             WHERE department_id = :sourceId
+             ORDER BY id
+            """, nativeQuery = true)
+    int copyFromDepartment(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId);
 }
 
@@ -1,11 +1,53 @@
 package com.kupub.api.menu.repository;
 
+import com.kupub.api.common.cache.CacheRegions;
 import com.kupub.api.menu.entity.Menu;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MenuRepository extends JpaRepository<Menu, Long> {
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.MENU_LIST)
+    })
     List<Menu> findByDepartmentIdOrderByDisplayOrderAscIdAsc(Long departmentId);
+
+    // 학과 소속 메뉴 단건 (다른 학과 메뉴면 empty)
+    Optional<Menu> findByIdAndDepartmentId(Long id, Long departmentId);
+
+    // 내보내기용 (캐시 없이 조금씩 읽음, 트랜잭션 안에서 닫아야 함)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "200"))
+    Stream<Menu> streamByDepartmentIdOrderByDisplayOrderAscIdAsc(Long departmentId);
     void deleteByDepartmentId(Long departmentId);
+
+    /**
+     * 템플릿 학과 메뉴 복사 (INSERT ... SELECT, 품절/재고는 복사하지 않음)
+     *
+     * 카테고리는 MenuCategoryRepository.copyFromDepartment 로 먼저 복사한 뒤 호출합니다.
+     * 원본/대상 카테고리를 각각 id 순번으로 맞춰서 category_id 를 새 카테고리로 바꿉니다
+     * (대상 학과에 다른 카테고리가 없어야 함, 원본에 없는 카테고리를 가리키던 메뉴는 카테고리 없음).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "menus"))
+    @Query(value = """
+            INSERT INTO menus (department_id, category_id, name, price, description, image_url, display_order, sold_out, created_at)
+            SELECT :targetId, tc.id, m.name, m.price, m.description, m.image_url, m.display_order, FALSE, CURRENT_TIMESTAMP
+              FROM menus m
+              LEFT JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS seq
+                           FROM menu_categories WHERE department_id = :sourceId) sc ON sc.id = m.category_id
+              LEFT JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS seq
+                           FROM menu_categories WHERE department_id = :targetId) tc ON tc.seq = sc.seq
+             WHERE m.department_id = :sourceId
+             ORDER BY m.id
+            """, nativeQuery = true)
+    int copyFromDepartment(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId);
 }
 
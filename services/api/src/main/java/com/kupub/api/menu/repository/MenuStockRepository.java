@@ -0,0 +1,52 @@
+package com.kupub.api.menu.repository;
+
+import com.kupub.api.menu.entity.MenuStock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MenuStockRepository extends JpaRepository<MenuStock, Long> {
+
+    List<MenuStock> findByDepartmentId(Long departmentId);
+
+    /**
+     * 수량을 관리하는 메뉴 ID만 골라냄
+     */
+    @Query("SELECT s.menuId FROM MenuStock s WHERE s.menuId IN :menuIds")
+    List<Long> findTrackedMenuIds(@Param("menuIds") Collection<Long> menuIds);
+
+    @Query("SELECT s.remaining FROM MenuStock s WHERE s.menuId = :menuId")
+    Integer findRemaining(@Param("menuId") Long menuId);
+
+    /**
+     * 남은 수량이 충분할 때만 차감 (조건부 UPDATE 한 문장 - 동시 주문에도 음수가 되지 않음)
+     *
+     * @return 1: 차감됨, 0: 수량 부족
+     */
+    @Modifying
+    @Query("""
+            UPDATE MenuStock s
+               SET s.remaining = s.remaining - :quantity, s.updatedAt = :now
+             WHERE s.menuId = :menuId
+               AND s.remaining >= :quantity
+            """)
+    int take(@Param("menuId") Long menuId, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    /**
+     * 취소된 주문 수량 되돌리기
+     */
+    @Modifying
+    @Query("""
+            UPDATE MenuStock s
+               SET s.remaining = s.remaining + :quantity, s.updatedAt = :now
+             WHERE s.menuId = :menuId
+            """)
+    int putBack(@Param("menuId") Long menuId, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    void deleteByDepartmentId(Long departmentId);
+}
@@ -0,0 +1,108 @@
+package com.kupub.api.menu.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메뉴 CSV 읽기/쓰기 (RFC 4180: 쉼표 구분, 큰따옴표로 감싼 값 안의 쉼표/줄바꿈/"" 허용)
+ *
+ * 첫 줄은 헤더이며 COLUMNS 이름으로 열을 찾습니다 (순서 무관, 없는 열은 빈 값).
+ * 엑셀에서 한글이 깨지지 않도록 내보낼 때 UTF-8 BOM 을 붙이고, 읽을 때는 BOM 을 무시합니다.
+ */
+final class MenuCsv {
+
+    static final String CATEGORY = "category";
+    static final String NAME = "name";
+    static final String PRICE = "price";
+    static final String DESCRIPTION = "description";
+    static final String IMAGE_URL = "imageUrl";
+    static final String DISPLAY_ORDER = "displayOrder";
+    static final String SOLD_OUT = "soldOut";
+
+    static final List<String> COLUMNS = List.of(CATEGORY, NAME, PRICE, DESCRIPTION, IMAGE_URL, DISPLAY_ORDER, SOLD_OUT);
+
+    static final char BOM = '\uFEFF';
+
+    private MenuCsv() {
+    }
+
+    /**
+     * 전체 레코드 읽기 (헤더 포함, 빈 줄 제외)
+     */
+    static List<List<String>> read(Reader source) throws IOException {
+        Reader reader = source.markSupported() ? source : new BufferedReader(source);
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean first = true;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (first) {
+                first = false;
+                if (c == BOM) continue;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                record.add(field.toString());
+                field.setLength(0);
+                addIfNotBlank(records, record);
+                record = new ArrayList<>();
+            } else {
+                field.append((char) c);
+            }
+        }
+        record.add(field.toString());
+        addIfNotBlank(records, record);
+        return records;
+    }
+
+    /**
+     * 한 줄 쓰기 (필요한 값만 큰따옴표로 감쌈, null 은 빈 값)
+     */
+    static void writeRecord(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            if (values[i] != null) writer.write(escape(values[i].toString()));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private static void addIfNotBlank(List<List<String>> records, List<String> record) {
+        if (record.size() > 1 || !record.get(0).isBlank()) {
+            records.add(record);
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package com.kupub.api.menu.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.cache.CacheRegions;
+import com.kupub.api.common.cache.CatalogChangedEvent;
+import com.kupub.api.common.exception.BadRequestException;
+import com.kupub.api.menu.dto.MenuImportRequest;
+import com.kupub.api.menu.dto.MenuImportResult;
+import com.kupub.api.menu.entity.Menu;
+import com.kupub.api.menu.entity.MenuCategory;
+import com.kupub.api.menu.repository.MenuCategoryRepository;
+import com.kupub.api.menu.repository.MenuRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 메뉴 일괄 등록/내보내기
+ *
+ * - 등록: 전체 행을 메모리에서 검증한 뒤(하나라도 틀리면 400 INVALID_IMPORT, 아무것도 저장 안 함)
+ *   카테고리/메뉴를 JDBC 배치 INSERT 로 한 트랜잭션에 저장
+ *   (IDENTITY 키 엔티티는 Hibernate 가 INSERT 를 배치로 묶지 않으므로 JdbcTemplate 사용)
+ * - 기존 메뉴/카테고리는 바꾸지 않음 (같은 이름 카테고리는 재사용, 같은 카테고리에 같은 이름 메뉴가 있으면 오류)
+ * - 내보내기: 메뉴를 한 번에 메모리에 올리지 않고 읽으면서 바로 씀 (JSON 형식은 등록 요청과 같음)
+ */
+@Service
+@Transactional(readOnly = true)
+public class MenuImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(MenuImportService.class);
+
+    private static final String INSERT_CATEGORY =
+            "INSERT INTO menu_categories (department_id, name, display_order) VALUES (?, ?, ?)";
+    private static final String INSERT_MENU =
+            "INSERT INTO menus (department_id, category_id, name, price, description, image_url, display_order, sold_out, created_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MenuRepository menuRepository;
+    private final MenuCategoryRepository categoryRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxRows;
+
+    public MenuImportService(JdbcTemplate jdbcTemplate,
+                             MenuRepository menuRepository,
+                             MenuCategoryRepository categoryRepository,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             EntityManagerFactory entityManagerFactory,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${app.menu-import.max-rows:1000}") int maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.menuRepository = menuRepository;
+        this.categoryRepository = categoryRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.eventPublisher = eventPublisher;
+        this.maxRows = maxRows;
+    }
+
+    // ========== 등록 ==========
+
+    /**
+     * JSON 일괄 등록
+     */
+    @Transactional
+    public MenuImportResult importJson(Long departmentId, MenuImportRequest request) {
+        List<MenuImportRequest.Category> categories = request.categories() != null ? request.categories() : List.of();
+        List<MenuImportRequest.Item> menus = request.menus() != null ? request.menus() : List.of();
+
+        List<Row> rows = new ArrayList<>(menus.size());
+        for (int i = 0; i < menus.size(); i++) {
+            rows.add(new Row("menus[" + i + "]", menus.get(i)));
+        }
+        return importRows(departmentId, categories, rows, new ArrayList<>());
+    }
+
+    /**
+     * CSV 일괄 등록 (헤더: category,name,price,description,imageUrl,displayOrder,soldOut)
+     */
+    @Transactional
+    public MenuImportResult importCsv(Long departmentId, Reader reader) {
+        List<List<String>> records;
+        try {
+            records = MenuCsv.read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (records.isEmpty()) {
+            throw new BadRequestException("INVALID_IMPORT", "CSV 내용이 비어 있습니다.");
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> headerRecord = records.get(0);
+        for (int i = 0; i < headerRecord.size(); i++) {
+            header.put(headerRecord.get(i).trim(), i);
+        }
+        if (!header.containsKey(MenuCsv.NAME) || !header.containsKey(MenuCsv.PRICE)) {
+            throw new BadRequestException("INVALID_IMPORT", "CSV 헤더에 name, price 열이 필요합니다.",
+                    Map.of("columns", MenuCsv.COLUMNS));
+        }
+
+        List<Map<String, Object>> errors = new ArrayList<>();
+        List<Row> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            CsvRecord record = new CsvRecord("row " + i, records.get(i), header, errors);
+            rows.add(new Row(record.location, new MenuImportRequest.Item(
+                    record.text(MenuCsv.CATEGORY),
+                    record.text(MenuCsv.NAME),
+                    record.integer(MenuCsv.PRICE),
+                    record.text(MenuCsv.DESCRIPTION),
+                    record.text(MenuCsv.IMAGE_URL),
+                    record.integer(MenuCsv.DISPLAY_ORDER),
+                    record.bool(MenuCsv.SOLD_OUT))));
+        }
+        return importRows(departmentId, List.of(), rows, errors);
+    }
+
+    // ========== 내보내기 ==========
+
+    /**
+     * CSV 내보내기 (UTF-8 BOM + 헤더 + 메뉴 순서대로)
+     */
+    public void exportCsv(Long departmentId, OutputStream out) throws IOException {
+        Map<Long, String> categoryNames = categoryNames(departmentId);
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(MenuCsv.BOM);
+        MenuCsv.writeRecord(writer, MenuCsv.COLUMNS.toArray());
+        try (Stream<Menu> menus = menuRepository.streamByDepartmentIdOrderByDisplayOrderAscIdAsc(departmentId)) {
+            for (Menu menu : (Iterable<Menu>) menus::iterator) {
+                MenuCsv.writeRecord(writer,
+                        categoryNames.get(menu.getCategoryId()),
+                        menu.getName(),
+                        menu.getPrice(),
+                        menu.getDescription(),
+                        menu.getImageUrl(),
+                        menu.getDisplayOrder(),
+                        menu.isSoldOut());
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * JSON 내보내기 (등록 요청과 같은 형태: { categories: [...], menus: [...] })
+     */
+    public void exportJson(Long departmentId, OutputStream out) throws IOException {
+        List<MenuCategory> categories = categoryRepository.findByDepartmentIdOrderByDisplayOrderAscIdAsc(departmentId);
+        Map<Long, String> categoryNames = new HashMap<>();
+        categories.forEach(c -> categoryNames.put(c.getId(), c.getName()));
+
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+             Stream<Menu> menus = menuRepository.streamByDepartmentIdOrderByDisplayOrderAscIdAsc(departmentId)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("categories");
+            for (MenuCategory category : categories) {
+                json.writeObject(new MenuImportRequest.Category(category.getName(), category.getDisplayOrder()));
+            }
+            json.writeEndArray();
+            json.writeArrayFieldStart("menus");
+            for (Menu menu : (Iterable<Menu>) menus::iterator) {
+                json.writeObject(new MenuImportRequest.Item(
+                        categoryNames.get(menu.getCategoryId()),
+                        menu.getName(),
+                        menu.getPrice(),
+                        menu.getDescription(),
+                        menu.getImageUrl(),
+                        menu.getDisplayOrder(),
+                        menu.isSoldOut()));
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    // ========== Private Methods ==========
+
+    private record Row(String location, MenuImportRequest.Item item) {
+    }
+
+    private MenuImportResult importRows(Long departmentId, List<MenuImportRequest.Category> categories,
+                                        List<Row> rows, List<Map<String, Object>> errors) {
+        if (categories.isEmpty() && rows.isEmpty()) {
+            throw new BadRequestException("INVALID_IMPORT", "등록할 메뉴가 없습니다.");
+        }
+        if (categories.size() + rows.size() > maxRows) {
+            throw new BadRequestException("INVALID_IMPORT", "한 번에 " + maxRows + "개까지 등록할 수 있습니다.",
+                    Map.of("maxRows", maxRows));
+        }
+
+        // 1. 검증 (DB 쓰기 전에 전체 확인)
+        for (int i = 0; i < categories.size(); i++) {
+            validate("categories[" + i + "]", categories.get(i), errors);
+        }
+        for (Row row : rows) {
+            validate(row.location(), row.item(), errors);
+        }
+
+        List<MenuCategory> existingCategories = categoryRepository.findByDepartmentIdOrderByDisplayOrderAscIdAsc(departmentId);
+        Map<String, Long> categoryIds = new HashMap<>();
+        int nextDisplayOrder = 0;
+        for (MenuCategory category : existingCategories) {
+            categoryIds.putIfAbsent(category.getName(), category.getId());
+            if (category.getDisplayOrder() != null) {
+                nextDisplayOrder = Math.max(nextDisplayOrder, category.getDisplayOrder() + 1);
+            }
+        }
+
+        Map<Long, String> categoryNames = new HashMap<>();
+        categoryIds.forEach((name, id) -> categoryNames.put(id, name));
+        Set<String> menuKeys = new HashSet<>();
+        for (Menu menu : menuRepository.findByDepartmentIdOrderByDisplayOrderAscIdAsc(departmentId)) {
+            menuKeys.add(menuKey(categoryNames.get(menu.getCategoryId()), menu.getName()));
+        }
+        for (Row row : rows) {
+            if (row.item() == null) {
+                continue;
+            }
+            String name = row.item().name();
+            if (name != null && !menuKeys.add(menuKey(blankToNull(row.item().category()), name.trim()))) {
+                addError(errors, row.location(), MenuCsv.NAME, "같은 카테고리에 이미 있는 메뉴입니다: " + name.trim());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new BadRequestException("INVALID_IMPORT", "잘못된 항목이 " + errors.size() + "개 있습니다.",
+                    Map.of("errors", errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS))));
+        }
+
+        // 2. 새 카테고리 (categories 목록 → 메뉴에 처음 나온 순서, 순서 지정이 없으면 맨 뒤에 추가)
+        for (MenuImportRequest.Category category : categories) {
+            if (category.displayOrder() != null) {
+                nextDisplayOrder = Math.max(nextDisplayOrder, category.displayOrder() + 1);
+            }
+        }
+        Map<String, Integer> newCategories = new LinkedHashMap<>();
+        for (MenuImportRequest.Category category : categories) {
+            String name = category.name().trim();
+            if (!categoryIds.containsKey(name) && !newCategories.containsKey(name)) {
+                newCategories.put(name, category.displayOrder() != null ? category.displayOrder() : nextDisplayOrder++);
+            }
+        }
+        for (Row row : rows) {
+            String name = blankToNull(row.item().category());
+            if (name != null && !categoryIds.containsKey(name) && !newCategories.containsKey(name)) {
+                newCategories.put(name, nextDisplayOrder++);
+            }
+        }
+        categoryIds.putAll(insertCategories(departmentId, newCategories));
+
+        // 3. 메뉴
+        insertMenus(departmentId, rows, categoryIds);
+
+        evictMenuListsAfterCommit();
+        eventPublisher.publishEvent(new CatalogChangedEvent(departmentId));
+        log.info("Menus imported: departmentId={} categories={} menus={}", departmentId, newCategories.size(), rows.size());
+
+        return new MenuImportResult(newCategories.size(), rows.size());
+    }
+
+    private Map<String, Long> insertCategories(Long departmentId, Map<String, Integer> categories) {
+        if (categories.isEmpty()) {
+            return Map.of();
+        }
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(categories.entrySet());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_CATEGORY, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, departmentId);
+                        ps.setString(2, entries.get(i).getKey());
+                        ps.setInt(3, entries.get(i).getValue());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                },
+                keys);
+
+        // 생성 키는 배치 순서대로 돌아옴 (키 열 이름은 드라이버마다 다름: ID / GENERATED_KEY)
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        if (keyList.size() != entries.size()) {
+            throw new IllegalStateException("Generated keys mismatch: expected=" + entries.size() + " actual=" + keyList.size());
+        }
+        Map<String, Long> ids = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            ids.put(entries.get(i).getKey(), ((Number) keyList.get(i).values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private void insertMenus(Long departmentId, List<Row> rows, Map<String, Long> categoryIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_MENU, rows, BATCH_SIZE, (ps, row) -> {
+            MenuImportRequest.Item item = row.item();
+            String category = blankToNull(item.category());
+            ps.setLong(1, departmentId);
+            if (category != null) ps.setLong(2, categoryIds.get(category)); else ps.setNull(2, Types.BIGINT);
+            ps.setString(3, item.name().trim());
+            ps.setInt(4, item.price());
+            ps.setString(5, blankToNull(item.description()));
+            ps.setString(6, blankToNull(item.imageUrl()));
+            ps.setInt(7, item.displayOrder() != null ? item.displayOrder() : 0);
+            ps.setBoolean(8, Boolean.TRUE.equals(item.soldOut()));
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    /**
+     * JDBC 로 넣은 행은 Hibernate 가 모르므로 메뉴/카테고리 목록 쿼리 캐시를 커밋 후 직접 비움
+     * (커밋 전에 비우면 그 사이 다른 요청이 이전 목록을 다시 캐시할 수 있음)
+     */
+    private void evictMenuListsAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CacheRegions.MENU_LIST);
+            }
+        });
+    }
+
+    private Map<Long, String> categoryNames(Long departmentId) {
+        Map<Long, String> names = new HashMap<>();
+        for (MenuCategory category : categoryRepository.findByDepartmentIdOrderByDisplayOrderAscIdAsc(departmentId)) {
+            names.put(category.getId(), category.getName());
+        }
+        return names;
+    }
+
+    private void validate(String location, Object target, List<Map<String, Object>> errors) {
+        // JSON 배열의 null 항목 ({"menus":[null]}) 은 Validator 가 받지 않으므로 행 오류로 알림
+        if (target == null) {
+            addError(errors, location, null, "빈 항목입니다.");
+            return;
+        }
+        for (ConstraintViolation<Object> violation : validator.validate(target)) {
+            String field = violation.getPropertyPath().toString();
+            // CSV 형식 오류로 이미 null 이 된 값은 다시 알리지 않음
+            boolean reported = errors.stream()
+                    .anyMatch(e -> location.equals(e.get("row")) && field.equals(e.get("field")));
+            if (!reported) {
+                addError(errors, location, field, violation.getMessage());
+            }
+        }
+    }
+
+    private static void addError(List<Map<String, Object>> errors, String location, String field, String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("row", location);
+        error.put("field", field);
+        error.put("message", message);
+        errors.add(error);
+    }
+
+    private static String menuKey(String category, String name) {
+        return (category != null ? category : "") + '\u0000' + name;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * CSV 한 줄 (헤더 이름으로 값 읽기, 형식이 틀린 값은 오류 목록에 추가하고 null)
+     */
+    private static final class CsvRecord {
+
+        private final String location;
+        private final List<String> values;
+        private final Map<String, Integer> header;
+        private final List<Map<String, Object>> errors;
+
+        CsvRecord(String location, List<String> values, Map<String, Integer> header, List<Map<String, Object>> errors) {
+            this.location = location;
+            this.values = values;
+            this.header = header;
+            this.errors = errors;
+        }
+
+        String text(String column) {
+            Integer index = header.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            return blankToNull(values.get(index));
+        }
+
+        Integer integer(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value.replace(",", ""));
+            } catch (NumberFormatException e) {
+                addError(errors, location, column, "숫자가 아닙니다: " + value);
+                return null;
+            }
+        }
+
+        Boolean bool(String column) {
+            String value = text(column);
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "1", "y", "yes" -> true;
+                case "false", "0", "n", "no" -> false;
+                default -> {
+                    addError(errors, location, column, "true/false 가 아닙니다: " + value);
+                    yield null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.kupub.api.menu.service;
+
+import com.kupub.api.common.cache.CatalogChangedEvent;
+import com.kupub.api.common.exception.ConflictException;
+import com.kupub.api.common.exception.NotFoundException;
+import com.kupub.api.menu.dto.MenuDto;
+import com.kupub.api.menu.entity.Menu;
+import com.kupub.api.menu.entity.MenuStock;
+import com.kupub.api.menu.repository.MenuRepository;
+import com.kupub.api.menu.repository.MenuStockRepository;
+import com.kupub.api.notification.NotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 재고 (선택)
+ *
+ * - 재고를 설정한 메뉴만 수량 관리, 나머지는 기존처럼 품절 여부만 사용
+ * - 주문 시 조건부 UPDATE 로 차감 (부족하면 409 MENU_SOLD_OUT, 주문 전체 롤백)
+ * - 0이 되면 자동 품절 + /topic/{dept}/menus 알림
+ */
+@Service
+@Transactional(readOnly = true)
+public class MenuStockService {
+
+    private static final Logger log = LoggerFactory.getLogger(MenuStockService.class);
+
+    private final MenuStockRepository stockRepository;
+    private final MenuRepository menuRepository;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MenuStockService(MenuStockRepository stockRepository,
+                            MenuRepository menuRepository,
+                            NotificationService notificationService,
+                            ApplicationEventPublisher eventPublisher) {
+        this.stockRepository = stockRepository;
+        this.menuRepository = menuRepository;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 학과 메뉴별 남은 수량 (재고를 설정한 메뉴만)
+     */
+    public Map<Long, Integer> getRemaining(Long departmentId) {
+        return stockRepository.findByDepartmentId(departmentId).stream()
+                .collect(Collectors.toMap(MenuStock::getMenuId, MenuStock::getRemaining));
+    }
+
+    /**
+     * 메뉴 DTO (남은 수량 포함)
+     */
+    public MenuDto toMenuDto(Menu menu) {
+        return MenuDto.from(menu, stockRepository.findRemaining(menu.getId()));
+    }
+
+    /**
+     * 주문 수량만큼 차감
+     *
+     * 메뉴 ID 순서로 차감해서 여러 메뉴를 담은 동시 주문끼리 교착 상태가 생기지 않게 합니다.
+     *
+     * @param quantities 메뉴 ID → 주문 수량
+     */
+    @Transactional
+    public void take(String deptSlug, Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Set<Long> tracked = new HashSet<>(stockRepository.findTrackedMenuIds(quantities.keySet()));
+        if (tracked.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            Long menuId = entry.getKey();
+            if (!tracked.contains(menuId)) {
+                continue;
+            }
+            if (stockRepository.take(menuId, entry.getValue(), now) == 0) {
+                Integer remaining = stockRepository.findRemaining(menuId);
+                throw new ConflictException("MENU_SOLD_OUT", "남은 수량이 부족한 메뉴가 있습니다.",
+                        Map.of("menuId", menuId, "remaining", remaining != null ? remaining : 0));
+            }
+            if (stockRepository.findRemaining(menuId) == 0) {
+                markSoldOut(deptSlug, menuId);
+            }
+        }
+    }
+
+    /**
+     * 취소된 주문 수량 되돌리기 (품절 표시는 관리자가 직접 해제)
+     */
+    @Transactional
+    public void putBack(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            stockRepository.putBack(entry.getKey(), entry.getValue(), now);
+        }
+    }
+
+    /**
+     * 재고 설정
+     *
+     * @param stock 남은 수량 (0이면 품절, 1 이상이면 품절 해제, null이면 수량 관리 해제)
+     */
+    @Transactional
+    public MenuDto setStock(Long departmentId, String deptSlug, Long menuId, Integer stock) {
+        Menu menu = menuRepository.findByIdAndDepartmentId(menuId, departmentId)
+                .orElseThrow(() -> new NotFoundException("Menu", menuId));
+
+        if (stock == null) {
+            stockRepository.findById(menuId).ifPresent(stockRepository::delete);
+        } else {
+            MenuStock menuStock = stockRepository.findById(menuId).orElseGet(() -> {
+                MenuStock created = new MenuStock();
+                created.setMenuId(menuId);
+                created.setDepartmentId(departmentId);
+                return created;
+            });
+            menuStock.setRemaining(stock);
+            stockRepository.save(menuStock);
+            menu.setSoldOut(stock == 0);
+        }
+
+        log.info("Menu stock set: menuId={} stock={}", menuId, stock);
+        eventPublisher.publishEvent(new CatalogChangedEvent(departmentId));
+        MenuDto dto = MenuDto.from(menu, stock);
+        notificationService.notifyMenuUpdated(deptSlug, dto);
+        return dto;
+    }
+
+    /**
+     * 메뉴 삭제 시 재고 행도 삭제
+     */
+    @Transactional
+    public void delete(Long menuId) {
+        stockRepository.findById(menuId).ifPresent(stockRepository::delete);
+    }
+
+    private void markSoldOut(String deptSlug, Long menuId) {
+        menuRepository.findById(menuId).ifPresent(menu -> {
+            menu.setSoldOut(true);
+            log.info("Menu sold out: menuId={} name={}", menuId, menu.getName());
+            eventPublisher.publishEvent(new CatalogChangedEvent(menu.getDepartmentId()));
+            if (deptSlug != null) {
+                notificationService.notifyMenuUpdated(deptSlug, MenuDto.from(menu, 0));
+            }
+        });
+    }
+}
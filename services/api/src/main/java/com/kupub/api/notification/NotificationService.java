@@ -1,12 +1,16 @@
 package com.kupub.api.notification;
 
+import com.kupub.api.menu.dto.MenuDto;
+import com.kupub.api.notification.cluster.ClusterBus;
+import com.kupub.api.order.dto.OrderDto;
 import com.kupub.api.order.entity.Order;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -14,10 +18,19 @@ public class NotificationService {
 
     private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
 
-    private final SimpMessagingTemplate messagingTemplate;
+    /**
+     * 손님용 주문별 토픽 (/topic/{dept}/orders/{orderId})
+     * - 학과 slug 아래에 두어 다른 학과 토픽과 같은 채널(학과)로 서버 간 전달
+     * - 학과 DB가 나뉘면 주문 ID가 학과끼리 겹칠 수 있으므로 학과까지 포함
+     */
+    public static String guestTopic(String deptSlug, Long orderId) {
+        return "/topic/" + deptSlug + "/orders/" + orderId;
+    }
+
+    private final ClusterBus clusterBus;
 
-    public NotificationService(SimpMessagingTemplate messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    public NotificationService(ClusterBus clusterBus) {
+        this.clusterBus = clusterBus;
     }
 
     /**
@@ -36,7 +49,7 @@ public class NotificationService {
         );
         
         // /topic/{dept}/orders 로 전송
-        messagingTemplate.convertAndSend("/topic/" + deptSlug + "/orders", notification);
+        clusterBus.publish("/topic/" + deptSlug + "/orders", notification);
     }
 
     /**
@@ -55,24 +68,43 @@ public class NotificationService {
                 LocalDateTime.now().toString()
         );
         
-        messagingTemplate.convertAndSend("/topic/" + deptSlug + "/orders", notification);
+        clusterBus.publish("/topic/" + deptSlug + "/orders", notification);
     }
 
     /**
-     * 결제 상태 변경 알림 (손님에게)
+     * 결제 확인 알림 (손님에게)
+     * - status 는 결제 상태 (기존 손님 화면 호환)
      */
-    public void notifyPaymentConfirmed(String deptSlug, Order order) {
-        log.info("Sending payment confirmed notification: orderId={}", order.getId());
-        
+    public void notifyPaymentConfirmed(String deptSlug, OrderDto order) {
+        log.info("Sending payment confirmed notification: orderId={}", order.id());
+        sendGuestUpdate(deptSlug, "PAYMENT_CONFIRMED", order.paymentStatus().name(), order);
+    }
+
+    /**
+     * 주문 변경 알림 (손님에게) - 결제 확인 외의 상태/결제 상태 변경
+     */
+    public void notifyOrderUpdated(String deptSlug, OrderDto order) {
+        log.info("Sending order updated notification: dept={} orderId={} status={} paymentStatus={}",
+                deptSlug, order.id(), order.status(), order.paymentStatus());
+        sendGuestUpdate(deptSlug, "ORDER_UPDATED", order.status().name(), order);
+    }
+
+    /**
+     * 특정 주문 토픽(/topic/{dept}/orders/{id})으로 최신 주문 전체 전송
+     * - 손님 화면은 받은 주문으로 바로 갱신 (조회 API 재호출 불필요)
+     */
+    private void sendGuestUpdate(String deptSlug, String type, String status, OrderDto order) {
         Map<String, Object> notification = Map.of(
-                "type", "PAYMENT_CONFIRMED",
-                "orderId", order.getId(),
-                "status", order.getPaymentStatus().name(),
+                "type", type,
+                "orderId", order.id(),
+                "status", status,
+                "paymentStatus", order.paymentStatus().name(),
+                "version", order.version(),
+                "order", order,
                 "timestamp", LocalDateTime.now().toString()
         );
-        
-        // 특정 주문에 대한 알림
-        messagingTemplate.convertAndSend("/topic/orders/" + order.getId(), notification);
+
+        clusterBus.publish(guestTopic(deptSlug, order.id()), notification);
     }
 
     /**
@@ -89,7 +121,86 @@ public class NotificationService {
                 "timestamp", LocalDateTime.now().toString()
         );
         
-        messagingTemplate.convertAndSend("/topic/" + deptSlug + "/kitchen", notification);
+        clusterBus.publish("/topic/" + deptSlug + "/kitchen", notification);
+    }
+
+    /**
+     * 일괄 변경 알림 (관리자 화면용, 주문 수와 관계없이 1건)
+     */
+    public void notifyOrdersBulkChanged(String deptSlug, List<Order> orders) {
+        log.info("Sending bulk order change notification: dept={} count={}", deptSlug, orders.size());
+
+        String timestamp = LocalDateTime.now().toString();
+        List<OrderNotification> changes = orders.stream()
+                .map(order -> new OrderNotification(
+                        "ORDER_STATUS_CHANGED",
+                        order.getId(),
+                        order.getTotalPrice(),
+                        order.getStatus().name(),
+                        order.getPaymentStatus().name(),
+                        timestamp))
+                .toList();
+
+        Map<String, Object> notification = Map.of(
+                "type", "ORDERS_BULK_CHANGED",
+                "orders", changes,
+                "timestamp", timestamp
+        );
+
+        clusterBus.publish("/topic/" + deptSlug + "/orders", notification);
+    }
+
+    /**
+     * 주방용 일괄 알림 (주문 수와 관계없이 1건)
+     */
+    public void notifyKitchenBulk(String deptSlug, List<Order> orders, String action) {
+        log.info("Sending bulk kitchen notification: dept={} count={} action={}",
+                deptSlug, orders.size(), action);
+
+        Map<String, Object> notification = Map.of(
+                "type", action,
+                "orderIds", orders.stream().map(Order::getId).toList(),
+                "timestamp", LocalDateTime.now().toString()
+        );
+
+        clusterBus.publish("/topic/" + deptSlug + "/kitchen", notification);
+    }
+
+    /**
+     * 메뉴 변경 알림 (품절/재고) - 손님 메뉴 화면과 관리자 화면 모두 구독
+     */
+    public void notifyMenuUpdated(String deptSlug, MenuDto menu) {
+        log.info("Sending menu updated notification: dept={} menuId={} soldOut={} stock={}",
+                deptSlug, menu.id(), menu.soldOut(), menu.stock());
+
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("type", "MENU_UPDATED");
+        notification.put("menuId", menu.id());
+        notification.put("soldOut", menu.soldOut());
+        notification.put("stock", menu.stock());
+        notification.put("menu", menu);
+        notification.put("timestamp", LocalDateTime.now().toString());
+
+        clusterBus.publish("/topic/" + deptSlug + "/menus", notification);
+    }
+
+    /**
+     * 세션 종료 알림 (관리자 화면용, 세션 수와 관계없이 1건)
+     *
+     * @param reason IDLE = 활동이 없어 자동 종료
+     */
+    public void notifySessionsClosed(String deptSlug, List<Long> sessionIds, String reason) {
+        log.info("Sending sessions closed notification: dept={} count={} reason={}",
+                deptSlug, sessionIds.size(), reason);
+
+        Map<String, Object> notification = Map.of(
+                "type", "SESSIONS_CLOSED",
+                "sessionIds", sessionIds,
+                "reason", reason,
+                "timestamp", LocalDateTime.now().toString()
+        );
+
+        clusterBus.publish("/topic/" + deptSlug + "/sessions", notification);
     }
 
     public record OrderNotification(
@@ -1,9 +1,11 @@
 package com.kupub.api.notification;
 
+import com.kupub.api.config.AsyncConfig;
 import com.kupub.api.order.entity.Order;
 import com.kupub.api.order.entity.OrderItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.format.DateTimeFormatter;
@@ -62,6 +64,28 @@ public class ReceiptService {
         return smsService.sendSms(order.getDepartmentId(), phoneNumber, message);
     }
 
+    /**
+     * 결제 완료 알림 전송 (비동기)
+     * - 결제 확인 시 요청 스레드를 SMS 발송으로 붙잡지 않도록 별도 스레드에서 순차 전송
+     */
+    @Async(AsyncConfig.RECEIPT_EXECUTOR)
+    public void sendPaymentConfirmations(List<Order> orders) {
+        int sent = 0;
+        for (Order order : orders) {
+            if (order.getGuestPhone() == null || order.getGuestPhone().isBlank()) {
+                continue;
+            }
+            try {
+                if (sendPaymentConfirmation(order, order.getGuestPhone())) {
+                    sent++;
+                }
+            } catch (Exception e) {
+                log.error("Failed to send payment receipt: orderId={}", order.getId(), e);
+            }
+        }
+        log.info("Payment receipts sent: requested={} sent={}", orders.size(), sent);
+    }
+
     /**
      * 주문 완료 알림 전송
      */
@@ -5,12 +5,16 @@ import com.kupub.api.department.dto.settings.SmsSettings;
 import com.kupub.api.department.service.DepartmentSettingsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 /**
  * SMS 전송 서비스
@@ -19,6 +23,9 @@ import java.nio.charset.StandardCharsets;
  * 학과 관리자가 자신의 알리고 계정을 설정하면 해당 계정으로 SMS가 발송됩니다.
  * 
  * 알리고 (https://smartsms.aligo.in) - 건당 약 8.4원
+ *
+ * 알리고 응답이 느려도 요청 스레드가 무한정 묶이지 않도록 연결/응답 타임아웃을 둡니다.
+ * (java.net.http.HttpClient는 가상 스레드에서 블로킹해도 캐리어 스레드를 점유하지 않음)
  */
 @Service
 public class SmsService {
@@ -26,9 +33,20 @@ public class SmsService {
     private static final Logger log = LoggerFactory.getLogger(SmsService.class);
 
     private final DepartmentSettingsService settingsService;
-
-    public SmsService(DepartmentSettingsService settingsService) {
+    private final HttpClient httpClient;
+    private final URI aligoSendUri;
+    private final Duration requestTimeout;
+
+    public SmsService(DepartmentSettingsService settingsService,
+                      @Value("${sms.aligo-url:https://apis.aligo.in/send/}") URI aligoSendUri,
+                      @Value("${sms.connect-timeout:PT3S}") Duration connectTimeout,
+                      @Value("${sms.request-timeout:PT5S}") Duration requestTimeout) {
         this.settingsService = settingsService;
+        this.aligoSendUri = aligoSendUri;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        this.requestTimeout = requestTimeout;
     }
 
     /**
@@ -63,6 +81,10 @@ public class SmsService {
 
         try {
             return sendViaAligo(normalizedPhone, message, smsSettings);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("SMS send interrupted: {}", phoneNumber);
+            return false;
         } catch (Exception e) {
             log.error("Failed to send SMS to {}: {}", phoneNumber, e.getMessage());
             return false;
@@ -73,8 +95,6 @@ public class SmsService {
      * 알리고 API를 통한 SMS 전송
      */
     private boolean sendViaAligo(String phoneNumber, String message, SmsSettings settings) throws Exception {
-        String apiUrl = "https://apis.aligo.in/send/";
-        
         // 메시지 길이에 따라 SMS/LMS 결정
         String msgType = message.getBytes(StandardCharsets.UTF_8).length > 90 ? "LMS" : "SMS";
 
@@ -84,21 +104,18 @@ public class SmsService {
             settings.aligoUserId(), 
             settings.senderNumber(), 
             phoneNumber,
-            java.net.URLEncoder.encode(message, StandardCharsets.UTF_8), 
+            URLEncoder.encode(message, StandardCharsets.UTF_8), 
             msgType
         );
 
-        URL url = new URL(apiUrl);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("POST");
-        conn.setDoOutput(true);
-        conn.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
-
-        try (OutputStream os = conn.getOutputStream()) {
-            os.write(params.getBytes(StandardCharsets.UTF_8));
-        }
+        HttpRequest request = HttpRequest.newBuilder(aligoSendUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(params, StandardCharsets.UTF_8))
+                .build();
 
-        int responseCode = conn.getResponseCode();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        int responseCode = response.statusCode();
         if (responseCode == 200) {
             log.info("SMS sent successfully to {} via dept settings", phoneNumber);
             return true;
@@ -0,0 +1,34 @@
+package com.kupub.api.notification.cluster;
+
+/**
+ * STOMP 토픽 발행 (서버 여러 대 대응)
+ *
+ * 모든 /topic 알림은 SimpMessagingTemplate 대신 이 인터페이스로 보냅니다.
+ * - local: 같은 JVM의 simple broker로만 전달 (서버 1대, 테스트용)
+ * - jdbc: 로컬 전달 + cluster_messages 테이블에 기록 → 다른 서버가 자기 구독자가 있는 채널만 가져가서 전달
+ *
+ * 채널 = /topic 다음 첫 경로 (/topic/{dept}/** 의 학과 slug, 손님 주문 토픽 /topic/{dept}/orders/{id} 포함)
+ */
+public interface ClusterBus {
+
+    String TOPIC_PREFIX = "/topic/";
+
+    /**
+     * 토픽으로 메시지 발행 (이 서버 구독자 + 다른 서버 구독자)
+     */
+    void publish(String destination, Object payload);
+
+    /**
+     * 목적지의 채널 (라우팅 키), /topic 이 아니면 null
+     */
+    static String channelOf(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        int end = destination.indexOf('/', TOPIC_PREFIX.length());
+        String channel = end < 0
+                ? destination.substring(TOPIC_PREFIX.length())
+                : destination.substring(TOPIC_PREFIX.length(), end);
+        return channel.isEmpty() ? null : channel;
+    }
+}
@@ -0,0 +1,89 @@
+package com.kupub.api.notification.cluster;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 서버 간 전달용 STOMP 메시지 (JdbcClusterBus)
+ * - 짧은 보관 기간 후 삭제되는 전달용 로그
+ */
+@Entity
+@Table(name = "cluster_messages", indexes = {
+        @Index(name = "idx_cluster_messages_channel_id", columnList = "channel, id"),
+        @Index(name = "idx_cluster_messages_created", columnList = "created_at")
+})
+public class ClusterMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 발행한 서버 (자기 메시지는 다시 가져가지 않음)
+     */
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    /**
+     * 라우팅 키 (학과 slug 또는 orders)
+     */
+    @Column(nullable = false, length = 100)
+    private String channel;
+
+    @Column(nullable = false)
+    private String destination;
+
+    /**
+     * 메시지 본문 (JSON)
+     */
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // ========== Lifecycle ==========
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // ========== Constructors ==========
+
+    public ClusterMessage() {
+    }
+
+    public ClusterMessage(String nodeId, String channel, String destination, String payload) {
+        this.nodeId = nodeId;
+        this.channel = channel;
+        this.destination = destination;
+        this.payload = payload;
+    }
+
+    // ========== Getters ==========
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
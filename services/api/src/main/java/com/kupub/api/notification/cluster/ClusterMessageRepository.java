@@ -0,0 +1,40 @@
+package com.kupub.api.notification.cluster;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ClusterMessageRepository extends JpaRepository<ClusterMessage, Long> {
+
+    /**
+     * 다른 서버가 발행한 새 메시지 (구독 중인 채널만)
+     * - id 가 커서 이후인 메시지 + 늦게 커밋돼서 커서보다 작은 id로 들어온 최근 메시지
+     */
+    @Query("SELECT m FROM ClusterMessage m " +
+            "WHERE m.nodeId <> :nodeId AND m.channel IN :channels AND m.createdAt >= :notBefore " +
+            "AND (m.id > :cursor OR m.createdAt >= :settleFrom) " +
+            "ORDER BY m.id ASC")
+    List<ClusterMessage> findNew(@Param("nodeId") String nodeId,
+                                 @Param("channels") Collection<String> channels,
+                                 @Param("cursor") long cursor,
+                                 @Param("settleFrom") LocalDateTime settleFrom,
+                                 @Param("notBefore") LocalDateTime notBefore,
+                                 Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM ClusterMessage m")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ClusterMessage m WHERE m.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
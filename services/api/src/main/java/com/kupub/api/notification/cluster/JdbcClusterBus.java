@@ -0,0 +1,167 @@
+package com.kupub.api.notification.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.datasource.TenantContext;
+import com.kupub.api.tenant.service.TenantDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DB 기반 ClusterBus (app.cluster.bus=jdbc)
+ *
+ * 별도 브로커 없이 기존 DB만으로 서버 여러 대에 STOMP 메시지를 퍼뜨립니다.
+ * - 발행: 이 서버 구독자에게 바로 전달 + cluster_messages 에 기록 (주문 트랜잭션과 함께 커밋)
+ * - 수신: 주기적으로 다른 서버가 기록한 메시지 중 이 서버에 구독자가 있는 채널(학과)만 가져와서 전달
+ *   → 서버마다 자기 WebSocket 연결이 있는 학과 메시지만 처리하므로 서버를 늘리면 연결 수용량도 늘어남
+ * - 늦게 커밋된 메시지(커서보다 작은 id)는 settle 구간 동안 다시 훑어서 놓치지 않음 (중복은 id로 제거)
+ * - max-age 보다 오래된 메시지는 전달하지 않음 (새로 구독한 화면에 지난 알림이 몰려오지 않도록)
+ * - 학과 DB를 나눠 쓰면 메시지는 주문과 같은 학과 DB에 기록되므로 DB마다 커서를 두고 가져옴
+ *   (ID는 DB마다 겹치지 않으므로 중복 제거는 함께 함)
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster.bus", havingValue = "jdbc")
+public class JdbcClusterBus implements ClusterBus {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcClusterBus.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterMessageRepository repository;
+    private final TenantDirectory tenantDirectory;
+    private final TransactionTemplate writeTx;
+    private final StompSubscriptionTracker subscriptions;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final Duration settle;
+    private final Duration maxAge;
+    private final Duration retention;
+    private final int batchSize;
+
+    /**
+     * 아래 상태는 poll() 스레드에서만 사용
+     */
+    private final Map<String, Long> cursors = new HashMap<>();
+    private final Map<String, LocalDateTime> startedAt = new HashMap<>();
+    private final Map<Long, LocalDateTime> delivered = new LinkedHashMap<>();
+
+    public JdbcClusterBus(
+            SimpMessagingTemplate messagingTemplate,
+            ClusterMessageRepository repository,
+            TenantDirectory tenantDirectory,
+            PlatformTransactionManager transactionManager,
+            StompSubscriptionTracker subscriptions,
+            ObjectMapper objectMapper,
+            @Value("${app.cluster.node-id:}") String nodeId,
+            @Value("${app.cluster.settle:PT2S}") Duration settle,
+            @Value("${app.cluster.max-age:PT10S}") Duration maxAge,
+            @Value("${app.cluster.retention:PT5M}") Duration retention,
+            @Value("${app.cluster.batch-size:500}") int batchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.repository = repository;
+        this.tenantDirectory = tenantDirectory;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.subscriptions = subscriptions;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.settle = settle;
+        this.maxAge = maxAge;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        log.info("Cluster bus: jdbc nodeId={}", this.nodeId);
+    }
+
+    @Override
+    public void publish(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+
+        String channel = ClusterBus.channelOf(destination);
+        if (channel == null) {
+            return;
+        }
+        try {
+            repository.save(new ClusterMessage(nodeId, channel, destination, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cluster message", e);
+        }
+    }
+
+    /**
+     * 다른 서버 메시지 가져와서 이 서버 구독자에게 전달
+     *
+     * 읽기 복제본을 쓰더라도 지연 없이 원본에서 읽도록 쓰기 트랜잭션으로 실행
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.poll-interval-ms:100}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> channels = subscriptions.channels();
+        tenantDirectory.forEachShard(() -> writeTx.executeWithoutResult(status -> poll(TenantContext.current(), channels, now)));
+
+        LocalDateTime forgetBefore = now.minus(settle).minus(settle);
+        delivered.values().removeIf(createdAt -> createdAt.isBefore(forgetBefore));
+    }
+
+    /**
+     * 보관 기간이 지난 메시지 삭제 (1분 주기)
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.purge-interval-ms:60000}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        AtomicInteger deleted = new AtomicInteger();
+        tenantDirectory.forEachShard(() -> deleted.addAndGet(repository.deleteOlderThan(before)));
+        if (deleted.get() > 0) {
+            log.debug("Purged {} cluster messages", deleted);
+        }
+    }
+
+    // ========== Private Methods ==========
+
+    private void poll(String shard, Set<String> channels, LocalDateTime now) {
+        Long cursor = cursors.get(shard);
+        if (cursor == null) {
+            cursor = repository.findMaxId();
+            cursors.put(shard, cursor);
+            startedAt.put(shard, now);
+        }
+        if (channels.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime notBefore = later(startedAt.get(shard), now.minus(maxAge));
+        List<ClusterMessage> messages = repository.findNew(
+                nodeId, channels, cursor, now.minus(settle), notBefore, PageRequest.of(0, batchSize));
+
+        for (ClusterMessage message : messages) {
+            if (delivered.putIfAbsent(message.getId(), message.getCreatedAt()) != null) {
+                continue;
+            }
+            cursors.merge(shard, message.getId(), Math::max);
+            try {
+                messagingTemplate.convertAndSend(message.getDestination(), objectMapper.readTree(message.getPayload()));
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("Failed to relay cluster message: id={} destination={}", message.getId(), message.getDestination(), e);
+            }
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
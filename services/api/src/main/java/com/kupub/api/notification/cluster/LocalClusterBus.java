@@ -0,0 +1,25 @@
+package com.kupub.api.notification.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버용 ClusterBus (기본값)
+ * - 같은 JVM의 simple broker로만 전달
+ */
+@Component
+@ConditionalOnProperty(name = "app.cluster.bus", havingValue = "local", matchIfMissing = true)
+public class LocalClusterBus implements ClusterBus {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public LocalClusterBus(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void publish(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+}
@@ -0,0 +1,90 @@
+package com.kupub.api.notification.cluster;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버에 연결된 STOMP 구독 현황 (채널별 구독 수)
+ * - JdbcClusterBus가 구독자가 있는 채널의 메시지만 가져가도록 사용
+ * - STOMP 외에 서버 안에서 토픽을 기다리는 곳(주문 변경 Long polling)은 retain/release로 등록
+ */
+@Component
+public class StompSubscriptionTracker {
+
+    /**
+     * 세션 ID → (구독 ID → 채널)
+     */
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 채널 → 구독 수
+     */
+    private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String channel = ClusterBus.channelOf(accessor.getDestination());
+        if (channel == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String previous = sessions
+                .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), channel);
+        if (previous != null) {
+            decrement(previous);
+        }
+        counts.merge(channel, 1, Integer::sum);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String channel = subscriptions.remove(accessor.getSubscriptionId());
+        if (channel != null) {
+            decrement(channel);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    /**
+     * STOMP 구독 없이 채널 메시지가 필요할 때 등록 (release와 짝으로 호출)
+     */
+    public void retain(String channel) {
+        counts.merge(channel, 1, Integer::sum);
+    }
+
+    public void release(String channel) {
+        decrement(channel);
+    }
+
+    /**
+     * 구독자가 1명 이상인 채널
+     */
+    public Set<String> channels() {
+        return Set.copyOf(counts.keySet());
+    }
+
+    private void decrement(String channel) {
+        counts.computeIfPresent(channel, (key, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -1,8 +1,12 @@
 package com.kupub.api.order.controller;
 
 import com.kupub.api.common.dto.ApiResponse;
+import com.kupub.api.common.idempotency.IdempotencyService;
+import com.kupub.api.common.idempotency.IdempotentResult;
 import com.kupub.api.department.service.DepartmentService;
 import com.kupub.api.notification.ReceiptService;
+import com.kupub.api.order.dto.OrderBulkUpdateRequest;
+import com.kupub.api.order.dto.OrderBulkUpdateResponse;
 import com.kupub.api.order.dto.OrderDto;
 import com.kupub.api.order.dto.OrderUpdateRequest;
 import com.kupub.api.order.entity.Order;
@@ -28,13 +32,16 @@ public class AdminOrderController {
     private final OrderService orderService;
     private final DepartmentService departmentService;
     private final ReceiptService receiptService;
+    private final IdempotencyService idempotencyService;
 
     public AdminOrderController(OrderService orderService,
                                 DepartmentService departmentService,
-                                ReceiptService receiptService) {
+                                ReceiptService receiptService,
+                                IdempotencyService idempotencyService) {
         this.orderService = orderService;
         this.departmentService = departmentService;
         this.receiptService = receiptService;
+        this.idempotencyService = idempotencyService;
     }
 
     @GetMapping
@@ -45,12 +52,7 @@ public class AdminOrderController {
         log.debug("GET /api/{}/admin/orders status={}", deptSlug, status);
 
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        
-        List<Order> orders = status != null
-                ? orderService.getOrdersByStatus(deptId, status)
-                : orderService.getOrdersByDepartment(deptId);
-
-        List<OrderDto> dtos = orderService.toOrderDtos(orders);
+        List<OrderDto> dtos = orderService.getOrderDtos(deptId, status);
 
         return ResponseEntity.ok(ApiResponse.ok(dtos));
     }
@@ -67,28 +69,50 @@ public class AdminOrderController {
         return ResponseEntity.ok(ApiResponse.ok(dto));
     }
 
+    /**
+     * 주문/결제 상태 변경
+     * - Idempotency-Key 헤더가 있으면 재시도 시 상태 변경·알림·자동 SMS를 다시 실행하지 않음
+     */
     @PatchMapping("/{id}")
     public ResponseEntity<ApiResponse<OrderDto>> updateOrder(
             @PathVariable("dept") String deptSlug,
             @PathVariable("id") Long orderId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody OrderUpdateRequest request) {
 
         log.debug("PATCH /api/{}/admin/orders/{}", deptSlug, orderId);
 
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        Order order = orderService.getOrderForDepartment(deptId, orderId);
+        Order current = orderService.getOrderForDepartment(deptId, orderId);
 
-        if (request.status() != null) {
-            order = orderService.updateStatus(orderId, request.status(), deptSlug);
-        }
-        if (request.paymentStatus() != null) {
-            order = orderService.updatePaymentStatus(orderId, request.paymentStatus(), deptSlug);
-        }
+        IdempotentResult<OrderDto> result = idempotencyService.execute(
+                "orders:update:" + deptId + ":" + orderId, idempotencyKey, request, OrderDto.class, () -> {
+                    Order order = orderService.updateOrder(
+                            current.getId(), request.status(), request.paymentStatus(), request.version(), deptSlug);
 
-        log.info("Order updated: dept={} orderId={} status={} paymentStatus={}",
-                deptSlug, orderId, order.getStatus(), order.getPaymentStatus());
+                    log.info("Order updated: dept={} orderId={} status={} paymentStatus={}",
+                            deptSlug, orderId, order.getStatus(), order.getPaymentStatus());
+                    return orderService.toOrderDto(order);
+                });
+
+        return result.toResponse();
+    }
+
+    /**
+     * 주문 일괄 상태 변경
+     * - 여러 주문의 결제 확인 / 완료 처리를 한 번에 (한 트랜잭션)
+     */
+    @PatchMapping("/bulk")
+    public ResponseEntity<ApiResponse<OrderBulkUpdateResponse>> bulkUpdateOrders(
+            @PathVariable("dept") String deptSlug,
+            @Valid @RequestBody OrderBulkUpdateRequest request) {
+
+        log.debug("PATCH /api/{}/admin/orders/bulk count={}", deptSlug, request.orderIds().size());
+
+        Long deptId = departmentService.getBySlug(deptSlug).getId();
+        OrderBulkUpdateResponse response = orderService.bulkUpdate(deptId, deptSlug, request);
 
-        return ResponseEntity.ok(ApiResponse.ok(orderService.toOrderDto(order)));
+        return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
     /**
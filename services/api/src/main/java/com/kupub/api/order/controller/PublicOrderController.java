@@ -1,16 +1,23 @@
 package com.kupub.api.order.controller;
 
 import com.kupub.api.common.dto.ApiResponse;
+import com.kupub.api.common.idempotency.IdempotencyService;
+import com.kupub.api.common.idempotency.IdempotentResult;
 import com.kupub.api.department.service.DepartmentService;
 import com.kupub.api.order.dto.OrderCreateRequest;
 import com.kupub.api.order.dto.OrderDto;
+import com.kupub.api.order.dto.OrderQuoteDto;
+import com.kupub.api.order.dto.OrderQuoteRequest;
 import com.kupub.api.order.entity.Order;
 import com.kupub.api.order.service.OrderService;
+import com.kupub.api.order.service.OrderWatchService;
+import com.kupub.api.order.service.PricingService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequestMapping("/api/{dept}/orders")
@@ -21,26 +28,63 @@ public class PublicOrderController {
 
     private final OrderService orderService;
     private final DepartmentService departmentService;
+    private final IdempotencyService idempotencyService;
+    private final OrderWatchService orderWatchService;
+    private final PricingService pricingService;
 
     public PublicOrderController(OrderService orderService,
-                                 DepartmentService departmentService) {
+                                 DepartmentService departmentService,
+                                 IdempotencyService idempotencyService,
+                                 OrderWatchService orderWatchService,
+                                 PricingService pricingService) {
         this.orderService = orderService;
         this.departmentService = departmentService;
+        this.idempotencyService = idempotencyService;
+        this.orderWatchService = orderWatchService;
+        this.pricingService = pricingService;
     }
 
+    /**
+     * 주문 생성
+     * - Idempotency-Key 헤더가 있으면 재시도 시 최초 생성된 주문을 그대로 반환 (중복 주문 방지)
+     */
     @PostMapping
     public ResponseEntity<ApiResponse<OrderDto>> createOrder(
             @PathVariable("dept") String deptSlug,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody OrderCreateRequest request) {
 
         log.debug("POST /api/{}/orders", deptSlug);
 
         Long deptId = departmentService.getActiveBySlug(deptSlug).getId();
-        Order order = orderService.createOrder(deptId, deptSlug, request);
 
-        log.info("Order created: dept={} orderId={} total={}", deptSlug, order.getId(), order.getTotalPrice());
+        IdempotentResult<OrderDto> result = idempotencyService.execute(
+                "orders:create:" + deptId, idempotencyKey, request, OrderDto.class, () -> {
+                    Order order = orderService.createOrder(deptId, deptSlug, request);
+                    log.info("Order created: dept={} orderId={} total={}",
+                            deptSlug, order.getId(), order.getTotalPrice());
+                    return orderService.toOrderDto(order);
+                });
+
+        if (result.replayed()) {
+            log.info("Order create replayed: dept={} orderId={} key={}", deptSlug, result.value().id(), idempotencyKey);
+        }
+
+        return result.toResponse();
+    }
+
+    /**
+     * 주문 금액 미리보기 (장바구니) - 주문 생성과 같은 규칙으로 계산만 하고 저장하지 않음
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<ApiResponse<OrderQuoteDto>> quote(
+            @PathVariable("dept") String deptSlug,
+            @Valid @RequestBody OrderQuoteRequest request) {
+
+        log.debug("POST /api/{}/orders/quote", deptSlug);
 
-        return ResponseEntity.ok(ApiResponse.ok(orderService.toOrderDto(order)));
+        Long deptId = departmentService.getActiveBySlug(deptSlug).getId();
+        return ResponseEntity.ok(ApiResponse.ok(pricingService.quote(deptId, request)));
     }
 
     /**
@@ -55,14 +99,23 @@ public class PublicOrderController {
 
         // 학과 확인
         Long deptId = departmentService.getActiveBySlug(deptSlug).getId();
-        Order order = orderService.getOrder(orderId);
+        return ResponseEntity.ok(ApiResponse.ok(orderService.getOrderDtoForDepartment(deptId, orderId)));
+    }
 
-        // 해당 학과의 주문인지 확인
-        if (!order.getDepartmentId().equals(deptId)) {
-            return ResponseEntity.notFound().build();
-        }
+    /**
+     * 주문 변경 대기 (Public, Long polling) - 결제 확인 대기용
+     * - version 이 현재 버전과 다르면 바로 최신 주문 반환
+     * - 같으면 상태/결제 상태가 바뀔 때까지 기다렸다가 반환, 제한 시간 안에 변경이 없으면 304
+     */
+    @GetMapping("/{orderId}/updates")
+    public DeferredResult<ResponseEntity<ApiResponse<OrderDto>>> awaitOrderUpdate(
+            @PathVariable("dept") String deptSlug,
+            @PathVariable("orderId") Long orderId,
+            @RequestParam(value = "version", required = false) Long version) {
+
+        log.debug("GET /api/{}/orders/{}/updates version={}", deptSlug, orderId, version);
 
-        return ResponseEntity.ok(ApiResponse.ok(orderService.toOrderDto(order)));
+        Long deptId = departmentService.getActiveBySlug(deptSlug).getId();
+        return orderWatchService.await(deptId, deptSlug, orderId, version);
     }
 }
-
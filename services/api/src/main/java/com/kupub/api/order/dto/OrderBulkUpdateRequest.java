@@ -0,0 +1,31 @@
+package com.kupub.api.order.dto;
+
+import com.kupub.api.order.entity.OrderStatus;
+import com.kupub.api.order.entity.PaymentStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 주문 일괄 상태 변경 요청 DTO
+ */
+public record OrderBulkUpdateRequest(
+        /**
+         * 대상 주문 ID 목록
+         */
+        @NotEmpty(message = "주문 ID 목록은 필수입니다")
+        @Size(max = 200, message = "한 번에 최대 200건까지 변경할 수 있습니다")
+        List<Long> orderIds,
+
+        /**
+         * 변경할 주문 상태 (선택)
+         */
+        OrderStatus status,
+
+        /**
+         * 변경할 결제 상태 (선택)
+         */
+        PaymentStatus paymentStatus
+) {
+}
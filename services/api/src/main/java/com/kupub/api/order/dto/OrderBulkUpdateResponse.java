@@ -0,0 +1,13 @@
+package com.kupub.api.order.dto;
+
+import java.util.List;
+
+/**
+ * 주문 일괄 상태 변경 결과 DTO
+ */
+public record OrderBulkUpdateResponse(
+        List<Long> updatedIds,      // 실제로 변경된 주문
+        List<Long> skippedIds,      // 이미 같은 상태이거나 허용되지 않은 전이, 다른 학과/없는 주문
+        List<OrderDto> orders       // 요청한 주문의 최신 상태 (학과 소속 주문만)
+) {
+}
@@ -27,8 +27,25 @@ public record OrderDto(
         String note,
         List<OrderItemDto> items,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version                // 낙관적 잠금 버전 (상태 변경 요청 시 그대로 전달)
 ) {
+    /**
+     * 목록 조회 프로젝션용 (OrderRepository JPQL constructor expression, 아이템은 withItems 로 채움)
+     */
+    public OrderDto(Long id, Long departmentId, Long sessionId, Long tableId, String tableCode, Long reservationId,
+                    Integer subtotal, Integer tableFee, Integer corkage, Integer discount, Integer totalPrice,
+                    OrderStatus status, PaymentStatus paymentStatus, String note,
+                    LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(id, departmentId, sessionId, tableId, tableCode, reservationId, subtotal, tableFee, corkage, discount,
+                totalPrice, status, paymentStatus, note, List.of(), createdAt, updatedAt, version);
+    }
+
+    public OrderDto withItems(List<OrderItemDto> items) {
+        return new OrderDto(id, departmentId, sessionId, tableId, tableCode, reservationId, subtotal, tableFee,
+                corkage, discount, totalPrice, status, paymentStatus, note, items, createdAt, updatedAt, version);
+    }
+
     public static OrderDto from(Order order, List<OrderItemDto> items) {
         return from(order, items, null);
     }
@@ -51,7 +68,8 @@ public record OrderDto(
                 order.getNote(),
                 items,
                 order.getCreatedAt(),
-                order.getUpdatedAt()
+                order.getUpdatedAt(),
+                order.getVersion()
         );
     }
 }
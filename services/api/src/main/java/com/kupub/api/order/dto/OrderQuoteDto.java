@@ -0,0 +1,27 @@
+package com.kupub.api.order.dto;
+
+import java.util.List;
+
+/**
+ * 주문 금액 미리보기 DTO (주문 생성 시와 같은 규칙으로 계산, 저장하지 않음)
+ */
+public record OrderQuoteDto(
+        List<Line> items,
+        Integer subtotal,      // 메뉴 소계
+        Integer tableFee,      // 테이블비
+        Integer corkage,       // 콜키지
+        Integer discount,      // 할인 (음수)
+        Integer total          // 총액
+) {
+    /**
+     * 아이템별 금액
+     */
+    public record Line(
+            Long menuId,
+            String name,
+            Integer price,
+            Integer quantity,
+            Integer subtotal
+    ) {
+    }
+}
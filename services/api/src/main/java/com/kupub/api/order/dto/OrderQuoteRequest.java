@@ -0,0 +1,29 @@
+package com.kupub.api.order.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * 주문 금액 미리보기 요청 DTO (장바구니)
+ */
+public record OrderQuoteRequest(
+        /**
+         * 테이블비 포함 여부 (선택, 기본 true; 추가 주문이면 false)
+         */
+        Boolean includeTableFee,
+
+        /**
+         * 할인 코드 (선택)
+         */
+        String discountCode,
+
+        /**
+         * 주문 아이템 목록
+         */
+        @NotEmpty(message = "주문 아이템은 필수입니다")
+        @Valid
+        List<OrderItemRequest> items
+) {
+}
@@ -9,7 +9,8 @@ import com.kupub.api.order.entity.PaymentStatus;
 public record OrderUpdateRequest(
         OrderStatus status,
         PaymentStatus paymentStatus,
-        String note
+        String note,
+        Long version                // 마지막으로 조회한 주문 버전 (선택, 다르면 409)
 ) {
 }
 
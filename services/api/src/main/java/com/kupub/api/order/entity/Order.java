@@ -93,6 +93,14 @@ public class Order {
     @Column(length = 20)
     private String guestPhone;
 
+    /**
+     * 낙관적 잠금 버전
+     * - 엔티티 저장 시 JPA가 증가, 조건부 UPDATE(OrderRepository)에서는 직접 증가
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -236,6 +244,10 @@ public class Order {
         this.guestPhone = guestPhone;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -16,6 +16,12 @@ public class OrderItem {
     @Column(nullable = false)
     private Long orderId;
 
+    /**
+     * 학과 ID (주문과 같음, 학과별 조회/파티션용)
+     */
+    @Column(nullable = false)
+    private Long departmentId;
+
     /**
      * 메뉴 ID (null이면 수기 메뉴)
      */
@@ -58,6 +64,14 @@ public class OrderItem {
         this.orderId = orderId;
     }
 
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+
     public Long getMenuId() {
         return menuId;
     }
@@ -1,7 +1,16 @@
 package com.kupub.api.order.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 주문 상태 (주방/서빙 기준)
+ *
+ * 허용 전이:
+ * - PENDING   → PREPARING, DONE, CANCELLED
+ * - PREPARING → PENDING(되돌리기), DONE, CANCELLED
+ * - DONE      → PREPARING(되돌리기), CANCELLED
+ * - CANCELLED → (종료 상태)
  */
 public enum OrderStatus {
     /**
@@ -22,6 +31,31 @@ public enum OrderStatus {
     /**
      * 취소됨
      */
-    CANCELLED
+    CANCELLED;
+
+    /**
+     * 다음 상태로 전이 가능한지
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case PENDING -> next == PREPARING || next == DONE || next == CANCELLED;
+            case PREPARING -> next == PENDING || next == DONE || next == CANCELLED;
+            case DONE -> next == PREPARING || next == CANCELLED;
+            case CANCELLED -> false;
+        };
+    }
+
+    /**
+     * 이 상태로 전이할 수 있는 이전 상태 목록 (조건부 UPDATE의 WHERE 절에 사용)
+     */
+    public Set<OrderStatus> allowedSources() {
+        Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : values()) {
+            if (status.canTransitionTo(this)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
 
@@ -1,7 +1,16 @@
 package com.kupub.api.order.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 결제 상태
+ *
+ * 허용 전이:
+ * - PENDING      → CONFIRMED, FAILED, NOT_REQUIRED
+ * - CONFIRMED    → PENDING(되돌리기), FAILED(환불)
+ * - FAILED       → PENDING, CONFIRMED
+ * - NOT_REQUIRED → PENDING, CONFIRMED
  */
 public enum PaymentStatus {
     /**
@@ -22,6 +31,30 @@ public enum PaymentStatus {
     /**
      * 결제 불필요 (현금 후불 등)
      */
-    NOT_REQUIRED
+    NOT_REQUIRED;
+
+    /**
+     * 다음 상태로 전이 가능한지
+     */
+    public boolean canTransitionTo(PaymentStatus next) {
+        return switch (this) {
+            case PENDING -> next != PENDING;
+            case CONFIRMED -> next == PENDING || next == FAILED;
+            case FAILED, NOT_REQUIRED -> next == PENDING || next == CONFIRMED;
+        };
+    }
+
+    /**
+     * 이 상태로 전이할 수 있는 이전 상태 목록 (조건부 UPDATE의 WHERE 절에 사용)
+     */
+    public Set<PaymentStatus> allowedSources() {
+        Set<PaymentStatus> sources = EnumSet.noneOf(PaymentStatus.class);
+        for (PaymentStatus status : values()) {
+            if (status.canTransitionTo(this)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
 
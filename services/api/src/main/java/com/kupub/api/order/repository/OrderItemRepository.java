@@ -1,7 +1,10 @@
 package com.kupub.api.order.repository;
 
+import com.kupub.api.order.dto.OrderItemDto;
 import com.kupub.api.order.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +16,26 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     List<OrderItem> findByOrderIdIn(List<Long> orderIds);
 
+    /**
+     * 학과 주문들의 아이템 (학과 조건이 있어야 학과 파티션만 읽음)
+     */
+    List<OrderItem> findByDepartmentIdAndOrderIdIn(Long departmentId, List<Long> orderIds);
+
+    /**
+     * 학과 주문들의 아이템 (응답용 DTO 프로젝션)
+     */
+    @Query("""
+            SELECT new com.kupub.api.order.dto.OrderItemDto(
+                       i.id, i.orderId, i.menuId, i.name, i.price, i.quantity, i.price * i.quantity)
+              FROM OrderItem i
+             WHERE i.departmentId = :departmentId
+               AND i.orderId IN :orderIds
+            """)
+    List<OrderItemDto> findDtosByDepartmentIdAndOrderIdIn(@Param("departmentId") Long departmentId,
+                                                          @Param("orderIds") List<Long> orderIds);
+
     void deleteByOrderId(Long orderId);
+
+    void deleteByDepartmentId(Long departmentId);
 }
 
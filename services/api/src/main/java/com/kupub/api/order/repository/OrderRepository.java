@@ -1,25 +1,54 @@
 package com.kupub.api.order.repository;
 
+import com.kupub.api.order.dto.OrderDto;
 import com.kupub.api.order.entity.Order;
 import com.kupub.api.order.entity.OrderStatus;
 import com.kupub.api.order.entity.PaymentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
-     * 학과의 주문 목록 (최신순)
+     * 학과 소속 주문 단건 (다른 학과 주문이면 empty)
      */
-    List<Order> findByDepartmentIdOrderByCreatedAtDesc(Long departmentId);
+    Optional<Order> findByIdAndDepartmentId(Long id, Long departmentId);
+
+    // ========== 목록 조회 (DTO 프로젝션) ==========
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 쓰는 컬럼만 읽음, 테이블 코드는 같은 쿼리에서 조인
+
+    String ORDER_DTO = """
+            SELECT new com.kupub.api.order.dto.OrderDto(
+                       o.id, o.departmentId, o.sessionId, o.tableId, t.code, o.reservationId,
+                       o.subtotal, o.tableFee, o.corkage, o.discount, o.totalPrice,
+                       o.status, o.paymentStatus, o.note, o.createdAt, o.updatedAt, o.version)
+              FROM Order o
+              LEFT JOIN DepartmentTable t ON t.id = o.tableId
+            """;
+
+    /**
+     * 학과의 주문 목록 (최신순, 아이템 제외)
+     */
+    @Query(ORDER_DTO + " WHERE o.departmentId = :departmentId ORDER BY o.createdAt DESC")
+    List<OrderDto> findDtosByDepartmentId(@Param("departmentId") Long departmentId);
 
     /**
-     * 학과 + 주문상태로 조회
+     * 학과 + 주문상태로 조회 (최신순, 아이템 제외)
      */
-    List<Order> findByDepartmentIdAndStatusOrderByCreatedAtDesc(Long departmentId, OrderStatus status);
+    @Query(ORDER_DTO + " WHERE o.departmentId = :departmentId AND o.status = :status ORDER BY o.createdAt DESC")
+    List<OrderDto> findDtosByDepartmentIdAndStatus(@Param("departmentId") Long departmentId,
+                                                   @Param("status") OrderStatus status);
 
     /**
      * 학과 + 결제상태로 조회
@@ -31,11 +60,6 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     List<Order> findBySessionIdOrderByCreatedAtDesc(Long sessionId);
 
-    /**
-     * 세션에 주문 존재 여부
-     */
-    boolean existsBySessionId(Long sessionId);
-
     /**
      * 세션 주문 삭제
      */
@@ -51,6 +75,19 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     List<Order> findByReservationIdOrderByCreatedAtDesc(Long reservationId);
 
+    /**
+     * 학과 소속 주문 중 ID 목록에 해당하는 주문
+     */
+    List<Order> findByDepartmentIdAndIdInOrderByIdAsc(Long departmentId, Collection<Long> ids);
+
+    /**
+     * 학과 소속 주문 중 ID 목록에 해당하는 주문 (쓰기 잠금, 일괄 변경 전 상태 확인용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.departmentId = :departmentId AND o.id IN :ids ORDER BY o.id ASC")
+    List<Order> findForUpdateByDepartmentIdAndIdIn(@Param("departmentId") Long departmentId,
+                                                   @Param("ids") Collection<Long> ids);
+
     /**
      * 학과의 모든 주문 조회
      */
@@ -60,5 +97,139 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * 학과의 모든 주문 삭제
      */
     void deleteByDepartmentId(Long departmentId);
-}
 
+    // ========== 조건부 상태 전이 ==========
+    // 현재 상태가 허용된 이전 상태일 때만(+ 버전이 주어지면 버전까지 일치할 때만) 한 문장으로 변경.
+    // 반영된 행 수가 0이면 다른 스태프가 먼저 변경했거나 허용되지 않은 전이.
+
+    /**
+     * 주문 상태 전이
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o
+               SET o.status = :next, o.version = o.version + 1, o.updatedAt = :now
+             WHERE o.id = :id
+               AND o.status IN :sources
+               AND (:version IS NULL OR o.version = :version)
+            """)
+    int transitionStatus(@Param("id") Long id,
+                         @Param("next") OrderStatus next,
+                         @Param("sources") Collection<OrderStatus> sources,
+                         @Param("version") Long version,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 상태 전이
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o
+               SET o.paymentStatus = :next, o.version = o.version + 1, o.updatedAt = :now
+             WHERE o.id = :id
+               AND o.paymentStatus IN :sources
+               AND (:version IS NULL OR o.version = :version)
+            """)
+    int transitionPaymentStatus(@Param("id") Long id,
+                                @Param("next") PaymentStatus next,
+                                @Param("sources") Collection<PaymentStatus> sources,
+                                @Param("version") Long version,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 확인 (대기 중인 주문은 같은 문장에서 준비 중으로 전환)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o
+               SET o.paymentStatus = :confirmed,
+                   o.status = CASE WHEN o.status = :pending THEN :preparing ELSE o.status END,
+                   o.version = o.version + 1, o.updatedAt = :now
+             WHERE o.id = :id
+               AND o.paymentStatus IN :sources
+               AND (:version IS NULL OR o.version = :version)
+            """)
+    int confirmPayment(@Param("id") Long id,
+                       @Param("confirmed") PaymentStatus confirmed,
+                       @Param("pending") OrderStatus pending,
+                       @Param("preparing") OrderStatus preparing,
+                       @Param("sources") Collection<PaymentStatus> sources,
+                       @Param("version") Long version,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 주문 취소 (결제 상태도 실패로, 현재 결제 상태가 paymentSources 중 하나일 때만)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o
+               SET o.status = :cancelled, o.paymentStatus = :failed,
+                   o.version = o.version + 1, o.updatedAt = :now
+             WHERE o.id = :id
+               AND o.status IN :sources
+               AND o.paymentStatus IN :paymentSources
+            """)
+    int cancel(@Param("id") Long id,
+               @Param("cancelled") OrderStatus cancelled,
+               @Param("failed") PaymentStatus failed,
+               @Param("sources") Collection<OrderStatus> sources,
+               @Param("paymentSources") Collection<PaymentStatus> paymentSources,
+               @Param("now") LocalDateTime now);
+
+    // ========== 일괄 상태 전이 (관리자 일괄 처리) ==========
+
+    /**
+     * 주문 상태 일괄 전이
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o
+               SET o.status = :next, o.version = o.version + 1, o.updatedAt = :now
+             WHERE o.departmentId = :departmentId
+               AND o.id IN :ids
+               AND o.status IN :sources
+            """)
+    int transitionStatusBulk(@Param("departmentId") Long departmentId,
+                             @Param("ids") Collection<Long> ids,
+                             @Param("next") OrderStatus next,
+                             @Param("sources") Collection<OrderStatus> sources,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 상태 일괄 전이
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o
+               SET o.paymentStatus = :next, o.version = o.version + 1, o.updatedAt = :now
+             WHERE o.departmentId = :departmentId
+               AND o.id IN :ids
+               AND o.paymentStatus IN :sources
+            """)
+    int transitionPaymentStatusBulk(@Param("departmentId") Long departmentId,
+                                    @Param("ids") Collection<Long> ids,
+                                    @Param("next") PaymentStatus next,
+                                    @Param("sources") Collection<PaymentStatus> sources,
+                                    @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 일괄 확인 (대기 중인 주문은 같은 문장에서 준비 중으로 전환)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Order o
+               SET o.paymentStatus = :confirmed,
+                   o.status = CASE WHEN o.status = :pending THEN :preparing ELSE o.status END,
+                   o.version = o.version + 1, o.updatedAt = :now
+             WHERE o.departmentId = :departmentId
+               AND o.id IN :ids
+               AND o.paymentStatus IN :sources
+            """)
+    int confirmPaymentBulk(@Param("departmentId") Long departmentId,
+                           @Param("ids") Collection<Long> ids,
+                           @Param("confirmed") PaymentStatus confirmed,
+                           @Param("pending") OrderStatus pending,
+                           @Param("preparing") OrderStatus preparing,
+                           @Param("sources") Collection<PaymentStatus> sources,
+                           @Param("now") LocalDateTime now);
+}
@@ -1,14 +1,15 @@
 package com.kupub.api.order.service;
 
 import com.kupub.api.common.exception.BadRequestException;
+import com.kupub.api.common.exception.ConflictException;
 import com.kupub.api.common.exception.NotFoundException;
-import com.kupub.api.menu.entity.Menu;
-import com.kupub.api.menu.repository.MenuRepository;
+import com.kupub.api.menu.service.MenuStockService;
 import com.kupub.api.notification.NotificationService;
 import com.kupub.api.notification.ReceiptService;
+import com.kupub.api.order.dto.OrderBulkUpdateRequest;
+import com.kupub.api.order.dto.OrderBulkUpdateResponse;
 import com.kupub.api.order.dto.OrderDto;
 import com.kupub.api.order.dto.OrderCreateRequest;
-import com.kupub.api.order.dto.OrderItemRequest;
 import com.kupub.api.order.dto.OrderItemDto;
 import com.kupub.api.order.dto.PriceBreakdown;
 import com.kupub.api.order.entity.*;
@@ -17,6 +18,7 @@ import com.kupub.api.order.repository.OrderRepository;
 import com.kupub.api.reservation.entity.Reservation;
 import com.kupub.api.reservation.repository.ReservationRepository;
 import com.kupub.api.session.entity.GuestSession;
+import com.kupub.api.session.service.SessionBillDelta;
 import com.kupub.api.session.service.SessionService;
 import com.kupub.api.table.entity.DepartmentTable;
 import com.kupub.api.table.service.TableService;
@@ -25,11 +27,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,7 +45,7 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final MenuRepository menuRepository;
+    private final MenuStockService menuStockService;
     private final PricingService pricingService;
     private final SessionService sessionService;
     private final NotificationService notificationService;
@@ -50,7 +55,7 @@ public class OrderService {
 
     public OrderService(OrderRepository orderRepository,
                         OrderItemRepository orderItemRepository,
-                        MenuRepository menuRepository,
+                        MenuStockService menuStockService,
                         PricingService pricingService,
                         SessionService sessionService,
                         NotificationService notificationService,
@@ -59,7 +64,7 @@ public class OrderService {
                         TableService tableService) {
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
-        this.menuRepository = menuRepository;
+        this.menuStockService = menuStockService;
         this.pricingService = pricingService;
         this.sessionService = sessionService;
         this.notificationService = notificationService;
@@ -77,35 +82,47 @@ public class OrderService {
     }
 
     /**
-     * 학과 소속 주문 조회 (권한 체크 포함)
+     * 학과 소속 주문 조회 (다른 학과 주문이면 404, 학과 조건까지 한 번의 조회)
      */
     public Order getOrderForDepartment(Long departmentId, Long orderId) {
-        Order order = getOrder(orderId);
-        if (!order.getDepartmentId().equals(departmentId)) {
-            throw new NotFoundException("Order", orderId);
-        }
-        return order;
+        return orderRepository.findByIdAndDepartmentId(orderId, departmentId)
+                .orElseThrow(() -> new NotFoundException("Order", orderId));
     }
 
     /**
-     * 주문 아이템 조회
+     * 손님 주문 조회 (다른 학과 주문이면 404)
+     * - 원본 DB에서 읽음: 주문 직후의 조회가 복제 지연으로 404 나 빈 아이템이 되지 않도록
      */
-    public List<OrderItem> getOrderItems(Long orderId) {
-        return orderItemRepository.findByOrderId(orderId);
+    @Transactional
+    public OrderDto getOrderDtoForDepartment(Long departmentId, Long orderId) {
+        return toOrderDto(getOrderForDepartment(departmentId, orderId));
     }
 
     /**
-     * 학과 주문 목록
+     * 주문 아이템 조회
      */
-    public List<Order> getOrdersByDepartment(Long departmentId) {
-        return orderRepository.findByDepartmentIdOrderByCreatedAtDesc(departmentId);
+    public List<OrderItem> getOrderItems(Long orderId) {
+        return orderItemRepository.findByOrderId(orderId);
     }
 
     /**
-     * 학과 + 상태로 조회
+     * 학과 주문 목록 (관리자 대시보드 폴링)
+     * - 엔티티 대신 DTO 프로젝션으로 주문 한 번 + 아이템 한 번 조회 (테이블 코드는 주문 쿼리에서 조인)
+     *
+     * @param status null 이면 전체
      */
-    public List<Order> getOrdersByStatus(Long departmentId, OrderStatus status) {
-        return orderRepository.findByDepartmentIdAndStatusOrderByCreatedAtDesc(departmentId, status);
+    public List<OrderDto> getOrderDtos(Long departmentId, OrderStatus status) {
+        List<OrderDto> orders = status != null
+                ? orderRepository.findDtosByDepartmentIdAndStatus(departmentId, status)
+                : orderRepository.findDtosByDepartmentId(departmentId);
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        Map<Long, List<OrderItemDto>> itemsMap = itemsByOrderId(
+                departmentId, orders.stream().map(OrderDto::id).toList());
+        return orders.stream()
+                .map(order -> order.withItems(itemsMap.getOrDefault(order.id(), List.of())))
+                .toList();
     }
 
     /**
@@ -127,12 +144,12 @@ public class OrderService {
                 .map(Order::getId)
                 .toList();
 
-        Map<Long, List<OrderItemDto>> itemsMap = orderItemRepository.findByOrderIdIn(orderIds)
-                .stream()
-                .collect(Collectors.groupingBy(
-                        OrderItem::getOrderId,
-                        Collectors.mapping(OrderItemDto::from, Collectors.toList())
-                ));
+        // 한 학과의 주문이면 학과 조건으로 조회 (학과 파티션만 읽음)
+        Set<Long> departmentIds = orders.stream()
+                .map(Order::getDepartmentId)
+                .collect(Collectors.toSet());
+        Map<Long, List<OrderItemDto>> itemsMap = itemsByOrderId(
+                departmentIds.size() == 1 ? departmentIds.iterator().next() : null, orderIds);
 
         Set<Long> tableIds = orders.stream()
                 .map(Order::getTableId)
@@ -155,6 +172,18 @@ public class OrderService {
                 .toList();
     }
 
+    /**
+     * 주문별 아이템 DTO
+     *
+     * @param departmentId null 이면 학과 조건 없이 조회 (여러 학과 주문)
+     */
+    private Map<Long, List<OrderItemDto>> itemsByOrderId(Long departmentId, List<Long> orderIds) {
+        List<OrderItemDto> items = departmentId != null
+                ? orderItemRepository.findDtosByDepartmentIdAndOrderIdIn(departmentId, orderIds)
+                : orderItemRepository.findByOrderIdIn(orderIds).stream().map(OrderItemDto::from).toList();
+        return items.stream().collect(Collectors.groupingBy(OrderItemDto::orderId));
+    }
+
     public OrderDto toOrderDto(Order order) {
         List<OrderDto> dtos = toOrderDtos(List.of(order));
         if (dtos.isEmpty()) {
@@ -171,6 +200,8 @@ public class OrderService {
         if (request.items() == null || request.items().isEmpty()) {
             throw new BadRequestException("EMPTY_ITEMS", "주문 아이템이 비어있습니다");
         }
+        // 품절 메뉴가 있으면 저장 전에 409 MENU_SOLD_OUT
+        List<PricingService.PricedItem> pricedItems = pricingService.price(departmentId, request.items());
 
         Order order = new Order();
         order.setDepartmentId(departmentId);
@@ -181,15 +212,14 @@ public class OrderService {
         // 세션 연결 + 전화번호 가져오기
         String guestPhone = null;
         GuestSession session = null;
-        boolean hasExistingOrder = false;
         boolean includeTableFeeFlag = request.includeTableFee() == null ? true : request.includeTableFee();
         
         if (request.sessionId() != null) {
-            session = sessionService.getSession(request.sessionId());
+            session = sessionService.getSessionForDepartment(departmentId, request.sessionId());
+            sessionService.ensureActive(session);
             order.setSessionId(session.getId());
             order.setTableId(session.getTableId());
             order.setReservationId(session.getReservationId());
-            hasExistingOrder = orderRepository.existsBySessionId(session.getId());
             
             // 예약에서 전화번호 가져오기
             if (session.getReservationId() != null) {
@@ -199,10 +229,10 @@ public class OrderService {
                 }
             }
         } else if (request.reservationId() != null) {
-            order.setReservationId(request.reservationId());
-            // 예약에서 전화번호 가져오기
-            Reservation reservation = reservationRepository.findById(request.reservationId()).orElse(null);
+            // 예약에서 전화번호 가져오기 (다른 학과 예약은 연결하지 않음)
+            Reservation reservation = reservationRepository.findByIdAndDepartmentId(request.reservationId(), departmentId).orElse(null);
             if (reservation != null) {
+                order.setReservationId(reservation.getId());
                 guestPhone = reservation.getPhone();
             }
         }
@@ -217,39 +247,29 @@ public class OrderService {
         // 먼저 저장해서 ID 확보
         order = orderRepository.save(order);
 
-        // 아이템 생성
+        // 아이템 생성 (이름/가격은 금액 미리보기와 같은 학과 가격 모델로)
         List<OrderItem> items = new ArrayList<>();
-        for (OrderItemRequest itemReq : request.items()) {
+        Map<Long, Integer> stockQuantities = new TreeMap<>();
+        for (PricingService.PricedItem priced : pricedItems) {
             OrderItem item = new OrderItem();
             item.setOrderId(order.getId());
-            item.setMenuId(itemReq.menuId());
-            item.setQuantity(itemReq.quantity());
-            
-            // 메뉴 ID가 있으면 DB에서 메뉴 정보 조회
-            if (itemReq.menuId() != null) {
-                Menu menu = menuRepository.findById(itemReq.menuId()).orElse(null);
-                if (menu != null) {
-                    item.setName(menu.getName());
-                    item.setPrice(menu.getPrice());
-                } else {
-                    // 메뉴가 삭제되었거나 없는 경우
-                    item.setName(itemReq.name() != null ? itemReq.name() : "삭제된 메뉴");
-                    item.setPrice(itemReq.price() != null ? itemReq.price() : 0);
-                }
-            } else {
-                // 수기 메뉴인 경우
-                item.setName(itemReq.name() != null ? itemReq.name() : "수기 메뉴");
-                item.setPrice(itemReq.price() != null ? itemReq.price() : 0);
+            item.setDepartmentId(departmentId);
+            item.setMenuId(priced.menuId());
+            item.setQuantity(priced.quantity());
+            item.setName(priced.name());
+            item.setPrice(priced.price());
+            if (priced.menuId() != null) {
+                stockQuantities.merge(priced.menuId(), priced.quantity(), Integer::sum);
             }
-            
             items.add(orderItemRepository.save(item));
         }
 
         // 가격 계산
         PriceBreakdown price = pricingService.calculate(departmentId, items, request.discountCode());
 
-        // 추가 주문이면 테이블비/콜키지 재부과 없음
-        int tableFee = (!hasExistingOrder && includeTableFeeFlag) ? price.tableFee() : 0;
+        // 추가 주문이면 테이블비/콜키지 재부과 없음 (세션의 첫 주문만 통과, 동시에 들어온 첫 주문도 하나만)
+        boolean firstOrder = session == null || sessionService.claimTableFee(session.getId());
+        int tableFee = (firstOrder && includeTableFeeFlag) ? price.tableFee() : 0;
         int corkage = 0; // 콜키지 미사용
         int total = price.subtotal() + tableFee + corkage + price.discount(); // discount may be negative
         if (total < 0) total = 0;
@@ -260,6 +280,11 @@ public class OrderService {
         order.setDiscount(price.discount());
         order.setTotalPrice(total);
 
+        sessionService.addOrderToBill(order.getSessionId(), billOf(order));
+
+        // 재고 차감은 마지막에 (재고 행 잠금을 커밋 직전까지만 잡도록)
+        menuStockService.take(deptSlug, stockQuantities);
+
         Order savedOrder = orderRepository.save(order);
         
         // 새 주문 알림 전송
@@ -276,17 +301,39 @@ public class OrderService {
      */
     @Transactional
     public Order updateStatus(Long orderId, OrderStatus status) {
-        return updateStatus(orderId, status, null);
+        return updateStatus(orderId, status, null, null);
     }
     
     @Transactional
     public Order updateStatus(Long orderId, OrderStatus status, String deptSlug) {
-        Order order = getOrder(orderId);
-        order.setStatus(status);
-        Order savedOrder = orderRepository.save(order);
+        return updateStatus(orderId, status, null, deptSlug);
+    }
+
+    /**
+     * 주문 상태 변경 (조건부 UPDATE 한 문장, 행 잠금 없음)
+     *
+     * @param expectedVersion 클라이언트가 마지막으로 본 버전 (null이면 상태 전이 규칙만 검사)
+     */
+    @Transactional
+    public Order updateStatus(Long orderId, OrderStatus status, Long expectedVersion, String deptSlug) {
+        int updated = orderRepository.transitionStatus(
+                orderId, status, status.allowedSources(), expectedVersion, LocalDateTime.now());
+
+        Order savedOrder = getOrder(orderId);
+        if (updated == 0) {
+            ensureUnchanged(savedOrder, expectedVersion, savedOrder.getStatus(), status);
+            return savedOrder;
+        }
+        if (status == OrderStatus.CANCELLED) {
+            putBackStock(savedOrder.getDepartmentId(), List.of(orderId));
+            // 결제 상태는 그대로이므로 취소 전 계산서 몫을 그대로 차감
+            sessionService.addToBill(savedOrder.getSessionId(),
+                    bill(savedOrder, savedOrder.getPaymentStatus() == PaymentStatus.CONFIRMED).negate());
+        }
         
         if (deptSlug != null) {
             notificationService.notifyOrderStatusChanged(deptSlug, savedOrder);
+            notificationService.notifyOrderUpdated(deptSlug, toOrderDto(savedOrder));
             if (status == OrderStatus.PREPARING) {
                 notificationService.notifyKitchen(deptSlug, savedOrder, "PREPARE");
             } else if (status == OrderStatus.DONE) {
@@ -302,50 +349,304 @@ public class OrderService {
      */
     @Transactional
     public Order updatePaymentStatus(Long orderId, PaymentStatus paymentStatus) {
-        return updatePaymentStatus(orderId, paymentStatus, null);
+        return updatePaymentStatus(orderId, paymentStatus, null, null);
     }
     
     @Transactional
     public Order updatePaymentStatus(Long orderId, PaymentStatus paymentStatus, String deptSlug) {
-        Order order = getOrder(orderId);
-        order.setPaymentStatus(paymentStatus);
-        
-        // 결제 확인되면 주문 상태도 PREPARING으로
-        if (paymentStatus == PaymentStatus.CONFIRMED && order.getStatus() == OrderStatus.PENDING) {
-            order.setStatus(OrderStatus.PREPARING);
+        return updatePaymentStatus(orderId, paymentStatus, null, deptSlug);
+    }
+
+    /**
+     * 결제 상태 변경 (조건부 UPDATE 한 문장, 행 잠금 없음)
+     * - 결제 확인되면 대기 중인 주문은 같은 문장에서 PREPARING으로
+     * - 결제 확인을 되돌리는 경우 CONFIRMED 에서의 전이를 먼저 시도해서 세션 결제 금액을 얼마나 빼야 하는지 구분
+     *
+     * @param expectedVersion 클라이언트가 마지막으로 본 버전 (null이면 상태 전이 규칙만 검사)
+     */
+    @Transactional
+    public Order updatePaymentStatus(Long orderId, PaymentStatus paymentStatus, Long expectedVersion, String deptSlug) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated;
+        boolean wasConfirmed = false;
+        if (paymentStatus == PaymentStatus.CONFIRMED) {
+            updated = orderRepository.confirmPayment(orderId, PaymentStatus.CONFIRMED,
+                    OrderStatus.PENDING, OrderStatus.PREPARING,
+                    paymentStatus.allowedSources(), expectedVersion, now);
+        } else {
+            Set<PaymentStatus> fromConfirmed = sources(paymentStatus.allowedSources(), true);
+            Set<PaymentStatus> fromOthers = sources(paymentStatus.allowedSources(), false);
+            updated = fromConfirmed.isEmpty() ? 0 : orderRepository.transitionPaymentStatus(
+                    orderId, paymentStatus, fromConfirmed, expectedVersion, now);
+            wasConfirmed = updated > 0;
+            if (updated == 0 && !fromOthers.isEmpty()) {
+                updated = orderRepository.transitionPaymentStatus(
+                        orderId, paymentStatus, fromOthers, expectedVersion, now);
+            }
+        }
+
+        Order savedOrder = getOrder(orderId);
+        if (updated == 0) {
+            // 이미 같은 결제 상태 → 알림/SMS 재전송 없이 반환
+            ensureUnchanged(savedOrder, expectedVersion, savedOrder.getPaymentStatus(), paymentStatus);
+            return savedOrder;
+        }
+
+        // 취소된 주문은 이미 계산서에서 빠져 있음
+        if (savedOrder.getStatus() != OrderStatus.CANCELLED) {
+            if (paymentStatus == PaymentStatus.CONFIRMED) {
+                sessionService.addToBill(savedOrder.getSessionId(), SessionBillDelta.paid(savedOrder.getTotalPrice()));
+            } else if (wasConfirmed) {
+                sessionService.addToBill(savedOrder.getSessionId(), SessionBillDelta.paid(-savedOrder.getTotalPrice()));
+            }
         }
         
-        Order savedOrder = orderRepository.save(order);
-        
+        if (deptSlug != null && paymentStatus != PaymentStatus.CONFIRMED) {
+            notificationService.notifyOrderUpdated(deptSlug, toOrderDto(savedOrder));
+        }
+
         // 결제 확인 알림
         if (deptSlug != null && paymentStatus == PaymentStatus.CONFIRMED) {
-            notificationService.notifyPaymentConfirmed(deptSlug, savedOrder);
+            notificationService.notifyPaymentConfirmed(deptSlug, toOrderDto(savedOrder));
             notificationService.notifyKitchen(deptSlug, savedOrder, "PAYMENT_CONFIRMED");
             
-            // 자동 SMS 영수증 전송
+            // 자동 SMS 영수증 전송 (비동기, 느린 SMS API가 트랜잭션/행 잠금을 붙잡지 않도록)
             if (savedOrder.getGuestPhone() != null && !savedOrder.getGuestPhone().isBlank()) {
-                try {
-                    boolean sent = receiptService.sendPaymentConfirmation(savedOrder, savedOrder.getGuestPhone());
-                    log.info("Auto SMS receipt sent: orderId={} phone={} success={}", 
-                            orderId, savedOrder.getGuestPhone(), sent);
-                } catch (Exception e) {
-                    log.error("Failed to send auto SMS receipt: orderId={}", orderId, e);
-                }
+                receiptService.sendPaymentConfirmations(List.of(savedOrder));
             }
         }
         
         return savedOrder;
     }
 
+    /**
+     * 주문 상태 + 결제 상태 변경 (관리자 주문 수정, 한 트랜잭션이라 둘 다 반영되거나 둘 다 롤백)
+     * - 같은 요청 안의 결제 상태 변경은 방금 반영한 버전 기준
+     *
+     * @param status          null 이면 주문 상태는 그대로
+     * @param paymentStatus   null 이면 결제 상태는 그대로
+     * @param expectedVersion 클라이언트가 마지막으로 본 버전 (null이면 상태 전이 규칙만 검사)
+     */
+    @Transactional
+    public Order updateOrder(Long orderId, OrderStatus status, PaymentStatus paymentStatus,
+                             Long expectedVersion, String deptSlug) {
+        Order order = null;
+        if (status != null) {
+            order = updateStatus(orderId, status, expectedVersion, deptSlug);
+            expectedVersion = expectedVersion != null ? order.getVersion() : null;
+        }
+        if (paymentStatus != null) {
+            order = updatePaymentStatus(orderId, paymentStatus, expectedVersion, deptSlug);
+        }
+        return order != null ? order : getOrder(orderId);
+    }
+
+    /**
+     * 주문 일괄 상태 변경 (관리자)
+     * - 주문 수와 관계없이 상태/결제 상태별로 조건부 UPDATE 한 문장씩
+     * - 허용되지 않은 전이, 이미 같은 상태, 다른 학과 주문은 건너뜀
+     * - 알림은 토픽별로 1건씩 묶어서 전송, 결제 확인 영수증은 비동기 일괄 전송
+     * - 변경 전 상태는 쓰기 잠금으로 읽어서 세션 계산서에 전후 차이만 정확히 반영
+     */
+    @Transactional
+    public OrderBulkUpdateResponse bulkUpdate(Long departmentId, String deptSlug, OrderBulkUpdateRequest request) {
+        if (request.status() == null && request.paymentStatus() == null) {
+            throw new BadRequestException("EMPTY_UPDATE", "변경할 상태를 지정해주세요");
+        }
+
+        List<Long> ids = request.orderIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Long, Order> before = orderRepository.findForUpdateByDepartmentIdAndIdIn(departmentId, ids)
+                .stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (request.status() != null) {
+            orderRepository.transitionStatusBulk(departmentId, ids,
+                    request.status(), request.status().allowedSources(), now);
+        }
+        if (request.paymentStatus() == PaymentStatus.CONFIRMED) {
+            orderRepository.confirmPaymentBulk(departmentId, ids, PaymentStatus.CONFIRMED,
+                    OrderStatus.PENDING, OrderStatus.PREPARING, PaymentStatus.CONFIRMED.allowedSources(), now);
+        } else if (request.paymentStatus() != null) {
+            orderRepository.transitionPaymentStatusBulk(departmentId, ids,
+                    request.paymentStatus(), request.paymentStatus().allowedSources(), now);
+        }
+
+        // UPDATE 후 영속성 컨텍스트가 비워지므로 최신 상태로 다시 조회
+        List<Order> after = orderRepository.findByDepartmentIdAndIdInOrderByIdAsc(departmentId, ids);
+        List<Order> changed = after.stream()
+                .filter(order -> !Objects.equals(order.getVersion(), before.get(order.getId()).getVersion()))
+                .toList();
+
+        applyBillChanges(before, changed);
+
+        if (request.status() == OrderStatus.CANCELLED) {
+            putBackStock(departmentId, changed.stream()
+                    .filter(order -> before.get(order.getId()).getStatus() != OrderStatus.CANCELLED)
+                    .map(Order::getId)
+                    .toList());
+        }
+
+        List<OrderDto> dtos = toOrderDtos(after);
+        if (deptSlug != null && !changed.isEmpty()) {
+            notifyBulkChanged(deptSlug, request, before, changed, dtos);
+        }
+
+        Set<Long> changedIds = changed.stream().map(Order::getId).collect(Collectors.toSet());
+        List<Long> skippedIds = ids.stream().filter(id -> !changedIds.contains(id)).toList();
+
+        log.info("Bulk order update: deptId={} requested={} updated={} status={} paymentStatus={}",
+                departmentId, ids.size(), changed.size(), request.status(), request.paymentStatus());
+
+        return new OrderBulkUpdateResponse(
+                changed.stream().map(Order::getId).toList(),
+                skippedIds,
+                dtos);
+    }
+
+    private void notifyBulkChanged(String deptSlug, OrderBulkUpdateRequest request,
+                                   Map<Long, Order> before, List<Order> changed, List<OrderDto> dtos) {
+        notificationService.notifyOrdersBulkChanged(deptSlug, changed);
+
+        List<Order> confirmed = request.paymentStatus() == PaymentStatus.CONFIRMED
+                ? changed.stream()
+                    .filter(order -> before.get(order.getId()).getPaymentStatus() != PaymentStatus.CONFIRMED)
+                    .toList()
+                : List.of();
+
+        // 손님 화면은 주문별 토픽을 구독하므로 주문마다 1건
+        Set<Long> confirmedIds = confirmed.stream().map(Order::getId).collect(Collectors.toSet());
+        Map<Long, OrderDto> dtoById = dtos.stream().collect(Collectors.toMap(OrderDto::id, dto -> dto));
+        for (Order order : changed) {
+            OrderDto dto = dtoById.get(order.getId());
+            if (confirmedIds.contains(order.getId())) {
+                notificationService.notifyPaymentConfirmed(deptSlug, dto);
+            } else {
+                notificationService.notifyOrderUpdated(deptSlug, dto);
+            }
+        }
+
+        if (!confirmed.isEmpty()) {
+            notificationService.notifyKitchenBulk(deptSlug, confirmed, "PAYMENT_CONFIRMED");
+            receiptService.sendPaymentConfirmations(confirmed);
+        } else if (request.status() == OrderStatus.PREPARING) {
+            notificationService.notifyKitchenBulk(deptSlug, changed, "PREPARE");
+        } else if (request.status() == OrderStatus.DONE) {
+            notificationService.notifyKitchenBulk(deptSlug, changed, "DONE");
+        }
+    }
+
     /**
      * 주문 취소
      */
     @Transactional
     public Order cancelOrder(Long orderId) {
+        // 결제 확인된 주문인지에 따라 세션 결제 금액 차감이 달라지므로 CONFIRMED 부터 시도
+        LocalDateTime now = LocalDateTime.now();
+        Set<PaymentStatus> allPayments = EnumSet.allOf(PaymentStatus.class);
+        int updated = orderRepository.cancel(orderId, OrderStatus.CANCELLED, PaymentStatus.FAILED,
+                OrderStatus.CANCELLED.allowedSources(), sources(allPayments, true), now);
+        boolean wasConfirmed = updated > 0;
+        if (updated == 0) {
+            updated = orderRepository.cancel(orderId, OrderStatus.CANCELLED, PaymentStatus.FAILED,
+                    OrderStatus.CANCELLED.allowedSources(), sources(allPayments, false), now);
+        }
+
         Order order = getOrder(orderId);
-        order.setStatus(OrderStatus.CANCELLED);
-        order.setPaymentStatus(PaymentStatus.FAILED);
-        return orderRepository.save(order);
+        if (updated == 0) {
+            ensureUnchanged(order, null, order.getStatus(), OrderStatus.CANCELLED);
+        } else {
+            putBackStock(order.getDepartmentId(), List.of(orderId));
+            sessionService.addToBill(order.getSessionId(), bill(order, wasConfirmed).negate());
+        }
+        return order;
+    }
+
+    // ========== 세션 계산서 ==========
+
+    /**
+     * 주문이 세션 계산서에 차지하는 몫 (취소 주문은 0)
+     */
+    private static SessionBillDelta billOf(Order order) {
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            return SessionBillDelta.ZERO;
+        }
+        return bill(order, order.getPaymentStatus() == PaymentStatus.CONFIRMED);
+    }
+
+    private static SessionBillDelta bill(Order order, boolean paid) {
+        int total = order.getTotalPrice();
+        return new SessionBillDelta(1, order.getSubtotal(),
+                Objects.requireNonNullElse(order.getTableFee(), 0),
+                Objects.requireNonNullElse(order.getDiscount(), 0),
+                total, paid ? total : 0);
+    }
+
+    /**
+     * 일괄 변경 전후 차이를 세션별로 합쳐서 반영 (세션당 한 문장, 세션 ID 순서로 잠금)
+     */
+    private void applyBillChanges(Map<Long, Order> before, List<Order> changed) {
+        Map<Long, SessionBillDelta> deltas = new TreeMap<>();
+        for (Order order : changed) {
+            if (order.getSessionId() == null) {
+                continue;
+            }
+            SessionBillDelta delta = billOf(order).plus(billOf(before.get(order.getId())).negate());
+            deltas.merge(order.getSessionId(), delta, SessionBillDelta::plus);
+        }
+        deltas.forEach(sessionService::addToBill);
+    }
+
+    /**
+     * 허용된 이전 결제 상태 중 CONFIRMED 만 / CONFIRMED 를 뺀 나머지
+     */
+    private static Set<PaymentStatus> sources(Set<PaymentStatus> allowed, boolean confirmed) {
+        Set<PaymentStatus> sources = EnumSet.noneOf(PaymentStatus.class);
+        for (PaymentStatus status : allowed) {
+            if ((status == PaymentStatus.CONFIRMED) == confirmed) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * 취소된 주문의 메뉴 수량을 재고로 되돌림 (CANCELLED 전이는 조건부 UPDATE라 주문당 한 번만 실행됨)
+     */
+    private void putBackStock(Long departmentId, List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> quantities = orderItemRepository.findByDepartmentIdAndOrderIdIn(departmentId, orderIds).stream()
+                .filter(item -> item.getMenuId() != null)
+                .collect(Collectors.toMap(OrderItem::getMenuId, OrderItem::getQuantity, Integer::sum));
+        menuStockService.putBack(quantities);
     }
-}
 
+    /**
+     * 조건부 UPDATE가 반영되지 않은 이유 확인
+     * - 버전 불일치 → 409 ORDER_VERSION_CONFLICT
+     * - 이미 목표 상태 → 변경 없음으로 간주 (중복 클릭/재시도)
+     * - 그 외 → 409 INVALID_ORDER_TRANSITION
+     */
+    private void ensureUnchanged(Order current, Long expectedVersion, Enum<?> currentState, Enum<?> target) {
+        Map<String, Object> details = Map.of(
+                "orderId", current.getId(),
+                "status", current.getStatus(),
+                "paymentStatus", current.getPaymentStatus(),
+                "version", current.getVersion());
+
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw new ConflictException("ORDER_VERSION_CONFLICT",
+                    "다른 곳에서 주문이 먼저 변경되었습니다. 새로고침 후 다시 시도해주세요.", details);
+        }
+        if (currentState != target) {
+            throw new ConflictException("INVALID_ORDER_TRANSITION",
+                    "주문 상태를 " + currentState + "에서 " + target + "(으)로 변경할 수 없습니다.", details);
+        }
+    }
+}
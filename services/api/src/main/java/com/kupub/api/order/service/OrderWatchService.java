@@ -0,0 +1,127 @@
+package com.kupub.api.order.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.dto.ApiResponse;
+import com.kupub.api.notification.NotificationService;
+import com.kupub.api.notification.cluster.ClusterBus;
+import com.kupub.api.notification.cluster.StompSubscriptionTracker;
+import com.kupub.api.order.dto.OrderDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 변경 대기 (Long polling)
+ *
+ * WebSocket을 쓸 수 없는 손님 화면이 주기적으로 조회하는 대신, 주문이 바뀔 때까지 요청을 붙잡아 두었다가 응답합니다.
+ * - 대기 중에는 서버 스레드를 점유하지 않음 (DeferredResult)
+ * - /topic/{dept}/orders/{id} 로 나가는 알림을 브로커 채널에서 받아서 대기 중인 요청을 완료 → 조회 쿼리 없이 응답
+ *   (다른 서버에서 발생한 변경도 ClusterBus가 이 서버 브로커로 전달하므로 동일하게 처리)
+ * - 제한 시간 동안 변경이 없으면 304 → 클라이언트는 같은 version 으로 다시 요청
+ * - 대기 중에는 DB 연결도 잡고 있지 않음 (spring.jpa.open-in-view=false 필요)
+ */
+@Service
+public class OrderWatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderWatchService.class);
+
+    private final OrderService orderService;
+    private final StompSubscriptionTracker subscriptions;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    /**
+     * 손님 주문 토픽 → 대기 중인 요청
+     */
+    private final Map<String, Set<DeferredResult<ResponseEntity<ApiResponse<OrderDto>>>>> waiters =
+            new ConcurrentHashMap<>();
+
+    public OrderWatchService(OrderService orderService,
+                             StompSubscriptionTracker subscriptions,
+                             ObjectMapper objectMapper,
+                             @Qualifier("brokerChannel") SubscribableChannel brokerChannel,
+                             @Value("${app.order-watch.timeout:PT25S}") Duration timeout) {
+        this.orderService = orderService;
+        this.subscriptions = subscriptions;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        brokerChannel.subscribe(this::onBrokerMessage);
+    }
+
+    /**
+     * 주문 변경 대기
+     *
+     * @param knownVersion 클라이언트가 가진 주문 버전 (현재 버전이 더 높거나 null이면 바로 최신 주문 반환)
+     */
+    public DeferredResult<ResponseEntity<ApiResponse<OrderDto>>> await(Long departmentId, String deptSlug,
+                                                                       Long orderId, Long knownVersion) {
+        DeferredResult<ResponseEntity<ApiResponse<OrderDto>>> result = new DeferredResult<>(
+                timeout.toMillis(), ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        String topic = NotificationService.guestTopic(deptSlug, orderId);
+        String channel = ClusterBus.channelOf(topic);
+
+        // 먼저 등록하고 나서 현재 버전 확인 (확인과 등록 사이에 바뀐 변경을 놓치지 않도록)
+        waiters.computeIfAbsent(topic, t -> ConcurrentHashMap.newKeySet()).add(result);
+        subscriptions.retain(channel);
+        result.onCompletion(() -> {
+            waiters.computeIfPresent(topic, (t, set) -> {
+                set.remove(result);
+                return set.isEmpty() ? null : set;
+            });
+            subscriptions.release(channel);
+        });
+
+        try {
+            // 원본에서 읽음 (주문 직후 첫 확인이 복제 지연으로 404 가 되지 않도록), 더 새로울 때만 바로 반환
+            OrderDto order = orderService.getOrderDtoForDepartment(departmentId, orderId);
+            if (knownVersion == null || order.version() == null || order.version() > knownVersion) {
+                result.setResult(ResponseEntity.ok(ApiResponse.ok(order)));
+            }
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        }
+        return result;
+    }
+
+    /**
+     * 브로커로 나가는 손님 주문 알림 → 대기 중인 요청 완료
+     */
+    private void onBrokerMessage(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !waiters.containsKey(destination)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return;
+        }
+
+        OrderDto order;
+        try {
+            JsonNode node = objectMapper.readTree(payload).get("order");
+            if (node == null || node.isNull()) {
+                return;
+            }
+            order = objectMapper.treeToValue(node, OrderDto.class);
+        } catch (IOException e) {
+            log.warn("Failed to read order update: destination={}", destination, e);
+            return;
+        }
+
+        Set<DeferredResult<ResponseEntity<ApiResponse<OrderDto>>>> waiting = waiters.get(destination);
+        if (waiting != null) {
+            waiting.forEach(result -> result.setResult(ResponseEntity.ok(ApiResponse.ok(order))));
+        }
+    }
+}
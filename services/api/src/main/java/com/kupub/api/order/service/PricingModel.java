@@ -0,0 +1,127 @@
+package com.kupub.api.order.service;
+
+import com.kupub.api.department.dto.settings.PricingSettings;
+import com.kupub.api.menu.entity.Menu;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학과별 가격 모델 (메뉴/가격 설정으로 미리 만들어 두고 재사용)
+ *
+ * - 메뉴 가격표: 메뉴 ID 정렬 배열 + 같은 순서의 가격/이름/품절 배열 (박싱 없이 이진 탐색)
+ * - 할인: 코드 → 금액 합계 (같은 조건의 할인 항목이 여러 개면 합산, 기존 계산과 동일)
+ * - 테이블비/콜키지: 설정값
+ *
+ * 만든 뒤에는 바뀌지 않으므로 여러 요청이 동시에 읽어도 안전합니다.
+ */
+public final class PricingModel {
+
+    private final long[] menuIds;
+    private final int[] prices;
+    private final String[] names;
+    private final boolean[] soldOut;
+    private final Map<String, Integer> discounts;
+    private final int tableFee;
+    private final int corkage;
+    private final long builtAtNanos;
+
+    private PricingModel(long[] menuIds, int[] prices, String[] names, boolean[] soldOut,
+                         Map<String, Integer> discounts, int tableFee, int corkage, long builtAtNanos) {
+        this.menuIds = menuIds;
+        this.prices = prices;
+        this.names = names;
+        this.soldOut = soldOut;
+        this.discounts = discounts;
+        this.tableFee = tableFee;
+        this.corkage = corkage;
+        this.builtAtNanos = builtAtNanos;
+    }
+
+    /**
+     * 메뉴 목록 + 가격 설정으로 모델 생성
+     */
+    public static PricingModel compile(List<Menu> menus, PricingSettings pricing) {
+        List<Menu> sorted = menus.stream()
+                .sorted(Comparator.comparing(Menu::getId))
+                .toList();
+
+        int size = sorted.size();
+        long[] menuIds = new long[size];
+        int[] prices = new int[size];
+        String[] names = new String[size];
+        boolean[] soldOut = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Menu menu = sorted.get(i);
+            menuIds[i] = menu.getId();
+            prices[i] = menu.getPrice() != null ? menu.getPrice() : 0;
+            names[i] = menu.getName();
+            soldOut[i] = menu.isSoldOut();
+        }
+
+        Map<String, Integer> discounts = new HashMap<>();
+        if (pricing != null && pricing.discounts() != null) {
+            for (PricingSettings.DiscountLine line : pricing.discounts()) {
+                if (line.condition() != null) {
+                    discounts.merge(line.condition(), line.amount() != null ? line.amount() : 0, Integer::sum);
+                }
+            }
+        }
+
+        int tableFee = pricing != null && pricing.tableFee() != null ? pricing.tableFee() : 0;
+        int corkage = 0; // 콜키지 미사용
+
+        return new PricingModel(menuIds, prices, names, soldOut, discounts, tableFee, corkage, System.nanoTime());
+    }
+
+    // ========== 메뉴 ==========
+
+    /**
+     * 메뉴 위치 (없으면 음수)
+     */
+    public int indexOf(long menuId) {
+        return Arrays.binarySearch(menuIds, menuId);
+    }
+
+    public int priceAt(int index) {
+        return prices[index];
+    }
+
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    public boolean isSoldOutAt(int index) {
+        return soldOut[index];
+    }
+
+    // ========== 요금 ==========
+
+    /**
+     * 할인 코드 금액 (음수면 할인, 코드가 없거나 맞지 않으면 0)
+     */
+    public int discountFor(String code) {
+        if (code == null || code.isBlank()) {
+            return 0;
+        }
+        return discounts.getOrDefault(code, 0);
+    }
+
+    public int tableFee() {
+        return tableFee;
+    }
+
+    public int corkage() {
+        return corkage;
+    }
+
+    /**
+     * 만든 지 maxAgeNanos 가 지났는지
+     */
+    boolean isOlderThan(long maxAgeNanos, long nowNanos) {
+        return nowNanos - builtAtNanos > maxAgeNanos;
+    }
+}
@@ -1,51 +1,87 @@
 package com.kupub.api.order.service;
 
-import com.kupub.api.department.dto.settings.DepartmentSettingsDto;
-import com.kupub.api.department.dto.settings.PricingSettings;
+import com.kupub.api.common.cache.CatalogChangedEvent;
+import com.kupub.api.common.exception.ConflictException;
 import com.kupub.api.department.service.DepartmentSettingsService;
+import com.kupub.api.menu.repository.MenuRepository;
+import com.kupub.api.order.dto.OrderItemRequest;
+import com.kupub.api.order.dto.OrderQuoteDto;
+import com.kupub.api.order.dto.OrderQuoteRequest;
 import com.kupub.api.order.dto.PriceBreakdown;
 import com.kupub.api.order.entity.OrderItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 가격 계산 서비스
+ *
+ * 학과별 가격 모델(PricingModel)을 메모리에 두고 계산합니다.
+ * - 메뉴/가격 설정이 바뀌면 커밋 후 CatalogChangedEvent 로 이 서버의 모델을 비우고 학과 세대(generation)를 올림
+ *   → 커밋 전에 만들기 시작한 모델은 세대가 달라 캐시하지 않음 (비운 뒤에 이전 가격 모델이 다시 들어가지 않도록)
+ * - 다른 서버는 이벤트를 받지 않으므로 app.pricing.model-ttl 이 지나 다시 만들 때까지
+ *   최대 model-ttl 동안 이전 가격으로 미리보기/주문 금액을 계산할 수 있음 (2차 캐시 TTL과 같은 기준)
  */
 @Service
 public class PricingService {
 
+    private static final Logger log = LoggerFactory.getLogger(PricingService.class);
+
     private final DepartmentSettingsService settingsService;
+    private final MenuRepository menuRepository;
+    private final TransactionTemplate primaryReadTx;
+    private final long modelTtlNanos;
+
+    private final Map<Long, PricingModel> models = new ConcurrentHashMap<>();
+
+    /**
+     * 학과별 메뉴/가격 변경 세대 (변경 커밋마다 +1)
+     */
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
 
-    public PricingService(DepartmentSettingsService settingsService) {
+    public PricingService(DepartmentSettingsService settingsService,
+                          MenuRepository menuRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.pricing.model-ttl:PT10S}") Duration modelTtl) {
         this.settingsService = settingsService;
+        this.menuRepository = menuRepository;
+        // 모델은 원본에서 읽어서 만듦 (변경 직후 복제 지연으로 이전 값이 TTL 동안 남지 않도록)
+        this.primaryReadTx = new TransactionTemplate(transactionManager);
+        this.modelTtlNanos = modelTtl.toNanos();
     }
 
     /**
      * 가격 계산
-     * 
+     *
      * @param departmentId 학과 ID
      * @param items 주문 아이템 목록
      * @param discountCode 할인 코드 (선택)
      * @return 가격 내역
      */
     public PriceBreakdown calculate(Long departmentId, List<OrderItem> items, String discountCode) {
-        DepartmentSettingsDto settings = settingsService.getSettingsDto(departmentId);
-        PricingSettings pricing = settings.pricing();
+        PricingModel model = model(departmentId);
 
         // 1. 메뉴 소계
-        int subtotal = items.stream()
-                .mapToInt(OrderItem::getSubtotal)
-                .sum();
+        int subtotal = calculateSubtotal(items);
 
         // 2. 테이블비
-        int tableFee = pricing != null && pricing.tableFee() != null ? pricing.tableFee() : 0;
+        int tableFee = model.tableFee();
 
         // 3. 콜키지
-        int corkage = 0; // 콜키지 미사용
+        int corkage = model.corkage();
 
         // 4. 할인
-        int discount = calculateDiscount(pricing, discountCode);
+        int discount = model.discountFor(discountCode);
 
         // 5. 총액
         int total = subtotal + tableFee + corkage + discount;
@@ -54,6 +90,44 @@ public class PricingService {
         return new PriceBreakdown(subtotal, tableFee, corkage, discount, total);
     }
 
+    /**
+     * 주문 아이템 이름/가격 (주문 생성과 금액 미리보기가 같은 가격 모델로 정함)
+     *
+     * @throws ConflictException 품절 메뉴가 있으면 MENU_SOLD_OUT
+     */
+    public List<PricedItem> price(Long departmentId, List<OrderItemRequest> items) {
+        PricingModel model = model(departmentId);
+        return items.stream()
+                .map(item -> price(model, item))
+                .toList();
+    }
+
+    /**
+     * 장바구니 금액 미리보기 (주문 생성과 같은 규칙, DB 조회/저장 없음)
+     *
+     * 추가 주문(세션에 이미 주문이 있음)이면 주문 생성 시 테이블비가 빠지므로 includeTableFee=false 로 요청합니다.
+     */
+    public OrderQuoteDto quote(Long departmentId, OrderQuoteRequest request) {
+        PricingModel model = model(departmentId);
+
+        List<OrderQuoteDto.Line> lines = new ArrayList<>(request.items().size());
+        int subtotal = 0;
+        for (OrderItemRequest item : request.items()) {
+            PricedItem priced = price(model, item);
+            int lineSubtotal = priced.price() * priced.quantity();
+            lines.add(new OrderQuoteDto.Line(priced.menuId(), priced.name(), priced.price(), priced.quantity(), lineSubtotal));
+            subtotal += lineSubtotal;
+        }
+
+        boolean includeTableFee = request.includeTableFee() == null || request.includeTableFee();
+        int tableFee = includeTableFee ? model.tableFee() : 0;
+        int corkage = model.corkage();
+        int discount = model.discountFor(request.discountCode());
+        int total = Math.max(0, subtotal + tableFee + corkage + discount);
+
+        return new OrderQuoteDto(lines, subtotal, tableFee, corkage, discount, total);
+    }
+
     /**
      * 소계만 계산 (설정 없이)
      */
@@ -64,22 +138,71 @@ public class PricingService {
     }
 
     /**
-     * 할인 계산
+     * 메뉴/가격 설정 변경 시 모델 비우기 (다음 계산 때 다시 만듦)
+     * - 세대를 올리는 것과 비우는 것을 학과 키 하나의 compute 안에서 함께 처리 (model() 의 저장과 순서가 섞이지 않도록)
      */
-    private int calculateDiscount(PricingSettings pricing, String discountCode) {
-        if (pricing == null || pricing.discounts() == null || pricing.discounts().isEmpty()) {
-            return 0;
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        generations.compute(event.departmentId(), (id, generation) -> {
+            if (models.remove(id) != null) {
+                log.debug("Pricing model evicted: departmentId={}", id);
+            }
+            return generation == null ? 1L : generation + 1;
+        });
+    }
+
+    // ========== Private Methods ==========
+
+    private PricingModel model(Long departmentId) {
+        PricingModel model = models.get(departmentId);
+        if (model != null && !model.isOlderThan(modelTtlNanos, System.nanoTime())) {
+            return model;
         }
+        long generation = generations.getOrDefault(departmentId, 0L);
+        PricingModel compiled = primaryReadTx.execute(status -> PricingModel.compile(
+                menuRepository.findByDepartmentIdOrderByDisplayOrderAscIdAsc(departmentId),
+                settingsService.getSettingsDto(departmentId).pricing()));
+
+        // 만드는 동안 변경이 커밋됐으면(세대가 바뀜) 이번 계산에만 쓰고 캐시하지 않음
+        generations.compute(departmentId, (id, current) -> {
+            if ((current == null ? 0L : current) == generation) {
+                models.put(id, compiled);
+            } else {
+                log.debug("Stale pricing model dropped: departmentId={}", id);
+            }
+            return current;
+        });
+        return compiled;
+    }
 
-        if (discountCode == null || discountCode.isBlank()) {
-            return 0;
+    /**
+     * 아이템 이름/가격
+     * - 이 학과 메뉴: 모델의 이름/가격 (품절이면 MENU_SOLD_OUT)
+     * - 없는 메뉴(삭제되었거나 다른 학과 메뉴): 요청의 이름/가격, menuId 는 null
+     * - 수기 메뉴: 요청의 이름/가격
+     */
+    private PricedItem price(PricingModel model, OrderItemRequest item) {
+        if (item.menuId() != null) {
+            int index = model.indexOf(item.menuId());
+            if (index >= 0) {
+                if (model.isSoldOutAt(index)) {
+                    throw new ConflictException("MENU_SOLD_OUT", model.nameAt(index) + " 메뉴가 품절되었습니다.",
+                            Map.of("menuId", item.menuId(), "remaining", 0));
+                }
+                return new PricedItem(item.menuId(), model.nameAt(index), model.priceAt(index), item.quantity());
+            }
+            // 메뉴가 삭제되었거나 없는 경우
+            return new PricedItem(null, item.name() != null ? item.name() : "삭제된 메뉴",
+                    item.price() != null ? item.price() : 0, item.quantity());
         }
+        // 수기 메뉴인 경우
+        return new PricedItem(null, item.name() != null ? item.name() : "수기 메뉴",
+                item.price() != null ? item.price() : 0, item.quantity());
+    }
 
-        // 조건에 맞는 할인 찾기
-        return pricing.discounts().stream()
-                .filter(d -> d.condition() != null && d.condition().equals(discountCode))
-                .mapToInt(d -> d.amount() != null ? d.amount() : 0)
-                .sum();
+    /**
+     * @param menuId 이 학과 메뉴면 메뉴 ID, 없는 메뉴/수기 메뉴면 null
+     */
+    public record PricedItem(Long menuId, String name, int price, int quantity) {
     }
 }
-
@@ -1,33 +1,53 @@
 package com.kupub.api.platform.controller;
 
+import com.kupub.api.common.cache.CacheRegions;
+import com.kupub.api.common.cache.CatalogChangedEvent;
+import com.kupub.api.common.datasource.TenantContext;
+import com.kupub.api.common.datasource.TenantPartitionManager;
 import com.kupub.api.common.dto.ApiResponse;
 import com.kupub.api.common.exception.BadRequestException;
+import com.kupub.api.common.exception.ConflictException;
 import com.kupub.api.common.exception.NotFoundException;
 import com.kupub.api.department.entity.Department;
 import com.kupub.api.department.entity.DepartmentSettings;
 import com.kupub.api.department.repository.DepartmentRepository;
 import com.kupub.api.department.repository.DepartmentSettingsRepository;
+import com.kupub.api.department.service.DepartmentCreatedEvent;
 import com.kupub.api.menu.repository.MenuCategoryRepository;
 import com.kupub.api.menu.repository.MenuRepository;
+import com.kupub.api.menu.repository.MenuStockRepository;
 import com.kupub.api.order.repository.OrderItemRepository;
 import com.kupub.api.order.repository.OrderRepository;
 import com.kupub.api.reservation.repository.ReservationRepository;
 import com.kupub.api.session.repository.GuestSessionRepository;
+import com.kupub.api.table.repository.TableLayoutRepository;
 import com.kupub.api.table.repository.TableRepository;
+import com.kupub.api.tenant.entity.TenantStatus;
+import com.kupub.api.tenant.service.TenantDirectory;
+import com.kupub.api.tenant.service.TenantMoveService;
 import com.kupub.api.user.entity.User;
 import com.kupub.api.user.entity.UserRole;
 import com.kupub.api.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/platform")
@@ -44,11 +64,19 @@ public class PlatformController {
     // Cascade 삭제용 Repository들
     private final MenuRepository menuRepository;
     private final MenuCategoryRepository menuCategoryRepository;
+    private final MenuStockRepository menuStockRepository;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final ReservationRepository reservationRepository;
     private final GuestSessionRepository guestSessionRepository;
     private final TableRepository tableRepository;
+    private final TableLayoutRepository tableLayoutRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TenantPartitionManager tenantPartitionManager;
+    private final TenantDirectory tenantDirectory;
+    private final TenantMoveService tenantMoveService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PlatformController(DepartmentRepository departmentRepository,
                               DepartmentSettingsRepository settingsRepository,
@@ -56,22 +84,38 @@ public class PlatformController {
                               PasswordEncoder passwordEncoder,
                               MenuRepository menuRepository,
                               MenuCategoryRepository menuCategoryRepository,
+                              MenuStockRepository menuStockRepository,
                               OrderRepository orderRepository,
                               OrderItemRepository orderItemRepository,
                               ReservationRepository reservationRepository,
                               GuestSessionRepository guestSessionRepository,
-                              TableRepository tableRepository) {
+                              TableRepository tableRepository,
+                              TableLayoutRepository tableLayoutRepository,
+                              EntityManagerFactory entityManagerFactory,
+                              TenantPartitionManager tenantPartitionManager,
+                              TenantDirectory tenantDirectory,
+                              TenantMoveService tenantMoveService,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher) {
         this.departmentRepository = departmentRepository;
         this.settingsRepository = settingsRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.menuRepository = menuRepository;
         this.menuCategoryRepository = menuCategoryRepository;
+        this.menuStockRepository = menuStockRepository;
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
         this.reservationRepository = reservationRepository;
         this.guestSessionRepository = guestSessionRepository;
         this.tableRepository = tableRepository;
+        this.tableLayoutRepository = tableLayoutRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.tenantPartitionManager = tenantPartitionManager;
+        this.tenantDirectory = tenantDirectory;
+        this.tenantMoveService = tenantMoveService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
     }
 
     // =========================================================================
@@ -86,31 +130,66 @@ public class PlatformController {
         ));
     }
 
+    /**
+     * 학과 생성
+     *
+     * templateDepartmentId 가 있으면 그 학과의 설정/카테고리/메뉴/테이블 배치를 복사합니다.
+     * 테이블마다 INSERT ... SELECT 한 번씩이라 원본 크기와 관계없이 요청 하나로 끝납니다.
+     * (네이티브 INSERT 에는 대상 테이블을 지정해 두어서 그 테이블의 2차 캐시만 무효화됨)
+     * 주문/세션/예약/재고는 복사하지 않고, 복사한 메뉴는 모두 판매 중으로 시작합니다.
+     *
+     * 학과 DB를 나눠 쓰면 새 학과는 기본 DB(템플릿 복사면 템플릿 학과의 DB)에 둡니다.
+     * 중앙 DB(학과 행, 배치)와 학과 DB(학과 사본, 설정/템플릿)를 차례로 커밋하고, 학과 DB에서 실패하면 중앙 DB 행을 지웁니다.
+     */
     @PostMapping("/departments")
     public ResponseEntity<ApiResponse<DepartmentDto>> createDepartment(
             @Valid @RequestBody CreateDepartmentRequest request) {
         
-        log.debug("POST /api/platform/departments slug={}", request.slug());
+        log.debug("POST /api/platform/departments slug={} template={}", request.slug(), request.templateDepartmentId());
 
         // 중복 체크
         if (departmentRepository.findBySlug(request.slug()).isPresent()) {
             throw new BadRequestException("DUPLICATE_SLUG", "이미 존재하는 슬러그입니다.");
         }
-
-        // 학과 생성
-        Department dept = new Department();
-        dept.setSlug(request.slug());
-        dept.setName(request.name());
-        dept.setActive(true);
-        dept = departmentRepository.save(dept);
-
-        // 기본 설정 생성
-        DepartmentSettings settings = new DepartmentSettings();
-        settings.setDepartmentId(dept.getId());
-        settings.setDataJson(getDefaultSettingsJson());
-        settingsRepository.save(settings);
-
-        log.info("Department created: id={} slug={}", dept.getId(), dept.getSlug());
+        Long templateId = request.templateDepartmentId();
+        if (templateId != null && !departmentRepository.existsById(templateId)) {
+            throw new NotFoundException("Department", templateId);
+        }
+        String shard = templateId != null ? shardForChange(templateId) : tenantDirectory.defaultShard();
+        boolean central = TenantContext.CENTRAL.equals(shard);
+
+        // 학과 생성 (중앙 DB, 학과 데이터도 중앙 DB면 같은 트랜잭션에서 초기화)
+        Department dept = inShard(TenantContext.CENTRAL, () -> {
+            Department created = new Department();
+            created.setSlug(request.slug());
+            created.setName(request.name());
+            created.setActive(true);
+            created = departmentRepository.save(created);
+            if (central) {
+                initializeDepartment(created.getId(), templateId);
+            }
+            return created;
+        });
+        Long deptId = dept.getId();
+
+        if (!central) {
+            tenantDirectory.place(deptId, shard, TenantStatus.ACTIVE);
+            try {
+                inShard(shard, () -> {
+                    departmentRepository.insertCopy(deptId, dept.getSlug(), dept.getName(), dept.getActive(), dept.getCreatedAt());
+                    initializeDepartment(deptId, templateId);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                tenantDirectory.remove(deptId);
+                inShard(TenantContext.CENTRAL, () -> {
+                    departmentRepository.deleteById(deptId);
+                    return null;
+                });
+                throw e;
+            }
+        }
+        log.info("Department created: id={} slug={} shard={} template={}", deptId, dept.getSlug(), shard, templateId);
 
         return ResponseEntity.ok(ApiResponse.ok(DepartmentDto.from(dept)));
     }
@@ -131,6 +210,15 @@ public class PlatformController {
         }
 
         dept = departmentRepository.save(dept);
+        // 활성 여부는 중앙 DB 값을 배치 캐시로 확인하므로 이 서버는 바로 반영 (다른 서버는 directory-ttl 안에)
+        tenantDirectory.evict(id);
+
+        // 학과 DB의 사본에도 반영 (중앙 DB 값을 그대로 덮어쓰므로 실패하면 같은 요청을 다시 보내면 맞춰짐)
+        String shard = tenantDirectory.shardOf(id);
+        if (!TenantContext.CENTRAL.equals(shard)) {
+            Department saved = dept;
+            inShard(shard, () -> departmentRepository.updateCopy(id, saved.getName(), saved.getActive()));
+        }
         return ResponseEntity.ok(ApiResponse.ok(DepartmentDto.from(dept)));
     }
 
@@ -217,56 +305,124 @@ public class PlatformController {
         return ResponseEntity.ok(ApiResponse.ok());
     }
 
+    /**
+     * 학과 삭제 (학과 데이터 → 중앙 DB의 사용자 연결/학과 순서)
+     */
     @DeleteMapping("/departments/{id}")
-    @Transactional
     public ResponseEntity<ApiResponse<Void>> deleteDepartment(@PathVariable("id") Long id) {
         Department dept = departmentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Department", id));
+        String shard = shardForChange(id);
+        boolean central = TenantContext.CENTRAL.equals(shard);
         
-        log.info("Deleting department cascade: id={} slug={}", id, dept.getSlug());
-        
-        // 1. 주문 아이템 삭제 (주문 ID 기반)
-        var orders = orderRepository.findByDepartmentId(id);
-        for (var order : orders) {
-            orderItemRepository.deleteByOrderId(order.getId());
+        log.info("Deleting department cascade: id={} slug={} shard={}", id, dept.getSlug(), shard);
+
+        if (!central) {
+            inShard(shard, () -> {
+                deleteDepartmentData(id);
+                departmentRepository.deleteById(id);   // 학과 DB의 사본
+                return null;
+            });
         }
-        
-        // 2. 주문 삭제
-        orderRepository.deleteByDepartmentId(id);
-        
-        // 3. 세션 삭제
-        guestSessionRepository.deleteByDepartmentId(id);
-        
-        // 4. 예약 삭제
-        reservationRepository.deleteByDepartmentId(id);
-        
-        // 5. 테이블 삭제
-        tableRepository.deleteByDepartmentId(id);
-        
-        // 6. 메뉴 삭제
-        menuRepository.deleteByDepartmentId(id);
-        
-        // 7. 메뉴 카테고리 삭제
-        menuCategoryRepository.deleteByDepartmentId(id);
-        
-        // 8. 설정 삭제
-        settingsRepository.deleteByDepartmentId(id);
-        
-        // 9. 연결된 사용자의 departmentId를 null로 설정
-        userRepository.findAll().stream()
-                .filter(u -> id.equals(u.getDepartmentId()))
-                .forEach(u -> {
-                    u.setDepartmentId(null);
-                    userRepository.save(u);
-                });
-        
-        // 10. 학과 삭제
-        departmentRepository.delete(dept);
+        inShard(TenantContext.CENTRAL, () -> {
+            if (central) {
+                deleteDepartmentData(id);
+            }
+
+            // 연결된 사용자의 departmentId를 null로 설정
+            userRepository.findAll().stream()
+                    .filter(u -> id.equals(u.getDepartmentId()))
+                    .forEach(u -> {
+                        u.setDepartmentId(null);
+                        userRepository.save(u);
+                    });
+
+            // 학과 삭제
+            departmentRepository.deleteById(id);
+            eventPublisher.publishEvent(new CatalogChangedEvent(id));
+            return null;
+        });
+        tenantDirectory.remove(id);
         
         log.info("Department deleted with all related data: id={} slug={}", id, dept.getSlug());
         return ResponseEntity.ok(ApiResponse.ok());
     }
 
+    // =========================================================================
+    // 학과별 DB
+    // =========================================================================
+
+    /**
+     * DB별 학과 수 (학과별 DB 분산을 쓰지 않으면 central 하나)
+     */
+    @GetMapping("/shards")
+    public ResponseEntity<ApiResponse<List<ShardDto>>> getShards() {
+        return ResponseEntity.ok(ApiResponse.ok(tenantDirectory.countByShard().entrySet().stream()
+                .map(entry -> new ShardDto(entry.getKey(), entry.getValue(),
+                        entry.getKey().equals(tenantDirectory.defaultShard())))
+                .toList()));
+    }
+
+    /**
+     * 학과를 다른 DB로 이동 시작 (202, 복사는 서버에서 이어서 실행되고 그동안 그 학과의 쓰기 요청은 503)
+     */
+    @PostMapping("/departments/{id}/move")
+    public ResponseEntity<ApiResponse<TenantMoveService.MoveStatus>> moveDepartment(
+            @PathVariable("id") Long id,
+            @Valid @RequestBody MoveDepartmentRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.ok(tenantMoveService.move(id, request.shard())));
+    }
+
+    /**
+     * 학과 DB 이동 진행 상황
+     */
+    @GetMapping("/departments/{id}/move")
+    public ResponseEntity<ApiResponse<TenantMoveService.MoveStatus>> getMoveStatus(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(ApiResponse.ok(tenantMoveService.status(id)));
+    }
+
+    // =========================================================================
+    // 학과별 파티션
+    // =========================================================================
+
+    /**
+     * 파티션이 없는 학과에 파티션 추가 (MySQL 분할 테이블만, 학과 생성 후 자동 실행이 실패했거나 학과를 옮긴 뒤 실행)
+     */
+    @PostMapping("/partitions/sync")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> syncPartitions() {
+        return ResponseEntity.ok(ApiResponse.ok(tenantPartitionManager.sync()));
+    }
+
+    // =========================================================================
+    // 캐시 통계
+    // =========================================================================
+
+    /**
+     * Hibernate 2차 캐시 영역별 적중/실패/저장 횟수 (서버 시작 이후, 이 서버 기준)
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<ApiResponse<CacheStatsDto>> getCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatsDto> regions = new ArrayList<>();
+        for (String region : CacheRegions.ENTITY_REGIONS) {
+            regions.add(CacheRegionStatsDto.from(region, "entity", statistics.getDomainDataRegionStatistics(region)));
+        }
+        for (String region : CacheRegions.QUERY_REGIONS) {
+            regions.add(CacheRegionStatsDto.from(region, "query", statistics.getQueryRegionStatistics(region)));
+        }
+
+        return ResponseEntity.ok(ApiResponse.ok(new CacheStatsDto(
+                statistics.getQueryExecutionCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                regions)));
+    }
+
     // =========================================================================
     // DTOs
     // =========================================================================
@@ -283,7 +439,33 @@ public class PlatformController {
         }
     }
 
-    public record CreateDepartmentRequest(@NotBlank String slug, @NotBlank String name) {}
+    /**
+     * @param queryExecutions DB에서 실행된 JPQL/Criteria 쿼리 수
+     * @param entityLoads     DB에서 읽어온 엔티티 수
+     */
+    public record CacheStatsDto(long queryExecutions, long entityLoads,
+                                long entityCacheHits, long entityCacheMisses,
+                                long queryCacheHits, long queryCacheMisses,
+                                List<CacheRegionStatsDto> regions) {}
+
+    public record CacheRegionStatsDto(String region, String type, long hits, long misses, long puts) {
+        public static CacheRegionStatsDto from(String region, String type, CacheRegionStatistics stats) {
+            if (stats == null) {
+                return new CacheRegionStatsDto(region, type, 0, 0, 0);
+            }
+            return new CacheRegionStatsDto(region, type, stats.getHitCount(), stats.getMissCount(), stats.getPutCount());
+        }
+    }
+
+    public record ShardDto(String name, long departments, boolean isDefault) {}
+
+    public record MoveDepartmentRequest(@NotBlank String shard) {}
+
+    public record CreateDepartmentRequest(
+            @NotBlank String slug,
+            @NotBlank String name,
+            Long templateDepartmentId   // 복사할 템플릿 학과 (선택)
+    ) {}
     public record CreateUserRequest(
             @NotBlank String username,
             @NotBlank String password,
@@ -296,6 +478,68 @@ public class PlatformController {
     // Helper
     // =========================================================================
 
+    /**
+     * 학과 DB에서 트랜잭션 하나로 실행
+     */
+    private <T> T inShard(String shard, Supplier<T> action) {
+        return TenantContext.call(shard, () -> transactionTemplate.execute(status -> action.get()));
+    }
+
+    /**
+     * 변경할 학과의 DB (이동 중이면 409)
+     */
+    private String shardForChange(Long departmentId) {
+        TenantDirectory.Placement placement = tenantDirectory.placementOf(departmentId);
+        if (placement.isMoving()) {
+            throw new ConflictException("TENANT_MOVING", "다른 DB로 옮기는 중인 학과입니다.");
+        }
+        return placement.shard();
+    }
+
+    /**
+     * 새 학과의 설정/템플릿 복사 (학과 데이터가 있는 DB의 트랜잭션에서 호출)
+     */
+    private void initializeDepartment(Long deptId, Long templateId) {
+        if (templateId != null) {
+            // 템플릿 복사 (카테고리를 먼저 넣어야 메뉴의 카테고리를 새 ID로 연결할 수 있음)
+            int settings = settingsRepository.copyFromDepartment(templateId, deptId);
+            int categories = menuCategoryRepository.copyFromDepartment(templateId, deptId);
+            int menus = menuRepository.copyFromDepartment(templateId, deptId);
+            int tables = tableRepository.copyFromDepartment(templateId, deptId);
+            if (settings == 0) {
+                saveDefaultSettings(deptId);
+            }
+            log.info("Department cloned: id={} template={} categories={} menus={} tables={}",
+                    deptId, templateId, categories, menus, tables);
+        } else {
+            saveDefaultSettings(deptId);
+        }
+        eventPublisher.publishEvent(new DepartmentCreatedEvent(deptId));
+    }
+
+    /**
+     * 학과 데이터 삭제 (학과 데이터가 있는 DB의 트랜잭션에서 호출)
+     */
+    private void deleteDepartmentData(Long id) {
+        orderItemRepository.deleteByDepartmentId(id);
+        orderRepository.deleteByDepartmentId(id);
+        guestSessionRepository.deleteByDepartmentId(id);
+        reservationRepository.deleteByDepartmentId(id);
+        tableRepository.deleteByDepartmentId(id);
+        tableLayoutRepository.deleteByDepartmentId(id);
+        menuStockRepository.deleteByDepartmentId(id);
+        menuRepository.deleteByDepartmentId(id);
+        menuCategoryRepository.deleteByDepartmentId(id);
+        settingsRepository.deleteByDepartmentId(id);
+    }
+
+    private void saveDefaultSettings(Long departmentId) {
+        DepartmentSettings settings = new DepartmentSettings();
+        settings.setDepartmentId(departmentId);
+        settings.setDataJson(getDefaultSettingsJson());
+        settingsRepository.save(settings);
+    }
+
     private String getDefaultSettingsJson() {
         return """
         {
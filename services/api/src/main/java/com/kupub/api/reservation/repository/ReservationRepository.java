@@ -4,8 +4,10 @@ import com.kupub.api.reservation.entity.Reservation;
 import com.kupub.api.reservation.entity.ReservationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+    Optional<Reservation> findByIdAndDepartmentId(Long id, Long departmentId);
     List<Reservation> findByDepartmentIdOrderByCreatedAtDesc(Long departmentId);
     List<Reservation> findByDepartmentIdAndStatusOrderByCreatedAtAsc(Long departmentId, ReservationStatus status);
     void deleteByDepartmentId(Long departmentId);
@@ -0,0 +1,76 @@
+package com.kupub.api.seed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 합성 축제 데이터 생성 설정 (app.seed.*, seed 프로필)
+ *
+ * @param departments       만들 학과 수
+ * @param slugPrefix        학과 slug 접두사 ({prefix}-001 ...), 이미 있는 slug 는 건너뜀
+ * @param orders            전체 주문 수 (학과별로 departmentSkew 에 따라 나눔)
+ * @param departmentSkew    학과 규모 Zipf 지수 (0 = 균등, 1 = 1등 학과가 2등의 2배, 클수록 1등 학과에 몰림)
+ * @param categories        학과별 메뉴 카테고리 수
+ * @param menus             학과별 메뉴 수
+ * @param menuSkew          메뉴 인기 Zipf 지수 (0 = 균등)
+ * @param tables            학과별 테이블 수
+ * @param ordersPerSession  세션(한 팀)당 평균 주문 수
+ * @param itemsPerOrder     주문당 평균 메뉴 종류 수
+ * @param maxQuantity       메뉴 하나의 최대 수량
+ * @param reservationShare  예약으로 들어온 세션 비율 (나머지는 QR)
+ * @param noShowRate        예약 중 노쇼 비율 (세션 없이 NO_SHOW 예약만 생성)
+ * @param cancelRate        주문 취소 비율
+ * @param date              축제 날짜 (없으면 오늘)
+ * @param opensAt           영업 시작 시각
+ * @param openFor           영업 시간 (자정을 넘겨도 됨)
+ * @param peakAt            손님이 가장 많이 들어오는 시각
+ * @param peakSpread        입장 시각의 표준편차
+ * @param activeWindow      영업 종료 시점 기준 이 시간 안에 주문한 세션은 ACTIVE 로 남김 (진행 중 화면용)
+ * @param adminUsers        학과마다 {slug}-admin 관리자 계정 생성 (비밀번호 admin123)
+ * @param spreadShards      학과 DB 분산 시 학과를 모든 DB에 돌아가며 배치 (false 면 app.sharding.default-shard)
+ * @param batchSize         JDBC 배치 크기 (이만큼의 세션마다 커밋)
+ * @param randomSeed        난수 시드 (같은 설정 + 같은 시드면 같은 데이터)
+ * @param exitWhenDone      생성 후 애플리케이션 종료
+ */
+@ConfigurationProperties("app.seed")
+public record SeedProperties(
+        @DefaultValue("20") int departments,
+        @DefaultValue("seed") String slugPrefix,
+        @DefaultValue("100000") long orders,
+        @DefaultValue("1.0") double departmentSkew,
+        @DefaultValue("4") int categories,
+        @DefaultValue("24") int menus,
+        @DefaultValue("1.1") double menuSkew,
+        @DefaultValue("30") int tables,
+        @DefaultValue("3.0") double ordersPerSession,
+        @DefaultValue("2.5") double itemsPerOrder,
+        @DefaultValue("4") int maxQuantity,
+        @DefaultValue("0.3") double reservationShare,
+        @DefaultValue("0.05") double noShowRate,
+        @DefaultValue("0.03") double cancelRate,
+        LocalDate date,
+        @DefaultValue("18:00") LocalTime opensAt,
+        @DefaultValue("PT6H") Duration openFor,
+        @DefaultValue("20:30") LocalTime peakAt,
+        @DefaultValue("PT1H30M") Duration peakSpread,
+        @DefaultValue("PT45M") Duration activeWindow,
+        @DefaultValue("true") boolean adminUsers,
+        @DefaultValue("true") boolean spreadShards,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("42") long randomSeed,
+        @DefaultValue("true") boolean exitWhenDone) {
+
+    public SeedProperties {
+        date = date != null ? date : LocalDate.now();
+        if (departments < 1 || menus < 1 || categories < 1 || tables < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("app.seed.departments/menus/categories/tables/batch-size 는 1 이상이어야 합니다.");
+        }
+        if (ordersPerSession < 1 || itemsPerOrder < 1 || maxQuantity < 1) {
+            throw new IllegalArgumentException("app.seed.orders-per-session/items-per-order/max-quantity 는 1 이상이어야 합니다.");
+        }
+    }
+}
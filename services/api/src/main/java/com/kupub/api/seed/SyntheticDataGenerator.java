@@ -0,0 +1,730 @@
+package com.kupub.api.seed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.common.datasource.ShardIdSequences;
+import com.kupub.api.common.datasource.TenantContext;
+import com.kupub.api.common.datasource.TenantPartitionManager;
+import com.kupub.api.common.datasource.TenantRoutingDataSource;
+import com.kupub.api.config.ShardingProperties;
+import com.kupub.api.department.dto.settings.BrandingSettings;
+import com.kupub.api.department.dto.settings.DepartmentSettingsDto;
+import com.kupub.api.department.dto.settings.FlowSettings;
+import com.kupub.api.department.dto.settings.OnboardingSlide;
+import com.kupub.api.department.dto.settings.PaymentSettings;
+import com.kupub.api.department.dto.settings.PricingSettings;
+import com.kupub.api.department.dto.settings.ReservationSettings;
+import com.kupub.api.department.dto.settings.SmsSettings;
+import com.kupub.api.order.entity.OrderStatus;
+import com.kupub.api.order.entity.PaymentStatus;
+import com.kupub.api.reservation.entity.ReservationStatus;
+import com.kupub.api.session.entity.SessionStatus;
+import com.kupub.api.session.entity.SessionType;
+import com.kupub.api.tenant.entity.TenantStatus;
+import com.kupub.api.tenant.service.TenantDirectory;
+import com.kupub.api.user.entity.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 합성 축제 데이터 생성 (seed 프로필, 성능 테스트용)
+ *
+ * 학과 N개와 학과별 설정/메뉴/테이블/예약/세션/주문을 app.seed.* 분포대로 하루 저녁치 만들고 종료합니다.
+ * 실행: SPRING_PROFILES_ACTIVE=local,seed ./gradlew bootRun --args='--app.seed.departments=50 --app.seed.orders=2000000'
+ *
+ * - JPA 를 거치지 않고 JDBC 배치로 INSERT (MySQL 은 rewriteBatchedStatements=true 면 여러 행 INSERT 한 문장)
+ * - 학과 데이터의 ID는 DB의 MAX(id) 다음부터 직접 매겨서 생성 키 조회 없이 세션-주문-주문 항목을 연결
+ *   → 서버가 쓰기 요청을 받지 않는 DB에서만 실행
+ * - 학과 DB 분산(app.sharding.enabled) 중이면 학과를 DB에 배치하고, DB마다 ShardIdSequences 규칙으로 ID를 매긴 뒤 다시 맞춤
+ * - 이미 있는 slug 의 학과는 건너뜀 (한 번 더 만들려면 app.seed.slug-prefix 변경)
+ * - 세션의 계산서 누적 컬럼은 만든 주문으로 계산해서 함께 저장
+ * - 같은 테이블의 세션 시간이 겹칠 수 있음 (부하 재현용이라 배정 충돌은 따지지 않음)
+ */
+@Component
+@Profile("seed")
+@EnableConfigurationProperties(SeedProperties.class)
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String ADMIN_PASSWORD = "admin123";
+
+    private static final String INSERT_DEPARTMENT =
+            "INSERT INTO departments (slug, name, active, created_at, updated_at) VALUES (?, ?, TRUE, ?, ?)";
+    private static final String INSERT_DEPARTMENT_COPY =
+            "INSERT INTO departments (id, slug, name, active, created_at, updated_at) VALUES (?, ?, ?, TRUE, ?, ?)";
+    private static final String INSERT_USER =
+            "INSERT INTO users (username, password, department_id, role, enabled, created_at) VALUES (?, ?, ?, ?, TRUE, ?)";
+    private static final String INSERT_SETTINGS =
+            "INSERT INTO department_settings (id, department_id, data_json, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_CATEGORY =
+            "INSERT INTO menu_categories (id, department_id, name, display_order) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_MENU =
+            "INSERT INTO menus (id, department_id, category_id, name, price, description, display_order, sold_out, created_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?)";
+    private static final String INSERT_TABLE =
+            "INSERT INTO department_tables (id, department_id, code, name, capacity, posx, posy, width, height, active, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?)";
+    private static final String INSERT_RESERVATION =
+            "INSERT INTO reservations (id, department_id, name, phone, reservation_time, people, status, table_id, created_at, seated_at, finished_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SESSION =
+            "INSERT INTO guest_sessions (id, department_id, type, reservation_id, table_id, guest_name, guest_phone, people, status,"
+                    + " created_at, closed_at, last_activity_at, order_count, bill_subtotal, bill_table_fee, bill_discount, bill_total,"
+                    + " paid_total, table_fee_charged)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, TRUE)";
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (id, department_id, session_id, table_id, reservation_id, subtotal, table_fee, corkage, discount, total_price,"
+                    + " status, payment_status, guest_phone, created_at, updated_at, version)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_ITEM =
+            "INSERT INTO order_items (id, order_id, department_id, menu_id, name, price, quantity) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> DEPARTMENT_NAMES = List.of(
+            "컴퓨터학과", "경영학과", "기계공학과", "국어국문학과", "경제학과", "화학공학과", "미디어학과", "영어영문학과",
+            "전자공학과", "사회학과", "건축학과", "심리학과", "수학과", "정치외교학과", "생명공학과", "디자인학과");
+    private static final List<String> CATEGORY_NAMES = List.of(
+            "메인 안주", "튀김", "식사", "사이드", "음료", "주류", "디저트", "세트");
+    private static final List<String> MENU_NAMES = List.of(
+            "김치전", "해물파전", "떡볶이", "순대볶음", "닭꼬치", "소떡소떡", "감자튀김", "치즈볼", "오뎅탕", "라면",
+            "제육볶음", "닭강정", "골뱅이무침", "두부김치", "나초", "콘치즈", "주먹밥", "어묵꼬치", "콜라", "사이다",
+            "하이볼", "막걸리", "아이스크림", "과일화채");
+    private static final List<String> PALETTE = List.of(
+            "#E3A94B", "#2F6FED", "#D64545", "#2E9E6B", "#7A4FD6", "#E0771A", "#1B9AAA", "#C2185B");
+    private static final List<String> BANKS = List.of("국민은행", "신한은행", "우리은행", "하나은행", "농협은행", "카카오뱅크", "토스뱅크");
+    private static final List<Integer> TABLE_FEES = List.of(0, 2000, 3000, 5000);
+    private static final String SURNAMES = "김이박최정강조윤장임한오서신권황안송류홍";
+    private static final String GIVEN_SYLLABLES = "민서지현우준영수하은도윤예진성호유나";
+
+    private static final DateTimeFormatter HH_MM = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int TABLE_COLUMNS = 6;
+    private static final int TABLE_SIZE = 120;
+    private static final int TABLE_GAP = 40;
+
+    private final SeedProperties props;
+    private final DataSource dataSource;
+    private final ObjectProvider<TenantRoutingDataSource> routingDataSource;
+    private final ShardingProperties sharding;
+    private final TenantDirectory tenantDirectory;
+    private final TenantPartitionManager partitionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext context;
+
+    public SyntheticDataGenerator(SeedProperties props,
+                                  DataSource dataSource,
+                                  ObjectProvider<TenantRoutingDataSource> routingDataSource,
+                                  ShardingProperties sharding,
+                                  TenantDirectory tenantDirectory,
+                                  TenantPartitionManager partitionManager,
+                                  PasswordEncoder passwordEncoder,
+                                  ObjectMapper objectMapper,
+                                  ConfigurableApplicationContext context) {
+        this.props = props;
+        this.dataSource = dataSource;
+        this.routingDataSource = routingDataSource;
+        this.sharding = sharding;
+        this.tenantDirectory = tenantDirectory;
+        this.partitionManager = partitionManager;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.context = context;
+    }
+
+    @Override
+    public void run(String... args) throws SQLException {
+        long started = System.nanoTime();
+        Evening evening = Evening.of(props);
+        log.info("Seeding {} departments / {} orders for {} ~ {}",
+                props.departments(), props.orders(), evening.opensAt(), evening.closesAt());
+
+        List<Tenant> tenants = createDepartments(evening.opensAt().minusDays(7));
+        // 새 학과 ID의 파티션을 먼저 만들어야 MAXVALUE 파티션을 쪼갤 때 옮길 행이 없음
+        partitionManager.sync();
+
+        Map<String, List<Tenant>> byShard = new LinkedHashMap<>();
+        tenants.forEach(tenant -> byShard.computeIfAbsent(tenant.shard(), shard -> new ArrayList<>()).add(tenant));
+        Counts total = new Counts();
+        for (Map.Entry<String, List<Tenant>> entry : byShard.entrySet()) {
+            String shard = entry.getKey();
+            try (Connection connection = dataSource(shard).getConnection()) {
+                connection.setAutoCommit(false);
+                IdAllocator ids = new IdAllocator(connection, sharding.enabled() ? sharding.idOffsetOf(shard) : 0);
+                for (Tenant tenant : entry.getValue()) {
+                    long tenantStarted = System.nanoTime();
+                    Counts counts = new TenantWriter(connection, ids, tenant, evening).write();
+                    total.add(counts);
+                    log.info("Seeded {} ({}, {}): {} in {} ms", tenant.slug(), tenant.id(), shard, counts,
+                            Duration.ofNanos(System.nanoTime() - tenantStarted).toMillis());
+                }
+                connection.setAutoCommit(true);
+                if (sharding.enabled()) {
+                    // 직접 매긴 ID 다음부터 이 DB의 규칙으로 생성되도록 다시 맞춤
+                    ShardIdSequences.align(connection, sharding.idOffsetOf(shard));
+                }
+            }
+        }
+
+        long millis = Math.max(1, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        log.info("Seed finished: {} departments, {} in {} s ({} rows/s)",
+                tenants.size(), total, millis / 1000, total.rows() * 1000 / millis);
+        if (props.exitWhenDone()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    // ========== 학과 (중앙 DB) ==========
+
+    private List<Tenant> createDepartments(LocalDateTime createdAt) throws SQLException {
+        long[] orders = split(props.orders(), zipfWeights(props.departments(), props.departmentSkew()));
+        List<String> shards = tenantDirectory.shards();
+        String password = props.adminUsers() ? passwordEncoder.encode(ADMIN_PASSWORD) : null;
+
+        List<Tenant> tenants = new ArrayList<>();
+        try (Connection connection = dataSource(TenantContext.CENTRAL).getConnection()) {
+            connection.setAutoCommit(false);
+            for (int i = 0; i < props.departments(); i++) {
+                String slug = "%s-%03d".formatted(props.slugPrefix(), i + 1);
+                if (exists(connection, "SELECT 1 FROM departments WHERE slug = ?", slug)) {
+                    log.info("Seed skipped existing department: {}", slug);
+                    continue;
+                }
+                String name = DEPARTMENT_NAMES.get(i % DEPARTMENT_NAMES.size())
+                        + (i < DEPARTMENT_NAMES.size() ? "" : " " + (i / DEPARTMENT_NAMES.size() + 1));
+                long id = insertDepartment(connection, slug, name, createdAt);
+                String username = slug + "-admin";
+                if (password != null && !exists(connection, "SELECT 1 FROM users WHERE username = ?", username)) {
+                    execute(connection, INSERT_USER, username, password, id, UserRole.DEPT_ADMIN.name(), createdAt);
+                }
+                String shard = props.spreadShards() ? shards.get(i % shards.size()) : tenantDirectory.defaultShard();
+                tenants.add(new Tenant(i, id, slug, name, shard, orders[i]));
+            }
+            connection.commit();
+        }
+
+        for (Tenant tenant : tenants) {
+            if (TenantContext.CENTRAL.equals(tenant.shard())) {
+                continue;
+            }
+            tenantDirectory.place(tenant.id(), tenant.shard(), TenantStatus.ACTIVE);
+            try (Connection connection = dataSource(tenant.shard()).getConnection()) {
+                execute(connection, INSERT_DEPARTMENT_COPY, tenant.id(), tenant.slug(), tenant.name(), createdAt, createdAt);
+            }
+        }
+        return tenants;
+    }
+
+    private static long insertDepartment(Connection connection, String slug, String name, LocalDateTime createdAt)
+            throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_DEPARTMENT, Statement.RETURN_GENERATED_KEYS)) {
+            bind(ps, slug, name, createdAt, createdAt);
+            ps.executeUpdate();
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    // ========== 학과 데이터 (학과 DB) ==========
+
+    /**
+     * 학과 하나의 데이터 생성 (카탈로그 커밋 후 세션 batch-size 개마다 커밋)
+     */
+    private final class TenantWriter {
+
+        private final Connection connection;
+        private final IdAllocator ids;
+        private final Tenant tenant;
+        private final Evening evening;
+        private final Random random;
+        private final Counts counts = new Counts();
+
+        private long[] menuIds;
+        private String[] menuNames;
+        private int[] menuPrices;
+        private double[] menuPopularity;
+        private long[] tableIds;
+        private int tableFee;
+
+        private final List<Object[]> reservations = new ArrayList<>();
+        private final List<Object[]> sessions = new ArrayList<>();
+        private final List<Object[]> orders = new ArrayList<>();
+        private final List<Object[]> items = new ArrayList<>();
+
+        TenantWriter(Connection connection, IdAllocator ids, Tenant tenant, Evening evening) {
+            this.connection = connection;
+            this.ids = ids;
+            this.tenant = tenant;
+            this.evening = evening;
+            this.random = new Random(props.randomSeed() * 31 + tenant.index());
+        }
+
+        Counts write() throws SQLException {
+            writeCatalog();
+            long remaining = tenant.orders();
+            while (remaining > 0) {
+                remaining -= session(remaining);
+                if (sessions.size() >= props.batchSize()) {
+                    flush();
+                }
+            }
+            flush();
+            return counts;
+        }
+
+        private void writeCatalog() throws SQLException {
+            LocalDateTime createdAt = evening.opensAt().minusDays(3);
+            tableFee = TABLE_FEES.get(random.nextInt(TABLE_FEES.size()));
+            insert(INSERT_SETTINGS, List.<Object[]>of(new Object[]{
+                    ids.next("department_settings"), tenant.id(), settingsJson(), createdAt, createdAt}));
+
+            long[] categoryIds = new long[props.categories()];
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < categoryIds.length; i++) {
+                categoryIds[i] = ids.next("menu_categories");
+                String name = CATEGORY_NAMES.get(i % CATEGORY_NAMES.size())
+                        + (i < CATEGORY_NAMES.size() ? "" : " " + (i / CATEGORY_NAMES.size() + 1));
+                rows.add(new Object[]{categoryIds[i], tenant.id(), name, i});
+            }
+            insert(INSERT_CATEGORY, rows);
+
+            menuIds = new long[props.menus()];
+            menuNames = new String[props.menus()];
+            menuPrices = new int[props.menus()];
+            rows.clear();
+            for (int i = 0; i < menuIds.length; i++) {
+                menuIds[i] = ids.next("menus");
+                menuNames[i] = MENU_NAMES.get(i % MENU_NAMES.size())
+                        + (i < MENU_NAMES.size() ? "" : " " + (i / MENU_NAMES.size() + 1));
+                menuPrices[i] = 3000 + random.nextInt(35) * 500;
+                rows.add(new Object[]{menuIds[i], tenant.id(), categoryIds[i % categoryIds.length], menuNames[i],
+                        menuPrices[i], null, i, createdAt});
+            }
+            insert(INSERT_MENU, rows);
+            // 인기 순위는 메뉴 순서와 무관하게 섞음
+            menuPopularity = cumulative(shuffle(zipfWeights(menuIds.length, props.menuSkew())));
+
+            tableIds = new long[props.tables()];
+            rows.clear();
+            for (int i = 0; i < tableIds.length; i++) {
+                tableIds[i] = ids.next("department_tables");
+                int column = i % TABLE_COLUMNS;
+                int row = i / TABLE_COLUMNS;
+                rows.add(new Object[]{tableIds[i], tenant.id(), "T" + (i + 1), (i + 1) + "번 테이블", 4 + random.nextInt(3),
+                        column * (TABLE_SIZE + TABLE_GAP), row * (TABLE_SIZE + TABLE_GAP), TABLE_SIZE, TABLE_SIZE,
+                        createdAt, createdAt});
+            }
+            insert(INSERT_TABLE, rows);
+            connection.commit();
+            counts.catalog += 1 + categoryIds.length + menuIds.length + tableIds.length;
+        }
+
+        /**
+         * 세션 하나와 그 주문 생성
+         *
+         * @return 만든 주문 수 (maxOrders 이하)
+         */
+        private int session(long maxOrders) {
+            LocalDateTime arrival = evening.arrival(random);
+            int wanted = (int) Math.min(maxOrders, 1 + poisson(props.ordersPerSession() - 1));
+            List<LocalDateTime> orderTimes = new ArrayList<>();
+            LocalDateTime at = arrival.plusMinutes(3 + random.nextInt(8));
+            while (orderTimes.size() < wanted && at.isBefore(evening.closesAt())) {
+                orderTimes.add(at);
+                at = at.plusMinutes(10 + random.nextInt(31));
+            }
+            if (orderTimes.isEmpty()) {
+                orderTimes.add(evening.closesAt());
+            }
+            LocalDateTime lastOrder = orderTimes.getLast();
+            boolean active = Duration.between(lastOrder, evening.closesAt()).compareTo(props.activeWindow()) < 0;
+            LocalDateTime closedAt = active ? null : min(lastOrder.plusMinutes(15 + random.nextInt(31)), evening.closesAt());
+
+            long sessionId = ids.next("guest_sessions");
+            long tableId = tableIds[random.nextInt(tableIds.length)];
+            int people = 2 + random.nextInt(5);
+            String guestName = null;
+            String guestPhone = null;
+            Long reservationId = null;
+            boolean reserved = random.nextDouble() < props.reservationShare();
+            if (reserved) {
+                guestName = personName();
+                guestPhone = phone();
+                reservationId = ids.next("reservations");
+                reservations.add(reservation(reservationId, guestName, guestPhone, arrival, people, tableId,
+                        active ? ReservationStatus.SEATED : ReservationStatus.DONE, arrival, closedAt));
+                if (random.nextDouble() < props.noShowRate()) {
+                    reservations.add(reservation(ids.next("reservations"), personName(), phone(), arrival,
+                            2 + random.nextInt(5), null, ReservationStatus.NO_SHOW, null, null));
+                }
+            }
+
+            int orderCount = 0;
+            int billSubtotal = 0;
+            int billTableFee = 0;
+            int paidTotal = 0;
+            for (int i = 0; i < orderTimes.size(); i++) {
+                LocalDateTime createdAt = orderTimes.get(i);
+                long orderId = ids.next("orders");
+                int subtotal = orderItems(orderId, createdAt);
+                int fee = i == 0 ? tableFee : 0;
+                int total = subtotal + fee;
+                OrderStatus status;
+                PaymentStatus payment;
+                long age = Duration.between(createdAt, evening.closesAt()).toMinutes();
+                if (random.nextDouble() < props.cancelRate()) {
+                    status = OrderStatus.CANCELLED;
+                    payment = PaymentStatus.FAILED;
+                } else if (age < 10) {
+                    status = OrderStatus.PENDING;
+                    payment = PaymentStatus.PENDING;
+                } else if (age < 25) {
+                    status = OrderStatus.PREPARING;
+                    payment = PaymentStatus.CONFIRMED;
+                } else {
+                    status = OrderStatus.DONE;
+                    payment = PaymentStatus.CONFIRMED;
+                }
+                LocalDateTime updatedAt = status == OrderStatus.PENDING
+                        ? createdAt : min(createdAt.plusMinutes(5 + random.nextInt(20)), evening.closesAt());
+                orders.add(new Object[]{orderId, tenant.id(), sessionId, tableId, reservationId, subtotal, fee, total,
+                        status.name(), payment.name(), guestPhone, createdAt, updatedAt});
+                if (status != OrderStatus.CANCELLED) {
+                    orderCount++;
+                    billSubtotal += subtotal;
+                    billTableFee += fee;
+                    paidTotal += payment == PaymentStatus.CONFIRMED ? total : 0;
+                }
+            }
+
+            sessions.add(new Object[]{sessionId, tenant.id(),
+                    (reserved ? SessionType.RESERVATION : SessionType.QR).name(), reservationId, tableId,
+                    guestName, guestPhone, people, (active ? SessionStatus.ACTIVE : SessionStatus.CLOSED).name(),
+                    arrival, closedAt, lastOrder, orderCount, billSubtotal, billTableFee, billSubtotal + billTableFee, paidTotal});
+            return orderTimes.size();
+        }
+
+        /**
+         * 주문 항목 생성 (서로 다른 메뉴, 인기 분포대로)
+         *
+         * @return 메뉴 소계
+         */
+        private int orderItems(long orderId, LocalDateTime createdAt) {
+            int lines = (int) Math.min(menuIds.length, 1 + poisson(props.itemsPerOrder() - 1));
+            boolean[] picked = new boolean[menuIds.length];
+            int subtotal = 0;
+            for (int i = 0; i < lines; i++) {
+                int menu = pick(menuPopularity, random);
+                // 인기 메뉴에 몰리면 다음 메뉴로 (같은 메뉴는 수량으로만 표현)
+                while (picked[menu]) {
+                    menu = (menu + 1) % menuIds.length;
+                }
+                picked[menu] = true;
+                int quantity = (int) Math.min(props.maxQuantity(), 1 + poisson(0.4));
+                subtotal += menuPrices[menu] * quantity;
+                items.add(new Object[]{ids.next("order_items"), orderId, tenant.id(), menuIds[menu], menuNames[menu],
+                        menuPrices[menu], quantity});
+            }
+            return subtotal;
+        }
+
+        private Object[] reservation(long id, String name, String phone, LocalDateTime arrival, int people, Long tableId,
+                                     ReservationStatus status, LocalDateTime seatedAt, LocalDateTime finishedAt) {
+            LocalDateTime slot = arrival.truncatedTo(ChronoUnit.HOURS).plusMinutes(arrival.getMinute() < 30 ? 0 : 30);
+            LocalDateTime createdAt = slot.minusMinutes(30 + random.nextInt(600));
+            return new Object[]{id, tenant.id(), name, phone, slot, people, status.name(), tableId, createdAt,
+                    seatedAt, finishedAt};
+        }
+
+        private void flush() throws SQLException {
+            insert(INSERT_RESERVATION, reservations);
+            insert(INSERT_SESSION, sessions);
+            insert(INSERT_ORDER, orders);
+            insert(INSERT_ITEM, items);
+            connection.commit();
+            counts.reservations += reservations.size();
+            counts.sessions += sessions.size();
+            counts.orders += orders.size();
+            counts.items += items.size();
+            reservations.clear();
+            sessions.clear();
+            orders.clear();
+            items.clear();
+        }
+
+        private void insert(String sql, List<Object[]> rows) throws SQLException {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                int count = 0;
+                for (Object[] row : rows) {
+                    bind(ps, row);
+                    ps.addBatch();
+                    if (++count % props.batchSize() == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                if (count % props.batchSize() != 0) {
+                    ps.executeBatch();
+                }
+            }
+        }
+
+        private String settingsJson() {
+            LocalDateTime closesAt = evening.closesAt();
+            DepartmentSettingsDto settings = new DepartmentSettingsDto(
+                    new BrandingSettings(PALETTE.get(random.nextInt(PALETTE.size())), null, null),
+                    new FlowSettings(props.reservationShare() > 0 ? List.of("reservation", "qr") : List.of("qr"),
+                            true, false, true, true),
+                    new ReservationSettings(evening.opensAt().format(HH_MM), closesAt.format(HH_MM), 30, 90, 6, null),
+                    new PaymentSettings("transfer", BANKS.get(random.nextInt(BANKS.size())),
+                            "%03d-%06d-%02d".formatted(random.nextInt(1000), random.nextInt(1_000_000), random.nextInt(100)),
+                            tenant.name() + " 학생회", null),
+                    new PricingSettings(tableFee, 0, List.of()),
+                    SmsSettings.defaults(),
+                    null,
+                    OnboardingSlide.defaults(),
+                    List.of());
+            try {
+                return objectMapper.writeValueAsString(settings);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private String personName() {
+            return "" + SURNAMES.charAt(random.nextInt(SURNAMES.length()))
+                    + GIVEN_SYLLABLES.charAt(random.nextInt(GIVEN_SYLLABLES.length()))
+                    + GIVEN_SYLLABLES.charAt(random.nextInt(GIVEN_SYLLABLES.length()));
+        }
+
+        private String phone() {
+            return "010%08d".formatted(random.nextInt(100_000_000));
+        }
+
+        private long poisson(double mean) {
+            if (mean <= 0) {
+                return 0;
+            }
+            double limit = Math.exp(-mean);
+            double product = random.nextDouble();
+            long count = 0;
+            while (product > limit) {
+                product *= random.nextDouble();
+                count++;
+            }
+            return count;
+        }
+
+        private double[] shuffle(double[] values) {
+            for (int i = values.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                double tmp = values[i];
+                values[i] = values[j];
+                values[j] = tmp;
+            }
+            return values;
+        }
+    }
+
+    // ========== Private Methods ==========
+
+    private DataSource dataSource(String shard) {
+        return sharding.enabled() ? routingDataSource.getObject().shard(shard) : dataSource;
+    }
+
+    private static boolean exists(Connection connection, String sql, Object value) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            bind(ps, value);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql, Object... values) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            bind(ps, values);
+            ps.executeUpdate();
+        }
+    }
+
+    private static void bind(PreparedStatement ps, Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            ps.setObject(i + 1, values[i]);
+        }
+    }
+
+    /**
+     * 순위 r(0부터)의 비중 1/(r+1)^exponent, 합계 1
+     */
+    static double[] zipfWeights(int count, double exponent) {
+        double[] weights = new double[count];
+        double sum = 0;
+        for (int r = 0; r < count; r++) {
+            weights[r] = 1 / Math.pow(r + 1, exponent);
+            sum += weights[r];
+        }
+        for (int r = 0; r < count; r++) {
+            weights[r] /= sum;
+        }
+        return weights;
+    }
+
+    /**
+     * total 을 비중대로 나눔 (반올림 오차는 첫 번째 몫에)
+     */
+    static long[] split(long total, double[] weights) {
+        long[] parts = new long[weights.length];
+        long assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            parts[i] = (long) Math.floor(total * weights[i]);
+            assigned += parts[i];
+        }
+        parts[0] += total - assigned;
+        return parts;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = Arrays.copyOf(weights, weights.length);
+        for (int i = 1; i < cumulative.length; i++) {
+            cumulative[i] += cumulative[i - 1];
+        }
+        cumulative[cumulative.length - 1] = 1.0;
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * 학과 DB 하나의 테이블별 다음 ID (MAX(id) 다음부터, 분산 중이면 그 DB의 나머지로)
+     */
+    private static final class IdAllocator {
+
+        private final Connection connection;
+        private final int offset;
+        private final Map<String, Long> last = new HashMap<>();
+
+        /**
+         * @param offset ShardIdSequences 의 DB 나머지 (0 이면 분산하지 않는 DB라 1씩 증가)
+         */
+        IdAllocator(Connection connection, int offset) {
+            this.connection = connection;
+            this.offset = offset;
+        }
+
+        long next(String table) {
+            long after = last.computeIfAbsent(table, this::maxId);
+            long id = offset == 0 ? after + 1 : ShardIdSequences.next(after, offset);
+            last.put(table, id);
+            return id;
+        }
+
+        private long maxId(String table) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                rs.next();
+                long maxId = rs.getLong(1);
+                return offset == 0 ? maxId : Math.max(maxId, ShardIdSequences.baseOf(offset));
+            } catch (SQLException e) {
+                throw new IllegalStateException("MAX(id) 조회 실패: " + table, e);
+            }
+        }
+    }
+
+    /**
+     * 영업 시간과 입장 분포
+     */
+    private record Evening(LocalDateTime opensAt, LocalDateTime closesAt, LocalDateTime peakAt, Duration peakSpread) {
+
+        static Evening of(SeedProperties props) {
+            LocalDateTime opensAt = props.date().atTime(props.opensAt());
+            LocalDateTime peakAt = props.date().atTime(props.peakAt());
+            if (peakAt.isBefore(opensAt)) {
+                peakAt = peakAt.plusDays(1);
+            }
+            return new Evening(opensAt, opensAt.plus(props.openFor()), peakAt, props.peakSpread());
+        }
+
+        /**
+         * 입장 시각 (peakAt 중심 정규분포, 마감 15분 전까지)
+         */
+        LocalDateTime arrival(Random random) {
+            long seconds = Math.round(random.nextGaussian() * peakSpread.toSeconds());
+            LocalDateTime at = peakAt.plusSeconds(seconds);
+            LocalDateTime last = closesAt.minusMinutes(15);
+            if (at.isBefore(opensAt)) {
+                return opensAt.plusSeconds(random.nextInt(600));
+            }
+            return at.isAfter(last) ? last.minusSeconds(random.nextInt(600)) : at;
+        }
+    }
+
+    /**
+     * @param index  설정의 학과 순서 (0 = 가장 큰 학과, 난수 시드에 사용)
+     * @param orders 이 학과에 만들 주문 수
+     */
+    private record Tenant(int index, long id, String slug, String name, String shard, long orders) {
+    }
+
+    private static final class Counts {
+        long catalog;
+        long reservations;
+        long sessions;
+        long orders;
+        long items;
+
+        void add(Counts other) {
+            catalog += other.catalog;
+            reservations += other.reservations;
+            sessions += other.sessions;
+            orders += other.orders;
+            items += other.items;
+        }
+
+        long rows() {
+            return catalog + reservations + sessions + orders + items;
+        }
+
+        @Override
+        public String toString() {
+            return "catalog=%d reservations=%d sessions=%d orders=%d items=%d"
+                    .formatted(catalog, reservations, sessions, orders, items);
+        }
+    }
+}
@@ -60,23 +60,7 @@ public class AdminSessionController {
 
         Long deptId = departmentService.getBySlug(deptSlug).getId();
 
-        List<GuestSession> sessions = includeAll
-                ? sessionService.getAllSessions(deptId)
-                : sessionService.getActiveSessions(deptId);
-
-        List<SessionDto> dtos = sessions.stream()
-                .map(session -> {
-                    String tableCode = null;
-                    if (session.getTableId() != null) {
-                        try {
-                            DepartmentTable table = tableService.getTable(session.getTableId());
-                            tableCode = table.getCode();
-                        } catch (Exception ignored) {
-                        }
-                    }
-                    return SessionDto.from(session, tableCode);
-                })
-                .toList();
+        List<SessionDto> dtos = sessionService.getSessionDtos(deptId, includeAll);
 
         return ResponseEntity.ok(ApiResponse.ok(dtos));
     }
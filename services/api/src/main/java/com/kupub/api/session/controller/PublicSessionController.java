@@ -2,6 +2,7 @@ package com.kupub.api.session.controller;
 
 import com.kupub.api.common.dto.ApiResponse;
 import com.kupub.api.department.service.DepartmentService;
+import com.kupub.api.session.dto.SessionBillDto;
 import com.kupub.api.session.dto.SessionDto;
 import com.kupub.api.session.dto.StartSessionRequest;
 import com.kupub.api.session.entity.GuestSession;
@@ -70,10 +71,8 @@ public class PublicSessionController {
 
         log.debug("GET /api/{}/sessions/{}", deptSlug, sessionId);
 
-        // 비활성 학과 차단
-        departmentService.getActiveBySlug(deptSlug);
-
-        GuestSession session = sessionService.getSession(sessionId);
+        Long deptId = departmentService.getActiveBySlug(deptSlug).getId();
+        GuestSession session = sessionService.getSessionForDepartment(deptId, sessionId);
 
         String tableCode = null;
         if (session.getTableId() != null) {
@@ -84,6 +83,22 @@ public class PublicSessionController {
         return ResponseEntity.ok(ApiResponse.ok(SessionDto.from(session, tableCode)));
     }
 
+    /**
+     * 세션 계산서 (주문 목록 없이 누적 금액만)
+     */
+    @GetMapping("/{id}/bill")
+    public ResponseEntity<ApiResponse<SessionBillDto>> getSessionBill(
+            @PathVariable("dept") String deptSlug,
+            @PathVariable("id") Long sessionId) {
+
+        log.debug("GET /api/{}/sessions/{}/bill", deptSlug, sessionId);
+
+        Long deptId = departmentService.getActiveBySlug(deptSlug).getId();
+        GuestSession session = sessionService.getSessionForDepartment(deptId, sessionId);
+
+        return ResponseEntity.ok(ApiResponse.ok(SessionBillDto.from(session)));
+    }
+
     /**
      * 세션 코드로 조회
      */
@@ -0,0 +1,32 @@
+package com.kupub.api.session.dto;
+
+import com.kupub.api.session.entity.GuestSession;
+
+/**
+ * 세션 계산서 응답 DTO (세션에 누적된 값, 취소 주문 제외)
+ */
+public record SessionBillDto(
+        Long sessionId,
+        Integer orderCount,       // 주문 수
+        Integer subtotal,         // 메뉴 소계 합계
+        Integer tableFee,         // 테이블비 합계
+        Integer discount,         // 할인 합계 (음수)
+        Integer total,            // 총액 합계
+        Integer paidTotal,        // 결제 확인된 금액
+        Integer unpaidTotal,      // 미결제 금액 (total - paidTotal)
+        boolean tableFeeCharged   // 테이블비 처리 여부 (true면 다음 주문에 테이블비 없음)
+) {
+    public static SessionBillDto from(GuestSession session) {
+        return new SessionBillDto(
+                session.getId(),
+                session.getOrderCount(),
+                session.getBillSubtotal(),
+                session.getBillTableFee(),
+                session.getBillDiscount(),
+                session.getBillTotal(),
+                session.getPaidTotal(),
+                session.getBillTotal() - session.getPaidTotal(),
+                session.isTableFeeCharged()
+        );
+    }
+}
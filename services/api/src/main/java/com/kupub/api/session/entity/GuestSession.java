@@ -72,11 +72,67 @@ public class GuestSession {
     private LocalDateTime createdAt;
     private LocalDateTime closedAt;
 
+    /**
+     * 마지막 활동 시각 (시작/주문/재오픈, 오래되면 SessionSweeper 가 자동 종료)
+     * - 계산서 누적과 같은 이유로 GuestSessionRepository 의 UPDATE 로만 갱신
+     */
+    @Column(updatable = false)
+    private LocalDateTime lastActivityAt;
+
+    // ========== 계산서 누적 ==========
+    // 주문 생성/결제 상태 변경/취소 시 GuestSessionRepository 의 한 문장 UPDATE 로만 증감.
+    // 엔티티 저장(테이블 배정, 종료 등)이 오래된 값으로 덮어쓰지 않도록 updatable = false.
+
+    /**
+     * 주문 수 (취소 제외)
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer orderCount = 0;
+
+    /**
+     * 메뉴 소계 합계 (취소 제외)
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer billSubtotal = 0;
+
+    /**
+     * 테이블비 합계 (취소 제외)
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer billTableFee = 0;
+
+    /**
+     * 할인 합계 (음수, 취소 제외)
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer billDiscount = 0;
+
+    /**
+     * 총액 합계 (취소 제외)
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer billTotal = 0;
+
+    /**
+     * 결제 확인된 금액 합계 (취소 제외)
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer paidTotal = 0;
+
+    /**
+     * 테이블비 처리 여부
+     * - 첫 주문에서 true (테이블비가 0원이거나 제외 요청이어도), 이후 주문에는 테이블비 없음
+     * - 첫 주문이 취소되어도 다시 부과하지 않음
+     */
+    @Column(nullable = false, updatable = false)
+    private Boolean tableFeeCharged = false;
+
     // ========== Lifecycle ==========
 
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.lastActivityAt = this.createdAt;
     }
 
     // ========== Constructors ==========
@@ -191,5 +247,37 @@ public class GuestSession {
     public LocalDateTime getClosedAt() {
         return closedAt;
     }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public Integer getOrderCount() {
+        return orderCount;
+    }
+
+    public Integer getBillSubtotal() {
+        return billSubtotal;
+    }
+
+    public Integer getBillTableFee() {
+        return billTableFee;
+    }
+
+    public Integer getBillDiscount() {
+        return billDiscount;
+    }
+
+    public Integer getBillTotal() {
+        return billTotal;
+    }
+
+    public Integer getPaidTotal() {
+        return paidTotal;
+    }
+
+    public boolean isTableFeeCharged() {
+        return Boolean.TRUE.equals(tableFeeCharged);
+    }
 }
 
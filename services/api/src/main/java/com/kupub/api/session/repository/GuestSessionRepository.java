@@ -1,10 +1,17 @@
 package com.kupub.api.session.repository;
 
+import com.kupub.api.session.dto.SessionDto;
 import com.kupub.api.session.entity.GuestSession;
 import com.kupub.api.session.entity.SessionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,15 +19,33 @@ import java.util.Optional;
 public interface GuestSessionRepository extends JpaRepository<GuestSession, Long> {
 
     /**
-     * 학과의 활성 세션 목록
+     * 학과 소속 세션 단건 (다른 학과 세션이면 empty)
      */
-    List<GuestSession> findByDepartmentIdAndStatusOrderByCreatedAtDesc(
-            Long departmentId, SessionStatus status);
+    Optional<GuestSession> findByIdAndDepartmentId(Long id, Long departmentId);
+
+    // ========== 목록 조회 (DTO 프로젝션) ==========
+    // 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 쓰는 컬럼만 읽음, 테이블 코드는 같은 쿼리에서 조인
+
+    String SESSION_DTO = """
+            SELECT new com.kupub.api.session.dto.SessionDto(
+                       s.id, s.departmentId, s.type, s.reservationId, s.tableId, t.code, s.sessionCode,
+                       s.guestName, s.guestPhone, s.people, s.status, s.createdAt, s.closedAt)
+              FROM GuestSession s
+              LEFT JOIN DepartmentTable t ON t.id = s.tableId
+            """;
+
+    /**
+     * 학과 + 상태별 세션 목록 (최신순)
+     */
+    @Query(SESSION_DTO + " WHERE s.departmentId = :departmentId AND s.status = :status ORDER BY s.createdAt DESC")
+    List<SessionDto> findDtosByDepartmentIdAndStatus(@Param("departmentId") Long departmentId,
+                                                     @Param("status") SessionStatus status);
 
     /**
      * 학과의 모든 세션 (최신순)
      */
-    List<GuestSession> findByDepartmentIdOrderByCreatedAtDesc(Long departmentId);
+    @Query(SESSION_DTO + " WHERE s.departmentId = :departmentId ORDER BY s.createdAt DESC")
+    List<SessionDto> findDtosByDepartmentId(@Param("departmentId") Long departmentId);
 
     /**
      * 예약 ID로 세션 조회
@@ -42,9 +67,149 @@ public interface GuestSessionRepository extends JpaRepository<GuestSession, Long
      */
     boolean existsByDepartmentIdAndSessionCode(Long departmentId, String sessionCode);
 
+    /**
+     * 학과 소속 세션 삭제 (엔티티를 읽지 않고 한 문장, 다른 학과 세션이면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM GuestSession s WHERE s.id = :id AND s.departmentId = :departmentId")
+    int deleteByIdAndDepartmentId(@Param("id") Long id, @Param("departmentId") Long departmentId);
+
     /**
      * 학과의 모든 세션 삭제
      */
     void deleteByDepartmentId(Long departmentId);
+
+    // ========== 계산서 누적 ==========
+    // 세션 행 하나에 대한 한 문장 UPDATE (동시 주문은 행 잠금으로 순서대로 반영)
+
+    /**
+     * 테이블비 처리 (첫 주문만 1 반환, 동시에 들어온 첫 주문 중 하나만 성공)
+     */
+    @Modifying
+    @Query("""
+            UPDATE GuestSession s
+               SET s.tableFeeCharged = true
+             WHERE s.id = :id
+               AND s.tableFeeCharged = false
+            """)
+    int claimTableFee(@Param("id") Long id);
+
+    /**
+     * 계산서 누적값 증감 (음수면 차감)
+     */
+    @Modifying
+    @Query("""
+            UPDATE GuestSession s
+               SET s.orderCount = s.orderCount + :orderCount,
+                   s.billSubtotal = s.billSubtotal + :subtotal,
+                   s.billTableFee = s.billTableFee + :tableFee,
+                   s.billDiscount = s.billDiscount + :discount,
+                   s.billTotal = s.billTotal + :total,
+                   s.paidTotal = s.paidTotal + :paid
+             WHERE s.id = :id
+            """)
+    int addToBill(@Param("id") Long id,
+                  @Param("orderCount") int orderCount,
+                  @Param("subtotal") int subtotal,
+                  @Param("tableFee") int tableFee,
+                  @Param("discount") int discount,
+                  @Param("total") int total,
+                  @Param("paid") int paid);
+
+    /**
+     * 새 주문 반영 (계산서 누적 + 마지막 활동 시각, status 인 세션만)
+     *
+     * 주문 검증 후 그사이 자동 종료/직원 종료된 세션이면 0 (종료된 세션에 주문이 쌓이지 않도록)
+     */
+    @Modifying
+    @Query("""
+            UPDATE GuestSession s
+               SET s.orderCount = s.orderCount + :orderCount,
+                   s.billSubtotal = s.billSubtotal + :subtotal,
+                   s.billTableFee = s.billTableFee + :tableFee,
+                   s.billDiscount = s.billDiscount + :discount,
+                   s.billTotal = s.billTotal + :total,
+                   s.paidTotal = s.paidTotal + :paid,
+                   s.lastActivityAt = :at
+             WHERE s.id = :id
+               AND s.status = :status
+            """)
+    int addOrderToBill(@Param("id") Long id,
+                       @Param("orderCount") int orderCount,
+                       @Param("subtotal") int subtotal,
+                       @Param("tableFee") int tableFee,
+                       @Param("discount") int discount,
+                       @Param("total") int total,
+                       @Param("paid") int paid,
+                       @Param("at") LocalDateTime at,
+                       @Param("status") SessionStatus status);
+
+    // ========== 자동 종료 (SessionSweeper) ==========
+    // idx_sessions_status_dept_activity(status, department_id, last_activity_at) 로 활성 세션만 읽음
+
+    /**
+     * 마지막 활동 시각 갱신 (재오픈 등)
+     */
+    @Modifying
+    @Query("UPDATE GuestSession s SET s.lastActivityAt = :at WHERE s.id = :id")
+    int touch(@Param("id") Long id, @Param("at") LocalDateTime at);
+
+    /**
+     * 해당 상태의 세션이 있는 학과
+     */
+    @Query("SELECT DISTINCT s.departmentId FROM GuestSession s WHERE s.status = :status")
+    List<Long> findDepartmentIdsByStatus(@Param("status") SessionStatus status);
+
+    /**
+     * before 이후 활동이 없고 결제할 금액이 남지 않은 세션 ID (오래된 순, page 크기만큼)
+     */
+    @Query("""
+            SELECT s.id FROM GuestSession s
+             WHERE s.status = :status
+               AND s.departmentId = :departmentId
+               AND s.lastActivityAt < :before
+               AND s.paidTotal >= s.billTotal
+             ORDER BY s.lastActivityAt
+            """)
+    List<Long> findIdleIds(@Param("departmentId") Long departmentId,
+                           @Param("status") SessionStatus status,
+                           @Param("before") LocalDateTime before,
+                           Pageable page);
+
+    /**
+     * 활동 없는 세션 일괄 종료 (그사이 주문/재오픈/직원 종료되었거나 결제할 금액이 생긴 세션은 조건에서 빠짐)
+     */
+    @Modifying
+    @Query("""
+            UPDATE GuestSession s
+               SET s.status = :closed,
+                   s.closedAt = :now
+             WHERE s.departmentId = :departmentId
+               AND s.id IN :ids
+               AND s.status = :active
+               AND s.lastActivityAt < :before
+               AND s.paidTotal >= s.billTotal
+            """)
+    int closeIdle(@Param("departmentId") Long departmentId,
+                  @Param("ids") Collection<Long> ids,
+                  @Param("before") LocalDateTime before,
+                  @Param("now") LocalDateTime now,
+                  @Param("active") SessionStatus active,
+                  @Param("closed") SessionStatus closed);
+
+    /**
+     * ids 중 closedAt 에 종료된 세션 ID (일괄 종료에서 일부가 빠졌을 때 실제로 닫힌 세션 확인)
+     */
+    @Query("""
+            SELECT s.id FROM GuestSession s
+             WHERE s.departmentId = :departmentId
+               AND s.id IN :ids
+               AND s.status = :status
+               AND s.closedAt = :closedAt
+            """)
+    List<Long> findIdsClosedAt(@Param("departmentId") Long departmentId,
+                               @Param("ids") Collection<Long> ids,
+                               @Param("status") SessionStatus status,
+                               @Param("closedAt") LocalDateTime closedAt);
 }
 
@@ -0,0 +1,40 @@
+package com.kupub.api.session.service;
+
+/**
+ * 세션 계산서 증감분 (음수면 차감)
+ */
+public record SessionBillDelta(
+        int orderCount,
+        int subtotal,
+        int tableFee,
+        int discount,
+        int total,
+        int paid
+) {
+    public static final SessionBillDelta ZERO = new SessionBillDelta(0, 0, 0, 0, 0, 0);
+
+    /**
+     * 결제 금액만 증감
+     */
+    public static SessionBillDelta paid(int amount) {
+        return new SessionBillDelta(0, 0, 0, 0, 0, amount);
+    }
+
+    public SessionBillDelta plus(SessionBillDelta other) {
+        return new SessionBillDelta(
+                orderCount + other.orderCount,
+                subtotal + other.subtotal,
+                tableFee + other.tableFee,
+                discount + other.discount,
+                total + other.total,
+                paid + other.paid);
+    }
+
+    public SessionBillDelta negate() {
+        return new SessionBillDelta(-orderCount, -subtotal, -tableFee, -discount, -total, -paid);
+    }
+
+    public boolean isZero() {
+        return equals(ZERO);
+    }
+}
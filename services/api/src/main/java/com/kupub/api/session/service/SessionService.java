@@ -1,21 +1,26 @@
 package com.kupub.api.session.service;
 
 import com.kupub.api.common.exception.BadRequestException;
+import com.kupub.api.common.exception.ConflictException;
 import com.kupub.api.common.exception.NotFoundException;
 import com.kupub.api.reservation.entity.Reservation;
 import com.kupub.api.reservation.repository.ReservationRepository;
+import com.kupub.api.session.dto.SessionDto;
 import com.kupub.api.session.dto.StartSessionRequest;
 import com.kupub.api.session.entity.GuestSession;
 import com.kupub.api.session.entity.SessionStatus;
 import com.kupub.api.session.entity.SessionType;
 import com.kupub.api.session.repository.GuestSessionRepository;
-import com.kupub.api.table.entity.DepartmentTable;
 import com.kupub.api.table.service.TableService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
@@ -42,18 +47,24 @@ public class SessionService {
     }
 
     /**
-     * 학과의 활성 세션 목록
+     * 학과 소속 세션 조회 (다른 학과 세션이면 404, 학과 조건까지 한 번의 조회)
+     * - 원본 DB에서 읽음: 세션 시작/주문 직후의 조회가 복제 지연으로 404 나 이전 계산서가 되지 않도록
      */
-    public List<GuestSession> getActiveSessions(Long departmentId) {
-        return sessionRepository.findByDepartmentIdAndStatusOrderByCreatedAtDesc(
-                departmentId, SessionStatus.ACTIVE);
+    @Transactional
+    public GuestSession getSessionForDepartment(Long departmentId, Long sessionId) {
+        return sessionRepository.findByIdAndDepartmentId(sessionId, departmentId)
+                .orElseThrow(() -> new NotFoundException("Session", sessionId));
     }
 
     /**
-     * 학과의 모든 세션
+     * 학과의 세션 목록 (관리자 대시보드 폴링, DTO 프로젝션 한 번으로 테이블 코드까지)
+     *
+     * @param includeAll false 면 활성 세션만
      */
-    public List<GuestSession> getAllSessions(Long departmentId) {
-        return sessionRepository.findByDepartmentIdOrderByCreatedAtDesc(departmentId);
+    public List<SessionDto> getSessionDtos(Long departmentId, boolean includeAll) {
+        return includeAll
+                ? sessionRepository.findDtosByDepartmentId(departmentId)
+                : sessionRepository.findDtosByDepartmentIdAndStatus(departmentId, SessionStatus.ACTIVE);
     }
 
     /**
@@ -65,8 +76,9 @@ public class SessionService {
     }
 
     /**
-     * 세션 코드로 조회
+     * 세션 코드로 조회 (원본 DB에서 읽음, 세션 시작 직후 코드로 들어오는 손님)
      */
+    @Transactional
     public GuestSession getSessionByCode(Long departmentId, String code) {
         return sessionRepository.findByDepartmentIdAndSessionCode(departmentId, code)
                 .orElseThrow(() -> new NotFoundException("Session", code));
@@ -94,7 +106,7 @@ public class SessionService {
                 session.setReservationId(request.reservationId());
 
                 // 예약 정보로 기본 손님 정보 채우기
-                Reservation reservation = reservationRepository.findById(request.reservationId())
+                Reservation reservation = reservationRepository.findByIdAndDepartmentId(request.reservationId(), departmentId)
                         .orElseThrow(() -> new NotFoundException("Reservation", request.reservationId()));
                 session.setGuestName(reservation.getName());
                 session.setGuestPhone(reservation.getPhone());
@@ -105,6 +117,9 @@ public class SessionService {
                 if (request.tableId() == null) {
                     throw new BadRequestException("TABLE_REQUIRED", "테이블 ID가 필요합니다");
                 }
+                if (!tableService.existsInDepartment(departmentId, request.tableId())) {
+                    throw new BadRequestException("INVALID_TABLE", "해당 학과의 테이블이 아닙니다: " + request.tableId());
+                }
                 // 해당 테이블에 활성 세션이 있는지 체크
                 if (sessionRepository.findByTableIdAndStatus(request.tableId(), SessionStatus.ACTIVE).isPresent()) {
                     throw new BadRequestException("TABLE_OCCUPIED", "해당 테이블에 이미 활성 세션이 있습니다");
@@ -141,20 +156,15 @@ public class SessionService {
      */
     @Transactional
     public GuestSession assignTable(Long departmentId, Long sessionId, Long tableId) {
-        GuestSession session = getSession(sessionId);
-
-        if (!session.getDepartmentId().equals(departmentId)) {
-            throw new NotFoundException("Session", sessionId);
-        }
+        GuestSession session = getSessionForDepartment(departmentId, sessionId);
 
         if (tableId == null) {
             session.assignTable(null);
             return sessionRepository.save(session);
         }
 
-        // 테이블 존재 확인
-        DepartmentTable table = tableService.getTable(tableId);
-        if (!table.getDepartmentId().equals(departmentId)) {
+        // 해당 학과 테이블인지 확인 (테이블은 읽지 않음)
+        if (!tableService.existsInDepartment(departmentId, tableId)) {
             throw new BadRequestException("INVALID_TABLE", "해당 학과의 테이블이 아닙니다: " + tableId);
         }
 
@@ -174,10 +184,7 @@ public class SessionService {
      */
     @Transactional
     public GuestSession closeSession(Long departmentId, Long sessionId) {
-        GuestSession session = getSession(sessionId);
-        if (!session.getDepartmentId().equals(departmentId)) {
-            throw new NotFoundException("Session", sessionId);
-        }
+        GuestSession session = getSessionForDepartment(departmentId, sessionId);
         session.close();
         return sessionRepository.save(session);
     }
@@ -187,24 +194,105 @@ public class SessionService {
      */
     @Transactional
     public GuestSession reopenSession(Long departmentId, Long sessionId) {
-        GuestSession session = getSession(sessionId);
-        if (!session.getDepartmentId().equals(departmentId)) {
-            throw new NotFoundException("Session", sessionId);
-        }
+        GuestSession session = getSessionForDepartment(departmentId, sessionId);
         session.reopen();
-        return sessionRepository.save(session);
+        GuestSession saved = sessionRepository.save(session);
+        // 다시 연 세션이 바로 자동 종료되지 않도록 활동 시각 갱신
+        sessionRepository.touch(sessionId, LocalDateTime.now());
+        return saved;
     }
 
     /**
-     * 세션 삭제
+     * 세션 삭제 (세션을 읽지 않고 학과 조건이 붙은 DELETE 한 문장)
      */
     @Transactional
     public void deleteSession(Long departmentId, Long sessionId) {
-        GuestSession session = getSession(sessionId);
-        if (!session.getDepartmentId().equals(departmentId)) {
+        if (sessionRepository.deleteByIdAndDepartmentId(sessionId, departmentId) == 0) {
             throw new NotFoundException("Session", sessionId);
         }
-        sessionRepository.delete(session);
+    }
+
+    // ========== 계산서 누적 ==========
+
+    /**
+     * 테이블비 처리 (세션의 첫 주문이면 true)
+     * - 조건부 UPDATE 한 문장이라 동시에 들어온 첫 주문 중 하나만 true
+     */
+    @Transactional
+    public boolean claimTableFee(Long sessionId) {
+        return sessionRepository.claimTableFee(sessionId) == 1;
+    }
+
+    /**
+     * 계산서 누적값 증감
+     */
+    @Transactional
+    public void addToBill(Long sessionId, SessionBillDelta delta) {
+        if (sessionId == null || delta.isZero()) {
+            return;
+        }
+        sessionRepository.addToBill(sessionId, delta.orderCount(), delta.subtotal(), delta.tableFee(),
+                delta.discount(), delta.total(), delta.paid());
+    }
+
+    /**
+     * 새 주문 반영 (계산서 누적 + 마지막 활동 시각, 한 문장)
+     *
+     * @throws ConflictException 세션이 그사이 종료되었으면 SESSION_CLOSED (주문 트랜잭션 전체 롤백)
+     */
+    @Transactional
+    public void addOrderToBill(Long sessionId, SessionBillDelta delta) {
+        if (sessionId == null) {
+            return;
+        }
+        int updated = sessionRepository.addOrderToBill(sessionId, delta.orderCount(), delta.subtotal(), delta.tableFee(),
+                delta.discount(), delta.total(), delta.paid(), LocalDateTime.now(), SessionStatus.ACTIVE);
+        if (updated == 0) {
+            throw sessionClosed(sessionId);
+        }
+    }
+
+    /**
+     * 주문할 수 있는 세션인지 확인 (종료된 세션이면 409 SESSION_CLOSED)
+     */
+    public void ensureActive(GuestSession session) {
+        if (session.getStatus() != SessionStatus.ACTIVE) {
+            throw sessionClosed(session.getId());
+        }
+    }
+
+    private static ConflictException sessionClosed(Long sessionId) {
+        return new ConflictException("SESSION_CLOSED", "종료된 세션입니다. 직원에게 문의해주세요.",
+                Map.of("sessionId", sessionId));
+    }
+
+    // ========== 자동 종료 ==========
+
+    /**
+     * before 이후 활동이 없는 활성 세션을 최대 limit 개 종료 (결제할 금액이 남은 세션은 직원이 직접 종료)
+     *
+     * @return 종료한 세션 ID (찾은 세션 수가 limit 이면 더 있을 수 있음 → IdleBatch.hasMore)
+     */
+    @Transactional
+    public IdleBatch closeIdleSessions(Long departmentId, LocalDateTime before, int limit) {
+        List<Long> ids = sessionRepository.findIdleIds(departmentId, SessionStatus.ACTIVE, before, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return new IdleBatch(List.of(), false);
+        }
+        // DATETIME 컬럼과 그대로 비교할 수 있도록 초 단위
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        int closed = sessionRepository.closeIdle(departmentId, ids, before, now, SessionStatus.ACTIVE, SessionStatus.CLOSED);
+        List<Long> closedIds = closed == ids.size()
+                ? ids
+                : sessionRepository.findIdsClosedAt(departmentId, ids, SessionStatus.CLOSED, now);
+        return new IdleBatch(closedIds, ids.size() == limit);
+    }
+
+    /**
+     * @param closedIds 종료한 세션 ID
+     * @param hasMore   같은 조건의 세션이 더 있을 수 있음
+     */
+    public record IdleBatch(List<Long> closedIds, boolean hasMore) {
     }
 
     /**
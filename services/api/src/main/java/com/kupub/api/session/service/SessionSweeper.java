@@ -0,0 +1,127 @@
+package com.kupub.api.session.service;
+
+import com.kupub.api.common.datasource.TenantContext;
+import com.kupub.api.department.dto.settings.ReservationSettings;
+import com.kupub.api.department.entity.Department;
+import com.kupub.api.department.repository.DepartmentRepository;
+import com.kupub.api.department.service.DepartmentSettingsService;
+import com.kupub.api.notification.NotificationService;
+import com.kupub.api.session.entity.SessionStatus;
+import com.kupub.api.session.repository.GuestSessionRepository;
+import com.kupub.api.tenant.service.TenantDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 활동 없는 세션 자동 종료 (1분 주기, 학과 DB를 나눠 쓰면 DB마다)
+ *
+ * 직원이 종료를 누르지 않은 세션이 ACTIVE 로 남아 테이블을 막고 활성 세션 목록을 키우지 않도록,
+ * 마지막 활동(시작/주문/재오픈) 후 학과의 이용 시간(ReservationSettings.durationMinutes) + grace 가 지나면 종료합니다.
+ * - 학과마다 batch-size 개씩 조건부 UPDATE 로 종료하고, 묶음마다 /topic/{dept}/sessions 로 1건 알림
+ * - 여러 서버가 동시에 실행해도 이미 종료된 세션은 조건에서 빠지므로 한 번만 종료/알림
+ * - 이동 중(MOVING)이거나 이 DB에 배치되지 않은 학과는 건너뜀
+ */
+@Component
+public class SessionSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionSweeper.class);
+
+    private final SessionService sessionService;
+    private final GuestSessionRepository sessionRepository;
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentSettingsService settingsService;
+    private final NotificationService notificationService;
+    private final TenantDirectory tenantDirectory;
+    private final boolean enabled;
+    private final Duration grace;
+    private final int batchSize;
+
+    public SessionSweeper(SessionService sessionService,
+                          GuestSessionRepository sessionRepository,
+                          DepartmentRepository departmentRepository,
+                          DepartmentSettingsService settingsService,
+                          NotificationService notificationService,
+                          TenantDirectory tenantDirectory,
+                          @Value("${app.session-sweep.enabled:true}") boolean enabled,
+                          @Value("${app.session-sweep.grace:PT30M}") Duration grace,
+                          @Value("${app.session-sweep.batch-size:200}") int batchSize) {
+        this.sessionService = sessionService;
+        this.sessionRepository = sessionRepository;
+        this.departmentRepository = departmentRepository;
+        this.settingsService = settingsService;
+        this.notificationService = notificationService;
+        this.tenantDirectory = tenantDirectory;
+        this.enabled = enabled;
+        this.grace = grace;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.session-sweep.interval-ms:60000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        AtomicInteger closed = new AtomicInteger();
+        tenantDirectory.forEachShard(() -> {
+            for (Long departmentId : sessionRepository.findDepartmentIdsByStatus(SessionStatus.ACTIVE)) {
+                try {
+                    closed.addAndGet(sweep(departmentId, now));
+                } catch (RuntimeException e) {
+                    // 한 학과의 실패가 다른 학과 정리를 막지 않도록 (다음 주기에 다시 시도)
+                    log.warn("Session sweep failed: department={}", departmentId, e);
+                }
+            }
+        });
+        if (closed.get() > 0) {
+            log.info("Closed {} idle sessions", closed);
+        }
+    }
+
+    /**
+     * 학과 하나의 활동 없는 세션 종료
+     *
+     * @return 종료한 세션 수
+     */
+    public int sweep(Long departmentId, LocalDateTime now) {
+        TenantDirectory.Placement placement = tenantDirectory.placementOf(departmentId);
+        if (placement.isMoving() || !placement.shard().equals(TenantContext.current())) {
+            return 0;
+        }
+        String deptSlug = departmentRepository.findById(departmentId).map(Department::getSlug).orElse(null);
+        if (deptSlug == null) {
+            return 0;
+        }
+
+        LocalDateTime before = now.minus(idleTimeout(departmentId));
+        int closed = 0;
+        SessionService.IdleBatch batch;
+        do {
+            batch = sessionService.closeIdleSessions(departmentId, before, batchSize);
+            if (!batch.closedIds().isEmpty()) {
+                closed += batch.closedIds().size();
+                notificationService.notifySessionsClosed(deptSlug, batch.closedIds(), "IDLE");
+            }
+        } while (batch.hasMore());
+        return closed;
+    }
+
+    /**
+     * 학과 이용 시간(분) + grace
+     */
+    private Duration idleTimeout(Long departmentId) {
+        ReservationSettings reservation = settingsService.getSettingsDto(departmentId).reservation();
+        Integer minutes = reservation != null ? reservation.durationMinutes() : null;
+        if (minutes == null || minutes <= 0) {
+            minutes = ReservationSettings.defaults().durationMinutes();
+        }
+        return Duration.ofMinutes(minutes).plus(grace);
+    }
+}
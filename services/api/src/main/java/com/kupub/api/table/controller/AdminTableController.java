@@ -1,6 +1,7 @@
 package com.kupub.api.table.controller;
 
 import com.kupub.api.common.dto.ApiResponse;
+import com.kupub.api.common.exception.BadRequestException;
 import com.kupub.api.department.service.DepartmentService;
 import com.kupub.api.table.dto.*;
 import com.kupub.api.table.entity.DepartmentTable;
@@ -8,6 +9,7 @@ import com.kupub.api.table.service.TableService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,7 +34,7 @@ public class AdminTableController {
     }
 
     /**
-     * 테이블 목록 조회
+     * 테이블 목록 조회 (ETag: 테이블 배치 버전)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<List<TableDto>>> getTables(
@@ -41,12 +43,11 @@ public class AdminTableController {
         log.debug("GET /api/{}/admin/tables", deptSlug);
         
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        List<TableDto> tables = tableService.getTablesByDepartment(deptId)
-                .stream()
-                .map(TableDto::from)
-                .toList();
+        TableLayoutDto layout = tableService.getLayout(deptId);
 
-        return ResponseEntity.ok(ApiResponse.ok(tables));
+        return ResponseEntity.ok()
+                .eTag(Long.toString(layout.version()))
+                .body(ApiResponse.ok(layout.tables()));
     }
 
     /**
@@ -106,23 +107,42 @@ public class AdminTableController {
 
     /**
      * 레이아웃 일괄 저장
+     * - If-Match: 목록 조회 때 받은 ETag (다르면 409 TABLE_LAYOUT_CONFLICT)
      */
     @PutMapping("/layout")
     public ResponseEntity<ApiResponse<List<TableDto>>> updateLayout(
             @PathVariable("dept") String deptSlug,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TableLayoutRequest request) {
         
-        log.debug("PUT /api/{}/admin/tables/layout count={}", deptSlug, request.tables().size());
+        log.debug("PUT /api/{}/admin/tables/layout count={} ifMatch={}", deptSlug, request.tables().size(), ifMatch);
         
         Long deptId = departmentService.getBySlug(deptSlug).getId();
-        List<TableDto> tables = tableService.updateLayout(deptId, request)
-                .stream()
-                .map(TableDto::from)
-                .toList();
+        TableLayoutDto layout = tableService.updateLayout(deptId, request, parseLayoutVersion(ifMatch));
 
-        log.info("Table layout updated: dept={}", deptSlug);
+        log.info("Table layout updated: dept={} version={}", deptSlug, layout.version());
 
-        return ResponseEntity.ok(ApiResponse.ok(tables));
+        return ResponseEntity.ok()
+                .eTag(Long.toString(layout.version()))
+                .body(ApiResponse.ok(layout.tables()));
+    }
+
+    /**
+     * If-Match 의 배치 버전 ("3", W/"3" 형식, 없거나 * 이면 null)
+     */
+    private static Long parseLayoutVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        try {
+            return Long.parseLong(value.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("INVALID_IF_MATCH", "If-Match 형식이 올바르지 않습니다: " + ifMatch);
+        }
     }
 }
 
@@ -0,0 +1,13 @@
+package com.kupub.api.table.dto;
+
+import java.util.List;
+
+/**
+ * 테이블 배치 (목록 + 버전)
+ * - 응답 본문에는 tables 만 담고, version 은 ETag 헤더로 전달
+ */
+public record TableLayoutDto(
+        Long version,
+        List<TableDto> tables
+) {
+}
@@ -1,6 +1,9 @@
 package com.kupub.api.table.entity;
 
+import com.kupub.api.common.cache.CacheRegions;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
@@ -9,6 +12,8 @@ import java.time.LocalDateTime;
  * - 관리자가 드래그로 배치할 수 있는 레이아웃 정보 포함
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DEPARTMENT_TABLE)
 @Table(name = "department_tables")
 public class DepartmentTable {
 
@@ -0,0 +1,36 @@
+package com.kupub.api.table.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * 학과 테이블 배치 버전 (테이블 추가/수정/삭제/레이아웃 저장 시 증가, 레이아웃 ETag)
+ *
+ * 2차 캐시에 두는 departments 와 따로 둡니다.
+ * 버전 UPDATE 가 학과 캐시 영역/학과 slug 조회 캐시를 무효화하지 않도록 (이 테이블은 캐시하지 않음)
+ * 학과의 첫 테이블 변경 때 행이 생기고, 행이 없으면 버전 0 입니다.
+ */
+@Entity
+@Table(name = "table_layouts")
+public class TableLayout {
+
+    @Id
+    private Long departmentId;
+
+    @Column(nullable = false)
+    private Long version = 0L;
+
+    // ========== Constructors ==========
+
+    protected TableLayout() {
+    }
+
+    // ========== Getters ==========
+
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,49 @@
+package com.kupub.api.table.repository;
+
+import com.kupub.api.table.entity.TableLayout;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TableLayoutRepository extends JpaRepository<TableLayout, Long> {
+
+    /**
+     * 현재 테이블 배치 버전 (행이 없으면 empty = 버전 0)
+     */
+    @Query("SELECT l.version FROM TableLayout l WHERE l.departmentId = :departmentId")
+    Optional<Long> findVersionByDepartmentId(@Param("departmentId") Long departmentId);
+
+    /**
+     * 버전 행이 없으면 0 으로 생성 (있으면 그대로, 동시에 호출해도 행 하나)
+     * - 행 잠금을 잡으므로 같은 학과의 테이블 변경은 커밋까지 순서대로 처리됨
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "table_layouts"))
+    @Query(value = """
+            INSERT INTO table_layouts (department_id, version) VALUES (:departmentId, 0)
+            ON DUPLICATE KEY UPDATE version = version
+            """, nativeQuery = true)
+    int ensure(@Param("departmentId") Long departmentId);
+
+    /**
+     * 버전 증가 (expected 가 주어지면 현재 버전이 같을 때만, ensure 이후 호출)
+     */
+    @Modifying
+    @Query("""
+            UPDATE TableLayout l
+               SET l.version = l.version + 1
+             WHERE l.departmentId = :departmentId
+               AND (:expected IS NULL OR l.version = :expected)
+            """)
+    int increment(@Param("departmentId") Long departmentId, @Param("expected") Long expected);
+
+    void deleteByDepartmentId(Long departmentId);
+}
@@ -1,7 +1,14 @@
 package com.kupub.api.table.repository;
 
+import com.kupub.api.common.cache.CacheRegions;
 import com.kupub.api.table.entity.DepartmentTable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,13 +20,32 @@ public interface TableRepository extends JpaRepository<DepartmentTable, Long> {
     /**
      * 학과의 모든 테이블 조회 (코드순 정렬)
      */
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = CacheRegions.TABLE_LIST)
+    })
     List<DepartmentTable> findByDepartmentIdOrderByCodeAsc(Long departmentId);
 
+    /**
+     * 학과의 모든 테이블 조회 (캐시 없이 DB에서, 레이아웃 저장 시 변경 비교용)
+     */
+    List<DepartmentTable> findByDepartmentIdOrderByIdAsc(Long departmentId);
+
     /**
      * 학과의 활성화된 테이블만 조회
      */
     List<DepartmentTable> findByDepartmentIdAndActiveTrueOrderByCodeAsc(Long departmentId);
 
+    /**
+     * 학과 소속 테이블 단건 (다른 학과 테이블이면 empty)
+     */
+    Optional<DepartmentTable> findByIdAndDepartmentId(Long id, Long departmentId);
+
+    /**
+     * 학과 소속 테이블인지 (엔티티를 읽지 않고 확인)
+     */
+    boolean existsByIdAndDepartmentId(Long id, Long departmentId);
+
     /**
      * 학과 + 코드로 테이블 조회
      */
@@ -39,5 +65,19 @@ public interface TableRepository extends JpaRepository<DepartmentTable, Long> {
      * 학과의 모든 테이블 삭제
      */
     void deleteByDepartmentId(Long departmentId);
+
+    /**
+     * 템플릿 학과 테이블/배치 복사 (INSERT ... SELECT)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "department_tables"))
+    @Query(value = """
+            INSERT INTO department_tables (department_id, code, name, capacity, posx, posy, width, height, active, created_at, updated_at)
+            SELECT :targetId, code, name, capacity, posx, posy, width, height, active, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+              FROM department_tables
+             WHERE department_id = :sourceId
+             ORDER BY id
+            """, nativeQuery = true)
+    int copyFromDepartment(@Param("sourceId") Long sourceId, @Param("targetId") Long targetId);
 }
 
@@ -1,26 +1,41 @@
 package com.kupub.api.table.service;
 
 import com.kupub.api.common.exception.BadRequestException;
+import com.kupub.api.common.exception.ConflictException;
 import com.kupub.api.common.exception.NotFoundException;
 import com.kupub.api.table.dto.TableCreateRequest;
+import com.kupub.api.table.dto.TableDto;
+import com.kupub.api.table.dto.TableLayoutDto;
 import com.kupub.api.table.dto.TableLayoutRequest;
 import com.kupub.api.table.dto.TableUpdateRequest;
 import com.kupub.api.table.entity.DepartmentTable;
+import com.kupub.api.table.repository.TableLayoutRepository;
 import com.kupub.api.table.repository.TableRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class TableService {
 
+    private static final Logger log = LoggerFactory.getLogger(TableService.class);
+
     private final TableRepository tableRepository;
+    private final TableLayoutRepository layoutRepository;
 
-    public TableService(TableRepository tableRepository) {
+    public TableService(TableRepository tableRepository, TableLayoutRepository layoutRepository) {
         this.tableRepository = tableRepository;
+        this.layoutRepository = layoutRepository;
     }
 
     /**
@@ -30,6 +45,18 @@ public class TableService {
         return tableRepository.findByDepartmentIdOrderByCodeAsc(departmentId);
     }
 
+    /**
+     * 테이블 배치 조회 (목록 + 버전)
+     * - 버전을 먼저 읽으므로 그 사이 변경이 있었다면 이 버전으로 저장할 때 409
+     */
+    public TableLayoutDto getLayout(Long departmentId) {
+        long version = getLayoutVersion(departmentId);
+        List<TableDto> tables = getTablesByDepartment(departmentId).stream()
+                .map(TableDto::from)
+                .toList();
+        return new TableLayoutDto(version, tables);
+    }
+
     /**
      * 학과의 활성화된 테이블만 조회
      */
@@ -45,6 +72,21 @@ public class TableService {
                 .orElseThrow(() -> new NotFoundException("Table", tableId));
     }
 
+    /**
+     * 학과 소속 테이블 단건 조회 (다른 학과 테이블이면 404, 학과 조건까지 한 번의 조회)
+     */
+    public DepartmentTable getTableForDepartment(Long departmentId, Long tableId) {
+        return tableRepository.findByIdAndDepartmentId(tableId, departmentId)
+                .orElseThrow(() -> new NotFoundException("Table", tableId));
+    }
+
+    /**
+     * 학과 소속 테이블인지 (테이블을 읽지 않고 확인)
+     */
+    public boolean existsInDepartment(Long departmentId, Long tableId) {
+        return tableRepository.existsByIdAndDepartmentId(tableId, departmentId);
+    }
+
     /**
      * ID 목록으로 테이블 조회 (순서는 보장되지 않음)
      */
@@ -84,6 +126,7 @@ public class TableService {
         table.setHeight(request.height());
         table.setActive(true);
 
+        incrementLayoutVersion(departmentId, null);
         return tableRepository.save(table);
     }
 
@@ -92,10 +135,7 @@ public class TableService {
      */
     @Transactional
     public DepartmentTable updateTable(Long departmentId, Long tableId, TableUpdateRequest request) {
-        DepartmentTable table = getTable(tableId);
-        if (!table.getDepartmentId().equals(departmentId)) {
-            throw new BadRequestException("INVALID_TABLE", "해당 학과의 테이블이 아닙니다: " + tableId);
-        }
+        DepartmentTable table = getTableForDepartment(departmentId, tableId);
 
         // 코드 변경 시 중복 체크
         if (request.code() != null && !request.code().equals(table.getCode())) {
@@ -128,6 +168,7 @@ public class TableService {
             table.setActive(request.active());
         }
 
+        incrementLayoutVersion(departmentId, null);
         return tableRepository.save(table);
     }
 
@@ -136,44 +177,100 @@ public class TableService {
      */
     @Transactional
     public void deleteTable(Long departmentId, Long tableId) {
-        DepartmentTable table = getTable(tableId);
-        if (!table.getDepartmentId().equals(departmentId)) {
-            throw new BadRequestException("INVALID_TABLE", "해당 학과의 테이블이 아닙니다: " + tableId);
-        }
+        DepartmentTable table = getTableForDepartment(departmentId, tableId);
+        incrementLayoutVersion(departmentId, null);
         tableRepository.delete(table);
     }
 
     /**
      * 레이아웃 일괄 저장
      * - 위치 정보만 업데이트
+     * - 배치 버전을 조건부로 올린 뒤(동시 저장은 하나만 통과) 학과 테이블을 한 번에 읽고,
+     *   값이 바뀐 테이블만 한 번의 JDBC 배치로 UPDATE (hibernate.jdbc.batch_size)
+     *
+     * @param expectedVersion 클라이언트가 마지막으로 본 버전 (If-Match, null이면 현재 버전 기준)
      */
     @Transactional
-    public List<DepartmentTable> updateLayout(Long departmentId, TableLayoutRequest request) {
+    public TableLayoutDto updateLayout(Long departmentId, TableLayoutRequest request, Long expectedVersion) {
+        long expected = expectedVersion != null
+                ? expectedVersion
+                : getLayoutVersion(departmentId);
+        if (!incrementLayoutVersion(departmentId, expected)) {
+            throw new ConflictException("TABLE_LAYOUT_CONFLICT",
+                    "다른 곳에서 테이블 배치가 먼저 변경되었습니다. 새로고침 후 다시 시도해주세요.",
+                    Map.of("expectedVersion", expected));
+        }
+
+        Map<Long, DepartmentTable> tables = tableRepository.findByDepartmentIdOrderByIdAsc(departmentId).stream()
+                .collect(Collectors.toMap(DepartmentTable::getId, Function.identity()));
+
+        int changed = 0;
         for (TableLayoutRequest.TableLayoutItem item : request.tables()) {
-            DepartmentTable table = getTable(item.id());
-            
             // 권한 체크: 해당 학과 테이블인지
-            if (!table.getDepartmentId().equals(departmentId)) {
+            DepartmentTable table = tables.get(item.id());
+            if (table == null) {
                 throw new BadRequestException("INVALID_TABLE", "해당 학과의 테이블이 아닙니다: " + item.id());
             }
-
-            if (item.posX() != null) {
-                table.setPosX(item.posX());
-            }
-            if (item.posY() != null) {
-                table.setPosY(item.posY());
+            if (applyLayout(table, item)) {
+                changed++;
             }
-            if (item.width() != null) {
-                table.setWidth(item.width());
-            }
-            if (item.height() != null) {
-                table.setHeight(item.height());
-            }
-
-            tableRepository.save(table);
         }
 
-        return getTablesByDepartment(departmentId);
+        // 바뀐 테이블만 UPDATE (응답의 updatedAt 이 반영되도록 여기서 flush)
+        tableRepository.flush();
+
+        log.debug("Table layout saved: deptId={} requested={} changed={} version={}",
+                departmentId, request.tables().size(), changed, expected + 1);
+
+        List<TableDto> result = tables.values().stream()
+                .sorted(Comparator.comparing(DepartmentTable::getCode))
+                .map(TableDto::from)
+                .toList();
+        return new TableLayoutDto(expected + 1, result);
+    }
+
+    /**
+     * 현재 테이블 배치 버전 (2차 캐시를 거치지 않음, 테이블을 바꾼 적 없는 학과는 0)
+     */
+    private long getLayoutVersion(Long departmentId) {
+        return layoutRepository.findVersionByDepartmentId(departmentId).orElse(0L);
+    }
+
+    /**
+     * 테이블 배치 버전 증가
+     *
+     * @param expected 현재 버전이 이 값일 때만 증가 (null이면 항상)
+     * @return 증가했으면 true
+     */
+    private boolean incrementLayoutVersion(Long departmentId, Long expected) {
+        layoutRepository.ensure(departmentId);
+        return layoutRepository.increment(departmentId, expected) == 1;
+    }
+
+    /**
+     * 요청 값 중 현재와 다른 것만 반영
+     *
+     * @return 하나라도 바뀌었으면 true
+     */
+    private static boolean applyLayout(DepartmentTable table, TableLayoutRequest.TableLayoutItem item) {
+        boolean changed = false;
+        if (item.posX() != null && !Objects.equals(item.posX(), table.getPosX())) {
+            table.setPosX(item.posX());
+            changed = true;
+        }
+        if (item.posY() != null && !Objects.equals(item.posY(), table.getPosY())) {
+            table.setPosY(item.posY());
+            changed = true;
+        }
+        if (item.width() != null && !Objects.equals(item.width(), table.getWidth())) {
+            table.setWidth(item.width());
+            changed = true;
+        }
+        if (item.height() != null && !Objects.equals(item.height(), table.getHeight())) {
+            table.setHeight(item.height());
+            changed = true;
+        }
+        return changed;
     }
 }
 
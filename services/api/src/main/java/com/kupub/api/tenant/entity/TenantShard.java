@@ -0,0 +1,46 @@
+package com.kupub.api.tenant.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 학과 데이터가 있는 DB (중앙 DB에만 있는 배치표, 행이 없으면 중앙 DB)
+ */
+@Entity
+@Table(name = "tenant_shards")
+public class TenantShard {
+
+    @Id
+    private Long departmentId;
+
+    @Column(nullable = false, length = 50)
+    private String shard;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TenantStatus status = TenantStatus.ACTIVE;
+
+    private LocalDateTime updatedAt;
+
+    protected TenantShard() {
+    }
+
+    public TenantShard(Long departmentId, String shard) {
+        this.departmentId = departmentId;
+        this.shard = shard;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters & Setters
+    public Long getDepartmentId() { return departmentId; }
+    public String getShard() { return shard; }
+    public void setShard(String shard) { this.shard = shard; }
+    public TenantStatus getStatus() { return status; }
+    public void setStatus(TenantStatus status) { this.status = status; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
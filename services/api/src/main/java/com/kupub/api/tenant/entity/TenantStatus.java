@@ -0,0 +1,10 @@
+package com.kupub.api.tenant.entity;
+
+/**
+ * 학과 DB 배치 상태
+ * - ACTIVE: 정상
+ * - MOVING: 다른 DB로 이동 중 (읽기만 허용, 쓰기 요청은 503)
+ */
+public enum TenantStatus {
+    ACTIVE, MOVING
+}
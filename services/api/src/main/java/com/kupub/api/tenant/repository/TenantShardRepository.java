@@ -0,0 +1,43 @@
+package com.kupub.api.tenant.repository;
+
+import com.kupub.api.tenant.entity.TenantShard;
+import com.kupub.api.tenant.entity.TenantStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface TenantShardRepository extends JpaRepository<TenantShard, Long> {
+
+    /**
+     * 배치 행이 없으면 ACTIVE 로 생성 (있으면 그대로, 동시에 호출해도 행 하나)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "tenant_shards"))
+    @Query(value = """
+            INSERT INTO tenant_shards (department_id, shard, status, updated_at)
+            VALUES (:departmentId, :shard, 'ACTIVE', :at)
+            ON DUPLICATE KEY UPDATE shard = shard
+            """, nativeQuery = true)
+    int ensure(@Param("departmentId") Long departmentId, @Param("shard") String shard, @Param("at") LocalDateTime at);
+
+    /**
+     * 상태 변경 (현재 DB와 상태가 같을 때만, 여러 서버가 동시에 호출해도 한 곳만 1 반환)
+     */
+    @Modifying
+    @Query("""
+            UPDATE TenantShard t
+               SET t.status = :to, t.updatedAt = :at
+             WHERE t.departmentId = :departmentId
+               AND t.shard = :shard
+               AND t.status = :from
+            """)
+    int updateStatus(@Param("departmentId") Long departmentId, @Param("shard") String shard,
+                     @Param("from") TenantStatus from, @Param("to") TenantStatus to,
+                     @Param("at") LocalDateTime at);
+}
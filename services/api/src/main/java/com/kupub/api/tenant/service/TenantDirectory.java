@@ -0,0 +1,251 @@
+package com.kupub.api.tenant.service;
+
+import com.kupub.api.common.datasource.TenantContext;
+import com.kupub.api.common.datasource.TenantRoutingDataSource;
+import com.kupub.api.config.ShardingProperties;
+import com.kupub.api.department.entity.Department;
+import com.kupub.api.department.repository.DepartmentRepository;
+import com.kupub.api.tenant.entity.TenantShard;
+import com.kupub.api.tenant.entity.TenantStatus;
+import com.kupub.api.tenant.repository.TenantShardRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 학과 → DB 배치 조회/변경 (중앙 DB의 tenant_shards)
+ *
+ * - 요청마다 중앙 DB를 읽지 않도록 slug/ID 별로 directory-ttl 동안 캐시
+ *   (이 서버에서 바꾼 배치는 바로 반영, 다른 서버는 ttl 안에 반영)
+ * - 중앙 DB 조회/변경은 항상 새 트랜잭션으로 실행 (학과 DB 트랜잭션 안에서 불려도 중앙 DB를 사용)
+ * - app.sharding.enabled=false 면 DB를 읽지 않고 모든 학과를 중앙 DB로 응답
+ */
+@Service
+public class TenantDirectory {
+
+    private final DepartmentRepository departmentRepository;
+    private final TenantShardRepository repository;
+    private final ShardingProperties sharding;
+    private final ObjectProvider<TenantRoutingDataSource> routingDataSource;
+    private final TransactionTemplate centralTx;
+    private final TransactionTemplate centralReadTx;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<String, Cached> bySlug = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Cached> byId = new ConcurrentHashMap<>();
+
+    public TenantDirectory(DepartmentRepository departmentRepository,
+                           TenantShardRepository repository,
+                           ShardingProperties sharding,
+                           ObjectProvider<TenantRoutingDataSource> routingDataSource,
+                           PlatformTransactionManager transactionManager) {
+        this.departmentRepository = departmentRepository;
+        this.repository = repository;
+        this.sharding = sharding;
+        this.routingDataSource = routingDataSource;
+        this.centralTx = new TransactionTemplate(transactionManager);
+        this.centralTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.centralReadTx = new TransactionTemplate(transactionManager);
+        this.centralReadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.centralReadTx.setReadOnly(true);
+        this.ttlNanos = sharding.directoryTtl().toNanos();
+    }
+
+    public boolean isEnabled() {
+        return sharding.enabled();
+    }
+
+    /**
+     * 중앙 DB 포함 전체 DB 이름
+     */
+    public List<String> shards() {
+        return isEnabled() ? routingDataSource.getObject().shardNames() : List.of(TenantContext.CENTRAL);
+    }
+
+    public boolean exists(String shard) {
+        return shards().contains(shard);
+    }
+
+    /**
+     * 새 학과를 둘 DB
+     */
+    public String defaultShard() {
+        return isEnabled() ? sharding.defaultShard() : TenantContext.CENTRAL;
+    }
+
+    /**
+     * DB마다 그 DB를 현재 학과 DB로 두고 실행 (스케줄러 등 요청 밖 작업용)
+     */
+    public void forEachShard(Runnable action) {
+        for (String shard : shards()) {
+            TenantContext.run(shard, action);
+        }
+    }
+
+    /**
+     * slug 로 배치 조회 (없는 학과는 departmentId 가 null 인 중앙 DB 배치)
+     */
+    public Placement resolve(String slug) {
+        if (!isEnabled()) {
+            return new Placement(null, TenantContext.CENTRAL, TenantStatus.ACTIVE, true);
+        }
+        long now = System.nanoTime();
+        Cached cached = bySlug.get(slug);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return cached.placement();
+        }
+        Placement placement = central(true, () -> departmentRepository.findBySlug(slug)
+                .map(Department::getId)
+                .map(this::load)
+                .orElseGet(() -> new Placement(null, TenantContext.CENTRAL, TenantStatus.ACTIVE, false)));
+        // 없는 slug 는 캐시하지 않음 (곧 만들어질 학과가 ttl 동안 중앙 DB로 가지 않도록)
+        if (placement.departmentId() != null) {
+            bySlug.put(slug, new Cached(placement, now + ttlNanos));
+        }
+        return placement;
+    }
+
+    /**
+     * 학과 ID로 배치 조회
+     */
+    public Placement placementOf(Long departmentId) {
+        if (!isEnabled()) {
+            return new Placement(departmentId, TenantContext.CENTRAL, TenantStatus.ACTIVE, true);
+        }
+        long now = System.nanoTime();
+        Cached cached = byId.get(departmentId);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return cached.placement();
+        }
+        Placement placement = central(true, () -> load(departmentId));
+        byId.put(departmentId, new Cached(placement, now + ttlNanos));
+        return placement;
+    }
+
+    public String shardOf(Long departmentId) {
+        return placementOf(departmentId).shard();
+    }
+
+    /**
+     * 캐시를 거치지 않고 중앙 DB에서 배치별 학과 수 조회
+     */
+    public Map<String, Long> countByShard() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        shards().forEach(shard -> counts.put(shard, 0L));
+        if (!isEnabled()) {
+            counts.put(TenantContext.CENTRAL, central(true, departmentRepository::count));
+            return counts;
+        }
+        central(true, () -> {
+            List<TenantShard> assigned = repository.findAll();
+            counts.merge(TenantContext.CENTRAL, departmentRepository.count() - assigned.size(), Long::sum);
+            assigned.forEach(row -> counts.merge(row.getShard(), 1L, Long::sum));
+            return null;
+        });
+        return counts;
+    }
+
+    // ========== 변경 (중앙 DB) ==========
+
+    /**
+     * 학과 배치 저장 (없으면 추가)
+     */
+    public void place(Long departmentId, String shard, TenantStatus status) {
+        if (!isEnabled()) {
+            return;
+        }
+        central(false, () -> {
+            TenantShard row = repository.findById(departmentId).orElseGet(() -> new TenantShard(departmentId, shard));
+            row.setShard(shard);
+            row.setStatus(status);
+            return repository.save(row);
+        });
+        evict(departmentId);
+    }
+
+    /**
+     * 학과 이동 시작: shard 에 ACTIVE 로 있을 때만 MOVING 으로 변경
+     * (조건부 UPDATE 라 여러 서버가 동시에 시작해도 한 곳만 true, 배치 행이 없던 중앙 DB 학과는 행을 만든 뒤 변경)
+     */
+    public boolean claimMove(Long departmentId, String shard) {
+        if (!isEnabled()) {
+            return false;
+        }
+        boolean claimed = central(false, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            repository.ensure(departmentId, TenantContext.CENTRAL, now);
+            return repository.updateStatus(departmentId, shard, TenantStatus.ACTIVE, TenantStatus.MOVING, now) == 1;
+        });
+        evict(departmentId);
+        return claimed;
+    }
+
+    /**
+     * 학과 배치 삭제 (학과 삭제 시)
+     */
+    public void remove(Long departmentId) {
+        if (!isEnabled()) {
+            return;
+        }
+        central(false, () -> {
+            repository.findById(departmentId).ifPresent(repository::delete);
+            return null;
+        });
+        evict(departmentId);
+    }
+
+    /**
+     * 이 서버의 캐시에서 학과 배치 제거
+     */
+    public void evict(Long departmentId) {
+        byId.remove(departmentId);
+        bySlug.values().removeIf(cached -> departmentId.equals(cached.placement().departmentId()));
+    }
+
+    /**
+     * 만료된 캐시 정리 (1분 주기)
+     */
+    @Scheduled(fixedDelayString = "${app.sharding.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        bySlug.values().removeIf(cached -> cached.expiresAt() - now <= 0);
+        byId.values().removeIf(cached -> cached.expiresAt() - now <= 0);
+    }
+
+    // ========== Private Methods ==========
+
+    private Placement load(Long departmentId) {
+        boolean active = departmentRepository.findActiveById(departmentId).orElse(false);
+        return repository.findById(departmentId)
+                .map(row -> new Placement(departmentId, row.getShard(), row.getStatus(), active))
+                .orElseGet(() -> new Placement(departmentId, TenantContext.CENTRAL, TenantStatus.ACTIVE, active));
+    }
+
+    private <T> T central(boolean readOnly, Supplier<T> action) {
+        TransactionTemplate tx = readOnly ? centralReadTx : centralTx;
+        return TenantContext.call(TenantContext.CENTRAL, () -> tx.execute(status -> action.get()));
+    }
+
+    /**
+     * @param departmentId 없는 학과면 null
+     * @param active       중앙 DB(원본)의 학과 활성 여부 (학과 DB 사본의 값은 늦게 반영될 수 있음, 분산을 쓰지 않으면 항상 true)
+     */
+    public record Placement(Long departmentId, String shard, TenantStatus status, boolean active) {
+
+        public boolean isMoving() {
+            return status == TenantStatus.MOVING;
+        }
+    }
+
+    private record Cached(Placement placement, long expiresAt) {
+    }
+}
@@ -0,0 +1,351 @@
+package com.kupub.api.tenant.service;
+
+import com.kupub.api.common.cache.CatalogChangedEvent;
+import com.kupub.api.common.datasource.ShardIdSequences;
+import com.kupub.api.common.datasource.TenantContext;
+import com.kupub.api.common.datasource.TenantRoutingDataSource;
+import com.kupub.api.common.exception.BadRequestException;
+import com.kupub.api.common.exception.ConflictException;
+import com.kupub.api.common.exception.NotFoundException;
+import com.kupub.api.config.AsyncConfig;
+import com.kupub.api.config.ShardingProperties;
+import com.kupub.api.department.repository.DepartmentRepository;
+import com.kupub.api.tenant.entity.TenantStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 학과를 다른 DB로 이동 (app.sharding.enabled=true)
+ *
+ * 1. 배치를 MOVING 으로 바꾸고 다른 서버의 배치 캐시가 만료될 때까지 대기 (그동안 쓰기 요청은 503, 읽기는 원래 DB)
+ *    - ACTIVE → MOVING 은 중앙 DB의 조건부 UPDATE 라 여러 서버에서 같은 학과를 동시에 옮기려 해도 한 곳만 시작
+ *    - 여기부터는 tenantMoveExecutor 에서 실행하고 요청은 바로 응답 (202, 진행 상황은 status)
+ * 2. 학과 행을 ID 그대로 새 DB에 복사하고 커밋 (새 DB에 남아 있던 이전 실패분은 먼저 삭제)
+ * 3. 배치를 새 DB + ACTIVE 로 변경
+ * 4. 다른 서버가 원래 DB를 더 읽지 않도록 다시 캐시 만료를 기다린 뒤 원래 DB의 행 삭제
+ *
+ * ID는 DB마다 나머지가 달라서(ShardIdSequences) 옮겨도 겹치지 않고, 2차 캐시도 그대로 유효합니다.
+ * departments 는 중앙 DB가 원본이라 중앙 DB의 행은 남기고, 학과 DB의 사본(외래 키용)만 중앙 DB에서 복사/삭제합니다.
+ * MySQL 에서 옮겨 온 학과의 행은 파티션 동기화(POST /api/platform/partitions/sync)를 실행할 때까지
+ * 그 ID를 담고 있는 다른 학과의 파티션(또는 p_max)에 저장됩니다.
+ * Idempotency-Key 기록은 옮기지 않습니다 (이동 중에는 쓰기가 막혀 있고 키는 짧게만 쓰임).
+ * 이동 중 서버가 종료되면 학과가 MOVING 으로 남으므로 tenant_shards.status 를 ACTIVE 로 되돌린 뒤 다시 옮깁니다
+ * (복사는 새 DB에 남은 행을 먼저 지우므로 다시 실행해도 됨).
+ */
+@Service
+public class TenantMoveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantMoveService.class);
+
+    /**
+     * 학과 데이터 테이블 (복사 순서, 삭제는 역순)
+     */
+    static final List<String> TABLES = List.of(
+            "department_settings", "menu_categories", "menus", "menu_stocks", "department_tables",
+            "table_layouts", "reservations", "guest_sessions", "orders", "order_items", "department_media");
+
+    private static final String DEPARTMENTS = "departments";
+    private static final int BATCH_SIZE = 500;
+
+    private final TenantDirectory tenantDirectory;
+    private final DepartmentRepository departmentRepository;
+    private final ObjectProvider<TenantRoutingDataSource> routingDataSource;
+    private final ShardingProperties sharding;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor moveExecutor;
+    private final ConcurrentHashMap<Long, Move> moves = new ConcurrentHashMap<>();
+
+    public TenantMoveService(TenantDirectory tenantDirectory,
+                             DepartmentRepository departmentRepository,
+                             ObjectProvider<TenantRoutingDataSource> routingDataSource,
+                             ShardingProperties sharding,
+                             ApplicationEventPublisher eventPublisher,
+                             @Qualifier(AsyncConfig.TENANT_MOVE_EXECUTOR) TaskExecutor moveExecutor) {
+        this.tenantDirectory = tenantDirectory;
+        this.departmentRepository = departmentRepository;
+        this.routingDataSource = routingDataSource;
+        this.sharding = sharding;
+        this.eventPublisher = eventPublisher;
+        this.moveExecutor = moveExecutor;
+    }
+
+    /**
+     * 학과 이동 시작 (배치를 MOVING 으로 바꾼 뒤 복사는 tenantMoveExecutor 에서 실행, 진행 상황은 status)
+     */
+    public MoveStatus move(Long departmentId, String target) {
+        if (!tenantDirectory.isEnabled()) {
+            throw new BadRequestException("SHARDING_DISABLED", "학과별 DB 분산을 사용하지 않는 서버입니다.");
+        }
+        if (!tenantDirectory.exists(target)) {
+            throw new BadRequestException("UNKNOWN_SHARD", "없는 DB입니다: " + target);
+        }
+        if (!TenantContext.call(TenantContext.CENTRAL, () -> departmentRepository.existsById(departmentId))) {
+            throw new NotFoundException("Department", departmentId);
+        }
+        tenantDirectory.evict(departmentId);
+        TenantDirectory.Placement placement = tenantDirectory.placementOf(departmentId);
+        if (placement.isMoving()) {
+            throw movingConflict();
+        }
+        String source = placement.shard();
+        if (source.equals(target)) {
+            throw new BadRequestException("SAME_SHARD", "이미 " + target + " 에 있는 학과입니다.");
+        }
+        // 읽은 배치 그대로일 때만 MOVING 으로 (다른 서버/요청이 먼저 시작했으면 0건)
+        if (!tenantDirectory.claimMove(departmentId, source)) {
+            throw movingConflict();
+        }
+
+        Move job = new Move(source, target, LocalDateTime.now());
+        moves.put(departmentId, job);
+        log.info("Tenant move started: department={} {} -> {}", departmentId, source, target);
+        try {
+            moveExecutor.execute(() -> run(departmentId, job));
+        } catch (TaskRejectedException e) {
+            fail(departmentId, job, e);
+            throw new ConflictException("TENANT_MOVE_REJECTED", "진행 중인 학과 이동이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return status(departmentId);
+    }
+
+    /**
+     * 학과 배치(중앙 DB, 캐시 없이) + 이 서버에서 마지막으로 실행한 이동
+     */
+    public MoveStatus status(Long departmentId) {
+        if (!TenantContext.call(TenantContext.CENTRAL, () -> departmentRepository.existsById(departmentId))) {
+            throw new NotFoundException("Department", departmentId);
+        }
+        tenantDirectory.evict(departmentId);
+        TenantDirectory.Placement placement = tenantDirectory.placementOf(departmentId);
+        return new MoveStatus(departmentId, placement.shard(), placement.status(), moves.get(departmentId));
+    }
+
+    // ========== Private Methods ==========
+
+    /**
+     * 1~4단계 (tenantMoveExecutor 스레드)
+     */
+    private void run(Long departmentId, Move job) {
+        Map<String, Integer> rows;
+        try {
+            pause(sharding.directoryTtl().plus(sharding.moveGrace()));
+            rows = copy(departmentId, job.getFrom(), job.getTo());
+        } catch (RuntimeException e) {
+            fail(departmentId, job, e);
+            return;
+        }
+        tenantDirectory.place(departmentId, job.getTo(), TenantStatus.ACTIVE);
+        eventPublisher.publishEvent(new CatalogChangedEvent(departmentId));
+        job.rows = rows;
+
+        try {
+            pause(sharding.directoryTtl());
+            delete(departmentId, job.getFrom());
+        } catch (RuntimeException e) {
+            // 새 DB로 이미 옮겼으므로 실패해도 이동은 완료 (원래 DB에 남은 행은 읽히지 않음, 다시 옮겨올 때 정리됨)
+            log.warn("Tenant move cleanup failed: department={} shard={}", departmentId, job.getFrom(), e);
+        }
+        job.finish(MoveState.DONE, null);
+        log.info("Tenant move finished: department={} {} -> {} rows={}", departmentId, job.getFrom(), job.getTo(), rows);
+    }
+
+    /**
+     * 복사 전 실패: 원래 DB에 ACTIVE 로 되돌림
+     */
+    private void fail(Long departmentId, Move job, RuntimeException e) {
+        tenantDirectory.place(departmentId, job.getFrom(), TenantStatus.ACTIVE);
+        job.finish(MoveState.FAILED, e.getMessage());
+        log.error("Tenant move failed, staying on {}: department={}", job.getFrom(), departmentId, e);
+    }
+
+    private static ConflictException movingConflict() {
+        return new ConflictException("TENANT_MOVING", "이미 이동 중인 학과입니다.");
+    }
+
+    /**
+     * 원래 DB → 새 DB 복사 (새 DB 트랜잭션 하나로 커밋)
+     */
+    private Map<String, Integer> copy(Long departmentId, String source, String target) {
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        try (Connection from = dataSource(source).getConnection();
+             Connection to = dataSource(target).getConnection()) {
+            from.setReadOnly(true);
+            to.setAutoCommit(false);
+            try {
+                deleteRows(to, departmentId, !TenantContext.CENTRAL.equals(target));
+                if (!TenantContext.CENTRAL.equals(target)) {
+                    // 사본은 원래 DB가 아닌 중앙 DB(원본)에서 복사 → 늦게 반영된 사본도 옮기면서 맞춰짐
+                    try (Connection central = dataSource(TenantContext.CENTRAL).getConnection()) {
+                        central.setReadOnly(true);
+                        rows.put(DEPARTMENTS, copyRows(central, to, DEPARTMENTS, "id", departmentId));
+                    }
+                }
+                for (String table : TABLES) {
+                    rows.put(table, copyRows(from, to, table, "department_id", departmentId));
+                }
+                to.commit();
+            } catch (SQLException | RuntimeException e) {
+                to.rollback();
+                throw e;
+            }
+            // H2 는 명시적 ID를 넣으면 그 값에서 이어서 만들므로 이 DB의 ID 규칙으로 되돌림
+            to.setAutoCommit(true);
+            ShardIdSequences.align(to, sharding.idOffsetOf(target));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Tenant copy failed: department=" + departmentId, e);
+        }
+        return rows;
+    }
+
+    private void delete(Long departmentId, String shard) {
+        try (Connection connection = dataSource(shard).getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                deleteRows(connection, departmentId, !TenantContext.CENTRAL.equals(shard));
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Tenant cleanup failed: department=" + departmentId, e);
+        }
+    }
+
+    /**
+     * @param departmentRow departments 사본도 삭제할지 (중앙 DB는 원본이라 남김)
+     */
+    private static void deleteRows(Connection connection, Long departmentId, boolean departmentRow) throws SQLException {
+        for (String table : TABLES.reversed()) {
+            deleteWhere(connection, table, "department_id", departmentId);
+        }
+        if (departmentRow) {
+            deleteWhere(connection, DEPARTMENTS, "id", departmentId);
+        }
+    }
+
+    private static void deleteWhere(Connection connection, String table, String column, Long departmentId) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM " + table + " WHERE " + column + " = ?")) {
+            ps.setLong(1, departmentId);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 학과 행을 컬럼 그대로 복사 (컬럼 목록은 원래 DB의 결과에서 읽음 - 같은 마이그레이션이 적용된 DB끼리)
+     */
+    private static int copyRows(Connection from, Connection to, String table, String column, Long departmentId)
+            throws SQLException {
+        try (PreparedStatement select = from.prepareStatement("SELECT * FROM " + table + " WHERE " + column + " = ?")) {
+            select.setLong(1, departmentId);
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet rs = select.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columns = meta.getColumnCount();
+                StringBuilder names = new StringBuilder();
+                StringBuilder params = new StringBuilder();
+                for (int i = 1; i <= columns; i++) {
+                    names.append(i > 1 ? ", " : "").append(meta.getColumnName(i));
+                    params.append(i > 1 ? ", ?" : "?");
+                }
+                int count = 0;
+                try (PreparedStatement insert = to.prepareStatement(
+                        "INSERT INTO " + table + " (" + names + ") VALUES (" + params + ")")) {
+                    while (rs.next()) {
+                        for (int i = 1; i <= columns; i++) {
+                            insert.setObject(i, rs.getObject(i));
+                        }
+                        insert.addBatch();
+                        if (++count % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                    }
+                    if (count % BATCH_SIZE != 0) {
+                        insert.executeBatch();
+                    }
+                }
+                return count;
+            }
+        }
+    }
+
+    private DataSource dataSource(String shard) {
+        return routingDataSource.getObject().shard(shard);
+    }
+
+    private static void pause(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tenant move interrupted", e);
+        }
+    }
+
+    public enum MoveState {
+        RUNNING, DONE, FAILED
+    }
+
+    /**
+     * @param shard    지금 학과 데이터가 있는 DB (중앙 DB의 배치)
+     * @param status   MOVING 이면 이동 중 (다른 서버에서 실행 중일 수도 있음)
+     * @param lastMove 이 서버에서 마지막으로 실행한 이동 (없으면 null)
+     */
+    public record MoveStatus(Long departmentId, String shard, TenantStatus status, Move lastMove) {
+    }
+
+    /**
+     * 이동 1건 (실행 스레드가 갱신, 조회는 요청 스레드)
+     */
+    public static final class Move {
+
+        private final String from;
+        private final String to;
+        private final LocalDateTime startedAt;
+        private volatile MoveState state = MoveState.RUNNING;
+        /** 테이블별 복사한 행 수 */
+        private volatile Map<String, Integer> rows;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        Move(String from, String to, LocalDateTime startedAt) {
+            this.from = from;
+            this.to = to;
+            this.startedAt = startedAt;
+        }
+
+        void finish(MoveState state, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.state = state;
+        }
+
+        // Getters
+        public String getFrom() { return from; }
+        public String getTo() { return to; }
+        public MoveState getState() { return state; }
+        public Map<String, Integer> getRows() { return rows; }
+        public String getError() { return error; }
+        public LocalDateTime getStartedAt() { return startedAt; }
+        public LocalDateTime getFinishedAt() { return finishedAt; }
+    }
+}
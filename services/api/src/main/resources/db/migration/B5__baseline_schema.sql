@@ -0,0 +1,176 @@
+-- ============================================================================
+-- KUPUB Database Baseline Migration B5
+-- 빈 DB에서 V1~V5 대신 실행하는 V5 시점 스키마 (Flyway baseline migration)
+--
+-- V1~V5 는 Flyway 도입 전 MariaDB 에 수동으로 적용하던 스크립트라 고치지 않음
+-- (V2/V3 의 ADD COLUMN IF NOT EXISTS, V4/V5 의 password_hash 는 MySQL 8 / H2 의 빈 DB에서 실행 불가)
+-- → 빈 DB는 이 파일로 V5 와 같은 스키마를 만들고 V6 부터 적용
+-- → 이력 테이블 없는 기존 DB는 V5 로 baseline (spring.flyway.baseline-version)
+-- V5 이후 필요한 컬럼 수정은 V18 에서 함
+-- ============================================================================
+
+-- departments
+CREATE TABLE IF NOT EXISTS departments (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    slug VARCHAR(50) NOT NULL UNIQUE,
+    name VARCHAR(100) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- department_settings
+CREATE TABLE IF NOT EXISTS department_settings (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    department_id BIGINT NOT NULL UNIQUE,
+    data_json TEXT,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- users
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    department_id BIGINT,
+    role VARCHAR(20) NOT NULL DEFAULT 'DEPT_ADMIN',
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP
+);
+
+-- menu_categories
+CREATE TABLE IF NOT EXISTS menu_categories (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    department_id BIGINT NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    display_order INT,
+    INDEX idx_categories_dept (department_id)
+);
+
+-- menus
+CREATE TABLE IF NOT EXISTS menus (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    department_id BIGINT NOT NULL,
+    category_id BIGINT,
+    name VARCHAR(100) NOT NULL,
+    price INT NOT NULL,
+    description VARCHAR(500),
+    image_url VARCHAR(255),
+    display_order INT,
+    sold_out BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_menus_dept (department_id),
+    INDEX idx_menus_category (category_id)
+);
+
+-- reservations
+CREATE TABLE IF NOT EXISTS reservations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    department_id BIGINT NOT NULL,
+    name VARCHAR(50) NOT NULL,
+    phone VARCHAR(20),
+    reservation_time DATETIME NOT NULL,
+    people INT,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    requeued_at DATETIME,
+    seated_at DATETIME,
+    finished_at DATETIME,
+    INDEX idx_reservations_dept (department_id),
+    INDEX idx_reservations_status (status)
+);
+
+-- orders
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    department_id BIGINT NOT NULL,
+    reservation_id BIGINT,
+    total_price INT NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    note VARCHAR(500),
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_orders_dept (department_id),
+    INDEX idx_orders_reservation (reservation_id)
+);
+
+-- order_items
+CREATE TABLE IF NOT EXISTS order_items (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    menu_id BIGINT,
+    name VARCHAR(100) NOT NULL,
+    price INT NOT NULL,
+    quantity INT NOT NULL,
+    INDEX idx_items_order (order_id)
+);
+
+-- department_media
+CREATE TABLE IF NOT EXISTS department_media (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    department_id BIGINT,
+    url VARCHAR(255) NOT NULL,
+    mime_type VARCHAR(50),
+    built_in BOOLEAN DEFAULT FALSE,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP
+);
+
+
+-- department_tables (V2)
+CREATE TABLE IF NOT EXISTS department_tables (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    department_id BIGINT NOT NULL,
+    code VARCHAR(10) NOT NULL,
+    name VARCHAR(50),
+    capacity INT,
+    pos_x INT,
+    pos_y INT,
+    width INT,
+    height INT,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_dept_table_code (department_id, code),
+    INDEX idx_dept_tables_dept (department_id)
+);
+
+-- guest_sessions (V2)
+CREATE TABLE IF NOT EXISTS guest_sessions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    department_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,  -- RESERVATION, QR, CODE
+    reservation_id BIGINT,
+    table_id BIGINT,
+    session_code VARCHAR(20),
+    guest_name VARCHAR(50),
+    guest_phone VARCHAR(20),
+    people INT,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',  -- ACTIVE, CLOSED
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    closed_at DATETIME,
+
+    INDEX idx_sessions_dept (department_id),
+    INDEX idx_sessions_reservation (reservation_id),
+    INDEX idx_sessions_table (table_id),
+    INDEX idx_sessions_code (department_id, session_code)
+);
+
+-- orders 확장 (V2)
+ALTER TABLE orders ADD COLUMN session_id BIGINT AFTER department_id;
+ALTER TABLE orders ADD COLUMN table_id BIGINT AFTER session_id;
+ALTER TABLE orders ADD COLUMN subtotal INT NOT NULL DEFAULT 0 AFTER reservation_id;
+ALTER TABLE orders ADD COLUMN table_fee INT DEFAULT 0 AFTER subtotal;
+ALTER TABLE orders ADD COLUMN corkage INT DEFAULT 0 AFTER table_fee;
+ALTER TABLE orders ADD COLUMN discount INT DEFAULT 0 AFTER corkage;
+ALTER TABLE orders ADD COLUMN payment_status VARCHAR(20) NOT NULL DEFAULT 'PENDING' AFTER status;
+ALTER TABLE orders ADD COLUMN updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP;
+
+-- reservations 확장 (V2)
+ALTER TABLE reservations ADD COLUMN table_id BIGINT AFTER status;
+
+CREATE INDEX idx_orders_session ON orders(session_id);
+CREATE INDEX idx_orders_table ON orders(table_id);
+CREATE INDEX idx_orders_payment ON orders(payment_status);
+
+-- users.enabled (V3)
+ALTER TABLE users ADD COLUMN enabled BOOLEAN NOT NULL DEFAULT TRUE;
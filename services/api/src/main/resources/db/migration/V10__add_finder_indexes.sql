@@ -0,0 +1,46 @@
+-- ============================================================================
+-- KUPUB Database Migration V10
+-- 리포지토리 조회 메서드별 복합 인덱스 (조건 컬럼 + 정렬 컬럼 순서)
+-- InnoDB 보조 인덱스는 끝에 PK(id)를 포함하므로 "..., id ASC" 정렬도 같은 인덱스로 처리됨
+-- 검증: IndexCoverageTest (모든 조회 메서드의 EXPLAIN 에 full scan 이 없어야 함)
+-- ============================================================================
+
+-- orders
+-- findByDepartmentIdOrderByCreatedAtDesc / findByDepartmentId / deleteByDepartmentId
+CREATE INDEX idx_orders_dept_created ON orders(department_id, created_at);
+-- findByDepartmentIdAndStatusOrderByCreatedAtDesc
+CREATE INDEX idx_orders_dept_status_created ON orders(department_id, status, created_at);
+-- findByDepartmentIdAndPaymentStatusOrderByCreatedAtDesc
+CREATE INDEX idx_orders_dept_payment_created ON orders(department_id, payment_status, created_at);
+-- findBySessionIdOrderByCreatedAtDesc / V11 세션 계산서 재계산 (첫 주문 여부는 guest_sessions.table_fee_charged, claimTableFee)
+CREATE INDEX idx_orders_session_created ON orders(session_id, created_at);
+-- findByTableIdOrderByCreatedAtDesc
+CREATE INDEX idx_orders_table_created ON orders(table_id, created_at);
+-- findByReservationIdOrderByCreatedAtDesc
+CREATE INDEX idx_orders_reservation_created ON orders(reservation_id, created_at);
+
+-- guest_sessions
+-- findByDepartmentIdAndStatusOrderByCreatedAtDesc
+CREATE INDEX idx_sessions_dept_status_created ON guest_sessions(department_id, status, created_at);
+-- findByDepartmentIdOrderByCreatedAtDesc
+CREATE INDEX idx_sessions_dept_created ON guest_sessions(department_id, created_at);
+-- findByTableIdAndStatus (테이블의 활성 세션)
+CREATE INDEX idx_sessions_table_status ON guest_sessions(table_id, status);
+
+-- reservations
+-- findByDepartmentIdAndStatusOrderByCreatedAtAsc (대기열)
+CREATE INDEX idx_reservations_dept_status_created ON reservations(department_id, status, created_at);
+-- findByDepartmentIdOrderByCreatedAtDesc
+CREATE INDEX idx_reservations_dept_created ON reservations(department_id, created_at);
+
+-- menus / menu_categories
+-- findByDepartmentIdOrderByDisplayOrderAscIdAsc
+CREATE INDEX idx_menus_dept_order ON menus(department_id, display_order);
+CREATE INDEX idx_categories_dept_order ON menu_categories(department_id, display_order);
+
+-- departments
+-- findByActiveTrueOrderByNameAsc (공개 학과 목록)
+CREATE INDEX idx_departments_active_name ON departments(active, name);
+
+-- department_settings.data_json: 엔티티(@Lob LONGTEXT)와 타입 맞춤 (ddl-auto: validate)
+ALTER TABLE department_settings MODIFY COLUMN data_json LONGTEXT;
@@ -0,0 +1,28 @@
+-- ============================================================================
+-- KUPUB Database Migration V11
+-- 세션 계산서 누적값 (주문 생성/결제 확인/취소 시 한 문장 증감으로 갱신)
+-- ============================================================================
+
+ALTER TABLE guest_sessions ADD COLUMN order_count INT NOT NULL DEFAULT 0;
+ALTER TABLE guest_sessions ADD COLUMN bill_subtotal INT NOT NULL DEFAULT 0;
+ALTER TABLE guest_sessions ADD COLUMN bill_table_fee INT NOT NULL DEFAULT 0;
+ALTER TABLE guest_sessions ADD COLUMN bill_discount INT NOT NULL DEFAULT 0;
+ALTER TABLE guest_sessions ADD COLUMN bill_total INT NOT NULL DEFAULT 0;
+ALTER TABLE guest_sessions ADD COLUMN paid_total INT NOT NULL DEFAULT 0;
+ALTER TABLE guest_sessions ADD COLUMN table_fee_charged BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 기존 세션은 주문에서 다시 계산 (취소 주문 제외, 테이블비 처리 여부는 취소 포함 주문 존재 여부)
+UPDATE guest_sessions s SET
+    order_count = (SELECT COUNT(*) FROM orders o
+                    WHERE o.session_id = s.id AND o.status <> 'CANCELLED'),
+    bill_subtotal = (SELECT COALESCE(SUM(o.subtotal), 0) FROM orders o
+                      WHERE o.session_id = s.id AND o.status <> 'CANCELLED'),
+    bill_table_fee = (SELECT COALESCE(SUM(o.table_fee), 0) FROM orders o
+                       WHERE o.session_id = s.id AND o.status <> 'CANCELLED'),
+    bill_discount = (SELECT COALESCE(SUM(o.discount), 0) FROM orders o
+                      WHERE o.session_id = s.id AND o.status <> 'CANCELLED'),
+    bill_total = (SELECT COALESCE(SUM(o.total_price), 0) FROM orders o
+                   WHERE o.session_id = s.id AND o.status <> 'CANCELLED'),
+    paid_total = (SELECT COALESCE(SUM(o.total_price), 0) FROM orders o
+                   WHERE o.session_id = s.id AND o.status <> 'CANCELLED' AND o.payment_status = 'CONFIRMED'),
+    table_fee_charged = EXISTS (SELECT 1 FROM orders o WHERE o.session_id = s.id);
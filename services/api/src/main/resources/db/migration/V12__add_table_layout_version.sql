@@ -0,0 +1,6 @@
+-- ============================================================================
+-- KUPUB Database Migration V12
+-- 테이블 배치 버전 (레이아웃 저장 ETag, 동시 편집 시 나중 요청은 409)
+-- ============================================================================
+
+ALTER TABLE departments ADD COLUMN table_layout_version BIGINT NOT NULL DEFAULT 0;
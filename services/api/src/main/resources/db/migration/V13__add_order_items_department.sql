@@ -0,0 +1,13 @@
+-- ============================================================================
+-- KUPUB Database Migration V13
+-- order_items 에 학과 ID 추가 (학과별 조회/삭제를 주문 테이블을 거치지 않고 처리, 학과 분할 키)
+-- ============================================================================
+
+ALTER TABLE order_items ADD COLUMN department_id BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 아이템은 주문의 학과로 채움 (주문이 없는 아이템은 0)
+UPDATE order_items i
+   SET department_id = COALESCE((SELECT o.department_id FROM orders o WHERE o.id = i.order_id), 0);
+
+-- findByDepartmentIdAndOrderIdIn / deleteByDepartmentId
+CREATE INDEX idx_items_dept_order ON order_items(department_id, order_id);
@@ -0,0 +1,12 @@
+-- ============================================================================
+-- KUPUB Database Migration V15
+-- 학과별 DB 배치 (app.sharding.enabled=true 일 때 학과 데이터를 둘 DB, 중앙 DB에만 사용)
+-- 행이 없는 학과는 중앙 DB(central)에 있음
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS tenant_shards (
+    department_id BIGINT PRIMARY KEY,
+    shard VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    updated_at DATETIME(6)
+);
@@ -0,0 +1,13 @@
+-- ============================================================================
+-- KUPUB Database Migration V16
+-- 세션 마지막 활동 시각 (시작/주문/재오픈 시 갱신, 오래 활동이 없는 세션은 SessionSweeper 가 자동 종료)
+-- ============================================================================
+
+ALTER TABLE guest_sessions ADD COLUMN last_activity_at DATETIME;
+
+-- 기존 세션은 마지막 주문 시각 (주문이 없으면 시작 시각)
+UPDATE guest_sessions s SET
+    last_activity_at = COALESCE((SELECT MAX(o.created_at) FROM orders o WHERE o.session_id = s.id), s.created_at);
+
+-- 활성 세션만 모여 있도록 status 가 맨 앞 (학과 목록/오래된 세션 조회가 활성 세션 수에만 비례)
+CREATE INDEX idx_sessions_status_dept_activity ON guest_sessions(status, department_id, last_activity_at);
@@ -0,0 +1,18 @@
+-- ============================================================================
+-- KUPUB Database Migration V17
+-- 테이블 배치 버전을 departments 에서 분리 (table_layouts)
+--
+-- departments 는 2차 캐시 대상이라, 그 행을 직접 UPDATE 하면 학과 캐시 영역과 학과 slug 조회 캐시가
+-- 통째로 무효화됨 (테이블 추가/수정/삭제, 레이아웃 저장마다) → 캐시하지 않는 테이블로 옮김
+-- 버전이 0 인 학과는 행을 만들지 않음 (첫 테이블 변경 때 생성)
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS table_layouts (
+    department_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO table_layouts (department_id, version)
+SELECT id, table_layout_version FROM departments WHERE table_layout_version > 0;
+
+ALTER TABLE departments DROP COLUMN table_layout_version;
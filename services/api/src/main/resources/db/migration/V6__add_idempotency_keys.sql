@@ -0,0 +1,18 @@
+-- ============================================================================
+-- KUPUB Database Migration V6
+-- Idempotency-Key 결과 저장 (주문 생성 / 결제 상태 변경 재시도 대응)
+-- Flyway 도입 전(ddl-auto: update) DB에 IdempotencyRecord 로 이미 만들어진 테이블이면 건너뜀 (uk_idempotency_scope_key 포함)
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    scope VARCHAR(100) NOT NULL,
+    idem_key VARCHAR(100) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_json LONGTEXT,
+    created_at DATETIME(6),
+    expires_at DATETIME(6) NOT NULL,
+
+    UNIQUE KEY uk_idempotency_scope_key (scope, idem_key),
+    INDEX idx_idempotency_expires (expires_at)
+);
@@ -0,0 +1,17 @@
+-- ============================================================================
+-- KUPUB Database Migration V8
+-- 서버 간 STOMP 알림 전달 (app.cluster.bus=jdbc)
+-- ddl-auto: update 가 ClusterMessage 로 이미 만든 테이블이면 건너뜀 (인덱스 이름도 엔티티와 같음)
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS cluster_messages (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    node_id VARCHAR(64) NOT NULL,
+    channel VARCHAR(100) NOT NULL,
+    destination VARCHAR(255) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+
+    INDEX idx_cluster_messages_channel_id (channel, id),
+    INDEX idx_cluster_messages_created (created_at)
+);
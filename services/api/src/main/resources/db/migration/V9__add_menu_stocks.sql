@@ -0,0 +1,14 @@
+-- ============================================================================
+-- KUPUB Database Migration V9
+-- 메뉴 재고 (수량을 관리하는 메뉴만 행이 있음)
+-- ddl-auto: update 시절 MenuStock 으로 생긴 테이블이면 건너뜀
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS menu_stocks (
+    menu_id BIGINT PRIMARY KEY,
+    department_id BIGINT NOT NULL,
+    remaining INT NOT NULL,
+    updated_at DATETIME(6),
+
+    INDEX idx_menu_stocks_department (department_id)
+);
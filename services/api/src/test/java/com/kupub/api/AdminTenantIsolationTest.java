@@ -0,0 +1,313 @@
+package com.kupub.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.auth.security.JwtTokenProvider;
+import com.kupub.api.user.entity.UserRole;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+/**
+ * 관리자 API 학과 격리
+ * - 다른 학과의 주문/세션/메뉴/카테고리/테이블 ID로 관리자 API를 호출하면 404(또는 400 INVALID_TABLE)이고,
+ *   다른 학과의 데이터는 바뀌지 않아야 함
+ * - ID를 경로로 받는 관리자 API를 새로 추가하면 cases() 에 넣을 때까지 everyAdminEndpointWithIdIsCovered 가 실패
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tenant-isolation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AdminTenantIsolationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private String token;
+
+    /** 요청을 보내는 학과 */
+    private String mine;
+    private long myMenu;
+    private long mySession;
+
+    /** 다른 학과 (ID만 가져다 씀) */
+    private String other;
+    private long otherCategory;
+    private long otherMenu;
+    private long otherStockedMenu;
+    private long otherTable;
+    private long otherSession;
+    private long otherOrder;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        token = jwtTokenProvider.generateAccessToken("platform", 1L, null, UserRole.SUPER_ADMIN);
+
+        mine = createDepartment();
+        myMenu = id(admin(HttpMethod.POST, "/api/{dept}/admin/menus", mine, Map.of("name", "소주", "price", 5000)));
+        mySession = id(call(HttpMethod.POST, "/api/{dept}/sessions/start", Map.of("type", "CODE"), mine));
+
+        other = createDepartment();
+        otherCategory = id(admin(HttpMethod.POST, "/api/{dept}/admin/menus/categories", other, Map.of("name", "안주")));
+        otherMenu = id(admin(HttpMethod.POST, "/api/{dept}/admin/menus", other,
+                Map.of("categoryId", otherCategory, "name", "김치전", "price", 12000)));
+        otherStockedMenu = id(admin(HttpMethod.POST, "/api/{dept}/admin/menus", other, Map.of("name", "한정 막걸리", "price", 8000)));
+        admin(HttpMethod.PUT, "/api/{dept}/admin/menus/{menuId}/stock", other, Map.of("stock", 2), otherStockedMenu);
+        otherTable = id(admin(HttpMethod.POST, "/api/{dept}/admin/tables", other, Map.of("code", "T1")));
+        otherSession = id(call(HttpMethod.POST, "/api/{dept}/sessions/start", Map.of("type", "CODE"), other));
+        otherOrder = id(call(HttpMethod.POST, "/api/{dept}/orders", Map.of(
+                "sessionId", otherSession,
+                "items", List.of(Map.of("menuId", otherMenu, "quantity", 1))), other));
+    }
+
+    /**
+     * @param pattern   컨트롤러 매핑 경로 ({dept} 는 mine 으로, 나머지 변수는 ids 로 채움)
+     * @param errorCode null 이면 상태 코드만 확인
+     */
+    private record Case(HttpMethod method, String pattern, List<Long> ids, Object body,
+                        int status, String errorCode) {
+
+        String key() {
+            return method.name() + " " + pattern;
+        }
+    }
+
+    private List<Case> cases() {
+        return List.of(
+                // 주문
+                new Case(HttpMethod.GET, "/api/{dept}/admin/orders/{id}", List.of(otherOrder), null, 404, "NOT_FOUND"),
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/orders/{id}", List.of(otherOrder),
+                        Map.of("status", "PREPARING"), 404, "NOT_FOUND"),
+                new Case(HttpMethod.POST, "/api/{dept}/admin/orders/{id}/send-receipt", List.of(otherOrder),
+                        Map.of("phoneNumber", "01012345678"), 404, "NOT_FOUND"),
+
+                // 세션
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/sessions/{id}/assign-table", List.of(otherSession),
+                        Map.of(), 404, "NOT_FOUND"),
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/sessions/{id}/assign-table", List.of(mySession),
+                        Map.of("tableId", otherTable), 400, "INVALID_TABLE"),
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/sessions/{id}/close", List.of(otherSession), null, 404, "NOT_FOUND"),
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/sessions/{id}/reopen", List.of(otherSession), null, 404, "NOT_FOUND"),
+                new Case(HttpMethod.DELETE, "/api/{dept}/admin/sessions/{id}", List.of(otherSession), null, 404, "NOT_FOUND"),
+
+                // 메뉴 / 카테고리
+                new Case(HttpMethod.POST, "/api/{dept}/admin/menus", List.of(),
+                        Map.of("categoryId", otherCategory, "name", "어묵탕", "price", 9000), 404, "NOT_FOUND"),
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/menus/{menuId}", List.of(otherMenu),
+                        Map.of("name", "바뀐 이름"), 404, "NOT_FOUND"),
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/menus/{menuId}", List.of(myMenu),
+                        Map.of("categoryId", otherCategory), 404, "NOT_FOUND"),
+                new Case(HttpMethod.PUT, "/api/{dept}/admin/menus/{menuId}/stock", List.of(otherMenu),
+                        Map.of("stock", 0), 404, "NOT_FOUND"),
+                new Case(HttpMethod.DELETE, "/api/{dept}/admin/menus/{menuId}", List.of(otherMenu), null, 404, "NOT_FOUND"),
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/menus/categories/{categoryId}", List.of(otherCategory),
+                        Map.of("name", "바뀐 이름"), 404, "NOT_FOUND"),
+                new Case(HttpMethod.DELETE, "/api/{dept}/admin/menus/categories/{categoryId}", List.of(otherCategory),
+                        null, 404, "NOT_FOUND"),
+
+                // 테이블
+                new Case(HttpMethod.PATCH, "/api/{dept}/admin/tables/{id}", List.of(otherTable),
+                        Map.of("name", "바뀐 이름"), 404, "NOT_FOUND"),
+                new Case(HttpMethod.DELETE, "/api/{dept}/admin/tables/{id}", List.of(otherTable), null, 404, "NOT_FOUND"),
+                new Case(HttpMethod.PUT, "/api/{dept}/admin/tables/layout", List.of(),
+                        Map.of("tables", List.of(Map.of("id", otherTable, "posX", 300))), 400, "INVALID_TABLE")
+        );
+    }
+
+    @Test
+    void adminEndpointsRejectOtherDepartmentIds() throws Exception {
+        List<String> failures = new ArrayList<>();
+        for (Case c : cases()) {
+            List<Object> variables = new ArrayList<>();
+            variables.add(mine);
+            variables.addAll(c.ids());
+            MockHttpServletRequestBuilder builder = authorized(request(c.method(), c.pattern(), variables.toArray()));
+            if (c.body() != null) {
+                builder.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(c.body()));
+            }
+            MvcResult result = mockMvc.perform(builder).andReturn();
+            int status = result.getResponse().getStatus();
+            String code = status >= 400
+                    ? objectMapper.readTree(result.getResponse().getContentAsString()).path("error").path("code").asText()
+                    : null;
+            if (status != c.status() || (c.errorCode() != null && !c.errorCode().equals(code))) {
+                failures.add(c.key() + " " + c.ids() + " -> " + status + " " + code);
+            }
+        }
+        assertThat(failures).as("다른 학과 ID를 받아들인 관리자 API").isEmpty();
+
+        assertOtherDepartmentUntouched();
+    }
+
+    @Test
+    void bulkOrderUpdateSkipsOtherDepartmentOrders() throws Exception {
+        JsonNode data = data(admin(HttpMethod.PATCH, "/api/{dept}/admin/orders/bulk", mine,
+                Map.of("orderIds", List.of(otherOrder), "paymentStatus", "CONFIRMED")));
+
+        assertThat(data.path("updatedIds")).isEmpty();
+        assertThat(data.path("skippedIds").get(0).asLong()).isEqualTo(otherOrder);
+        assertThat(data.path("orders")).isEmpty();
+        assertOtherDepartmentUntouched();
+    }
+
+    @Test
+    void publicLookupsRejectOtherDepartmentIds() throws Exception {
+        assertThat(status(HttpMethod.GET, "/api/{dept}/orders/{id}", null, mine, otherOrder)).isEqualTo(404);
+        assertThat(status(HttpMethod.GET, "/api/{dept}/sessions/{id}", null, mine, otherSession)).isEqualTo(404);
+        assertThat(status(HttpMethod.GET, "/api/{dept}/sessions/{id}/bill", null, mine, otherSession)).isEqualTo(404);
+        assertThat(status(HttpMethod.POST, "/api/{dept}/sessions/start",
+                Map.of("type", "QR", "tableId", otherTable), mine)).isEqualTo(400);
+        assertThat(status(HttpMethod.POST, "/api/{dept}/orders", Map.of(
+                "sessionId", otherSession,
+                "items", List.of(Map.of("name", "물", "price", 0, "quantity", 1))), mine)).isEqualTo(404);
+    }
+
+    @Test
+    void publicOrderDoesNotSellOtherDepartmentMenu() throws Exception {
+        JsonNode order = data(call(HttpMethod.POST, "/api/{dept}/orders", Map.of(
+                "sessionId", mySession,
+                "items", List.of(Map.of("menuId", otherStockedMenu, "quantity", 2))), mine));
+
+        // 다른 학과 메뉴는 없는 메뉴로 취급 (그 학과 이름/가격/재고를 쓰지 않음)
+        JsonNode item = order.path("items").get(0);
+        assertThat(item.path("menuId").isNull()).isTrue();
+        assertThat(item.path("name").asText()).isEqualTo("삭제된 메뉴");
+        assertThat(item.path("price").asInt()).isZero();
+        assertOtherStockUntouched();
+
+        // 취소해도 다른 학과 재고를 되돌리지 않음
+        admin(HttpMethod.PATCH, "/api/{dept}/admin/orders/{id}", mine, Map.of("status", "CANCELLED"), order.path("id").asLong());
+        assertOtherStockUntouched();
+    }
+
+    @Test
+    void everyAdminEndpointWithIdIsCovered() {
+        Set<String> covered = new TreeSet<>();
+        cases().forEach(c -> covered.add(c.key()));
+
+        Set<String> withIds = new TreeSet<>();
+        for (RequestMappingInfo info : handlerMapping.getHandlerMethods().keySet()) {
+            for (String pattern : info.getPatternValues()) {
+                if (pattern.startsWith("/api/{dept}/admin/") && pattern.replace("{dept}", "").contains("{")) {
+                    info.getMethodsCondition().getMethods()
+                            .forEach(method -> withIds.add(method.name() + " " + pattern));
+                }
+            }
+        }
+
+        assertThat(withIds).isNotEmpty();
+        assertThat(covered).as("학과 격리 테스트가 없는 관리자 API (cases() 에 추가 필요)").containsAll(withIds);
+    }
+
+    // ========== Helpers ==========
+
+    private void assertOtherDepartmentUntouched() {
+        assertThat(jdbc.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, otherOrder))
+                .isEqualTo("PENDING");
+        assertThat(jdbc.queryForObject("SELECT payment_status FROM orders WHERE id = ?", String.class, otherOrder))
+                .isEqualTo("PENDING");
+        assertThat(jdbc.queryForObject("SELECT status FROM guest_sessions WHERE id = ?", String.class, otherSession))
+                .isEqualTo("ACTIVE");
+        assertThat(jdbc.queryForObject("SELECT name FROM menus WHERE id = ?", String.class, otherMenu))
+                .isEqualTo("김치전");
+        assertThat(jdbc.queryForObject("SELECT name FROM menu_categories WHERE id = ?", String.class, otherCategory))
+                .isEqualTo("안주");
+        assertThat(jdbc.queryForObject("SELECT code FROM department_tables WHERE id = ?", String.class, otherTable))
+                .isEqualTo("T1");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM department_tables WHERE id = ? AND posx = 300", Long.class, otherTable))
+                .isZero();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM menu_stocks WHERE menu_id = ?", Long.class, otherMenu))
+                .isZero();
+    }
+
+    private void assertOtherStockUntouched() {
+        assertThat(jdbc.queryForObject("SELECT remaining FROM menu_stocks WHERE menu_id = ?", Integer.class, otherStockedMenu))
+                .isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT sold_out FROM menus WHERE id = ?", Boolean.class, otherStockedMenu))
+                .isFalse();
+    }
+
+    private String createDepartment() throws Exception {
+        String slug = "t" + UUID.randomUUID().toString().substring(0, 8);
+        data(call(HttpMethod.POST, "/api/platform/departments", Map.of("slug", slug, "name", slug)));
+        return slug;
+    }
+
+    private MvcResult admin(HttpMethod method, String uri, String dept, Object body, Object... ids) throws Exception {
+        Object[] variables = new Object[ids.length + 1];
+        variables[0] = dept;
+        System.arraycopy(ids, 0, variables, 1, ids.length);
+        return call(method, uri, body, variables);
+    }
+
+    private MvcResult call(HttpMethod method, String uri, Object body, Object... variables) throws Exception {
+        MockHttpServletRequestBuilder builder = authorized(request(method, uri, variables))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+        MvcResult result = mockMvc.perform(builder).andReturn();
+        assertThat(result.getResponse().getStatus())
+                .as("%s %s: %s", method, uri, result.getResponse().getContentAsString())
+                .isEqualTo(200);
+        return result;
+    }
+
+    private int status(HttpMethod method, String uri, Object body, Object... variables) throws Exception {
+        MockHttpServletRequestBuilder builder = request(method, uri, variables);
+        if (body != null) {
+            builder.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+        }
+        return mockMvc.perform(builder).andReturn().getResponse().getStatus();
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private long id(MvcResult result) throws Exception {
+        return data(result).path("id").asLong();
+    }
+
+    private JsonNode data(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data");
+    }
+}
@@ -0,0 +1,202 @@
+package com.kupub.api;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 조회 메서드 인덱스 커버리지
+ * - Flyway 마이그레이션으로 만든 스키마(H2, MySQL 모드)에서 모든 조회 메서드를 실제로 호출하고,
+ *   Hibernate가 보낸 SQL마다 EXPLAIN 을 떠서 인덱스 없이 테이블 전체를 읽는 쿼리가 있으면 실패
+ * - 새 조회 메서드를 추가하면 자동으로 검사 대상이 되므로, 인덱스는 db/migration 에 함께 추가
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:index-coverage;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.kupub.api.IndexCoverageTest$SqlCapture"
+})
+@ActiveProfiles("h2")
+class IndexCoverageTest {
+
+    /**
+     * 테이블 전체가 대상인 조회 (의도된 full scan)
+     */
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "DepartmentRepository.findAllByOrderByNameAsc"   // 플랫폼 관리자 학과 목록
+    );
+
+    /**
+     * H2 실행 계획에서 테이블을 읽는 부분: 조건 없이 읽으면 full scan
+     * 예) public.orders.tableScan, public.idx_orders_dept_created: department_id = ?1
+     */
+    private static final Pattern PLAN_ACCESS = Pattern.compile("/\\* ([\\w.]+)(: [^*]*)? \\*/");
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void everyFinderUsesAnIndex() {
+        Repositories repositories = new Repositories(context);
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        Map<String, List<String>> fullScans = new TreeMap<>();
+        int checked = 0;
+
+        for (Class<?> domainType : repositories) {
+            Class<?> repositoryInterface = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+
+            List<Method> finders = Arrays.stream(repositoryInterface.getDeclaredMethods())
+                    .filter(IndexCoverageTest::isFinder)
+                    .sorted(Comparator.comparing(Method::getName))
+                    .toList();
+
+            for (Method finder : finders) {
+                String name = repositoryInterface.getSimpleName() + "." + finder.getName();
+                List<String> statements = capture(readOnlyTx, repository, finder);
+                assertThat(statements).as("%s 가 SQL을 실행하지 않음", name).isNotEmpty();
+
+                for (String sql : statements) {
+                    String plan = explain(sql);
+                    List<String> scanned = scannedTables(plan);
+                    if (!scanned.isEmpty() && !FULL_SCAN_ALLOWED.contains(name)) {
+                        fullScans.computeIfAbsent(name, k -> new ArrayList<>()).add(scanned + " <- " + plan);
+                    }
+                }
+                checked++;
+            }
+        }
+
+        assertThat(checked).isGreaterThan(0);
+        assertThat(fullScans)
+                .as("인덱스 없이 full scan 하는 조회 메서드 (db/migration 에 인덱스 추가 필요)")
+                .isEmpty();
+    }
+
+    // ========== 조회 메서드 호출 ==========
+
+    private static boolean isFinder(Method method) {
+        String name = method.getName();
+        return !method.isDefault()
+                && !method.isAnnotationPresent(Modifying.class)
+                && (name.startsWith("find") || name.startsWith("exists") || name.startsWith("count"));
+    }
+
+    private List<String> capture(TransactionTemplate readOnlyTx, Object repository, Method finder) {
+        Object[] args = Arrays.stream(finder.getGenericParameterTypes())
+                .map(IndexCoverageTest::sampleArgument)
+                .toArray();
+        SqlCapture.STATEMENTS.clear();
+        readOnlyTx.executeWithoutResult(status -> {
+            try {
+                finder.invoke(repository, args);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(finder + " 호출 실패", e);
+            }
+        });
+        return List.copyOf(SqlCapture.STATEMENTS);
+    }
+
+    private static Object sampleArgument(Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && Collection.class.isAssignableFrom((Class<?>) parameterized.getRawType())) {
+            return List.of(sampleArgument(parameterized.getActualTypeArguments()[0]));
+        }
+        Class<?> raw = (Class<?>) type;
+        if (raw == Long.class || raw == long.class) return 1L;
+        if (raw == Integer.class || raw == int.class) return 1;
+        if (raw == Boolean.class || raw == boolean.class) return true;
+        if (raw == String.class) return "sample";
+        if (raw == LocalDateTime.class) return LocalDateTime.now();
+        if (raw == Pageable.class) return PageRequest.of(0, 10);
+        if (raw.isEnum()) return raw.getEnumConstants()[0];
+        throw new IllegalArgumentException("샘플 인자를 만들 수 없는 타입: " + type);
+    }
+
+    // ========== 실행 계획 ==========
+
+    /**
+     * 바인딩 파라미터는 NULL로 두고 계획만 확인 (인덱스 선택은 값과 무관)
+     */
+    private String explain(String sql) {
+        int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbc.query("EXPLAIN " + sql, ps -> {
+            for (int i = 1; i <= parameterCount; i++) {
+                ps.setObject(i, null);
+            }
+        }, rs -> {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1));
+            }
+            return plan.toString().replaceAll("\\s+", " ");
+        });
+    }
+
+    /**
+     * 조건 없이 읽는 테이블 (tableScan 또는 조건 없는 인덱스 순회)
+     * - MIN/MAX 를 인덱스 끝에서 바로 읽는 경우(direct lookup)는 제외
+     */
+    private static List<String> scannedTables(String plan) {
+        List<String> scanned = new ArrayList<>();
+        if (plan.contains("/* direct lookup */")) {
+            return scanned;
+        }
+        Matcher matcher = PLAN_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            String access = matcher.group(1);
+            if (access.endsWith(".tableScan") || matcher.group(2) == null) {
+                scanned.add(access);
+            }
+        }
+        return scanned;
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 수집
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.kupub.api.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 (H2 두 개: primary / replica)
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        primaryJdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        primaryJdbc.update("INSERT INTO node VALUES ('primary')");
+        replicaJdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        replicaJdbc.update("INSERT INTO node VALUES ('replica')");
+        replicaJdbc.execute("CREATE TABLE replica_status (seconds_behind_source BIGINT)");
+        replicaJdbc.update("INSERT INTO replica_status VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT seconds_behind_source FROM replica_status", Duration.ofSeconds(1));
+        lagMonitor.check();
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, lagMonitor));
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertThat(writeNode()).isEqualTo("primary");
+
+        writeTx.executeWithoutResult(status -> jdbc.update("INSERT INTO node VALUES ('written')"));
+        assertThat(primaryJdbc.queryForObject("SELECT COUNT(*) FROM node", Integer.class)).isEqualTo(2);
+        assertThat(replicaJdbc.queryForObject("SELECT COUNT(*) FROM node", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void withoutTransactionUsesPrimary() {
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind_source = 5");
+        lagMonitor.check();
+        assertThat(lagMonitor.isHealthy()).isFalse();
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind_source = 1");
+        lagMonitor.check();
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void stoppedReplicationFallsBackToPrimary() {
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind_source = NULL");
+        lagMonitor.check();
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        replicaJdbc.execute("DROP TABLE replica_status");
+        lagMonitor.check();
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTx.execute(status -> node());
+    }
+
+    private String writeNode() {
+        return writeTx.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
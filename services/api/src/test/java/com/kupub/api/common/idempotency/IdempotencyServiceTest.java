@@ -0,0 +1,149 @@
+package com.kupub.api.common.idempotency;
+
+import com.kupub.api.common.exception.ConflictException;
+import com.kupub.api.order.dto.OrderCreateRequest;
+import com.kupub.api.order.dto.OrderDto;
+import com.kupub.api.order.dto.OrderItemRequest;
+import com.kupub.api.order.entity.OrderStatus;
+import com.kupub.api.order.entity.PaymentStatus;
+import com.kupub.api.order.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key: 주문 쓰기와 완료 기록이 함께 커밋되므로
+ * 완료 기록 없이 방치된 키를 다시 선점해도 주문이 두 번 생기지 않음
+ * + 관리자 주문 수정(상태 + 결제 상태)은 한 트랜잭션
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + IdempotencyServiceTest.URL,
+        "app.idempotency.in-flight-timeout=PT30S"
+})
+@ActiveProfiles("h2")
+class IdempotencyServiceTest {
+
+    static final String URL = "jdbc:h2:mem:idempotency;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final long DEPT = 9101L;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    /** 요청 트랜잭션과 별개인 커넥션 (다른 서버 역할) */
+    private final JdbcTemplate other = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+
+    private long sessionId;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM order_items WHERE department_id = ?", DEPT);
+        jdbc.update("DELETE FROM orders WHERE department_id = ?", DEPT);
+        jdbc.update("DELETE FROM guest_sessions WHERE department_id = ?", DEPT);
+        jdbc.update("DELETE FROM departments WHERE id = ?", DEPT);
+        jdbc.update("INSERT INTO departments (id, slug, name, active) VALUES (?, 'idem', '중복 방지', TRUE)", DEPT);
+        jdbc.update("""
+                INSERT INTO guest_sessions (department_id, type, status, created_at, last_activity_at)
+                VALUES (?, 'QR', 'ACTIVE', ?, ?)
+                """, DEPT, LocalDateTime.now(), LocalDateTime.now());
+        sessionId = jdbc.queryForObject("SELECT MAX(id) FROM guest_sessions", Long.class);
+    }
+
+    @Test
+    void retryAfterLostCompletionCreatesOneOrder() {
+        String key = UUID.randomUUID().toString();
+        OrderCreateRequest request = request();
+
+        // 주문을 쓴 뒤 완료 기록 전에 서버가 죽음 (Error 는 키 해제 없이 전파)
+        assertThatThrownBy(() -> createOrder(key, request, () -> {
+            throw new NodeCrash();
+        })).isInstanceOf(NodeCrash.class);
+        assertThat(orders()).isZero();
+        assertThat(other.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE idem_key = ? AND response_json IS NULL",
+                Long.class, key)).isEqualTo(1);
+
+        // in-flight-timeout 이 지나기 전에는 409, 지난 뒤 재시도는 주문 1건
+        assertThatThrownBy(() -> createOrder(key, request, () -> { }))
+                .isInstanceOfSatisfying(ConflictException.class,
+                        e -> assertThat(e.getCode()).isEqualTo("IDEMPOTENCY_IN_PROGRESS"));
+        other.update("UPDATE idempotency_keys SET created_at = ? WHERE idem_key = ?",
+                LocalDateTime.now().minusMinutes(1), key);
+        IdempotentResult<OrderDto> retried = createOrder(key, request, () -> { });
+        assertThat(retried.replayed()).isFalse();
+        assertThat(orders()).isEqualTo(1);
+
+        // 이후 재시도는 같은 주문 재전송
+        IdempotentResult<OrderDto> replayed = createOrder(key, request, () -> { });
+        assertThat(replayed.replayed()).isTrue();
+        assertThat(replayed.value().id()).isEqualTo(retried.value().id());
+        assertThat(orders()).isEqualTo(1);
+    }
+
+    @Test
+    void writeRollsBackWhenKeyWasReclaimedMeanwhile() {
+        String key = UUID.randomUUID().toString();
+
+        // 처리가 in-flight-timeout 보다 길어져 다른 서버가 키를 다시 선점함
+        assertThatThrownBy(() -> createOrder(key, request(),
+                () -> other.update("DELETE FROM idempotency_keys WHERE idem_key = ?", key)))
+                .isInstanceOfSatisfying(ConflictException.class,
+                        e -> assertThat(e.getCode()).isEqualTo("IDEMPOTENCY_IN_PROGRESS"));
+        assertThat(orders()).isZero();
+    }
+
+    @Test
+    void statusAndPaymentChangeCommitTogether() {
+        long orderId = orderService.createOrder(DEPT, "idem", request()).getId();
+        orderService.updatePaymentStatus(orderId, PaymentStatus.CONFIRMED, null);
+
+        // 주문 상태는 바꿀 수 있지만 CONFIRMED → NOT_REQUIRED 는 허용되지 않음 → 둘 다 롤백
+        assertThatThrownBy(() -> orderService.updateOrder(
+                orderId, OrderStatus.DONE, PaymentStatus.NOT_REQUIRED, null, null))
+                .isInstanceOfSatisfying(ConflictException.class,
+                        e -> assertThat(e.getCode()).isEqualTo("INVALID_ORDER_TRANSITION"));
+        assertThat(other.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId))
+                .isEqualTo(OrderStatus.PREPARING.name());
+    }
+
+    // ========== Helpers ==========
+
+    private IdempotentResult<OrderDto> createOrder(String key, OrderCreateRequest request, Runnable afterWrite) {
+        return idempotencyService.execute("orders:create:" + DEPT, key, request, OrderDto.class, () -> {
+            OrderDto order = orderService.toOrderDto(orderService.createOrder(DEPT, "idem", request));
+            afterWrite.run();
+            return order;
+        });
+    }
+
+    private OrderCreateRequest request() {
+        return new OrderCreateRequest(sessionId, true, null, null, null, null,
+                List.of(new OrderItemRequest(null, "물", 1000, 1)));
+    }
+
+    /**
+     * 다른 커넥션에서 센 커밋된 주문 수
+     */
+    private long orders() {
+        return other.queryForObject("SELECT COUNT(*) FROM orders WHERE department_id = ?", Long.class, DEPT);
+    }
+
+    private static class NodeCrash extends Error {
+    }
+}
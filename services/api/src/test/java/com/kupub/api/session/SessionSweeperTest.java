@@ -0,0 +1,173 @@
+package com.kupub.api.session;
+
+import com.kupub.api.common.exception.ConflictException;
+import com.kupub.api.notification.NotificationService;
+import com.kupub.api.order.dto.OrderCreateRequest;
+import com.kupub.api.order.dto.OrderItemRequest;
+import com.kupub.api.order.service.OrderService;
+import com.kupub.api.session.service.SessionBillDelta;
+import com.kupub.api.session.service.SessionService;
+import com.kupub.api.session.service.SessionSweeper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 활동 없는 세션 자동 종료
+ * - sweep: 이용 시간 30분 학과(+ grace 0) / 설정 없는 학과(기본 60분)
+ * - 결제할 금액이 남은 세션은 종료하지 않고, 종료된 세션에는 주문할 수 없음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:session-sweep;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.session-sweep.grace=PT0S",
+        "app.session-sweep.batch-size=2",
+        "app.session-sweep.interval-ms=3600000"
+})
+@ActiveProfiles("h2")
+class SessionSweeperTest {
+
+    private static final long SWEEP = 9001L;
+    private static final long DEFAULTS = 9002L;
+
+    @Autowired
+    private SessionSweeper sweeper;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @MockitoSpyBean
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM guest_sessions WHERE department_id IN (?, ?)", SWEEP, DEFAULTS);
+        jdbc.update("DELETE FROM department_settings WHERE department_id IN (?, ?)", SWEEP, DEFAULTS);
+        jdbc.update("DELETE FROM departments WHERE id IN (?, ?)", SWEEP, DEFAULTS);
+        jdbc.update("INSERT INTO departments (id, slug, name, active) VALUES (?, 'sweep', '자동 종료', TRUE)", SWEEP);
+        jdbc.update("INSERT INTO departments (id, slug, name, active) VALUES (?, 'sweep-defaults', '기본값', TRUE)", DEFAULTS);
+        jdbc.update("INSERT INTO department_settings (department_id, data_json) VALUES (?, ?)",
+                SWEEP, "{\"reservation\":{\"durationMinutes\":30}}");
+        clearInvocations(notificationService);
+    }
+
+    @Test
+    void closesSessionsIdlePastDepartmentDurationInBatches() {
+        List<Long> idle = List.of(
+                session(SWEEP, "ACTIVE", 40), session(SWEEP, "ACTIVE", 45), session(SWEEP, "ACTIVE", 50),
+                session(SWEEP, "ACTIVE", 120), session(SWEEP, "ACTIVE", 31));
+        long recent = session(SWEEP, "ACTIVE", 10);
+        long closedBefore = session(SWEEP, "CLOSED", 300);
+        long otherDepartment = session(DEFAULTS, "ACTIVE", 40);
+
+        sweeper.sweep();
+
+        idle.forEach(id -> assertThat(status(id)).isEqualTo("CLOSED"));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM guest_sessions WHERE id IN (?, ?, ?, ?, ?) AND closed_at IS NULL",
+                Long.class, idle.toArray())).isZero();
+        assertThat(status(recent)).isEqualTo("ACTIVE");
+        assertThat(status(otherDepartment)).isEqualTo("ACTIVE");
+        assertThat(jdbc.queryForObject("SELECT closed_at FROM guest_sessions WHERE id = ?", LocalDateTime.class, closedBefore))
+                .isBefore(LocalDateTime.now().minusMinutes(200));
+
+        // 2개씩 3번 (2 + 2 + 1), 알림도 묶음마다 1건
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> notified = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, atLeastOnce()).notifySessionsClosed(eq("sweep"), notified.capture(), eq("IDLE"));
+        assertThat(notified.getAllValues()).hasSize(3);
+        assertThat(notified.getAllValues().stream().flatMap(List::stream).toList())
+                .containsExactlyInAnyOrderElementsOf(idle);
+        verify(notificationService, never()).notifySessionsClosed(eq("sweep-defaults"), anyList(), eq("IDLE"));
+
+        // 기본 이용 시간(60분)이 지난 다른 학과 세션
+        jdbc.update("UPDATE guest_sessions SET last_activity_at = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(61), otherDepartment);
+        sweeper.sweep();
+        assertThat(status(otherDepartment)).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void ordersAndReopenKeepSessionsActive() {
+        long ordered = session(SWEEP, "ACTIVE", 40);
+        long reopened = session(SWEEP, "CLOSED", 40);
+        long untouched = session(SWEEP, "ACTIVE", 40);
+
+        sessionService.addOrderToBill(ordered, new SessionBillDelta(1, 10000, 0, 0, 10000, 10000));
+        sessionService.reopenSession(SWEEP, reopened);
+        sweeper.sweep();
+
+        assertThat(status(ordered)).isEqualTo("ACTIVE");
+        assertThat(status(reopened)).isEqualTo("ACTIVE");
+        assertThat(status(untouched)).isEqualTo("CLOSED");
+        assertThat(jdbc.queryForObject("SELECT order_count FROM guest_sessions WHERE id = ?", Integer.class, ordered))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unpaidSessionsStayActiveAndClosedSessionsRejectOrders() {
+        long unpaid = session(SWEEP, "ACTIVE", 40);
+        jdbc.update("UPDATE guest_sessions SET order_count = 1, bill_total = 12000, paid_total = 0 WHERE id = ?", unpaid);
+
+        sweeper.sweep();
+        assertThat(status(unpaid)).isEqualTo("ACTIVE");
+        verify(notificationService, never()).notifySessionsClosed(eq("sweep"), anyList(), eq("IDLE"));
+
+        // 결제가 끝나면 다음 주기에 종료
+        jdbc.update("UPDATE guest_sessions SET paid_total = 12000 WHERE id = ?", unpaid);
+        sweeper.sweep();
+        assertThat(status(unpaid)).isEqualTo("CLOSED");
+
+        // 종료된 세션에는 주문이 쌓이지 않음 (주문 생성 / 검증 후 그사이 종료된 경우)
+        OrderCreateRequest request = new OrderCreateRequest(unpaid, true, null, null, null, null,
+                List.of(new OrderItemRequest(null, "물", 0, 1)));
+        assertThatThrownBy(() -> orderService.createOrder(SWEEP, "sweep", request))
+                .isInstanceOfSatisfying(ConflictException.class,
+                        e -> assertThat(e.getCode()).isEqualTo("SESSION_CLOSED"));
+        assertThatThrownBy(() -> sessionService.addOrderToBill(unpaid, new SessionBillDelta(1, 5000, 0, 0, 5000, 0)))
+                .isInstanceOf(ConflictException.class);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM orders WHERE session_id = ?", Long.class, unpaid)).isZero();
+        assertThat(jdbc.queryForObject("SELECT order_count FROM guest_sessions WHERE id = ?", Integer.class, unpaid))
+                .isEqualTo(1);
+    }
+
+    // ========== Helpers ==========
+
+    /**
+     * idleMinutes 분 전에 마지막으로 활동한 세션
+     */
+    private long session(long departmentId, String status, int idleMinutes) {
+        LocalDateTime lastActivity = LocalDateTime.now().minusMinutes(idleMinutes);
+        jdbc.update("""
+                INSERT INTO guest_sessions (department_id, type, status, created_at, closed_at, last_activity_at)
+                VALUES (?, 'QR', ?, ?, ?, ?)
+                """, departmentId, status, lastActivity.minusMinutes(5),
+                "CLOSED".equals(status) ? lastActivity : null, lastActivity);
+        return jdbc.queryForObject("SELECT MAX(id) FROM guest_sessions", Long.class);
+    }
+
+    private String status(long sessionId) {
+        return jdbc.queryForObject("SELECT status FROM guest_sessions WHERE id = ?", String.class, sessionId);
+    }
+}
@@ -0,0 +1,352 @@
+package com.kupub.api.tenant;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kupub.api.auth.security.JwtTokenProvider;
+import com.kupub.api.common.datasource.ShardIdSequences;
+import com.kupub.api.tenant.entity.TenantStatus;
+import com.kupub.api.tenant.service.TenantDirectory;
+import com.kupub.api.user.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 학과별 DB 분산 (H2 세 개: 중앙 / 학과 DB a / 학과 DB b)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + TenantShardingTest.CENTRAL_URL,
+        "app.sharding.enabled=true",
+        "app.sharding.default-shard=a",
+        "app.sharding.directory-ttl=PT0S",
+        "app.sharding.move-grace=PT0S",
+        "app.sharding.shards.a.url=" + TenantShardingTest.SHARD_A_URL,
+        "app.sharding.shards.a.id-offset=2",
+        "app.sharding.shards.b.url=" + TenantShardingTest.SHARD_B_URL,
+        "app.sharding.shards.b.id-offset=3",
+        "app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class TenantShardingTest {
+
+    static final String CENTRAL_URL = "jdbc:h2:mem:sharding-central;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String SHARD_A_URL = "jdbc:h2:mem:sharding-a;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String SHARD_B_URL = "jdbc:h2:mem:sharding-b;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TenantDirectory tenantDirectory;
+
+    private final JdbcTemplate central = jdbc(CENTRAL_URL);
+    private final JdbcTemplate shardA = jdbc(SHARD_A_URL);
+    private final JdbcTemplate shardB = jdbc(SHARD_B_URL);
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = jwtTokenProvider.generateAccessToken("platform", 1L, null, UserRole.SUPER_ADMIN);
+    }
+
+    @Test
+    void newDepartmentLivesOnDefaultShard() throws Exception {
+        long id = createDepartment(slug(), null);
+
+        assertThat(count(central, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isEqualTo(1);
+        assertThat(central.queryForObject("SELECT shard FROM tenant_shards WHERE department_id = ?", String.class, id))
+                .isEqualTo("a");
+        assertThat(count(shardA, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isEqualTo(1);
+        assertThat(count(shardA, "SELECT COUNT(*) FROM department_settings WHERE department_id = ?", id)).isEqualTo(1);
+        assertThat(count(central, "SELECT COUNT(*) FROM department_settings WHERE department_id = ?", id)).isZero();
+        assertThat(count(shardB, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isZero();
+    }
+
+    @Test
+    void tenantRequestsReadAndWriteTheTenantShard() throws Exception {
+        String slug = slug();
+        long id = createDepartment(slug, null);
+
+        importMenus(slug, "김치전", "어묵탕");
+        long menuId = createMenu(slug, "소주");
+
+        mockMvc.perform(get("/api/{dept}/menus", slug))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.menus.length()").value(3));
+        assertThat(count(shardA, "SELECT COUNT(*) FROM menus WHERE department_id = ?", id)).isEqualTo(3);
+        assertThat(count(shardA, "SELECT COUNT(*) FROM menu_categories WHERE department_id = ?", id)).isEqualTo(1);
+        assertThat(count(central, "SELECT COUNT(*) FROM menus WHERE department_id = ?", id)).isZero();
+
+        // 학과 DB a 에서 만든 ID: SHARD_BASE 이상, 나머지 2
+        assertThat(menuId).isGreaterThan(ShardIdSequences.SHARD_BASE);
+        assertThat(menuId % ShardIdSequences.STEP).isEqualTo(2);
+    }
+
+    @Test
+    void departmentsOnDifferentShardsDoNotSeeEachOther() throws Exception {
+        String slugA = slug();
+        String slugB = slug();
+        long idA = createDepartment(slugA, null);
+        long idB = createDepartment(slugB, null);
+        move(idB, "b");
+
+        createMenu(slugA, "A 메뉴");
+        long menuB = createMenu(slugB, "B 메뉴");
+
+        mockMvc.perform(get("/api/{dept}/menus", slugB))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.menus.length()").value(1))
+                .andExpect(jsonPath("$.data.menus[0].name").value("B 메뉴"));
+        assertThat(count(shardA, "SELECT COUNT(*) FROM menus WHERE department_id = ?", idB)).isZero();
+        assertThat(count(shardB, "SELECT COUNT(*) FROM menus WHERE department_id = ?", idA)).isZero();
+        assertThat(menuB % ShardIdSequences.STEP).isEqualTo(3);
+    }
+
+    @Test
+    void moveCarriesTenantDataToTargetShard() throws Exception {
+        String slug = slug();
+        long id = createDepartment(slug, null);
+        importMenus(slug, "김치전", "어묵탕");
+
+        JsonNode result = move(id, "b");
+        assertThat(result.path("from").asText()).isEqualTo("a");
+        assertThat(result.path("to").asText()).isEqualTo("b");
+        assertThat(result.path("rows").path("menus").asInt()).isEqualTo(2);
+
+        assertThat(count(shardB, "SELECT COUNT(*) FROM menus WHERE department_id = ?", id)).isEqualTo(2);
+        assertThat(count(shardB, "SELECT COUNT(*) FROM department_settings WHERE department_id = ?", id)).isEqualTo(1);
+        assertThat(count(shardB, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isEqualTo(1);
+        assertThat(count(shardA, "SELECT COUNT(*) FROM menus WHERE department_id = ?", id)).isZero();
+        assertThat(count(shardA, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isZero();
+        assertThat(count(central, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isEqualTo(1);
+
+        // 옮긴 뒤에도 같은 ID로 조회되고, 새 행은 학과 DB b 의 ID 규칙으로 생성
+        List<Long> before = shardB.queryForList("SELECT id FROM menus WHERE department_id = ? ORDER BY id", Long.class, id);
+        mockMvc.perform(get("/api/{dept}/menus", slug))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.menus.length()").value(2))
+                .andExpect(jsonPath("$.data.menus[0].id").value(before.get(0)));
+        long menuId = createMenu(slug, "소주");
+        assertThat(menuId % ShardIdSequences.STEP).isEqualTo(3);
+        assertThat(menuId).isGreaterThan(before.get(1));
+
+        // 중앙 DB로 되돌리기
+        move(id, "central");
+        assertThat(count(central, "SELECT COUNT(*) FROM menus WHERE department_id = ?", id)).isEqualTo(3);
+        assertThat(count(shardB, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isZero();
+        mockMvc.perform(get("/api/{dept}/menus", slug))
+                .andExpect(jsonPath("$.data.menus.length()").value(3));
+    }
+
+    @Test
+    void movingTenantRejectsWritesButServesReads() throws Exception {
+        String slug = slug();
+        long id = createDepartment(slug, null);
+        tenantDirectory.place(id, "a", TenantStatus.MOVING);
+        try {
+            mockMvc.perform(get("/api/{dept}/menus", slug))
+                    .andExpect(status().isOk());
+            mockMvc.perform(authorized(post("/api/{dept}/admin/menus", slug))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\":\"소주\",\"price\":5000}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.error.code").value("TENANT_MOVING"));
+            mockMvc.perform(authorized(post("/api/platform/departments/{id}/move", id))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"shard\":\"b\"}"))
+                    .andExpect(status().isConflict());
+        } finally {
+            tenantDirectory.place(id, "a", TenantStatus.ACTIVE);
+        }
+    }
+
+    @Test
+    void publicApiUsesCentralActiveFlagNotShardCopy() throws Exception {
+        String slug = slug();
+        long id = createDepartment(slug, null);
+
+        // 사본 반영이 실패한 상태: 중앙 DB는 비활성, 학과 DB 사본은 활성
+        central.update("UPDATE departments SET active = FALSE WHERE id = ?", id);
+        mockMvc.perform(get("/api/{dept}/menus", slug))
+                .andExpect(status().isNotFound());
+
+        // 반대로 사본만 비활성이어도 중앙 DB 기준으로 활성
+        central.update("UPDATE departments SET active = TRUE WHERE id = ?", id);
+        shardA.update("UPDATE departments SET active = FALSE WHERE id = ?", id);
+        mockMvc.perform(get("/api/{dept}/menus", slug))
+                .andExpect(status().isOk());
+
+        // 이동하면 사본은 중앙 DB에서 다시 복사됨
+        move(id, "b");
+        assertThat(shardB.queryForObject("SELECT active FROM departments WHERE id = ?", Boolean.class, id)).isTrue();
+    }
+
+    @Test
+    void moveClaimSucceedsOnlyOnceForCurrentShard() throws Exception {
+        long id = createDepartment(slug(), null);
+        try {
+            // 배치와 다른 DB로 읽은 요청은 시작하지 못함
+            assertThat(tenantDirectory.claimMove(id, "b")).isFalse();
+            assertThat(tenantDirectory.claimMove(id, "a")).isTrue();
+            assertThat(tenantDirectory.claimMove(id, "a")).isFalse();
+            assertThat(tenantDirectory.placementOf(id).isMoving()).isTrue();
+        } finally {
+            tenantDirectory.place(id, "a", TenantStatus.ACTIVE);
+        }
+    }
+
+    @Test
+    void clonedDepartmentStaysWithTemplateShard() throws Exception {
+        String templateSlug = slug();
+        long templateId = createDepartment(templateSlug, null);
+        importMenus(templateSlug, "김치전");
+        move(templateId, "b");
+
+        long id = createDepartment(slug(), templateId);
+
+        assertThat(tenantDirectory.shardOf(id)).isEqualTo("b");
+        assertThat(count(shardB, "SELECT COUNT(*) FROM menus WHERE department_id = ?", id)).isEqualTo(1);
+    }
+
+    @Test
+    void deleteRemovesDataFromTenantShardAndCentral() throws Exception {
+        String slug = slug();
+        long id = createDepartment(slug, null);
+        importMenus(slug, "김치전");
+
+        mockMvc.perform(authorized(delete("/api/platform/departments/{id}", id)))
+                .andExpect(status().isOk());
+
+        assertThat(count(central, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isZero();
+        assertThat(count(central, "SELECT COUNT(*) FROM tenant_shards WHERE department_id = ?", id)).isZero();
+        assertThat(count(shardA, "SELECT COUNT(*) FROM departments WHERE id = ?", id)).isZero();
+        assertThat(count(shardA, "SELECT COUNT(*) FROM menus WHERE department_id = ?", id)).isZero();
+        mockMvc.perform(get("/api/{dept}/menus", slug))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shardListCountsDepartments() throws Exception {
+        long id = createDepartment(slug(), null);
+        move(id, "b");
+
+        mockMvc.perform(authorized(get("/api/platform/shards")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("central"))
+                .andExpect(jsonPath("$.data[1].name").value("a"))
+                .andExpect(jsonPath("$.data[1].isDefault").value(true))
+                .andExpect(jsonPath("$.data[2].name").value("b"));
+        assertThat(tenantDirectory.countByShard().get("b")).isPositive();
+    }
+
+    // ========== Helpers ==========
+
+    private long createDepartment(String slug, Long templateId) throws Exception {
+        Map<String, Object> request = new HashMap<>();
+        request.put("slug", slug);
+        request.put("name", slug);
+        request.put("templateDepartmentId", templateId);
+        String body = objectMapper.writeValueAsString(request);
+        return data(mockMvc.perform(authorized(post("/api/platform/departments"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk()))
+                .path("id").asLong();
+    }
+
+    private void importMenus(String slug, String... names) throws Exception {
+        StringBuilder menus = new StringBuilder();
+        for (String name : names) {
+            menus.append(menus.isEmpty() ? "" : ",")
+                    .append("{\"category\":\"안주\",\"name\":\"").append(name).append("\",\"price\":10000}");
+        }
+        mockMvc.perform(authorized(post("/api/{dept}/admin/menus/import", slug))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"menus\":[" + menus + "]}"))
+                .andExpect(status().isOk());
+    }
+
+    private long createMenu(String slug, String name) throws Exception {
+        return data(mockMvc.perform(authorized(post("/api/{dept}/admin/menus", slug))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\",\"price\":5000}"))
+                .andExpect(status().isOk()))
+                .path("id").asLong();
+    }
+
+    /**
+     * 이동 시작(202) 후 끝날 때까지 진행 상황 조회
+     *
+     * @return lastMove
+     */
+    private JsonNode move(long id, String shard) throws Exception {
+        data(mockMvc.perform(authorized(post("/api/platform/departments/{id}/move", id))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"shard\":\"" + shard + "\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.status").value("MOVING")));
+        for (int i = 0; i < 100; i++) {
+            JsonNode status = data(mockMvc.perform(authorized(get("/api/platform/departments/{id}/move", id)))
+                    .andExpect(status().isOk()));
+            JsonNode lastMove = status.path("lastMove");
+            if (!"RUNNING".equals(lastMove.path("state").asText())) {
+                assertThat(lastMove.path("state").asText()).as(lastMove.toString()).isEqualTo("DONE");
+                assertThat(status.path("shard").asText()).isEqualTo(shard);
+                assertThat(status.path("status").asText()).isEqualTo("ACTIVE");
+                return lastMove;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("move did not finish: department=" + id);
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private JsonNode data(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andReturn().getResponse().getContentAsString()).path("data");
+    }
+
+    private static long count(JdbcTemplate jdbc, String sql, long id) {
+        return jdbc.queryForObject(sql, Long.class, id);
+    }
+
+    private static String slug() {
+        return "t" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static JdbcTemplate jdbc(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    }
+}